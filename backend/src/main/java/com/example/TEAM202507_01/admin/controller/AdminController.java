@@ -5,6 +5,8 @@ import com.example.TEAM202507_01.admin.dto.AdminDto;
 import com.example.TEAM202507_01.admin.repository.AdminMapper;
 import com.example.TEAM202507_01.admin.service.AdminService;
 import com.example.TEAM202507_01.admin.service.DockerMonitorService;
+import com.example.TEAM202507_01.common.dto.GeocodeStatusDto;
+import com.example.TEAM202507_01.common.service.GeocodeJob;
 import com.example.TEAM202507_01.user.dto.UserAuthDto;
 import com.example.TEAM202507_01.user.repository.UserMapper;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +31,7 @@ public class AdminController {
     private final AdminService adminService;
     private final UserMapper userMapper;
     private final DockerMonitorService dockerMonitorService;
+    private final GeocodeJob geocodeJob; // 주소 -> 좌표 변환 백그라운드 작업
 
     // --- [1. 대시보드 통계 조회 API] ---
     // 프론트엔드에서 GET /api/v1/admin/stats 요청을 보내면 실행됩니다.
@@ -117,6 +120,27 @@ public class AdminController {
         // 5. 결과를 반환합니다. (true면 관리자, false면 일반인)
         return ResponseEntity.ok(isAdmin);
     }
+
+    // --- [4. 좌표 변환 작업 API] ---
+    // 맛집/관광지/병원 주소를 서버에서 좌표로 바꿔 저장합니다. (새 행, 주소 바뀐 행만)
+    // 오래 걸리므로 "시작해"만 전달하고 바로 상황판을 돌려줍니다. 이미 돌고 있으면 진행 중인 상황판을 줍니다.
+    // POST /api/v1/admin/geocode?retryNotFound=true : 지난번에 못 찾은 주소도 다시 물어봄
+    @PostMapping("/geocode")
+    public ResponseEntity<GeocodeStatusDto> startGeocoding(@RequestParam(defaultValue = "false") boolean retryNotFound) {
+        return ResponseEntity.ok(geocodeJob.start(retryNotFound));
+    }
+
+    // GET /api/v1/admin/geocode/status : 어디까지 했는지 확인
+    @GetMapping("/geocode/status")
+    public ResponseEntity<GeocodeStatusDto> getGeocodingStatus() {
+        return ResponseEntity.ok(geocodeJob.getStatus());
+    }
+
+    // POST /api/v1/admin/geocode/stop : 지금 주소까지만 하고 멈춤 (다시 시작하면 남은 것부터)
+    @PostMapping("/geocode/stop")
+    public ResponseEntity<GeocodeStatusDto> stopGeocoding() {
+        return ResponseEntity.ok(geocodeJob.stop());
+    }
 }
 //
 //대시보드 접속: 관리자가 대시보드 페이지에 들어가면, 프론트엔드가 /api/v1/admin/stats로 요청을 보냅니다. 컨트롤러는 이 요청을 받아서 서비스(adminService)에게 "통계 데이터 좀 가져와"라고 시키고, 받은 결과를 다시 프론트엔드에게 줍니다.
@@ -124,4 +148,6 @@ public class AdminController {
 //방문 기록: 일반 사용자가 사이트에 들어오면, 프론트엔드가 몰래 /api/v1/admin/visit으로 "누군가 들어왔어!"라고 보고합니다. 컨트롤러는 사용자의 IP, 어디서 왔는지(네이버, 구글 등)를 분석해서 DB에 저장하라고 시킵니다.
 //
 //권한 확인: 페이지에 들어온 사람이 진짜 관리자인지 확인하기 위해 /api/v1/admin/isAdmin 요청을 보냅니다.
+//
+//좌표 변환: 관리자가 /api/v1/admin/geocode로 작업을 시작하면, 서버가 맛집/관광지/병원 주소를 좌표로 바꿔 저장합니다. 진행 상황은 /geocode/status로 봅니다.
 
@@ -0,0 +1,28 @@
+package com.example.TEAM202507_01.common.dto; // 이 파일의 주소(패키지)
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data; // 롬복 라이브러리 (Getter, Setter 자동 생성)
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 좌표 변환 작업 진행 상황판 (GET /api/v1/admin/geocode/status)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeocodeStatusDto {
+    private String state;             // IDLE(대기), RUNNING(진행 중), STOPPING(중단 요청됨), FINISHED(완료), FAILED(실패)
+    private boolean retryNotFound;    // 지난번에 못 찾은 주소도 다시 물어보는지
+    private int total;                // 이번 작업 대상 행 수 (세 테이블 합)
+    private int uniqueAddresses;      // 그중 서로 다른 주소 수 (= 최대 API 호출 수)
+    private int calls;                // 실제 API 호출 수
+    private int processed;            // 처리 끝난 행 수
+    private int found;                // 좌표 저장 성공 행 수
+    private int notFound;             // 주소를 못 찾은 행 수 (다음 작업 때 주소가 바뀌기 전까지 건너뜀)
+    private int failed;               // 에러로 실패한 행 수 (다음 작업 때 다시 시도)
+    private LocalDateTime startedAt;  // 시작 시각
+    private LocalDateTime finishedAt; // 종료 시각 (진행 중이면 null)
+    private String lastError;         // 마지막 에러 메시지
+}
@@ -0,0 +1,16 @@
+package com.example.TEAM202507_01.common.dto; // 이 파일의 주소(패키지)
+
+import lombok.AllArgsConstructor;
+import lombok.Data; // 롬복 라이브러리 (Getter, Setter 자동 생성)
+import lombok.NoArgsConstructor;
+
+// 좌표 변환 대상 한 줄 (GeocodeMapper.findTargets 결과)
+// 맛집/관광지/병원 세 테이블에서 "좌표가 없거나 주소가 바뀐" 행을 같은 모양으로 모아 옵니다.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeocodeTargetDto {
+    private String entity;   // 어느 테이블인지: RESTAURANT / TOUR / HOSPITAL
+    private Long id;         // 그 테이블의 PK
+    private String address;  // 지금 주소 (이 글자를 좌표로 바꿈)
+}
@@ -0,0 +1,20 @@
+package com.example.TEAM202507_01.common.repository; // 패키지 선언
+
+import com.example.TEAM202507_01.common.dto.GeocodeTargetDto;
+import org.apache.ibatis.annotations.Mapper; // MyBatis 매퍼 어노테이션
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper // "이 인터페이스는 MyBatis XML 파일과 연결된 DB 작업 명세서야"라고 스프링에게 알림
+public interface GeocodeMapper {
+    // 좌표 변환 대상 조회 (맛집 + 관광지 + 병원)
+    // 좌표를 한 번도 안 구했거나, 구한 뒤에 주소가 바뀐 행들입니다. retryNotFound=true면 못 찾았던 행도 포함합니다.
+    List<GeocodeTargetDto> findTargets(@Param("retryNotFound") boolean retryNotFound);
+
+    // 변환 결과 저장: 좌표(못 찾았으면 NULL), 변환에 쓴 주소, 상태(FOUND / NOT_FOUND)
+    void updateCoordinates(@Param("target") GeocodeTargetDto target,
+                           @Param("lat") Double lat,
+                           @Param("lng") Double lng,
+                           @Param("status") String status);
+}
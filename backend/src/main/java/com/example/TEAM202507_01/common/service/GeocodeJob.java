@@ -0,0 +1,245 @@
+package com.example.TEAM202507_01.common.service;
+// [1] 패키지 선언: 이 파일이 '공통 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.common.dto.GeocodeStatusDto; // 진행 상황판
+import com.example.TEAM202507_01.common.dto.GeocodeTargetDto; // 변환 대상 한 줄
+import com.example.TEAM202507_01.common.repository.GeocodeMapper; // DB 관리자
+import com.example.TEAM202507_01.menus.hospital.service.HospitalMapIndex; // 병원 지도 색인 (좌표가 바뀌면 버려야 함)
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Qualifier; // 같은 타입 빈이 여러 개일 때 이름으로 고르기
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.stereotype.Service; // 서비스 빈 등록
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// [3] 주소 -> 좌표 변환 백그라운드 작업 (맛집, 관광지, 병원)
+// 예전에는 화면이 열릴 때마다 브라우저가 주소를 하나하나 좌표로 바꿨습니다. 이제 서버가 한 번 바꿔서 DB에 저장합니다.
+// - 대상: 좌표를 안 구했거나 주소가 바뀐 행만 (GEO_ADDRESS와 지금 주소 비교)
+// - 같은 주소(공백 정리 기준)는 한 번만 물어보고 결과를 모든 행에 씁니다. (같은 건물 병원들, 체인점 등)
+// - 초당 호출 수를 제한합니다. (API 할당량 보호)
+// - 주소 하나 끝날 때마다 DB에 저장하므로, 서버가 죽거나 멈춰도 다시 시작하면 남은 행부터 이어집니다.
+@Slf4j
+@Service
+public class GeocodeJob {
+
+    // [4] 저장 상태값 (GEO_STATUS)
+    static final String STATUS_FOUND = "FOUND";         // 좌표 저장됨
+    static final String STATUS_NOT_FOUND = "NOT_FOUND"; // 주소를 못 찾음 (주소가 바뀌거나 retryNotFound로 돌리기 전까지 건너뜀)
+
+    private final GeocodeMapper geocodeMapper;
+    private final Geocoder geocoder;
+    private final HospitalMapIndex hospitalMapIndex;
+    private final Executor jobExecutor;
+
+    // [5] 작업 설정 (application.properties에 없으면 기본값)
+    @Value("${geocode.rate-per-second:10}")
+    private int ratePerSecond;          // 초당 최대 API 호출 수
+
+    // [6] 진행 상황 (작업 스레드가 쓰고 요청 스레드가 읽으므로 Atomic/volatile 사용)
+    private final AtomicReference<String> state = new AtomicReference<>("IDLE");
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger uniqueAddresses = new AtomicInteger();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger found = new AtomicInteger();
+    private final AtomicInteger notFound = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile boolean retryNotFound;
+    private volatile boolean stopRequested;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+    private long nextCallAt; // 다음 호출이 허용되는 시각 (nanoTime, 작업 스레드 하나만 씀)
+
+    public GeocodeJob(GeocodeMapper geocodeMapper,
+                      Geocoder geocoder,
+                      HospitalMapIndex hospitalMapIndex,
+                      @Qualifier("crawlTaskExecutor") Executor jobExecutor) {
+        this.geocodeMapper = geocodeMapper;
+        this.geocoder = geocoder;
+        this.hospitalMapIndex = hospitalMapIndex;
+        this.jobExecutor = jobExecutor;
+    }
+
+    // =========================================================
+    // 1. 작업 시작
+    // =========================================================
+    // 이미 돌고 있으면 새로 시작하지 않고 현재 상황만 돌려줍니다. (중복 실행 방지)
+    // retryNotFound=true: 지난번에 못 찾은 주소도 다시 물어봅니다. (지오코더를 바꿨을 때 등)
+    public GeocodeStatusDto start(boolean retryNotFound) {
+        String previous = state.get();
+        if ("RUNNING".equals(previous) || "STOPPING".equals(previous)
+                || !state.compareAndSet(previous, "RUNNING")) {
+            return getStatus();
+        }
+
+        this.retryNotFound = retryNotFound;
+        this.stopRequested = false;
+        this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+        this.lastError = null;
+        total.set(0);
+        uniqueAddresses.set(0);
+        calls.set(0);
+        processed.set(0);
+        found.set(0);
+        notFound.set(0);
+        failed.set(0);
+
+        try {
+            jobExecutor.execute(() -> run(retryNotFound));
+        } catch (RuntimeException e) {
+            // 작업 스레드가 꽉 차서 못 받은 경우
+            lastError = e.getMessage();
+            finishedAt = LocalDateTime.now();
+            state.set("FAILED");
+        }
+        return getStatus();
+    }
+
+    // =========================================================
+    // 2. 작업 중단 요청
+    // =========================================================
+    // 지금 물어보는 주소까지만 마치고 멈춥니다. 다시 시작하면 남은 행부터 이어서 합니다.
+    public GeocodeStatusDto stop() {
+        if (state.compareAndSet("RUNNING", "STOPPING")) {
+            stopRequested = true;
+        }
+        return getStatus();
+    }
+
+    // =========================================================
+    // 3. 진행 상황 조회
+    // =========================================================
+    public GeocodeStatusDto getStatus() {
+        return GeocodeStatusDto.builder()
+                .state(state.get())
+                .retryNotFound(retryNotFound)
+                .total(total.get())
+                .uniqueAddresses(uniqueAddresses.get())
+                .calls(calls.get())
+                .processed(processed.get())
+                .found(found.get())
+                .notFound(notFound.get())
+                .failed(failed.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .lastError(lastError)
+                .build();
+    }
+
+    // [7] 실제 작업 본체 (crawlTaskExecutor 스레드에서 실행)
+    private void run(boolean retryNotFound) {
+        log.info("=== 🗺️ 좌표 변환 시작 (retryNotFound={}) ===", retryNotFound);
+        boolean hospitalsChanged = false;
+        try {
+            // 같은 주소끼리 묶기 (공백만 다른 주소도 같은 주소로 봄)
+            List<GeocodeTargetDto> targets = geocodeMapper.findTargets(retryNotFound);
+            Map<String, List<GeocodeTargetDto>> byAddress = new LinkedHashMap<>();
+            for (GeocodeTargetDto target : targets) {
+                byAddress.computeIfAbsent(normalize(target.getAddress()), k -> new ArrayList<>()).add(target);
+            }
+            byAddress.remove(""); // 공백뿐인 주소는 물어볼 것도 없음
+            total.set(targets.size());
+            uniqueAddresses.set(byAddress.size());
+            nextCallAt = System.nanoTime();
+
+            for (Map.Entry<String, List<GeocodeTargetDto>> entry : byAddress.entrySet()) {
+                if (stopRequested) break;
+                hospitalsChanged |= geocodeOne(entry.getKey(), entry.getValue());
+            }
+
+            state.set(stopRequested ? "IDLE" : "FINISHED");
+            log.info("=== 🎉 좌표 변환 종료 (API 호출 {}, 저장 {}, 못 찾음 {}, 실패 {}) ===",
+                    calls.get(), found.get(), notFound.get(), failed.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state.set("IDLE");
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            state.set("FAILED");
+            log.error("좌표 변환 작업 실패", e);
+        } finally {
+            finishedAt = LocalDateTime.now();
+            if (hospitalsChanged) hospitalMapIndex.invalidate(); // 새 좌표로 지도 색인 다시 만들기
+        }
+    }
+
+    // [8] 주소 하나 처리: (속도 제한) -> 변환 -> 같은 주소 행 전부 저장
+    // 반환값: 병원 좌표를 하나라도 바꿨는지
+    private boolean geocodeOne(String address, List<GeocodeTargetDto> rows) throws InterruptedException {
+        throttle();
+        Geocoder.Coordinates coordinates;
+        try {
+            calls.incrementAndGet();
+            coordinates = geocoder.geocode(address);
+        } catch (Exception e) {
+            // 저장하지 않고 넘어감 -> 다음 작업 때 다시 대상이 됨
+            failed.addAndGet(rows.size());
+            processed.addAndGet(rows.size());
+            lastError = address + ": " + e.getMessage();
+            log.warn("💥 주소 변환 실패 '{}': {}", address, e.getMessage());
+            return false;
+        }
+
+        boolean hospitalsChanged = false;
+        for (GeocodeTargetDto row : rows) {
+            try {
+                if (coordinates == null) {
+                    geocodeMapper.updateCoordinates(row, null, null, STATUS_NOT_FOUND);
+                    notFound.incrementAndGet();
+                } else {
+                    geocodeMapper.updateCoordinates(row, coordinates.lat(), coordinates.lng(), STATUS_FOUND);
+                    found.incrementAndGet();
+                }
+                hospitalsChanged |= "HOSPITAL".equals(row.getEntity());
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                lastError = row.getEntity() + " " + row.getId() + ": " + e.getMessage();
+                log.warn("좌표 저장 실패 {} {}: {}", row.getEntity(), row.getId(), e.getMessage());
+            } finally {
+                processed.incrementAndGet();
+            }
+        }
+        return hospitalsChanged;
+    }
+
+    // [9] 속도 제한: 호출 사이 간격을 (1초 / ratePerSecond) 이상으로 벌립니다.
+    private void throttle() throws InterruptedException {
+        if (ratePerSecond <= 0) return;
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long now = System.nanoTime();
+        if (nextCallAt > now) {
+            TimeUnit.NANOSECONDS.sleep(nextCallAt - now);
+        }
+        nextCallAt = Math.max(now, nextCallAt) + interval;
+    }
+
+    // [10] 주소 정리: 앞뒤 공백 제거 + 여러 칸 공백을 한 칸으로
+    static String normalize(String address) {
+        return address == null ? "" : address.strip().replaceAll("\\s+", " ");
+    }
+}
+//
+//상황: 관리자가 [좌표 변환] 버튼을 눌렀을 때
+//
+//접수: 컨트롤러가 start()를 부르면, 작업을 crawlTaskExecutor 스레드에 넘기고 바로 "RUNNING" 상황판을 돌려줍니다.
+//
+//명단 확보: 맛집/관광지/병원 테이블에서 좌표가 없거나 주소가 바뀐 행만 모읍니다. 같은 주소는 한 묶음으로 합칩니다.
+//
+//변환: 묶음마다 한 번씩 지오코더(카카오 API)에 물어봅니다. 초당 10번을 넘지 않게 간격을 둡니다.
+//
+//저장: 결과 좌표와 "이 주소로 구했다"는 기록(GEO_ADDRESS)을 같은 주소 행 전부에 씁니다. 못 찾은 주소는 NOT_FOUND로 남겨서 다음엔 건너뜁니다.
+//
+//이어하기: 서버가 중간에 죽어도 이미 저장한 행은 대상에서 빠지므로, 다시 시작하면 남은 주소부터 이어갑니다.
+//
+//마무리: 병원 좌표가 바뀌었으면 병원 지도 색인을 버려서, 다음 지도 조회 때 새 좌표로 다시 만듭니다.
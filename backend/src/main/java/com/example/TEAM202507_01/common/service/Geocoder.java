@@ -0,0 +1,16 @@
+package com.example.TEAM202507_01.common.service;
+// [1] 패키지 선언: 이 파일이 '공통 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 주소 -> 좌표 변환기 (갈아끼울 수 있는 부품)
+// 맛집, 관광지, 병원 모두 글자 주소만 있어서, 배치 작업(GeocodeJob)이 이 부품으로 좌표를 구해 DB에 저장합니다.
+// - 운영: KakaoGeocoder (카카오 로컬 API, geocode.provider=kakao 또는 설정 없음)
+// - 개발/테스트: LocalStubGeocoder (외부 호출 없음, geocode.provider=stub)
+public interface Geocoder {
+
+    // [3] 위도/경도 한 쌍
+    record Coordinates(double lat, double lng) {
+    }
+
+    // [4] 변환: 주소를 못 찾으면 null, 네트워크/키/할당량 문제는 예외 (예외가 나면 다음 작업 때 다시 시도)
+    Coordinates geocode(String address);
+}
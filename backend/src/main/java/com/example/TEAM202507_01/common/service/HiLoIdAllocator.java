@@ -0,0 +1,39 @@
+package com.example.TEAM202507_01.common.service;
+// [1] 패키지 선언: 이 파일이 '공통 > 서비스' 폴더에 있다는 주소입니다.
+
+import java.util.function.LongSupplier;
+
+// [2] 번호 묶음 배분기 (hi/lo)
+// DB 시퀀스를 INCREMENT BY blockSize로 만들어 두고, NEXTVAL 한 번으로 받은 값 v부터 v + blockSize - 1까지를
+// 이 서버 몫으로 잡아 둔 뒤 메모리에서 하나씩 나눠 줍니다. 다 쓰면 그때 NEXTVAL을 한 번 더 부릅니다.
+// - 저장할 때마다 번호를 받으러 DB에 가지 않습니다. (blockSize번에 한 번)
+// - 서버가 여러 대여도 각자 다른 묶음을 받으므로 번호가 겹치지 않습니다.
+// - 서버가 재시작되면 쓰다 만 묶음의 남은 번호는 건너뜁니다. (번호에 빈 곳이 생길 수 있음)
+// 스프링 빈이 아니라, 쓰는 쪽(예: CommentIdAllocator)이 시퀀스 조회 방법을 넘겨서 만듭니다.
+public class HiLoIdAllocator {
+
+    private final LongSupplier nextBlockStart; // 시퀀스 NEXTVAL
+    private final int blockSize; // 시퀀스의 INCREMENT BY와 같아야 함
+
+    private long next;
+    private long limit; // 이번 묶음에서 못 쓰는 첫 번호 (next == limit이면 새 묶음 필요)
+
+    public HiLoIdAllocator(LongSupplier nextBlockStart, int blockSize) {
+        if (blockSize < 1) throw new IllegalArgumentException("묶음 크기는 1 이상이어야 합니다: " + blockSize);
+        this.nextBlockStart = nextBlockStart;
+        this.blockSize = blockSize;
+    }
+
+    public synchronized long next() {
+        if (next == limit) {
+            long start = nextBlockStart.getAsLong();
+            next = start;
+            limit = start + blockSize;
+        }
+        return next++;
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.TEAM202507_01.common.service;
+// [1] 패키지 선언: 이 파일이 '공통 > 서비스' 폴더에 있다는 주소입니다.
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// [2] 본문 요약문 만들기 (에디터 HTML -> 앞부분 평문)
+// 목록 카드와 검색 색인은 본문 전체가 아니라 앞부분 몇 줄만 보여 줍니다.
+// 글을 저장/수정할 때 한 번 만들어 POSTS.EXCERPT에 넣어 두면, 목록 조회가 큰 CONTENT 열을 읽지 않아도 됩니다.
+// - <script>/<style> 안쪽은 통째로 버리고, 나머지 태그는 공백 하나로 바꿉니다. (<p>a</p><p>b</p> -> "a b")
+// - &nbsp; &amp; &#39; 같은 문자 표기는 원래 글자로 되돌립니다.
+// - 연속 공백을 하나로 줄이고, maxLength 글자를 넘으면 자르고 "…"를 붙입니다. (이모지 같은 두 칸 문자는 반으로 자르지 않음)
+public final class HtmlExcerpt {
+
+    public static final int DEFAULT_LENGTH = 200; // POSTS.EXCERPT VARCHAR2(300 CHAR) 안에 들어가는 길이
+
+    private static final Pattern HIDDEN_BLOCK = Pattern.compile("(?is)<(script|style)\\b[^>]*>.*?</\\1\\s*>");
+    private static final Pattern TAG = Pattern.compile("(?s)<!--.*?-->|<[^>]*>");
+    private static final Pattern ENTITY = Pattern.compile("&(#\\d{1,7}|#[xX][0-9a-fA-F]{1,6}|[a-zA-Z]{2,8});");
+    private static final Pattern SPACES = Pattern.compile("[\\s\\u00A0]+");
+
+    private HtmlExcerpt() {
+    }
+
+    public static String of(String html) {
+        return of(html, DEFAULT_LENGTH);
+    }
+
+    // 반환값: 요약문, 글자가 하나도 없으면(사진만 있는 글 등) null
+    public static String of(String html, int maxLength) {
+        if (html == null || html.isEmpty()) return null;
+
+        String text = HIDDEN_BLOCK.matcher(html).replaceAll(" ");
+        text = TAG.matcher(text).replaceAll(" ");
+        text = decodeEntities(text);
+        text = SPACES.matcher(text).replaceAll(" ").trim();
+        if (text.isEmpty()) return null;
+
+        if (text.codePointCount(0, text.length()) <= maxLength) return text;
+        int end = text.offsetByCodePoints(0, maxLength);
+        return text.substring(0, end).stripTrailing() + "…";
+    }
+
+    private static String decodeEntities(String text) {
+        if (text.indexOf('&') < 0) return text;
+        Matcher m = ENTITY.matcher(text);
+        StringBuilder out = new StringBuilder(text.length());
+        while (m.find()) {
+            String decoded = decode(m.group(1));
+            m.appendReplacement(out, Matcher.quoteReplacement(decoded != null ? decoded : m.group()));
+        }
+        m.appendTail(out);
+        return out.toString();
+    }
+
+    private static String decode(String entity) {
+        if (entity.charAt(0) == '#') {
+            try {
+                boolean hex = entity.length() > 1 && (entity.charAt(1) == 'x' || entity.charAt(1) == 'X');
+                int codePoint = hex ? Integer.parseInt(entity.substring(2), 16) : Integer.parseInt(entity.substring(1));
+                // 반쪽짜리 문자(서로게이트) 번호는 글자로 못 만들므로 그대로 둠
+                boolean surrogate = codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE;
+                return Character.isValidCodePoint(codePoint) && !surrogate ? new String(Character.toChars(codePoint)) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return switch (entity) {
+            case "nbsp" -> " ";
+            case "amp" -> "&";
+            case "lt" -> "<";
+            case "gt" -> ">";
+            case "quot" -> "\"";
+            case "apos" -> "'";
+            default -> null; // 모르는 이름은 그대로 둠
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.TEAM202507_01.common.service;
+// [1] 패키지 선언: 이 파일이 '공통 > 서비스' 폴더에 있다는 주소입니다.
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+// [2] 이미지 종류 알아내기 (파일 앞부분 몇 바이트로)
+// 파일 이름이나 브라우저가 보낸 Content-Type은 틀릴 수 있어서(예: 에디터 이미지를 전부 .jpg로 저장), 실제 내용의 첫 바이트를 봅니다.
+// 반환값: ".jpg" / ".png" / ".gif" / ".webp" / ".bmp", 이미지가 아니면 null
+public final class ImageTypeSniffer {
+
+    // 이름(확장자)만 보고 사진 파일인지 고르는 규칙. 게시글 대표 사진, 사진 사본 대기열이 같이 씁니다.
+    // SQL 쪽(CommunityMapper.xml의 reconcileCounters, selectFilesWithoutVariants, MyPageMapper.xml의 updatePost)의 REGEXP_LIKE도 같은 확장자 목록입니다.
+    public static final Pattern IMAGE_NAME = Pattern.compile("(?i).*\\.(jpe?g|png|gif|webp|bmp)$");
+
+    private static final int HEAD_SIZE = 12;
+
+    private ImageTypeSniffer() {
+    }
+
+    public static String extensionOf(InputStream in) throws IOException {
+        return extensionOf(in.readNBytes(HEAD_SIZE));
+    }
+
+    public static String extensionOf(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return extensionOf(in);
+        }
+    }
+
+    public static String extensionOf(byte[] head) {
+        if (startsWith(head, 0xFF, 0xD8, 0xFF)) return ".jpg";
+        if (startsWith(head, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) return ".png";
+        if (ascii(head, 0, "GIF87a") || ascii(head, 0, "GIF89a")) return ".gif";
+        if (ascii(head, 0, "RIFF") && ascii(head, 8, "WEBP")) return ".webp";
+        if (ascii(head, 0, "BM") && head.length >= 6) return ".bmp";
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int... expected) {
+        if (head.length < expected.length) return false;
+        for (int i = 0; i < expected.length; i++) {
+            if ((head[i] & 0xFF) != expected[i]) return false;
+        }
+        return true;
+    }
+
+    private static boolean ascii(byte[] head, int offset, String expected) {
+        byte[] bytes = expected.getBytes(StandardCharsets.US_ASCII);
+        if (head.length < offset + bytes.length) return false;
+        for (int i = 0; i < bytes.length; i++) {
+            if (head[offset + i] != bytes[i]) return false;
+        }
+        return true;
+    }
+}
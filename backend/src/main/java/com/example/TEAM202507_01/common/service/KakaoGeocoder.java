@@ -0,0 +1,59 @@
+package com.example.TEAM202507_01.common.service;
+// [1] 패키지 선언: 이 파일이 '공통 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 외부 API 호출 도구들을 가져옵니다.
+import com.fasterxml.jackson.databind.JsonNode; // JSON 응답 읽기
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty; // 설정에 따라 빈 등록
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component; // 빈 등록
+import org.springframework.web.client.RestTemplate; // HTTP 호출 도구
+import org.springframework.web.util.UriComponentsBuilder; // 주소(쿼리 포함) 조립 도구
+
+import java.net.URI;
+
+// [3] 카카오 로컬 API 주소 검색 변환기
+// GET https://dapi.kakao.com/v2/local/search/address.json?query=주소 (헤더: Authorization: KakaoAK {REST 키})
+// 첫 번째 검색 결과의 x(경도), y(위도)를 씁니다.
+@Component
+@ConditionalOnProperty(name = "geocode.provider", havingValue = "kakao", matchIfMissing = true)
+public class KakaoGeocoder implements Geocoder {
+
+    private final RestTemplate restTemplate;
+    private final String restKey;
+    private final String apiUrl;
+
+    public KakaoGeocoder(RestTemplate restTemplate,
+                         @Value("${geocode.kakao.rest-key:}") String restKey,
+                         @Value("${geocode.kakao.url:https://dapi.kakao.com/v2/local/search/address.json}") String apiUrl) {
+        this.restTemplate = restTemplate;
+        this.restKey = restKey;
+        this.apiUrl = apiUrl;
+    }
+
+    @Override
+    public Coordinates geocode(String address) {
+        if (restKey.isBlank()) {
+            throw new IllegalStateException("카카오 REST API 키(geocode.kakao.rest-key)가 설정되지 않았습니다.");
+        }
+
+        URI uri = UriComponentsBuilder.fromUriString(apiUrl)
+                .queryParam("query", address)
+                .encode()
+                .build()
+                .toUri();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, "KakaoAK " + restKey);
+
+        // 4xx/5xx(할당량 초과 등)는 RestTemplate이 예외로 던짐 -> 작업이 실패로 세고 다음에 다시 시도
+        JsonNode body = restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class).getBody();
+        JsonNode documents = body == null ? null : body.path("documents");
+        if (documents == null || !documents.isArray() || documents.isEmpty()) {
+            return null; // 주소를 못 찾음
+        }
+        JsonNode first = documents.get(0);
+        return new Coordinates(first.path("y").asDouble(), first.path("x").asDouble());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.TEAM202507_01.common.service;
+// [1] 패키지 선언: 이 파일이 '공통 > 서비스' 폴더에 있다는 주소입니다.
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// [2] 필요할 때 한 번 만들어 두는 메모리 카탈로그 (번호 확인 방식)
+// 처음 조회할 때 만들어서 계속 쓰다가, 데이터가 바뀌면 invalidate()로 버리고 다음 조회 때 다시 만듭니다.
+// - invalidate() 때마다 번호를 1씩 올리고, 만든 값에는 만들기 시작할 때의 번호를 붙여 둡니다.
+//   만드는 도중에 데이터가 바뀌면 다 만든 값의 번호가 옛 번호라서, 다음 조회가 다시 만듭니다.
+//   (번호 없이 null만 확인하면, 느리게 끝난 옛 값이 다음 invalidate() 전까지 계속 쓰임)
+// - 동시에 비어 있는 걸 본 요청들이 각자 만들지 않게, 잠금 안에서 한 번만 만들고 나머지는 그걸 씁니다.
+// 스프링 빈이 아니라, 쓰는 쪽(예: RestaurantOpenIndex, HospitalDepartmentIndex, HospitalMapIndex)이 필드로 하나씩 둡니다.
+public class LazySnapshot<T> {
+
+    private volatile Built<T> built; // 현재 값 (null이면 다음 조회 때 새로 만듦)
+    private final AtomicLong generation = new AtomicLong();
+    private final Object buildLock = new Object();
+
+    // 지금 번호로 만든 값이 있으면 그대로, 없으면 잠금 안에서 builder로 한 번만 만듭니다.
+    public T get(Supplier<T> builder) {
+        Built<T> current = built;
+        if (current != null && current.generation() == generation.get()) return current.value();
+        synchronized (buildLock) {
+            current = built;
+            long building = generation.get(); // 읽기 전에 번호를 잡아 둠 (읽는 도중 바뀌면 다음 조회가 다시 만듦)
+            if (current == null || current.generation() != building) {
+                current = new Built<>(builder.get(), building);
+                built = current;
+            }
+            return current.value();
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet(); // 번호를 먼저 올려야, 지금 만들고 있는 값도 옛것으로 취급됨
+        built = null;
+    }
+
+    private record Built<T>(T value, long generation) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.TEAM202507_01.common.service;
+// [1] 패키지 선언: 이 파일이 '공통 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 설정과 빈 등록 도구들을 가져옵니다.
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty; // 설정에 따라 빈 등록
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+// [3] 외부 호출 없는 가짜 변환기 (개발/테스트용, geocode.provider=stub)
+// 같은 주소면 항상 같은 좌표를 대전 시내 사각형 안에서 만들어 줍니다. (지도 화면, 색인 개발할 때 API 키 없이 쓰기)
+// "없는 주소"를 흉내 내려면 주소에 "없는주소"를 넣으면 null을 돌려줍니다.
+@Component
+@ConditionalOnProperty(name = "geocode.provider", havingValue = "stub")
+public class LocalStubGeocoder implements Geocoder {
+
+    // 대전 시내 대략적인 범위
+    private static final double MIN_LAT = 36.25, MAX_LAT = 36.45;
+    private static final double MIN_LNG = 127.25, MAX_LNG = 127.50;
+
+    @Override
+    public Coordinates geocode(String address) {
+        if (address == null || address.isBlank() || address.contains("없는주소")) return null;
+
+        CRC32 crc = new CRC32();
+        crc.update(address.getBytes(StandardCharsets.UTF_8));
+        long hash = crc.getValue(); // 32비트 -> 위 16비트는 위도, 아래 16비트는 경도
+        double lat = MIN_LAT + (MAX_LAT - MIN_LAT) * ((hash >>> 16) & 0xffff) / 0xffff;
+        double lng = MIN_LNG + (MAX_LNG - MIN_LNG) * (hash & 0xffff) / 0xffff;
+        return new Coordinates(lat, lng);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.TEAM202507_01.config; // 1. 이 설정 파일이 위치한 패키지 경로입니다.
+
+// 2. [Imports] 비동기 실행과 스레드 풀 설정에 필요한 도구들을 가져옵니다.
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration // 3. "스프링아, 이건 설정 파일이야. 서버 켤 때 읽어줘."
+@EnableAsync // 4. 이게 있어야 @Async가 진짜로 별도 스레드에서 돕니다. (없으면 요청 스레드에서 그냥 실행되어 버림)
+public class AsyncConfig {
+
+    // 5. [기본 스레드 풀] 우리가 Executor 빈을 하나라도 등록하면 스프링 부트가 기본 풀(applicationTaskExecutor)을 안 만들어 줍니다.
+    // 그래서 부트 설정(spring.task.execution.*)을 그대로 따르는 기본 풀을 직접 등록해 둡니다. 이름 없는 @Async는 여기서 돕니다.
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // 6. [크롤링 작업 전용 스레드] 이미지 크롤링 같은 오래 걸리는 관리자 작업을 HTTP 요청 스레드와 분리합니다.
+    // 작업은 한 번에 하나만 돌면 되므로 스레드 1개, 대기열도 1개로 작게 잡습니다.
+    // 쓰는 쪽에서는 @Qualifier("crawlTaskExecutor") 또는 @Async("crawlTaskExecutor")처럼 이름을 붙여서 가져옵니다.
+    @Bean(name = "crawlTaskExecutor")
+    public ThreadPoolTaskExecutor crawlTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("crawl-job-");
+        // 7. 서버 종료 시 돌고 있던 작업이 체크포인트를 남길 수 있게 잠깐 기다려줍니다.
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 8. [사진 사본 전용 스레드] 게시글 사진의 목록용/상세용 사본 만들기(PostImageVariants)를 요청 스레드와 분리합니다.
+    // 사진 처리는 메모리를 많이 쓰므로 스레드 1개로 차례차례. 대기열이 넘치면 버리고, 빠진 사진은 보충 작업이 다시 넣습니다.
+    @Bean(name = "imageTaskExecutor")
+    public ThreadPoolTaskExecutor imageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.TEAM202507_01.config; // 1. 이 설정 파일이 위치한 패키지 경로입니다.
+
+// 2. [Imports] 주기 작업(@Scheduled)을 켜고, 주기 작업용 스레드 풀을 만드는 도구를 가져옵니다.
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration // 3. "스프링아, 이건 설정 파일이야. 서버 켤 때 읽어줘."
+@EnableScheduling // 4. 이게 있어야 @Scheduled가 붙은 메서드가 정해진 시각마다 실행됩니다. (없으면 그냥 무시됨)
+public class SchedulingConfig {
+    // 5. 주기 작업 목록 (모두 아래 스레드 풀 하나를 같이 씁니다)
+    // - PostViewCounter.scheduledFlush / recoverStale: 조회수 보관함 DB 반영 (5초) / 남은 처리용 사본 되돌리기 (5분)
+    // - PostLikeWriter.scheduledFlush / recoverStale: 좋아요 대기 목록 DB 반영 (2초) / 남은 처리용 키 되돌리기 (5분)
+    // - PostImageVariants: 목록용 사진 사본이 빠진 글 찾아서 사진 스레드에 넘기기 (10분)
+    // - PostBodyBackfill: 예전 글의 요약문/본문 첫 사진 대표 사진 채우기 (30초, 다 채우면 DB를 안 읽음)
+    // - PostAttachmentStaging: 임시 폴더에 남은 첨부파일 정리 (1시간)
+    // - CommunityCounterReconciler: 글 댓글 수/좋아요 수/대표 사진 보정 (매일 새벽 4시 40분)
+    // - HospitalRatingReconciler: 병원 별점 합계/리뷰 수를 리뷰 테이블과 맞추기 (매일 새벽 4시 30분)
+
+    // 6. [주기 작업 스레드 풀] 스프링 부트 기본값은 스레드 1개라서, 예전 글 채우기나 새벽 보정이 도는 동안
+    // 2초/5초마다 도는 좋아요/조회수 반영이 그 뒤에 줄을 서서 밀립니다. 그래서 기본 4개로 늘립니다.
+    // 부트 설정(spring.task.scheduling.*)은 그대로 따르고, 개수만 spring.task.scheduling.pool.size로 바꿀 수 있습니다.
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder,
+                                                 @Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        return builder.poolSize(poolSize).build();
+    }
+}
@@ -83,6 +83,13 @@ public class GeminiService {
     }
 
     public String analyzeSymptom(String symptom) {
+        String result = classifySymptom(symptom);
+        return result != null ? result : "내과";
+    }
+
+    // 증상 -> 진료과 분류 (호출 실패면 null)
+    // 실패를 기본값("내과")과 구분해야 분류 캐시가 실패 결과를 저장하지 않습니다.
+    public String classifySymptom(String symptom) {
         String prompt = String.format(
                 "사용자의 증상: '%s'. \n" +
                         "과목 목록: [내과, 외과, 정형외과, 피부과, 치과, 안과, 이비인후과, 산부인과, 비뇨기과, 신경과, 정신건강의학과] \n" +
@@ -90,7 +97,7 @@ public class GeminiService {
                 symptom
         );
         String result = callGeminiApiWithRetry(prompt);
-        return result != null ? result.trim().replace("\n", "") : "내과";
+        return result != null ? result.trim().replace("\n", "") : null;
     }
 
     private String callGeminiApiWithRetry(String promptText) {
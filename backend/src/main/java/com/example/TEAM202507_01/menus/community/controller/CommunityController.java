@@ -2,11 +2,16 @@ package com.example.TEAM202507_01.menus.community.controller;
 
 import com.example.TEAM202507_01.alramo.service.AlramoService;
 import com.example.TEAM202507_01.menus.community.dto.CommentDto;
+import com.example.TEAM202507_01.menus.community.dto.CommentPageDto;
+import com.example.TEAM202507_01.menus.community.dto.CommunityCursorPageDto;
 import com.example.TEAM202507_01.menus.community.dto.CommunityDto;
+import com.example.TEAM202507_01.menus.community.dto.PostUserStatusDto;
 import com.example.TEAM202507_01.menus.community.service.CommunityService;
+import com.example.TEAM202507_01.menus.community.service.PostLikeStore;
 import com.example.TEAM202507_01.user.dto.UserDto;
 import com.example.TEAM202507_01.user.service.FavoriteService;
 import com.example.TEAM202507_01.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.bytebuddy.implementation.bind.MethodDelegationBinder;
@@ -82,40 +87,70 @@ public class CommunityController {
         return ResponseEntity.ok(communityService.getPostList("NOTICE", 1, 100));
     }
 
+    // 게시글 목록
+    // - page를 주면: 예전처럼 페이지 번호 목록 (배열)
+    // - page 없이 부르면: 커서 목록 { content, nextCursor, hasNext } (무한 스크롤용, 다음 장은 cursor=nextCursor)
+    // 로그인한 상태면 글마다 isLiked / isFavorite도 채워서 보냄 (한 장에 쿼리 몇 번으로 끝남)
     @GetMapping("/posts")
-    public ResponseEntity<List<CommunityDto>> getPostList(
+    public ResponseEntity<?> getPostList(
             @RequestParam(name = "category", required = false) String category,
-            @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails user
     ) {
-        return ResponseEntity.ok(communityService.getPostList(category, page, size));
+        String currentUserId = (user != null) ? user.getUsername() : null;
+        if (page != null) {
+            List<CommunityDto> posts = communityService.getPostList(category, page, size);
+            communityService.applyUserStatuses(posts, currentUserId);
+            return ResponseEntity.ok(posts);
+        }
+        CommunityCursorPageDto pageDto = communityService.getPostPage(category, cursor, size);
+        communityService.applyUserStatuses(pageDto.getContent(), currentUserId);
+        return ResponseEntity.ok(pageDto);
+    }
+
+    // 목록 한 장의 좋아요/즐겨찾기 여부 한 번에 조회 (예: /posts/status?ids=3,2,1)
+    // 글마다 /post/{id}/isuserliked를 부르지 않게. 비로그인이면 전부 false.
+    @GetMapping("/posts/status")
+    public ResponseEntity<List<PostUserStatusDto>> getPostStatuses(
+            @RequestParam(name = "ids") List<Long> ids,
+            @AuthenticationPrincipal UserDetails user
+    ) {
+        String currentUserId = (user != null) ? user.getUsername() : null;
+        return ResponseEntity.ok(communityService.getUserStatuses(ids, currentUserId));
     }
 
     @GetMapping("/category/{category}")
     public ResponseEntity<List<CommunityDto>> getPostsByCategoryPath(
             @PathVariable String category,
             @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails user
     ) {
-        return ResponseEntity.ok(communityService.getPostList(category.toUpperCase(), page, size));
+        List<CommunityDto> posts = communityService.getPostList(category.toUpperCase(), page, size);
+        communityService.applyUserStatuses(posts, (user != null) ? user.getUsername() : null);
+        return ResponseEntity.ok(posts);
     }
 
     // [수정] 상세 조회 시 로그인 유저 정보(user)를 받아서 서비스로 전달
     @GetMapping("/post/{id:[0-9]+}")
     public ResponseEntity<CommunityDto> getPost(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails user // 👈 추가: 로그인 정보 확인
+            @AuthenticationPrincipal UserDetails user, // 👈 추가: 로그인 정보 확인
+            HttpServletRequest request // 비로그인 조회수 중복 확인용 IP
     ) {
         String currentUserId = (user != null) ? user.getUsername() : null;
         // Service에 userId도 같이 넘김
-        return ResponseEntity.ok(communityService.findPostById(id, currentUserId));
+        return ResponseEntity.ok(communityService.findPostById(id, currentUserId, request.getRemoteAddr()));
     }
 
     @GetMapping("/free/{id:[0-9]+}")
-    public ResponseEntity<CommunityDto> getFreePostDetail(@PathVariable Long id, @AuthenticationPrincipal UserDetails user) {
+    public ResponseEntity<CommunityDto> getFreePostDetail(@PathVariable Long id, @AuthenticationPrincipal UserDetails user,
+                                                          HttpServletRequest request) {
         String currentUserId = (user != null) ? user.getUsername() : null;
         // Service에 userId도 같이 넘김
-        return ResponseEntity.ok(communityService.findPostById(id, currentUserId));
+        return ResponseEntity.ok(communityService.findPostById(id, currentUserId, request.getRemoteAddr()));
     }
 
     @DeleteMapping("/free/{id:[0-9]+}")
@@ -171,6 +206,28 @@ public class CommunityController {
         return ResponseEntity.ok(communityService.findCommentsByPostId(postId));
     }
 
+    // 댓글 트리 (오래된 순)
+    // 최상위 댓글을 size개씩, 스레드마다 첫 답글 replies개를 붙여서 보냄. 다음 장은 cursor=nextCursor
+    // 답글이 더 있는 스레드는 hasMoreReplies=true, /comments/thread/{그 댓글 번호}?cursor=nextReplyCursor 로 더 받음
+    @GetMapping("/comments/{postId:[0-9]+}/tree")
+    public ResponseEntity<CommentPageDto> getCommentTree(
+            @PathVariable Long postId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "replies", defaultValue = "3") int replies
+    ) {
+        return ResponseEntity.ok(communityService.getCommentTree(postId, cursor, size, replies));
+    }
+
+    @GetMapping("/comments/thread/{rootId:[0-9]+}")
+    public ResponseEntity<CommentPageDto> getCommentReplies(
+            @PathVariable Long rootId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(communityService.getCommentReplies(rootId, cursor, size));
+    }
+
     @PostMapping("/comments")
     public ResponseEntity<String> saveComment(@RequestBody CommentDto dto) {
         communityService.saveComment(dto);
@@ -201,18 +258,22 @@ public class CommunityController {
         UserDto userDto = userService.findById(user.getUsername());
         String userId = userDto.getId(); // (참고: 아까 UUID 변환 로직 넣었으면 그거 사용)
 
-        // 1. 좋아요 토글 수행
-        communityService.likeIncrease(id, userId);
-
-        // 2. 🔥 [핵심] 최신 좋아요 개수를 다시 조회
-        int newCount = communityService.likeCount(id);
+        // 1. 좋아요 토글 수행 (토글 결과와 최신 좋아요 개수를 한 번에 받음)
+        PostLikeStore.Toggle result = communityService.likeIncrease(id, userId);
 
-        // 3. JSON 형태로 반환 (likeCount 필드 포함)
+        // 2. JSON 형태로 반환 (likeCount 필드 포함)
         return ResponseEntity.ok(Map.of(
-                "likeCount", newCount
+                "likeCount", result.likeCount(),
+                "liked", result.liked()
         ));
     }
 
+    // [관리자용] 글 행 집계값(댓글 수, 좋아요 수, 대표 사진) 보정 바로 실행. 평소에는 매일 새벽 자동으로 돕니다.
+    @PostMapping("/counters/reconcile")
+    public ResponseEntity<Integer> reconcileCounters() {
+        return ResponseEntity.ok(communityService.reconcileCounters());
+    }
+
     @GetMapping("/post/{id}/likecount")
     public ResponseEntity<Integer> likeCount(@PathVariable Long id) {
         return ResponseEntity.ok(communityService.likeCount(id));
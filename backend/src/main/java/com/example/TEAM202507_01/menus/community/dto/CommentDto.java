@@ -26,5 +26,6 @@ public class CommentDto {
 
     private LocalDateTime createdAt; // 작성 시간.
     private Long parentId;      // [대댓글] 이 댓글의 부모 댓글 ID (null이면 일반 댓글).
+    private Long rootId;        // [대댓글] 이 답글이 속한 최상위 댓글 ID (일반 댓글이면 null, 저장 때 DB가 채움).
 }
 
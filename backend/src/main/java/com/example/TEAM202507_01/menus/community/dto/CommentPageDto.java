@@ -0,0 +1,21 @@
+package com.example.TEAM202507_01.menus.community.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// [댓글 커서 페이지 응답]
+// 최상위 댓글 한 장(각자 첫 답글 몇 개 포함), 또는 한 스레드의 답글 한 장.
+// - content: 이번 장의 댓글 트리
+// - nextCursor: 다음 장을 받을 때 cursor 파라미터로 그대로 보낼 값 (다음 장이 없으면 null)
+// - hasNext: 다음 장이 있는지
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CommentPageDto {
+    private List<CommentThreadDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
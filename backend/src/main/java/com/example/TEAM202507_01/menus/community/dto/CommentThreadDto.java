@@ -0,0 +1,25 @@
+package com.example.TEAM202507_01.menus.community.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// [댓글 트리 한 칸]
+// 댓글 하나와 그 밑에 달린 답글들. 최상위 댓글이면 "답글 더 보기"용 커서도 들고 있습니다.
+// - comment: 댓글 내용 (CommentDto 그대로)
+// - replies: 이 댓글에 달린 답글 (작성 순, 답글의 답글은 다시 replies 안에)
+// - nextReplyCursor: 최상위 댓글에만, 아직 안 보낸 답글이 있으면 /comments/thread/{id}?cursor= 에 넘길 값 (없으면 null)
+// - hasMoreReplies: 아직 안 보낸 답글이 있는지
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CommentThreadDto {
+    private CommentDto comment;
+    @Builder.Default
+    private List<CommentThreadDto> replies = new ArrayList<>();
+    private String nextReplyCursor;
+    private boolean hasMoreReplies;
+}
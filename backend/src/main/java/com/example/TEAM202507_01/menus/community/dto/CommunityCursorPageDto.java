@@ -0,0 +1,21 @@
+package com.example.TEAM202507_01.menus.community.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// [커서 페이지 응답]
+// 무한 스크롤용 목록 한 장. 다음 장을 받을 때는 nextCursor를 그대로 cursor 파라미터로 보내면 됩니다.
+// - content: 이번 장의 글 (최신순)
+// - nextCursor: 이번 장 마지막 글의 (작성일시, 글 번호)를 담은 문자열 (다음 장이 없으면 null)
+// - hasNext: 다음 장이 있는지
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CommunityCursorPageDto {
+    private List<CommunityDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -21,6 +21,7 @@ public class CommunityDto {
     private Long id;            // 게시글 고유 번호 (PK).
     private String title;       // 글 제목.
     private String content;     // 글 내용.
+    private String excerpt;     // 본문 앞부분 평문 (POSTS.EXCERPT, 저장/수정 때 만듦. 목록과 검색 색인은 content 대신 이것만 읽음)
     private LocalDateTime createdAt; // 작성일시.
     private String userId;// 작성자 아이디 (FK).
     // [수정] RECOMMEND -> NOTICE로 변경 주석 반영
@@ -30,7 +31,9 @@ public class CommunityDto {
 
     // [중요] DB 테이블(POSTS)에는 없지만, 화면에 보여주기 위해 JOIN해서 가져오는 값임.
     private String userNickname; // 작성자 닉네임.
-    private int commentCount;
-    private int likeCount;
+    private int commentCount;   // 댓글 수 (POSTS.COMMENT_COUNT, 댓글 저장/삭제 때 같이 고침)
+    private int likeCount;      // 좋아요 수 (POSTS.LIKE_COUNT, PostLikeWriter가 몇 초마다 다시 셈)
+    private String filePath;    // 대표 사진 경로 (POSTS.THUMBNAIL_PATH, 목록 썸네일용)
     private Boolean isLiked;
+    private Boolean isFavorite; // 내가 즐겨찾기 했는지 (로그인한 목록 조회에서만 채움)
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.TEAM202507_01.menus.community.dto;
+
+import lombok.*;
+
+// [글별 내 상태]
+// 목록 화면의 하트(좋아요)/별(즐겨찾기) 표시용. 글 한 장 분량을 한 번에 받습니다.
+// - postId: 글 번호
+// - liked: 내가 좋아요를 눌렀는지
+// - favorited: 내가 즐겨찾기 했는지
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class PostUserStatusDto {
+    private Long postId;
+    private boolean liked;
+    private boolean favorited;
+}
@@ -2,7 +2,9 @@ package com.example.TEAM202507_01.menus.community.repository;
 
 import com.example.TEAM202507_01.menus.community.dto.CommentDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper // ★ 이게 있어야 오토와이어링(Bean 등록)이 됩니다.
@@ -11,9 +13,24 @@ public interface CommentMapper {
     List<CommentDto> findAllByPostId(Long postId);
     // DB에 있는 모든 글을 가져와서 리스트로 만듦. (목록 조회)
 
-    // 댓글 저장
+    // 댓글 트리: 최상위 댓글 한 장 / 스레드별 첫 답글 / 한 스레드의 답글 한 장 (커서는 마지막으로 보낸 댓글의 작성일시 + 번호)
+    List<CommentDto> selectRootComments(@Param("postId") long postId,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorId") Long cursorId,
+                                        @Param("limit") int limit);
+    List<CommentDto> selectFirstReplies(@Param("rootIds") List<Long> rootIds, @Param("perThread") int perThread);
+    List<CommentDto> selectRepliesAfter(@Param("rootId") long rootId,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorId") Long cursorId,
+                                        @Param("limit") int limit);
+
+    // 댓글 저장 (dto.id는 CommentIdAllocator가 미리 채워 둠)
     void save(CommentDto dto);
 
+    // 댓글 번호 묶음 (COMMENT_ID_SEQ.NEXTVAL = 이번 묶음의 첫 번호) / 묶음 크기 (시퀀스의 INCREMENT BY)
+    long nextCommentIdBlock();
+    Integer selectCommentIdBlockSize();
+
     // 댓글 수정
     void update(CommentDto dto);
 
@@ -1,11 +1,13 @@
 package com.example.TEAM202507_01.menus.community.repository;
 
+import com.example.TEAM202507_01.common.dto.FileDto;
 import com.example.TEAM202507_01.menus.community.dto.CommentDto;
 import com.example.TEAM202507_01.menus.community.dto.CommunityDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -26,6 +28,15 @@ public interface CommunityMapper {
             @Param("size") int size
     );
 
+    // 커서 목록 조회 (무한 스크롤): (작성일시, 글 번호)가 커서보다 앞선(더 오래된) 글을 limit개
+    // category가 null이면 전체, cursorCreatedAt이 null이면 첫 장
+    List<CommunityDto> selectPostsBefore(
+            @Param("category") String category,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
     // 단순 카테고리 조회 (기존 코드 호환용)
     List<CommunityDto> selectPostsByCategory(@Param("category") String category);
 
@@ -41,31 +52,53 @@ public interface CommunityMapper {
             @Param("currentPostId") Long currentPostId
     );
 
-    void viewCountIncrease (long id);
-
-    void likeIncrease(@Param("id") long id, @Param("userId") String userId);
-    void likeDecrease(@Param("id") long id, @Param("userId") String userId);
+    // 조회수 더하기 (PostViewCounter가 모아 둔 값을 주기적으로 한 번에 씀)
+    void addViewCount(@Param("id") long id, @Param("delta") long delta);
 
-    int likeExists(@Param("id") long id, @Param("userId") String userId);
-
-    int likeCount(@Param("id") long id);
+    // 좋아요 (토글은 레디스 PostLikeStore가 받고, PostLikeWriter가 모아서 아래 문장으로 씀)
+    List<String> selectLikeUserIds(@Param("id") long id);
+    List<Long> selectLikedPostIds(@Param("userId") String userId, @Param("postIds") List<Long> postIds); // 목록 하트 표시용
+    void insertLikeIfAbsent(@Param("id") long id, @Param("userId") String userId);
+    void deleteLike(@Param("id") long id, @Param("userId") String userId);
+    void refreshLikeCount(@Param("id") long id);
 
     // ------------------- 게시글 관리 -------------------
     void insertPost(CommunityDto dto);
 
-    void insertFile(@Param("targetId") Long targetId,
-                    @Param("category") String category,
-                    @Param("originalName") String originalName,
-                    @Param("savedName") String savedName,
-                    @Param("filePath") String filePath);
+    // 첨부파일 여러 개를 INSERT 한 번으로 (글 저장 트랜잭션 안에서)
+    void insertFiles(@Param("targetId") long targetId,
+                     @Param("category") String category,
+                     @Param("files") List<FileDto> files);
+
+    // 사진 사본 (PostImageVariants): 기록 / 대표 사진을 목록용 사본으로 / 사본이 아직 없는 사진 찾기
+    void updateFileVariants(@Param("savedName") String savedName,
+                            @Param("listPath") String listPath,
+                            @Param("detailPath") String detailPath);
+    void replaceThumbnail(@Param("id") long id,
+                          @Param("originalPath") String originalPath,
+                          @Param("listPath") String listPath);
+    List<FileDto> selectFilesWithoutVariants(@Param("limit") int limit);
+
+    // 본문 파생값 보충 (PostBodyBackfill): 요약문/본문 대표 사진을 아직 안 만든 글 / 채우기 (반환값: 고친 행 수)
+    List<CommunityDto> selectPostsWithoutBodyFields(@Param("limit") int limit);
+    int updateBodyFields(@Param("id") long id,
+                         @Param("excerpt") String excerpt,
+                         @Param("bodyThumbnail") String bodyThumbnail);
 
     void deletePost(Long id);
 
     // ------------------- 댓글 관리 -------------------
     List<CommentDto> selectCommentsByPostId(Long postId);
-    void insertComment(CommentDto dto);
-    void deleteComment(Long id);
+    int deleteComment(Long id); // 반환값: 지운 행 수 (이미 지운 댓글이면 0)
 
     void deleteAllLike (Long id);
     void deleteAllComment(Long id);
-}
\ No newline at end of file
+
+    // ------------------- 글 행 집계값 (댓글 수 / 좋아요 수 / 대표 사진) -------------------
+    void adjustCommentCount(@Param("id") long id, @Param("delta") int delta);
+    void decreaseCommentCountByCommentId(@Param("commentId") long commentId);
+    void updateThumbnail(@Param("id") long id, @Param("thumbnailPath") String thumbnailPath);
+
+    // 어긋난 집계값 보정 (반환값: 고친 글 수)
+    int reconcileCounters();
+}
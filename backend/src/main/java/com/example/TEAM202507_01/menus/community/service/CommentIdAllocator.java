@@ -0,0 +1,38 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.common.service.HiLoIdAllocator; // 번호 묶음 배분기
+import com.example.TEAM202507_01.menus.community.repository.CommentMapper; // 댓글 DB 관리자
+import org.springframework.stereotype.Component; // 빈 등록
+
+// [3] 댓글 번호 배분
+// 예전에는 댓글을 저장할 때마다 SELECT NVL(MAX(ID), 0) + 1 을 먼저 실행했습니다.
+// 매번 최댓값을 찾는 쿼리가 한 번 더 돌고, 두 사람이 동시에 쓰면 같은 번호를 받아 한 명은 저장에 실패했습니다.
+// 이제 COMMENT_ID_SEQ(migration.sql) 시퀀스에서 묶음으로 받아 메모리에서 나눠 줍니다.
+// 묶음 크기는 설정값이 아니라 시퀀스의 INCREMENT BY를 처음 한 번 읽어서 씁니다. (둘이 어긋나면 번호가 겹치므로)
+@Component
+public class CommentIdAllocator {
+
+    private final CommentMapper commentMapper;
+    private volatile HiLoIdAllocator allocator; // 처음 쓸 때 만듦 (서버 시작 때 DB를 건드리지 않게)
+
+    public CommentIdAllocator(CommentMapper commentMapper) {
+        this.commentMapper = commentMapper;
+    }
+
+    public long next() {
+        HiLoIdAllocator current = allocator;
+        if (current == null) {
+            synchronized (this) {
+                if (allocator == null) {
+                    Integer blockSize = commentMapper.selectCommentIdBlockSize();
+                    if (blockSize == null) throw new RuntimeException("댓글 번호 시퀀스(COMMENT_ID_SEQ)가 없습니다. migration.sql을 확인하세요.");
+                    allocator = new HiLoIdAllocator(commentMapper::nextCommentIdBlock, blockSize);
+                }
+                current = allocator;
+            }
+        }
+        return current.next();
+    }
+}
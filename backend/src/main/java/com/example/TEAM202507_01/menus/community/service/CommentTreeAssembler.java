@@ -0,0 +1,93 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.community.dto.CommentDto; // 댓글 한 줄
+import com.example.TEAM202507_01.menus.community.dto.CommentThreadDto; // 댓글 트리 한 칸
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// [3] 댓글 트리 조립
+// DB에서 받은 평평한 목록을 번호 -> 칸 지도(HashMap) 하나로 두 번 훑어서 트리로 묶습니다. (O(n))
+// 첫 번째로 모든 칸을 지도에 넣고, 두 번째에 부모를 찾아 붙입니다.
+// (작성일시는 초 단위이고 번호는 서버마다 다른 묶음(hi/lo)에서 나오므로, 같은 초에 쓴 답글이 부모보다 앞에 정렬될 수 있음)
+// 부모가 이번 응답에 없으면(지운 댓글, 앞 장에 있던 답글) 스레드의 최상위 댓글 밑(또는 목록 맨 위)에 붙입니다.
+final class CommentTreeAssembler {
+
+    private CommentTreeAssembler() {
+    }
+
+    // =========================================================
+    // 1. 최상위 댓글 한 장 + 스레드마다 첫 답글 몇 개
+    // =========================================================
+    // replies: 스레드마다 (작성일시, 번호) 순으로 perThread + 1개까지 (한 개 더 있으면 "답글 더 보기")
+    static List<CommentThreadDto> threads(List<CommentDto> roots, List<CommentDto> replies, int perThread) {
+        Map<Long, CommentThreadDto> nodes = new HashMap<>(roots.size() + replies.size());
+        Map<Long, CommentThreadDto> rootNodes = new HashMap<>(roots.size());
+        List<CommentThreadDto> result = new ArrayList<>(roots.size());
+        for (CommentDto root : roots) {
+            CommentThreadDto node = node(root);
+            nodes.put(root.getId(), node);
+            rootNodes.put(root.getId(), node);
+            result.add(node);
+        }
+
+        // 첫 번째: 스레드마다 perThread개까지 칸 만들기
+        Map<Long, Integer> shown = new HashMap<>();
+        Map<Long, CommentDto> lastShown = new HashMap<>();
+        List<CommentThreadDto> shownReplies = new ArrayList<>(replies.size());
+        for (CommentDto reply : replies) {
+            CommentThreadDto rootNode = rootNodes.get(reply.getRootId());
+            if (rootNode == null) continue;
+            if (shown.merge(reply.getRootId(), 1, Integer::sum) > perThread) {
+                rootNode.setHasMoreReplies(true);
+                continue;
+            }
+            CommentThreadDto node = node(reply);
+            nodes.put(reply.getId(), node);
+            shownReplies.add(node);
+            lastShown.put(reply.getRootId(), reply);
+        }
+
+        // 두 번째: 부모 칸 밑에 붙이기 (부모가 이번 응답에 없으면 최상위 댓글 밑)
+        for (CommentThreadDto node : shownReplies) {
+            CommentDto reply = node.getComment();
+            nodes.getOrDefault(reply.getParentId(), rootNodes.get(reply.getRootId())).getReplies().add(node);
+        }
+
+        // 더 볼 답글이 있는 스레드만 커서 (하나도 안 보냈으면 null = 처음부터)
+        for (CommentThreadDto rootNode : result) {
+            CommentDto last = lastShown.get(rootNode.getComment().getId());
+            if (rootNode.isHasMoreReplies() && last != null) {
+                rootNode.setNextReplyCursor(PostCursor.of(last.getCreatedAt(), last.getId()).encode());
+            }
+        }
+        return result;
+    }
+
+    // =========================================================
+    // 2. 한 스레드의 답글 한 장 ("답글 더 보기")
+    // =========================================================
+    // 부모가 이번 장에 있으면 그 밑에, 없으면(앞 장에 있음) 목록 맨 위에 parentId를 단 채로 둡니다.
+    static List<CommentThreadDto> replies(List<CommentDto> replies) {
+        Map<Long, CommentThreadDto> nodes = new HashMap<>(replies.size());
+        for (CommentDto reply : replies) {
+            nodes.put(reply.getId(), node(reply));
+        }
+        List<CommentThreadDto> result = new ArrayList<>();
+        for (CommentDto reply : replies) {
+            CommentThreadDto node = nodes.get(reply.getId());
+            CommentThreadDto parent = nodes.get(reply.getParentId());
+            if (parent != null) parent.getReplies().add(node);
+            else result.add(node);
+        }
+        return result;
+    }
+
+    private static CommentThreadDto node(CommentDto comment) {
+        return CommentThreadDto.builder().comment(comment).build();
+    }
+}
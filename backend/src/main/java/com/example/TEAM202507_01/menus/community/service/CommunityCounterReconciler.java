@@ -0,0 +1,30 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 주기 실행 도구들을 가져옵니다.
+import lombok.RequiredArgsConstructor; // final 필드 생성자 자동 생성
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.scheduling.annotation.Scheduled; // 정해진 시각마다 실행
+import org.springframework.stereotype.Component; // 빈 등록
+
+// [3] 게시글 집계값 보정 작업 (주기 실행)
+// 댓글/좋아요/글 저장은 같은 트랜잭션에서 POSTS의 COMMENT_COUNT, LIKE_COUNT, THUMBNAIL_PATH를 고치지만,
+// DB에서 직접 행을 지우거나 파일을 정리하면 어긋날 수 있습니다. 하루 한 번 다시 세서 어긋난 글 행만 고칩니다.
+// 시각 설정: community.counters.reconcile-cron (기본 매일 04:40, "-"로 두면 꺼짐)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityCounterReconciler {
+
+    private final CommunityService communityService;
+
+    @Scheduled(cron = "${community.counters.reconcile-cron:0 40 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        try {
+            int fixed = communityService.reconcileCounters();
+            log.info("게시글 집계값 보정 완료 (고친 글 {}개)", fixed);
+        } catch (Exception e) {
+            log.error("게시글 집계값 보정 실패", e); // 다음 주기에 다시 시도
+        }
+    }
+}
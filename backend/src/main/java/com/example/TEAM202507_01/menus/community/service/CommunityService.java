@@ -1,15 +1,19 @@
 package com.example.TEAM202507_01.menus.community.service;
 
 import com.example.TEAM202507_01.menus.community.dto.CommentDto;
+import com.example.TEAM202507_01.menus.community.dto.CommentPageDto;
+import com.example.TEAM202507_01.menus.community.dto.CommunityCursorPageDto;
 import com.example.TEAM202507_01.menus.community.dto.CommunityDto;
+import com.example.TEAM202507_01.menus.community.dto.PostUserStatusDto;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
 public interface CommunityService {
     List<CommunityDto> getPostList(String category, int page, int size);
+    CommunityCursorPageDto getPostPage(String category, String cursor, int size); // 커서 목록 (무한 스크롤)
     List<CommunityDto> findPostsByCategory(String category);
-    CommunityDto findPostById(Long id, String userId);
+    CommunityDto findPostById(Long id, String userId, String clientIp); // clientIp: 비로그인 조회수 중복 확인용
     List<CommunityDto> getOtherPostsByUser(String userId, Long currentPostId);
     String uploadEditorImage(MultipartFile file);
     long savePost(CommunityDto dto, List<MultipartFile> files);
@@ -20,15 +24,25 @@ public interface CommunityService {
 
     // 댓글 관련
     List<CommentDto> findCommentsByPostId(Long postId);
+    // 댓글 트리: 최상위 댓글을 커서로 한 장씩 + 스레드마다 첫 답글 replies개 / 한 스레드의 답글 더 보기
+    CommentPageDto getCommentTree(Long postId, String cursor, int size, int replies);
+    CommentPageDto getCommentReplies(Long rootId, String cursor, int size);
     void saveComment(CommentDto dto);
     void deleteComment(Long id);
 
 
-    void likeIncrease(Long id, String userId);
+    PostLikeStore.Toggle likeIncrease(Long id, String userId); // 좋아요 토글 (반환값: 지금 눌림 여부 + 새 개수)
     int likeCount(Long id);
 
     boolean isUserLiked(Long id, String userId);
 
+    // 목록 한 장의 좋아요/즐겨찾기 여부를 한 번에 (글마다 isUserLiked를 부르지 않게)
+    List<PostUserStatusDto> getUserStatuses(List<Long> postIds, String loginId);
+    void applyUserStatuses(List<CommunityDto> posts, String loginId); // 목록 DTO에 isLiked / isFavorite 채우기
+
     void deleteAllLike(Long id);
     void deleteAllComment(Long id);
+
+    // 글 행 집계값(댓글 수, 좋아요 수, 대표 사진) 보정 (반환값: 고친 글 수)
+    int reconcileCounters();
 }
\ No newline at end of file
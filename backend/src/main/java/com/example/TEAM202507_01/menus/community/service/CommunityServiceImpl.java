@@ -1,23 +1,39 @@
 package com.example.TEAM202507_01.menus.community.service;
 
 import com.example.TEAM202507_01.cleanbot.service.CleanBotService;
+import com.example.TEAM202507_01.common.dto.FileDto;
+import com.example.TEAM202507_01.common.service.HtmlExcerpt;
+import com.example.TEAM202507_01.common.service.ImageTypeSniffer;
 import com.example.TEAM202507_01.menus.community.dto.CommentDto;
+import com.example.TEAM202507_01.menus.community.dto.CommentPageDto;
+import com.example.TEAM202507_01.menus.community.dto.CommentThreadDto;
+import com.example.TEAM202507_01.menus.community.dto.CommunityCursorPageDto;
 import com.example.TEAM202507_01.menus.community.dto.CommunityDto;
+import com.example.TEAM202507_01.menus.community.dto.PostUserStatusDto;
 import com.example.TEAM202507_01.menus.community.repository.CommentMapper;
 import com.example.TEAM202507_01.menus.community.repository.CommunityMapper;
 import com.example.TEAM202507_01.user.repository.MyPageMapper;
+import com.example.TEAM202507_01.user.service.FavoriteService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -29,15 +45,34 @@ public class CommunityServiceImpl implements CommunityService {
     private final CommentMapper commentMapper;
     private final MyPageMapper myPageMapper;
     private final CleanBotService cleanBotService; // 클린봇 서비스 주입
+    private final PostViewCounter viewCounter; // 조회수 모아 쓰기
+    private final PostLikeStore likeStore; // 좋아요 (레디스 집합, DB는 PostLikeWriter가 나중에 씀)
+    private final FavoriteService favoriteService; // 즐겨찾기 (목록 별 표시용)
+    private final CommentIdAllocator commentIdAllocator; // 댓글 번호 (시퀀스 묶음)
+    private final PostAttachmentStaging attachmentStaging; // 첨부파일 임시 보관 -> 커밋 뒤 확정
+    private final PostImageVariants imageVariants; // 사진 사본 대기열
+    private final PlatformTransactionManager transactionManager;
+    private TransactionTemplate postTransaction; // 글 저장 트랜잭션 (파일 쓰기가 끝난 뒤에 시작)
+
+    @PostConstruct
+    public void init() {
+        this.postTransaction = new TransactionTemplate(transactionManager);
+    }
 
     // 파일 저장 경로 (프로젝트 폴더 내 uploads 폴더)
     private final Path UPLOAD_PATH = Paths.get("uploads").toAbsolutePath();
 
+    private static final int MAX_PAGE_SIZE = 50; // 커서 목록 한 장 최대 글 수
+    private static final int MAX_STATUS_IDS = 100; // 좋아요/즐겨찾기 여부 한 번에 물어볼 수 있는 최대 글 수
+    private static final String FAVORITE_CATEGORY = "COMMUNITY";
+    private static final int MAX_REPLIES_PER_THREAD = 20; // 댓글 트리에서 스레드마다 미리 붙여 줄 답글 최대 수
+
     // ====================================================
-    // 1. 게시글 저장 (파일 저장 로직 활성화!)
+    // 1. 게시글 저장 (첨부파일은 트랜잭션 밖에서 먼저 임시 보관)
     // ====================================================
+    // 순서: 클린봇 검사 -> 첨부파일(+ 본문 첫 사진) 임시 보관 (DB 연결 없음) -> 트랜잭션(글 + FILES 한 번 + 대표 사진) -> 커밋 뒤 파일 확정
+    // 롤백되면 임시 파일은 지워집니다. (PostAttachmentStaging)
     @Override
-    @Transactional
     public long savePost(CommunityDto dto, List<MultipartFile> files) {
         // 1. [CleanBot] 내용 검사
         if (cleanBotService != null) {
@@ -46,58 +81,52 @@ public class CommunityServiceImpl implements CommunityService {
             cleanBotService.checkContent(dto.getContent()); // 에디터 본문 검사
         }
 
-        // 2. 유저 ID 변환 (로그인 ID -> UUID)
-        String uuid = myPageMapper.findUuidByLoginId(dto.getUserId());
-        if (uuid != null) dto.setUserId(uuid);
+        // 2. 첨부파일 임시 보관 (디스크 쓰기는 여기서 끝냄)
+        List<FileDto> staged = attachmentStaging.stage(files);
+        FileDto attachedImage = staged.stream()
+                .filter(file -> ImageTypeSniffer.IMAGE_NAME.matcher(file.getSavedName()).matches()) // 대표 사진으로 쓸 수 있는 파일
+                .findFirst()
+                .orElse(null);
+        // 첨부 사진이 없으면 본문 첫 사진을 대표 사진으로 (에디터 사진은 본문에 base64로 들어 있어서 파일로 꺼내 둠)
+        List<FileDto> bodyImages = new ArrayList<>();
+        String thumbnail = attachedImage != null
+                ? attachedImage.getFilePath()
+                : attachmentStaging.stageFirstBodyImage(dto.getContent(), bodyImages);
 
-        System.out.println("게시글 등록 요청: " + dto);
-
-        // 3. 게시글 DB 저장
-        communityMapper.insertPost(dto);
-        Long postId = dto.getId(); // 저장된 글 번호(PK) 가져오기
-
-        // 4. 🔥 [수정됨] 파일 저장 로직 (주석 해제 완료!)
-        if (files != null && !files.isEmpty()) {
-            File dir = UPLOAD_PATH.toFile();
-            // 폴더가 없으면 생성
-            if (!dir.exists()) dir.mkdirs();
+        try {
+            Long saved = postTransaction.execute(status -> {
+                attachmentStaging.completeWithTransaction(staged); // 커밋되면 확정, 롤백되면 버림
+                attachmentStaging.completeWithTransaction(bodyImages);
+
+                // 3. 유저 ID 변환 (로그인 ID -> UUID)
+                String uuid = myPageMapper.findUuidByLoginId(dto.getUserId());
+                if (uuid != null) dto.setUserId(uuid);
+
+                // 4. 게시글 DB 저장 (목록/검색용 요약문도 같이)
+                dto.setExcerpt(HtmlExcerpt.of(dto.getContent()));
+                communityMapper.insertPost(dto);
+                Long postId = dto.getId(); // 저장된 글 번호(PK) 가져오기
+
+                // 5. 파일 정보는 INSERT 한 번으로 (웹 접근 경로는 /images/...)
+                if (!staged.isEmpty()) {
+                    communityMapper.insertFiles(postId, dto.getCategory(), staged);
+                }
 
-            for (MultipartFile file : files) {
-                if (file.isEmpty()) continue;
-                try {
-                    String originalName = file.getOriginalFilename();
-
-                    // 확장자 추출 (안전하게 처리)
-                    String ext = "";
-                    if (originalName != null && originalName.contains(".")) {
-                        ext = originalName.substring(originalName.lastIndexOf("."));
-                    }
-
-                    // 서버에 저장될 파일명 (UUID + 확장자) -> 중복 방지
-                    String savedName = UUID.randomUUID().toString() + ext;
-
-                    // 실제 파일 저장 (uploads 폴더에)
-                    file.transferTo(new File(dir, savedName));
-
-                    // DB에 파일 정보 저장 (웹 접근 경로는 /images/...)
-                    // insertFile 파라미터 순서: targetId, category, originalName, savedName, filePath
-                    communityMapper.insertFile(
-                            postId,
-                            dto.getCategory(),
-                            originalName,
-                            savedName,
-                            "/images/" + savedName
-                    );
-
-                    log.info("📁 파일 저장 완료: {}", originalName);
-
-                } catch (IOException e) {
-                    log.error("파일 저장 중 오류 발생", e);
-                    // 파일 하나 실패해도 게시글 저장은 유지 (필요 시 throw로 변경 가능)
+                // 6. 처음 저장된 사진 파일(없으면 본문 첫 사진)을 글 행의 대표 사진으로 (목록 조회가 FILES나 본문을 다시 뒤지지 않게)
+                if (thumbnail != null) {
+                    communityMapper.updateThumbnail(postId, thumbnail);
                 }
-            }
+                return postId;
+            });
+            log.info("📁 게시글 {} 저장 완료 (첨부 {}개)", saved, staged.size());
+            imageVariants.enqueue(saved, staged); // 사진은 목록용/상세용 사본을 백그라운드에서 만듦 (파일은 이미 확정됨)
+            if (!bodyImages.isEmpty()) imageVariants.enqueue(saved, bodyImages);
+            return saved;
+        } catch (RuntimeException e) {
+            attachmentStaging.discard(staged); // 트랜잭션을 시작도 못 한 경우까지 (이미 지웠으면 아무 일 없음)
+            attachmentStaging.discard(bodyImages);
+            throw e;
         }
-        return postId;
     }
 
     // ====================================================
@@ -116,8 +145,10 @@ public class CommunityServiceImpl implements CommunityService {
         String uuid = myPageMapper.findUuidByLoginId(dto.getUserId());
         if(uuid != null) dto.setUserId(uuid);
 
-        // DB 저장
+        // DB 저장 + 글 행의 댓글 수 +1 (같은 트랜잭션)
+        dto.setId(commentIdAllocator.next());
         commentMapper.save(dto);
+        communityMapper.adjustCommentCount(dto.getPostId(), 1);
     }
 
     // ====================================================
@@ -134,20 +165,61 @@ public class CommunityServiceImpl implements CommunityService {
         return communityMapper.selectPostsByCategoryPaging(category, offset, size);
     }
 
+    // 커서 목록 (무한 스크롤)
+    // 한 개 더 읽어서 다음 장이 있는지 판단하고, 이번 장 마지막 글로 다음 커서를 만듭니다.
+    // 스크롤 중에 새 글이 올라와도 커서 뒤쪽 글만 읽으므로 같은 글이 두 번 나오거나 빠지지 않습니다.
     @Override
     @Transactional(readOnly = true)
-    public CommunityDto findPostById(Long id, String userId) {
-        communityMapper.viewCountIncrease(id);
+    public CommunityCursorPageDto getPostPage(String category, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PostCursor after = PostCursor.decode(cursor);
+        String target = (category == null || category.isBlank() || "ALL".equalsIgnoreCase(category)) ? null : category;
+
+        List<CommunityDto> rows = communityMapper.selectPostsBefore(
+                target,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<CommunityDto> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CommunityDto last = content.get(content.size() - 1);
+            nextCursor = PostCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CommunityCursorPageDto.builder()
+                .content(new ArrayList<>(content))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommunityDto findPostById(Long id, String userId, String clientIp) {
         CommunityDto dto = communityMapper.selectPostById(id);
+        if (dto == null) throw new RuntimeException("게시글을 찾을 수 없습니다.");
+
+        // 조회수: DB에 바로 쓰지 않고 PostViewCounter에 쌓아 둠 (읽기 트랜잭션은 읽기만)
+        // 화면에는 DB 값 + 아직 안 쓴 값을 보여줌
+        viewCounter.record(id, userId != null ? "u:" + userId : (clientIp != null ? "ip:" + clientIp : null));
+        long stored = dto.getViewCount() != null ? dto.getViewCount() : 0;
+        dto.setViewCount(stored + viewCounter.pending(id));
 
         // Null 방지 및 좋아요 여부 확인
+        // 좋아요 수/여부는 레디스 집합 기준 (POSTS.LIKE_COUNT는 몇 초 늦을 수 있음)
+        // 레디스가 죽어 있으면 글은 그대로 보여주고 DB 값으로 대신함
         dto.setIsLiked(false);
-        if (userId != null) {
-            String uuid = myPageMapper.findUuidByLoginId(userId);
-            String targetUserId = (uuid != null) ? uuid : userId;
-
-            int count = communityMapper.likeExists(id, targetUserId);
-            dto.setIsLiked(count > 0);
+        try {
+            dto.setLikeCount(likeStore.count(id));
+            if (userId != null) {
+                String uuid = myPageMapper.findUuidByLoginId(userId);
+                String targetUserId = (uuid != null) ? uuid : userId;
+                dto.setIsLiked(likeStore.isLiked(id, targetUserId));
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 정보 조회 실패 (글 {}): {}", id, e.getMessage());
         }
         return dto;
     }
@@ -169,9 +241,16 @@ public class CommunityServiceImpl implements CommunityService {
     public String uploadEditorImage(MultipartFile file) {
         if (file.isEmpty()) return null;
         try {
+            // 실제 내용으로 종류 확인 (예전에는 PNG/GIF도 전부 .jpg로 저장했음)
+            String ext;
+            try (InputStream in = file.getInputStream()) {
+                ext = ImageTypeSniffer.extensionOf(in);
+            }
+            if (ext == null) throw new RuntimeException("이미지 파일만 올릴 수 있습니다.");
+
             File dir = UPLOAD_PATH.toFile();
             if (!dir.exists()) dir.mkdirs();
-            String savedName = UUID.randomUUID().toString() + ".jpg";
+            String savedName = UUID.randomUUID().toString() + ext;
             file.transferTo(new File(dir, savedName));
             return "/images/" + savedName;
         } catch (IOException e) {
@@ -191,10 +270,69 @@ public class CommunityServiceImpl implements CommunityService {
         return communityMapper.selectCommentsByPostId(postId);
     }
 
+    // 댓글 트리 (최상위 댓글 한 장)
+    // 쿼리 두 번: 최상위 댓글 limit + 1개, 그 댓글들의 첫 답글 replies + 1개씩 (한 개 더 읽어서 "더 있음" 판단)
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageDto getCommentTree(Long postId, String cursor, int size, int replies) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int perThread = Math.max(0, Math.min(replies, MAX_REPLIES_PER_THREAD));
+        PostCursor after = PostCursor.decode(cursor);
+
+        List<CommentDto> rows = commentMapper.selectRootComments(
+                postId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<CommentDto> roots = hasNext ? rows.subList(0, limit) : rows;
+
+        List<CommentDto> firstReplies = roots.isEmpty()
+                ? List.of()
+                : commentMapper.selectFirstReplies(roots.stream().map(CommentDto::getId).toList(), perThread + 1);
+
+        return CommentPageDto.builder()
+                .content(CommentTreeAssembler.threads(roots, firstReplies, perThread))
+                .nextCursor(hasNext ? nextCommentCursor(roots) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 한 스레드의 답글 더 보기 (cursor는 최상위 댓글의 nextReplyCursor 또는 앞 장의 nextCursor)
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageDto getCommentReplies(Long rootId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PostCursor after = PostCursor.decode(cursor);
+
+        List<CommentDto> rows = commentMapper.selectRepliesAfter(
+                rootId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<CommentDto> page = hasNext ? rows.subList(0, limit) : rows;
+
+        List<CommentThreadDto> content = CommentTreeAssembler.replies(page);
+        return CommentPageDto.builder()
+                .content(content)
+                .nextCursor(hasNext ? nextCommentCursor(page) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static String nextCommentCursor(List<CommentDto> page) {
+        CommentDto last = page.get(page.size() - 1);
+        return PostCursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
+
     @Override
     @Transactional
     public void deleteComment(Long id) {
-        communityMapper.deleteComment(id);
+        // 실제로 지운 경우에만 글 행의 댓글 수 -1 (이미 지운 댓글을 또 지워도 두 번 빠지지 않음)
+        if (communityMapper.deleteComment(id) > 0) {
+            communityMapper.decreaseCommentCountByCommentId(id);
+        }
     }
 
     @Override
@@ -205,32 +343,83 @@ public class CommunityServiceImpl implements CommunityService {
 
     @Override
     public boolean isUserLiked(Long id, String userId){
-        int count = communityMapper.likeExists(id, userId);
-        return count >= 1;
+        return likeStore.isLiked(id, userId);
     }
 
     @Override
-    public void likeIncrease(Long id, String userId) {
-        int count = communityMapper.likeExists(id, userId);
-        if (count < 1) {
-            communityMapper.likeIncrease(id, userId);
-        } else {
-            communityMapper.likeDecrease(id, userId);
+    @Transactional(readOnly = true)
+    public List<PostUserStatusDto> getUserStatuses(List<Long> postIds, String loginId) {
+        if (postIds.size() > MAX_STATUS_IDS) {
+            throw new RuntimeException("한 번에 조회할 수 있는 글은 최대 " + MAX_STATUS_IDS + "개입니다.");
         }
+        List<Long> ids = postIds.stream().distinct().toList();
+        if (ids.isEmpty() || loginId == null) {
+            return ids.stream().map(id -> new PostUserStatusDto(id, false, false)).toList();
+        }
+
+        // 좋아요는 UUID, 즐겨찾기는 로그인 ID로 저장되어 있음 (UUID 변환은 요청당 한 번)
+        String uuid = myPageMapper.findUuidByLoginId(loginId);
+        String likeUserId = (uuid != null) ? uuid : loginId;
+        Set<Long> liked = likedAmong(ids, likeUserId);
+        Set<Long> favorited = favoriteService.favoriteIdsAmong(FAVORITE_CATEGORY, loginId, ids);
+
+        return ids.stream()
+                .map(id -> new PostUserStatusDto(id, liked.contains(id), favorited.contains(id)))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void applyUserStatuses(List<CommunityDto> posts, String loginId) {
+        if (loginId == null || posts.isEmpty()) return;
+        for (int from = 0; from < posts.size(); from += MAX_STATUS_IDS) {
+            List<CommunityDto> chunk = posts.subList(from, Math.min(from + MAX_STATUS_IDS, posts.size()));
+            List<PostUserStatusDto> statuses = getUserStatuses(chunk.stream().map(CommunityDto::getId).toList(), loginId);
+            Map<Long, PostUserStatusDto> byId = new HashMap<>();
+            statuses.forEach(status -> byId.put(status.getPostId(), status));
+            for (CommunityDto post : chunk) {
+                PostUserStatusDto status = byId.get(post.getId());
+                post.setIsLiked(status != null && status.isLiked());
+                post.setIsFavorite(status != null && status.isFavorited());
+            }
+        }
+    }
+
+    // 레디스가 죽어 있으면 DB(POST_LIKES)로 대신 물어봄 (아직 안 쓴 몇 초치 토글은 빠질 수 있음)
+    private Set<Long> likedAmong(List<Long> ids, String userId) {
+        try {
+            return likeStore.likedAmong(ids, userId);
+        } catch (Exception e) {
+            log.warn("좋아요 여부 일괄 조회 실패, DB로 대신 조회: {}", e.getMessage());
+            return Set.copyOf(communityMapper.selectLikedPostIds(userId, ids));
+        }
+    }
+
+    @Override
+    public PostLikeStore.Toggle likeIncrease(Long id, String userId) {
+        // 레디스에서 한 번에 토글하고 새 개수까지 받음 (POST_LIKES / LIKE_COUNT는 PostLikeWriter가 모아서 씀)
+        return likeStore.toggle(id, userId);
     }
 
     @Override
     public int likeCount(Long id) {
-        return communityMapper.likeCount(id);
+        return likeStore.count(id);
     }
 
     @Override
     public void deleteAllLike(Long id) {
         communityMapper.deleteAllLike(id);
+        likeStore.forget(id); // 레디스 집합과 아직 안 쓴 토글도 버림 (트랜잭션 안이면 커밋 뒤, 실패해도 삭제는 그대로)
     }
 
     @Override
     public void deleteAllComment(Long id){
         communityMapper.deleteAllComment(id);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public int reconcileCounters() {
+        return communityMapper.reconcileCounters();
+    }
+}
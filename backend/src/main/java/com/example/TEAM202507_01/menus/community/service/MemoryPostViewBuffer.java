@@ -0,0 +1,96 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 동시성 카운터 도구들을 가져옵니다.
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty; // 설정에 따라 빈 등록
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// [3] 조회수 임시 보관함 - 서버 메모리 버전 (서버 한 대일 때, 기본값)
+// 글마다 LongAdder(여러 칸으로 나뉜 카운터)를 두어서, 꺼내기(sumThenReset)와 +1이 서로 기다리지 않습니다.
+// 카운터는 지우지 않고 값만 0으로 되돌립니다. (지우는 순간 다른 스레드가 옛 카운터에 +1을 하면 그 조회가 사라지므로)
+// 추적하는 글이 maxTrackedPosts를 넘을 때만 0인 카운터를 정리합니다.
+// +1과 정리는 같은 글 칸의 compute 안에서 하므로, "0인지 확인 -> 지우기" 사이에 +1이 끼어들 수 없습니다.
+@Component
+@ConditionalOnProperty(name = "community.views.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryPostViewBuffer implements PostViewBuffer {
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastViewed = new ConcurrentHashMap<>(); // 사람+글 -> 마지막으로 센 시각 (ms)
+    private final int maxTrackedPosts;
+    private final int maxTrackedViewers;
+
+    public MemoryPostViewBuffer(@Value("${community.views.max-tracked-posts:100000}") int maxTrackedPosts,
+                                @Value("${community.views.max-tracked-viewers:200000}") int maxTrackedViewers) {
+        this.maxTrackedPosts = maxTrackedPosts;
+        this.maxTrackedViewers = maxTrackedViewers;
+    }
+
+    @Override
+    public boolean markViewed(String viewerKey, Duration window) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+        boolean[] first = {false};
+        lastViewed.compute(viewerKey, (key, seenAt) -> {
+            if (seenAt != null && now - seenAt < windowMillis) return seenAt;
+            first[0] = true;
+            return now;
+        });
+        if (lastViewed.size() > maxTrackedViewers) {
+            lastViewed.values().removeIf(seenAt -> now - seenAt >= windowMillis); // 창이 지난 기록 정리
+        }
+        return first[0];
+    }
+
+    @Override
+    public void increment(long postId) {
+        pending.compute(postId, (id, adder) -> {
+            if (adder == null) adder = new LongAdder();
+            adder.increment();
+            return adder;
+        });
+    }
+
+    @Override
+    public long pending(long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Override
+    public Drained drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) deltas.put(entry.getKey(), delta);
+        }
+        if (pending.size() > maxTrackedPosts) {
+            trimIdle(deltas);
+        }
+        return new Drained(null, deltas);
+    }
+
+    @Override
+    public void restore(Drained drained) {
+        drained.deltas().forEach((postId, delta) -> pending.compute(postId, (id, adder) -> {
+            if (adder == null) adder = new LongAdder();
+            adder.add(delta);
+            return adder;
+        }));
+    }
+
+    // [4] 이번 주기에 조회가 없던 글의 카운터 정리
+    // compute 안에서 다시 0인지 보고 지웁니다. (그 사이 들어온 +1이 있으면 남김)
+    private void trimIdle(Map<Long, Long> drained) {
+        for (Long postId : pending.keySet()) {
+            if (drained.containsKey(postId)) continue;
+            pending.computeIfPresent(postId, (id, adder) -> adder.sum() == 0 ? null : adder);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.common.dto.FileDto; // 파일 한 개 정보 (FILES 행)
+import com.example.TEAM202507_01.common.service.ImageTypeSniffer; // 실제 이미지 종류 알아내기
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.scheduling.annotation.Scheduled; // 정해진 간격마다 실행
+import org.springframework.stereotype.Component; // 빈 등록
+import org.springframework.transaction.support.TransactionSynchronization; // 트랜잭션 끝난 뒤 할 일
+import org.springframework.transaction.support.TransactionSynchronizationManager; // 지금 트랜잭션에 할 일 걸기
+import org.springframework.web.multipart.MultipartFile; // 업로드된 파일
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// [3] 게시글 첨부파일 임시 보관 -> 확정
+// 예전에는 글 저장 트랜잭션 안에서 파일을 디스크에 쓰느라, 큰 파일이면 쓰는 내내 DB 연결을 붙잡고 있었습니다.
+// - 임시 보관(stage): 트랜잭션 시작 전에 uploads/.staging 에 UUID 이름으로 씁니다.
+// - 확정(promote): 글이 커밋된 뒤에만 uploads 로 옮깁니다. (같은 디스크라 이름만 바뀌는 이동)
+// - 버리기(discard): 롤백되면 임시 파일을 지웁니다.
+// - 서버가 중간에 죽어서 남은 임시 파일은 주기 작업이 max-age가 지나면 지웁니다.
+// 본문에 base64로 들어 있는 첫 사진(목록 대표 사진 후보)도 같은 길로 파일이 됩니다. (stageFirstBodyImage)
+@Slf4j
+@Component
+public class PostAttachmentStaging {
+
+    // 본문 사진: <img ... src="..."> 의 src 따옴표 앞까지 (값은 몇 MB짜리 base64일 수 있어서 정규식으로 통째로 잡지 않음)
+    private static final Pattern IMG_SRC = Pattern.compile("(?i)<img\\b[^>]*?\\ssrc\\s*=\\s*([\"'])");
+    private static final String DATA_IMAGE = "data:image/";
+    private static final int MAX_BODY_IMAGE_BYTES = 10 * 1024 * 1024; // 에디터 한 장 제한(5MB)보다 넉넉하게
+    private static final int MAX_LINK_LENGTH = 500; // POSTS.THUMBNAIL_PATH 길이
+
+    private final Path uploadDir;
+    private final Path stagingDir;
+    private final Duration maxAge;
+
+    public PostAttachmentStaging(@Value("${community.upload.staging-max-age-minutes:60}") long maxAgeMinutes) {
+        this(Paths.get("uploads").toAbsolutePath(), Duration.ofMinutes(maxAgeMinutes));
+    }
+
+    PostAttachmentStaging(Path uploadDir, Duration maxAge) {
+        this.uploadDir = uploadDir;
+        this.stagingDir = uploadDir.resolve(".staging");
+        this.maxAge = maxAge;
+    }
+
+    // =========================================================
+    // 1. 임시 보관 (트랜잭션 밖에서)
+    // =========================================================
+    // 반환값: FILES에 넣을 정보 (targetId, category는 부르는 쪽이 채움)
+    // 파일 하나가 실패해도 나머지와 글 저장은 계속합니다. (예전과 같은 동작)
+    public List<FileDto> stage(List<MultipartFile> files) {
+        List<FileDto> staged = new ArrayList<>();
+        if (files == null || files.isEmpty()) return staged;
+        try {
+            Files.createDirectories(stagingDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일 임시 폴더를 만들 수 없습니다.", e);
+        }
+
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) continue;
+            String originalName = file.getOriginalFilename();
+            String savedName = UUID.randomUUID() + extensionOf(originalName);
+            try {
+                file.transferTo(stagingDir.resolve(savedName));
+            } catch (IOException e) {
+                log.error("첨부파일 임시 저장 실패: {}", originalName, e);
+                continue;
+            }
+            FileDto dto = new FileDto();
+            dto.setOriginalName(originalName);
+            dto.setSavedName(savedName);
+            dto.setFilePath("/images/" + savedName);
+            dto.setFileSize(file.getSize());
+            staged.add(dto);
+        }
+        return staged;
+    }
+
+    // =========================================================
+    // 1-1. 본문 첫 사진 임시 보관 (목록 대표 사진 후보)
+    // =========================================================
+    // 에디터는 사진을 본문 HTML에 base64(data:image/...)로 넣어서, 대표 사진을 따로 안 고른 글은 목록 카드에 쓸 파일이 없습니다.
+    // - data: 사진이면 내용으로 종류를 확인하고 임시 폴더에 씁니다. staged에 넣어 주므로 첨부파일처럼 확정/버리기 하면 됩니다.
+    //   이름은 내용의 SHA-256이라, 글을 수정할 때마다 같은 사진이 새 파일로 쌓이지 않습니다. (FILES에는 넣지 않음: 첨부 목록에 안 보이게)
+    // - http(s) 주소면 파일 없이 주소를 그대로 씁니다.
+    // 반환값: THUMBNAIL_PATH에 넣을 경로, 첫 사진이 없거나 읽을 수 없으면 null
+    public String stageFirstBodyImage(String html, List<FileDto> staged) {
+        if (html == null) return null;
+        Matcher m = IMG_SRC.matcher(html);
+        if (!m.find()) return null;
+        int end = html.indexOf(m.group(1), m.end());
+        if (end < 0) return null;
+        String src = html.substring(m.end(), end).trim();
+
+        if (src.regionMatches(true, 0, "http://", 0, 7) || src.regionMatches(true, 0, "https://", 0, 8)) {
+            return src.length() <= MAX_LINK_LENGTH ? src : null;
+        }
+        int comma = src.indexOf(',');
+        if (!src.regionMatches(true, 0, DATA_IMAGE, 0, DATA_IMAGE.length()) || comma < 0
+                || !src.substring(0, comma).toLowerCase().endsWith(";base64")) {
+            return null;
+        }
+        if ((long) (src.length() - comma) * 3 / 4 > MAX_BODY_IMAGE_BYTES) return null;
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(src.substring(comma + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        String ext = ImageTypeSniffer.extensionOf(bytes); // "data:image/png"라고 적혀 있어도 실제 내용으로 확인
+        if (ext == null) return null;
+
+        String savedName = "body_" + sha256(bytes) + ext;
+        try {
+            Files.createDirectories(stagingDir);
+            Files.write(stagingDir.resolve(savedName), bytes);
+        } catch (IOException e) {
+            log.warn("본문 사진 임시 저장 실패, 대표 사진 없이 저장: {}", e.getMessage());
+            return null;
+        }
+        FileDto dto = new FileDto();
+        dto.setSavedName(savedName);
+        dto.setFilePath("/images/" + savedName);
+        dto.setFileSize((long) bytes.length);
+        staged.add(dto);
+        return dto.getFilePath();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // =========================================================
+    // 2. 지금 트랜잭션이 끝나면 확정 / 버리기
+    // =========================================================
+    // 트랜잭션 밖에서 부르면 바로 확정합니다.
+    public void completeWithTransaction(List<FileDto> staged) {
+        if (staged.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            promote(staged);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) promote(staged);
+                else discard(staged);
+            }
+        });
+    }
+
+    public void promote(List<FileDto> staged) {
+        for (FileDto file : staged) {
+            Path from = stagingDir.resolve(file.getSavedName());
+            Path to = uploadDir.resolve(file.getSavedName());
+            try {
+                try {
+                    Files.move(from, to, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                // 글은 이미 커밋됨 -> FILES 행은 있는데 파일이 없는 상태. 임시 파일은 주기 작업이 지움.
+                log.error("⚠️ 첨부파일 확정 실패 (글은 저장됨): {}", file.getSavedName(), e);
+            }
+        }
+    }
+
+    public void discard(List<FileDto> staged) {
+        for (FileDto file : staged) {
+            try {
+                Files.deleteIfExists(stagingDir.resolve(file.getSavedName()));
+            } catch (IOException e) {
+                log.warn("임시 첨부파일 삭제 실패 (주기 작업이 다시 지움): {}", file.getSavedName());
+            }
+        }
+    }
+
+    // =========================================================
+    // 3. 남은 임시 파일 정리 (서버가 확정/버리기 전에 죽은 경우)
+    // =========================================================
+    @Scheduled(fixedDelayString = "${community.upload.staging-sweep-ms:3600000}")
+    public void scheduledSweep() {
+        int removed = sweepOrphans();
+        if (removed > 0) log.info("🧹 남은 임시 첨부파일 {}개 정리", removed);
+    }
+
+    // 반환값: 지운 파일 수
+    public int sweepOrphans() {
+        if (!Files.isDirectory(stagingDir)) return 0;
+        FileTime cutoff = FileTime.from(Instant.now().minus(maxAge));
+        int removed = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(stagingDir)) {
+            for (Path entry : entries) {
+                try {
+                    if (Files.getLastModifiedTime(entry).compareTo(cutoff) < 0 && Files.deleteIfExists(entry)) removed++;
+                } catch (IOException e) {
+                    log.warn("임시 첨부파일 정리 실패: {}", entry.getFileName());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("임시 첨부파일 폴더 읽기 실패: {}", e.getMessage());
+        }
+        return removed;
+    }
+
+    // 확장자 추출 (안전하게 처리: 영문/숫자 10자 이내만, "../" 같은 건 버림)
+    private static String extensionOf(String originalName) {
+        if (originalName == null || !originalName.contains(".")) return "";
+        String ext = originalName.substring(originalName.lastIndexOf("."));
+        return ext.matches("\\.[A-Za-z0-9]{1,10}") ? ext : "";
+    }
+}
+//
+//상황: 사진 3장(각 10MB)을 붙여 글을 올릴 때
+//
+//예전: 트랜잭션 시작 -> 글 INSERT -> 사진 3장 디스크 쓰기 + FILES INSERT 3번 -> 커밋. 디스크에 쓰는 동안 DB 연결 하나를 계속 붙잡습니다.
+//
+//지금: 사진 3장을 uploads/.staging 에 먼저 씀 (DB 연결 없음) -> 트랜잭션: 글 INSERT + FILES INSERT 한 번 + 대표 사진 -> 커밋 -> 사진을 uploads 로 옮김.
+//
+//실패: 글 INSERT가 실패해서 롤백되면 임시 사진 3장을 지웁니다. 그 사이 서버가 꺼졌다면 한 시간 뒤 정리 작업이 지웁니다.
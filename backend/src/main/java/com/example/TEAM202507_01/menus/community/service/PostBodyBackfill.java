@@ -0,0 +1,74 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.common.dto.FileDto; // 파일 한 개 정보
+import com.example.TEAM202507_01.common.service.HtmlExcerpt; // 본문 요약문 만들기
+import com.example.TEAM202507_01.menus.community.dto.CommunityDto; // 게시글 가방
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper; // DB 관리자
+import lombok.RequiredArgsConstructor; // 생성자 자동 생성
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.scheduling.annotation.Scheduled; // 정해진 간격마다 실행
+import org.springframework.stereotype.Service; // 서비스 빈 등록
+
+import java.util.ArrayList;
+import java.util.List;
+
+// [3] 예전 글의 본문 파생값 채우기 (요약문 EXCERPT, 본문 첫 사진 대표 사진)
+// 새 글과 수정한 글은 저장할 때 만들지만, 그 전에 쓴 글은 비어 있습니다. (POSTS.BODY_DERIVED = 0)
+// SQL로 한 번에 채우면 CLOB을 4000바이트까지만 다룰 수 있어서, 글 저장과 같은 자바 규칙(HtmlExcerpt, stageFirstBodyImage)으로 몇 개씩 채웁니다.
+// - 대표 사진은 비어 있는 글에만 넣고, 글 저장처럼 목록용 사본 대기열에도 넣습니다.
+// - 남은 글이 없으면 이후 주기 작업은 DB를 읽지 않고 끝납니다. (새 글은 처음부터 BODY_DERIVED = 1)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostBodyBackfill {
+
+    private final CommunityMapper communityMapper;
+    private final PostAttachmentStaging attachmentStaging;
+    private final PostImageVariants imageVariants;
+
+    // [4] 한 번에 읽을 글 수 (본문에 base64 사진이 들어 있으면 글 하나가 수 MB라 작게)
+    @Value("${community.body-backfill.batch:20}")
+    private int batchSize;
+
+    private volatile boolean finished;
+
+    @Scheduled(fixedDelayString = "${community.body-backfill.ms:30000}", initialDelayString = "${community.body-backfill.initial-delay-ms:60000}")
+    public void scheduledBackfill() {
+        if (finished) return;
+        int filled = backfill();
+        if (filled > 0) log.info("📝 예전 글 요약문/대표 사진 {}개 채움", filled);
+    }
+
+    // 반환값: 채운 글 수
+    public int backfill() {
+        List<CommunityDto> posts = communityMapper.selectPostsWithoutBodyFields(batchSize);
+        if (posts.isEmpty()) {
+            finished = true;
+            return 0;
+        }
+        int filled = 0;
+        for (CommunityDto post : posts) {
+            List<FileDto> bodyImages = new ArrayList<>();
+            String bodyThumbnail = post.getFilePath() != null ? null
+                    : attachmentStaging.stageFirstBodyImage(post.getContent(), bodyImages);
+            int updated;
+            try {
+                updated = communityMapper.updateBodyFields(post.getId(), HtmlExcerpt.of(post.getContent()), bodyThumbnail);
+            } catch (RuntimeException e) {
+                attachmentStaging.discard(bodyImages);
+                throw e;
+            }
+            if (updated == 0) { // 그 사이 글이 수정되어 이미 채워짐
+                attachmentStaging.discard(bodyImages);
+                continue;
+            }
+            attachmentStaging.promote(bodyImages);
+            imageVariants.enqueue(post.getId(), bodyImages);
+            filled++;
+        }
+        return filled;
+    }
+}
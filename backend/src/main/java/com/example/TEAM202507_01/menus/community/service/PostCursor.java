@@ -0,0 +1,37 @@
+package com.example.TEAM202507_01.menus.community.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+// [게시글 목록 커서]
+// 목록은 (CREATED_AT DESC, ID DESC) 순서라서, "마지막으로 본 글의 작성일시와 번호"만 알면 다음 장을 바로 찾을 수 있습니다.
+// 화면에는 "작성일시(초)_글번호"를 base64url로 감싼 문자열로 주고받습니다. (화면이 안을 들여다볼 필요 없음)
+// CREATED_AT은 DATE(초 단위) 열이라 초 아래는 버립니다.
+// 댓글 트리(오래된 순, CREATED_AT ASC, ID ASC)도 같은 (작성일시, 번호) 모양이라 이 커서를 같이 씁니다.
+record PostCursor(LocalDateTime createdAt, long id) {
+
+    static PostCursor of(LocalDateTime createdAt, long id) {
+        return new PostCursor(createdAt.withNano(0), id);
+    }
+
+    String encode() {
+        String raw = createdAt.toEpochSecond(ZoneOffset.UTC) + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 비어 있으면 null(첫 장), 모양이 틀리면 예외
+    static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int split = raw.indexOf('_');
+            long epochSecond = Long.parseLong(raw.substring(0, split));
+            long id = Long.parseLong(raw.substring(split + 1));
+            return new PostCursor(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC), id);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("잘못된 목록 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.common.dto.FileDto; // 파일 한 개 정보 (FILES 행)
+import com.example.TEAM202507_01.common.service.ImageTypeSniffer; // 실제 이미지 종류 알아내기
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper; // DB 관리자
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Qualifier; // 같은 타입 빈이 여러 개일 때 이름으로 고르기
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.core.task.TaskExecutor; // 작업 대기열 (스레드 풀)
+import org.springframework.core.task.TaskRejectedException; // 대기열이 가득 찼을 때
+import org.springframework.scheduling.annotation.Scheduled; // 정해진 간격마다 실행
+import org.springframework.stereotype.Service; // 서비스 빈 등록
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [3] 게시글 사진 크기별 사본 만들기 (백그라운드 대기열)
+// 목록은 글마다 대표 사진 원본(휴대폰 사진이면 수 MB)을 내려받고 있었습니다.
+// 글이 커밋되고 사진이 uploads로 옮겨지면, 사진마다 작업을 imageTaskExecutor 대기열에 넣습니다.
+// - 파일 앞부분으로 실제 종류를 확인 (이름만 .jpg인 파일 걸러냄)
+// - 목록용(list-size 이내)과 상세용(detail-size 이내) 사본을 JPEG(투명 배경이면 PNG)로 만듦. 원본보다 커지면 원본을 그대로 씀
+// - FILES.LIST_PATH / DETAIL_PATH에 기록하고, 글의 대표 사진(THUMBNAIL_PATH)을 목록용 사본으로 바꿈
+// 대기열이 넘치거나 서버가 꺼져서 빠진 사진은 주기 작업이 FILES에서 찾아 다시 넣습니다. (예전에 올린 사진도 같은 길로 채워짐)
+@Slf4j
+@Service
+public class PostImageVariants {
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final CommunityMapper communityMapper;
+    private final TaskExecutor executor;
+    private final Path uploadDir;
+    private final int listSize;
+    private final int detailSize;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet(); // 대기열에 이미 들어간 파일 (주기 작업이 두 번 넣지 않게)
+
+    // [4] 보충 작업이 한 번에 대기열에 넣을 최대 파일 수
+    @Value("${community.images.backfill-batch:200}")
+    private int backfillBatch;
+
+    public PostImageVariants(CommunityMapper communityMapper,
+                             @Qualifier("imageTaskExecutor") TaskExecutor executor,
+                             @Value("${community.images.list-size:320}") int listSize,
+                             @Value("${community.images.detail-size:1280}") int detailSize) {
+        this(communityMapper, executor, Paths.get("uploads").toAbsolutePath(), listSize, detailSize);
+    }
+
+    PostImageVariants(CommunityMapper communityMapper, TaskExecutor executor, Path uploadDir, int listSize, int detailSize) {
+        this.communityMapper = communityMapper;
+        this.executor = executor;
+        this.uploadDir = uploadDir;
+        this.listSize = listSize;
+        this.detailSize = detailSize;
+    }
+
+    // =========================================================
+    // 1. 대기열에 넣기 (글 저장이 커밋된 뒤)
+    // =========================================================
+    public void enqueue(long postId, List<FileDto> files) {
+        for (FileDto file : files) {
+            if (ImageTypeSniffer.IMAGE_NAME.matcher(file.getSavedName()).matches()) { // 이름으로 1차 판단
+                submit(postId, file.getSavedName(), file.getFilePath());
+            }
+        }
+    }
+
+    private void submit(long targetId, String savedName, String filePath) {
+        if (!inFlight.add(savedName)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    process(targetId, savedName, filePath);
+                } finally {
+                    inFlight.remove(savedName);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(savedName);
+            log.warn("사진 사본 대기열이 가득 참, 보충 작업이 나중에 처리: {}", savedName);
+        }
+    }
+
+    // =========================================================
+    // 2. 보충 작업 (빠진 사진, 예전 사진)
+    // =========================================================
+    @Scheduled(fixedDelayString = "${community.images.backfill-ms:600000}", initialDelayString = "${community.images.backfill-initial-delay-ms:60000}")
+    public void scheduledBackfill() {
+        int queued = backfill();
+        if (queued > 0) log.info("🖼️ 사진 사본 보충: {}개 대기열에 넣음", queued);
+    }
+
+    // 반환값: 대기열에 넣은 파일 수
+    public int backfill() {
+        List<FileDto> missing = communityMapper.selectFilesWithoutVariants(backfillBatch);
+        int queued = 0;
+        for (FileDto file : missing) {
+            if (inFlight.contains(file.getSavedName())) continue;
+            submit(file.getTargetId(), file.getSavedName(), file.getFilePath());
+            queued++;
+        }
+        return queued;
+    }
+
+    // =========================================================
+    // 3. 사본 만들기 (대기열 스레드에서)
+    // =========================================================
+    // 원본 파일이 없거나 이미지로 읽을 수 없으면(가짜 확장자, WebP처럼 JDK가 못 읽는 형식) 원본 경로를 그대로 기록해서 다시 시도하지 않습니다.
+    void process(long targetId, String savedName, String filePath) {
+        Path source = uploadDir.resolve(savedName);
+        String listPath = filePath;
+        String detailPath = filePath;
+        if (!Files.exists(source)) {
+            // 원본이 없는 행도 원본 경로로 기록 (안 하면 보충 작업이 매번 같은 행을 다시 골라서, 200개가 쌓이면 새 사진 차례가 오지 않음)
+            log.warn("사진 사본: 원본 파일이 없음, 원본 경로로 표시하고 넘어감: {}", savedName);
+            communityMapper.updateFileVariants(savedName, listPath, detailPath);
+            return;
+        }
+        try {
+            String type = ImageTypeSniffer.extensionOf(source);
+            BufferedImage image = (type == null) ? null : decode(source, detailSize);
+            if (image != null) {
+                String base = savedName.contains(".") ? savedName.substring(0, savedName.lastIndexOf('.')) : savedName;
+                listPath = writeVariant(fit(image, listSize), base + "_list", source, filePath);
+                // 움직이는 GIF는 첫 장면만 남으므로 상세 화면은 원본 그대로
+                if (!".gif".equals(type)) {
+                    detailPath = writeVariant(fit(image, detailSize), base + "_detail", source, filePath);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("사진 사본 만들기 실패, 원본을 그대로 씀: {} ({})", savedName, e.getMessage());
+        }
+        communityMapper.updateFileVariants(savedName, listPath, detailPath);
+        if (!listPath.equals(filePath)) {
+            communityMapper.replaceThumbnail(targetId, filePath, listPath);
+        }
+    }
+
+    // [5] 큰 사진은 읽을 때부터 건너뛰며(subsampling) 읽어서 메모리를 아낌 (필요한 크기의 2배 정도까지만)
+    static BufferedImage decode(Path source, int targetSize) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / (targetSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // [6] 긴 쪽이 box를 넘지 않게 줄이기 (작은 사진은 키우지 않음)
+    static BufferedImage fit(BufferedImage image, int box) {
+        double scale = Math.min(1.0, (double) box / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        boolean alpha = image.getColorModel().hasAlpha();
+        BufferedImage out = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    // [7] 사본 저장 (투명 배경이면 PNG, 아니면 JPEG). 원본보다 크면 지우고 원본 경로를 돌려줌
+    private String writeVariant(BufferedImage image, String name, Path original, String originalPath) throws IOException {
+        boolean alpha = image.getColorModel().hasAlpha();
+        String fileName = name + (alpha ? ".png" : ".jpg");
+        Path target = uploadDir.resolve(fileName);
+        if (alpha) {
+            ImageIO.write(image, "png", target.toFile());
+        } else {
+            writeJpeg(image, target);
+        }
+        if (Files.size(target) >= Files.size(original)) {
+            Files.deleteIfExists(target);
+            return originalPath;
+        }
+        return "/images/" + fileName;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
+//
+//상황: 휴대폰으로 찍은 4000x3000 사진(5MB)을 붙여 글을 올릴 때
+//
+//저장: 글 저장 요청은 사진을 uploads로 옮기고 바로 끝납니다. 사본 작업은 대기열에 들어갈 뿐입니다.
+//
+//대기열: 320px 목록용(수십 KB)과 1280px 상세용(수백 KB) JPEG를 만듭니다. 1억 화소처럼 아주 큰 사진은 처음부터 건너뛰며 읽어서 메모리를 아낍니다.
+//
+//기록: FILES 행에 두 경로를 적고, 글의 THUMBNAIL_PATH를 목록용으로 바꿉니다. 이제 목록 한 장(20개)은 MB가 아니라 KB 단위로 내려받습니다.
+//
+//실패: 이름만 .jpg인 문서 파일이면 원본 경로를 그대로 적어서, 보충 작업이 매번 다시 시도하지 않게 합니다.
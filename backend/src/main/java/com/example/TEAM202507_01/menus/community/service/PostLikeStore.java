@@ -0,0 +1,267 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 레디스 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper; // DB 관리자 (처음 한 번 불러오기용)
+import lombok.RequiredArgsConstructor; // final 필드 생성자 자동 생성
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.data.redis.connection.StringRedisConnection; // 파이프라인 안에서 쓰는 레디스 연결
+import org.springframework.data.redis.core.RedisCallback; // 파이프라인 콜백
+import org.springframework.data.redis.core.StringRedisTemplate; // 레디스 문자열 저장소
+import org.springframework.data.redis.core.script.DefaultRedisScript; // 레디스 Lua 스크립트
+import org.springframework.stereotype.Component; // 빈 등록
+import org.springframework.transaction.support.TransactionSynchronization; // 커밋 뒤에 할 일 등록
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// [3] 게시글 좋아요 저장소 (레디스 집합)
+// 예전 토글은 "눌렀나 확인(SELECT) -> INSERT 또는 DELETE -> 개수 다시 세기(SELECT)"로 DB를 세 번 오갔고,
+// 더블클릭이 동시에 들어오면 둘 다 "안 눌렀음"을 보고 INSERT를 두 번 하는 경쟁이 있었습니다.
+// - 글마다 레디스 집합(community:likes:{글번호})에 누른 사람 ID를 담습니다.
+// - 토글은 Lua 스크립트 한 번: 넣기/빼기 + 대기 목록 기록 + 새 개수 계산을 레디스 안에서 한꺼번에 (중간에 끼어들 수 없음)
+// - DB(POST_LIKES)에는 PostLikeWriter가 대기 목록(community:likes:pending)을 모아서 나중에 씁니다.
+// - 집합이 아직 없으면(처음 보는 글, 레디스 재시작) DB에서 한 번 불러와 채웁니다.
+//   빈 문자열("") 표시를 하나 넣어 두어서 "좋아요 0개인 글"과 "아직 안 불러온 글"을 구분합니다. (개수 = 집합 크기 - 1)
+// - 집합에는 만료 시간(idle-ttl-hours)이 있고 토글할 때마다 다시 늘어납니다. 안 건드린 글의 집합은 사라졌다가 필요할 때 다시 불러옵니다.
+// - 글마다 대기 토글을 남긴 사람 목록(community:likes:pending-users:{글번호})도 두어서, 글을 지울 때 대기 목록 전체를 훑지 않고 그 글의 토글만 지웁니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeStore {
+
+    static final String KEY_PREFIX = "community:likes:";
+    static final String PENDING_KEY = "community:likes:pending"; // "글번호:사용자ID" -> "1"(누름) / "0"(취소)
+    static final String PROCESSING_PREFIX = "community:likes:processing:"; // + 만든 시각:UUID (RedisProcessingKeys)
+    static final String PENDING_USERS_PREFIX = "community:likes:pending-users:"; // + 글번호 -> 대기 토글을 남긴 사용자 ID 집합
+    private static final String LOADED_MARK = "";
+
+    // [4] 토글 스크립트: 집합이 없으면 {-1, -1} (불러온 뒤 다시 호출), 있으면 {지금 눌림 여부, 새 개수}
+    // ARGV[3]은 유지 시간(초): 토글할 때마다 만료 시간을 다시 맞춤 (KEYS[3] 글별 대기 사용자 목록도 같이)
+    private static final DefaultRedisScript<List> TOGGLE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, -1} end
+            local liked
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+              redis.call('SREM', KEYS[1], ARGV[1])
+              liked = 0
+            else
+              redis.call('SADD', KEYS[1], ARGV[1])
+              liked = 1
+            end
+            redis.call('HSET', KEYS[2], ARGV[2], liked)
+            redis.call('SADD', KEYS[3], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[3], ARGV[3])
+            return {liked, redis.call('SCARD', KEYS[1]) - 1}
+            """, List.class);
+
+    // [5] 불러오기 스크립트: 그 사이 다른 서버가 먼저 채웠으면 건드리지 않음 (ARGV[1]은 유지 시간(초), ARGV[2]는 표시 "")
+    private static final DefaultRedisScript<Long> LOAD = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            for i = 2, #ARGV, 1000 do
+              redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // [6] 되돌리기 스크립트: 처리용 해시 -> 대기 해시 + 처리용 해시 지우기
+    // 값은 적어 둔 1/0 대신 지금 집합 상태로 다시 정합니다. (그 사이 새 토글이 이미 DB에 반영됐으면 옛 값이 덮어쓰지 않게)
+    // 집합이 없으면(만료, 글 삭제) 적어 둔 값을 쓰되, 새로 들어온 대기 값이 있으면 그대로 둡니다. (HSETNX)
+    // 되돌린 토글은 글별 대기 사용자 목록(ARGV[2] .. 글번호)에도 다시 적습니다. (ARGV[3]은 유지 시간(초))
+    private static final DefaultRedisScript<Long> RESTORE = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+              local field = entries[i]
+              local postId, userId = string.match(field, '^(%d+):(.*)$')
+              if postId and redis.call('EXISTS', ARGV[1] .. postId) == 1 then
+                redis.call('HSET', KEYS[2], field, redis.call('SISMEMBER', ARGV[1] .. postId, userId))
+              else
+                redis.call('HSETNX', KEYS[2], field, entries[i + 1])
+              end
+              if postId then
+                redis.call('SADD', ARGV[2] .. postId, userId)
+                redis.call('EXPIRE', ARGV[2] .. postId, ARGV[3])
+              end
+            end
+            redis.call('DEL', KEYS[1])
+            return #entries / 2
+            """, Long.class);
+
+    // [7] 글 삭제 스크립트: 좋아요 집합 + 그 글의 대기 토글 + 대기 사용자 목록 지우기 (ARGV[1]은 "글번호:")
+    // 목록에는 이미 DB에 반영된 사용자도 남아 있을 수 있는데, 없는 필드를 HDEL 하는 것이라 문제없습니다.
+    private static final DefaultRedisScript<Long> FORGET = new DefaultRedisScript<>("""
+            local users = redis.call('SMEMBERS', KEYS[3])
+            for i = 1, #users do
+              redis.call('HDEL', KEYS[2], ARGV[1] .. users[i])
+            end
+            redis.call('DEL', KEYS[1], KEYS[3])
+            return #users
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CommunityMapper communityMapper;
+
+    // 집합을 마지막 토글(또는 불러오기) 뒤 이 시간 동안만 레디스에 둠 (시간, 지나면 사라지고 다음 조회 때 DB에서 다시 불러옴)
+    // 예전에는 한 번 본 글의 집합이 영원히 남아서, 레디스 메모리가 전체 글 수만큼 자랐습니다.
+    @Value("${community.likes.idle-ttl-hours:24}")
+    private long idleTtlHours;
+
+    // [8] 토글 결과
+    public record Toggle(boolean liked, int likeCount) {
+    }
+
+    // =========================================================
+    // 1. 좋아요 토글 (레디스 왕복 한 번, 처음 보는 글이면 불러오기 후 한 번 더)
+    // =========================================================
+    public Toggle toggle(long postId, String userId) {
+        List<String> keys = List.of(KEY_PREFIX + postId, PENDING_KEY, PENDING_USERS_PREFIX + postId);
+        String field = postId + ":" + userId;
+        for (int attempt = 0; attempt < 2; attempt++) {
+            List<?> result = redisTemplate.execute(TOGGLE, keys, userId, field, Long.toString(idleTtlSeconds()));
+            long liked = ((Number) result.get(0)).longValue();
+            if (liked >= 0) {
+                return new Toggle(liked == 1, ((Number) result.get(1)).intValue());
+            }
+            load(postId);
+        }
+        throw new RuntimeException("좋아요 처리에 실패했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    // =========================================================
+    // 2. 눌렀는지 / 몇 개인지
+    // =========================================================
+    public boolean isLiked(long postId, String userId) {
+        ensureLoaded(postId);
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(KEY_PREFIX + postId, userId));
+    }
+
+    public int count(long postId) {
+        ensureLoaded(postId);
+        Long size = redisTemplate.opsForSet().size(KEY_PREFIX + postId);
+        return size == null ? 0 : (int) Math.max(0, size - 1);
+    }
+
+    // 목록 한 장의 글 중 이 사용자가 누른 글 번호들 (하트 표시용)
+    // 레디스 파이프라인 한 번(글마다 EXISTS + SISMEMBER)으로 묻고,
+    // 집합이 아직 없는 글만 DB 한 번(IN)으로 묻습니다. 목록을 볼 때마다 집합을 채우지는 않습니다.
+    public Set<Long> likedAmong(List<Long> postIds, String userId) {
+        Set<Long> liked = new HashSet<>();
+        if (postIds.isEmpty() || userId == null) return liked;
+
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (Long postId : postIds) {
+                redis.exists(KEY_PREFIX + postId);
+                redis.sIsMember(KEY_PREFIX + postId, userId);
+            }
+            return null;
+        });
+        List<Long> notLoaded = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            boolean loaded = Boolean.TRUE.equals(replies.get(i * 2));
+            if (!loaded) notLoaded.add(postIds.get(i));
+            else if (Boolean.TRUE.equals(replies.get(i * 2 + 1))) liked.add(postIds.get(i));
+        }
+        if (!notLoaded.isEmpty()) {
+            liked.addAll(communityMapper.selectLikedPostIds(userId, notLoaded));
+        }
+        return liked;
+    }
+
+    // =========================================================
+    // 3. 글 삭제 시 집합과 대기 중인 토글 버리기
+    // =========================================================
+    // 글 삭제 트랜잭션 안에서 부르면 커밋이 끝난 뒤에 지웁니다. (롤백되면 레디스 상태를 그대로 둠)
+    // 레디스가 죽어 있어도 글 삭제를 막지 않고 로그만 남깁니다.
+    // 못 지운 집합은 만료 시간이 지나면 사라지고, 못 지운 토글은 글이 없어서 DB에 아무것도 쓰지 않습니다. (insertLikeIfAbsent)
+    public void forget(long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            forgetNow(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                forgetNow(postId);
+            }
+        });
+    }
+
+    private void forgetNow(long postId) {
+        try {
+            redisTemplate.execute(FORGET, List.of(KEY_PREFIX + postId, PENDING_KEY, PENDING_USERS_PREFIX + postId), postId + ":");
+        } catch (Exception e) {
+            log.warn("글 {} 좋아요 레디스 정리 실패, 만료 시간에 맡김: {}", postId, e.getMessage());
+        }
+    }
+
+    // =========================================================
+    // 4. 대기 목록 꺼내기 / 확정 / 되돌리기 (PostLikeWriter용)
+    // =========================================================
+    // 해시 이름을 처리용 이름으로 바꿔서(RENAME) 통째로 가져갑니다. 여러 서버가 동시에 불러도 한 서버만 가져감.
+    // 처리용 키는 DB 커밋 뒤 acknowledgePending()에서 지웁니다. (그 전에 서버가 죽으면 recoverStalePending()이 되돌림)
+    Map<Object, Object> drainPending(String processingKey) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) return Map.of();
+        try {
+            redisTemplate.rename(PENDING_KEY, processingKey);
+        } catch (RuntimeException e) {
+            return Map.of();
+        }
+        return redisTemplate.opsForHash().entries(processingKey);
+    }
+
+    void acknowledgePending(String processingKey) {
+        redisTemplate.delete(processingKey);
+    }
+
+    // DB 쓰기 실패 시: 지금 집합 상태 기준으로 대기 목록에 다시 올림 (스크립트 [6])
+    // 처리용 키가 이미 없으면(다른 서버가 먼저 되돌림) 아무것도 안 함
+    void restorePending(String processingKey) {
+        redisTemplate.execute(RESTORE, List.of(processingKey, PENDING_KEY), KEY_PREFIX, PENDING_USERS_PREFIX, Long.toString(idleTtlSeconds()));
+    }
+
+    // 만든 지 olderThan이 지난 처리용 키 = 반영 도중 죽은 서버가 남긴 것 (반환값: 되돌린 묶음 수)
+    int recoverStalePending(Duration olderThan) {
+        int recovered = 0;
+        for (String key : RedisProcessingKeys.staleKeys(redisTemplate, PROCESSING_PREFIX, olderThan)) {
+            Long restored = redisTemplate.execute(RESTORE, List.of(key, PENDING_KEY), KEY_PREFIX, PENDING_USERS_PREFIX, Long.toString(idleTtlSeconds()));
+            if (restored != null && restored > 0) recovered++;
+        }
+        return recovered;
+    }
+
+    private long idleTtlSeconds() {
+        return Math.max(1, idleTtlHours) * 3600;
+    }
+
+    private void ensureLoaded(long postId) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + postId))) {
+            load(postId);
+        }
+    }
+
+    // [9] DB에서 누른 사람 목록을 불러와 집합 채우기
+    private void load(long postId) {
+        List<String> userIds = communityMapper.selectLikeUserIds(postId);
+        List<String> members = new ArrayList<>(userIds.size() + 2);
+        members.add(Long.toString(idleTtlSeconds()));
+        members.add(LOADED_MARK);
+        members.addAll(userIds);
+        redisTemplate.execute(LOAD, List.of(KEY_PREFIX + postId), members.toArray());
+    }
+}
+//
+//상황: 한 사용자가 좋아요 버튼을 빠르게 두 번 누를 때
+//
+//토글: 두 요청 모두 같은 Lua 스크립트를 타므로 레디스가 하나씩 차례로 실행합니다. 첫 번째는 넣기(1), 두 번째는 빼기(0)로 끝나고, 둘 다 넣는 일은 없습니다.
+//
+//응답: 스크립트가 새 개수까지 돌려주니, 컨트롤러는 개수를 다시 세러 DB에 가지 않습니다.
+//
+//DB: 대기 목록에는 "42:사용자"의 마지막 상태(0)만 남습니다. PostLikeWriter는 2초 뒤 DELETE 한 줄만 쓰고(행이 없으면 아무 일도 없음), 글 42번의 LIKE_COUNT를 다시 셉니다.
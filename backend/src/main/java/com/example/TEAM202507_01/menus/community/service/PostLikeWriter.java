@@ -0,0 +1,137 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper; // DB 관리자
+import jakarta.annotation.PostConstruct; // 빈 준비가 끝난 뒤 실행할 초기화 메서드 표시
+import jakarta.annotation.PreDestroy; // 서버가 꺼지기 직전에 실행할 메서드 표시
+import lombok.RequiredArgsConstructor; // final 필드 생성자 자동 생성
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.apache.ibatis.session.ExecutorType; // MyBatis 실행 방식 (SIMPLE / BATCH)
+import org.apache.ibatis.session.SqlSessionFactory; // MyBatis 세션 공장
+import org.mybatis.spring.SqlSessionTemplate; // 스프링 트랜잭션에 묶이는 MyBatis 세션
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.scheduling.annotation.Scheduled; // 정해진 간격마다 실행
+import org.springframework.stereotype.Service; // 서비스 빈 등록
+import org.springframework.transaction.PlatformTransactionManager; // 트랜잭션 관리자
+import org.springframework.transaction.support.TransactionTemplate; // 코드로 트랜잭션 범위를 정하는 도구
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// [3] 좋아요 DB 반영 작업 (주기 실행)
+// PostLikeStore가 레디스에 쌓아 둔 "글번호:사용자ID -> 1/0"(마지막 상태만)을 모아서 POST_LIKES에 씁니다.
+// - 1(누름): 없으면 INSERT (이미 있거나 글이 지워졌으면 아무것도 안 함)
+// - 0(취소): DELETE
+// - 건드린 글은 POSTS.LIKE_COUNT를 POST_LIKES 기준으로 다시 셉니다. (목록 화면용 집계값)
+// 전부 JDBC 배치 한 번, 트랜잭션 하나. 실패하면 대기 목록에 되돌려서 다음 주기에 다시 씁니다.
+// 꺼낸 묶음(처리용 키)은 커밋 뒤에야 지우고, 도중에 죽은 서버가 남긴 묶음은 recoverStale()이 되돌립니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeWriter {
+
+    private final PostLikeStore likeStore;
+
+    // [4] 묶음 저장(BATCH)용 도구들
+    private final SqlSessionFactory sqlSessionFactory;
+    private final PlatformTransactionManager transactionManager;
+    private SqlSessionTemplate batchSqlSession;
+    private TransactionTemplate flushTransaction;
+
+    // [5] 처리용 키가 이보다 오래되면 주인 서버가 죽은 것으로 봄 (분, 한 번 반영하는 시간보다 넉넉히)
+    @Value("${community.likes.processing-stale-minutes:10}")
+    private long processingStaleMinutes;
+
+    @PostConstruct
+    public void init() {
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${community.likes.flush-ms:2000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // =========================================================
+    // 1. 모아 쓰기 (반환값: 반영한 토글 수)
+    // =========================================================
+    public int flush() {
+        String processingKey;
+        Map<Object, Object> entries;
+        try {
+            processingKey = RedisProcessingKeys.newKey(PostLikeStore.PROCESSING_PREFIX);
+            entries = likeStore.drainPending(processingKey);
+        } catch (Exception e) {
+            log.warn("좋아요 대기 목록 읽기 실패: {}", e.getMessage());
+            return 0;
+        }
+        if (entries.isEmpty()) return 0;
+
+        // 글 번호, 사용자 순서로 정렬 (서버끼리 같은 행을 반대 순서로 잠그지 않게)
+        Map<String, Boolean> ops = new TreeMap<>();
+        TreeSet<Long> touchedPosts = new TreeSet<>();
+        entries.forEach((field, value) -> {
+            ops.put(field.toString(), "1".equals(value.toString()));
+            touchedPosts.add(Long.parseLong(field.toString().substring(0, field.toString().indexOf(':'))));
+        });
+
+        try {
+            flushTransaction.executeWithoutResult(status -> {
+                CommunityMapper batchMapper = batchSqlSession.getMapper(CommunityMapper.class);
+                ops.forEach((field, liked) -> {
+                    int split = field.indexOf(':');
+                    long postId = Long.parseLong(field.substring(0, split));
+                    String userId = field.substring(split + 1);
+                    if (liked) {
+                        batchMapper.insertLikeIfAbsent(postId, userId);
+                    } else {
+                        batchMapper.deleteLike(postId, userId);
+                    }
+                });
+                touchedPosts.forEach(batchMapper::refreshLikeCount);
+                batchSqlSession.flushStatements(); // 모아둔 문장을 DB로 한 번에 전송
+            });
+        } catch (Exception e) {
+            try {
+                likeStore.restorePending(processingKey);
+            } catch (Exception restoreError) {
+                log.error("좋아요 대기 목록 되돌리기 실패, 처리용 키는 보정 작업이 되돌림 ({}건)", entries.size(), restoreError);
+            }
+            log.warn("⚠️ 좋아요 DB 반영 실패, 다음 주기에 재시도 ({}건): {}", entries.size(), e.getMessage());
+            return 0;
+        }
+
+        // 커밋이 끝난 뒤에만 처리용 키를 지움 (여기서 실패해서 다시 반영돼도 INSERT/DELETE라 결과는 같음)
+        try {
+            likeStore.acknowledgePending(processingKey);
+        } catch (Exception e) {
+            log.warn("좋아요 처리용 키 지우기 실패 ({}건): {}", entries.size(), e.getMessage());
+        }
+        log.debug("좋아요 반영: 토글 {}건, 글 {}개", ops.size(), touchedPosts.size());
+        return ops.size();
+    }
+
+    // =========================================================
+    // 2. 남은 처리용 키 되돌리기 (서버가 DB 반영 도중 죽은 경우)
+    // =========================================================
+    // 서버가 뜬 뒤 잠시 후 한 번, 그 뒤로 주기마다. 만든 지 stale-minutes가 지난 키만 (반영 중인 다른 서버 것은 건드리지 않음)
+    @Scheduled(initialDelayString = "${community.likes.recover-initial-ms:30000}",
+            fixedDelayString = "${community.likes.recover-ms:300000}")
+    public void recoverStale() {
+        try {
+            int recovered = likeStore.recoverStalePending(Duration.ofMinutes(processingStaleMinutes));
+            if (recovered > 0) log.warn("⚠️ 반영되지 못한 좋아요 묶음 {}개를 대기 목록으로 되돌림", recovered);
+        } catch (Exception e) {
+            log.warn("좋아요 처리용 키 확인 실패: {}", e.getMessage());
+        }
+    }
+}
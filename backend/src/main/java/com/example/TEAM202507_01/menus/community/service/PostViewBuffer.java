@@ -0,0 +1,42 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+import java.time.Duration;
+import java.util.Map;
+
+// [2] 조회수 임시 보관함 (갈아끼울 수 있는 부품)
+// 글을 읽을 때마다 DB에 UPDATE를 날리지 않고, 여기에 "+1"만 쌓아 둡니다. PostViewCounter가 주기적으로 모아서 DB에 씁니다.
+// - 서버 한 대: MemoryPostViewBuffer (서버 메모리, community.views.store=memory 또는 설정 없음)
+// - 서버 여러 대: RedisPostViewBuffer (레디스 공유, community.views.store=redis)
+public interface PostViewBuffer {
+
+    // [3] 같은 사람이 window 안에 같은 글을 다시 읽었는지 확인하고 기록 (처음이면 true)
+    boolean markViewed(String viewerKey, Duration window);
+
+    // [4] 글 하나 조회수 +1 (아직 DB에 안 쓴 값)
+    void increment(long postId);
+
+    // [5] 아직 DB에 안 쓴 조회수 (상세 화면에 DB 값 + 이 값을 보여줌)
+    long pending(long postId);
+
+    // [6] 쌓인 조회수를 꺼내고 비우기 (글 번호 -> 더할 값)
+    // 레디스 버전은 꺼낸 값을 처리용 키에 남겨 두므로, DB 커밋 뒤 acknowledge() 또는 실패 시 restore()를 꼭 불러야 합니다.
+    Drained drain();
+
+    // [7] DB 커밋이 끝난 뒤: 꺼낸 값의 보관용 사본 지우기
+    default void acknowledge(Drained drained) {
+    }
+
+    // [8] DB 쓰기에 실패했을 때 꺼낸 값을 되돌려 넣기 (다음 주기에 다시 씀)
+    void restore(Drained drained);
+
+    // [9] 서버가 DB 반영 도중 죽어서 남은 처리용 사본을 되돌려 넣기 (반환값: 되돌린 묶음 수)
+    default int recoverStale(Duration olderThan) {
+        return 0;
+    }
+
+    // [10] 꺼낸 묶음: handle은 레디스 처리용 키 이름 (메모리 버전은 null)
+    record Drained(String handle, Map<Long, Long> deltas) {
+        static final Drained EMPTY = new Drained(null, Map.of());
+    }
+}
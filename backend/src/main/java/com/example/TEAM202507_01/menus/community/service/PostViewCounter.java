@@ -0,0 +1,160 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper; // DB 관리자
+import jakarta.annotation.PostConstruct; // 빈 준비가 끝난 뒤 실행할 초기화 메서드 표시
+import jakarta.annotation.PreDestroy; // 서버가 꺼지기 직전에 실행할 메서드 표시
+import lombok.RequiredArgsConstructor; // final 필드 생성자 자동 생성
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.apache.ibatis.session.ExecutorType; // MyBatis 실행 방식 (SIMPLE / BATCH)
+import org.apache.ibatis.session.SqlSessionFactory; // MyBatis 세션 공장
+import org.mybatis.spring.SqlSessionTemplate; // 스프링 트랜잭션에 묶이는 MyBatis 세션
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.scheduling.annotation.Scheduled; // 정해진 간격마다 실행
+import org.springframework.stereotype.Service; // 서비스 빈 등록
+import org.springframework.transaction.PlatformTransactionManager; // 트랜잭션 관리자
+import org.springframework.transaction.support.TransactionTemplate; // 코드로 트랜잭션 범위를 정하는 도구
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+// [3] 게시글 조회수 세기 (나중에 모아 쓰기)
+// 예전에는 글을 읽을 때마다 UPDATE POSTS SET VIEW_COUNT = VIEW_COUNT + 1 을 실행해서, 인기 글일수록 같은 행 잠금을 두고 줄을 섰습니다.
+// - 읽기: PostViewBuffer에 +1만 쌓습니다. (DB에 안 씀)
+// - 같은 사람(로그인 ID, 없으면 IP)이 dedupe 시간 안에 같은 글을 다시 열면 세지 않습니다.
+// - 쓰기: flush-ms마다 쌓인 값을 글 번호 순으로 정렬해서 UPDATE ... + delta 를 JDBC 배치 한 번으로 보냅니다.
+// - DB 쓰기가 실패하면 값을 보관함에 되돌려서 다음 주기에 다시 씁니다. 서버가 꺼질 때도 한 번 씁니다.
+// - 레디스 보관함은 꺼낸 값을 커밋 뒤에야 지우고, 도중에 죽은 서버가 남긴 값은 recoverStale()이 되돌립니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private final PostViewBuffer buffer;
+
+    // [4] 묶음 저장(BATCH)용 도구들
+    private final SqlSessionFactory sqlSessionFactory;
+    private final PlatformTransactionManager transactionManager;
+    private SqlSessionTemplate batchSqlSession;
+    private TransactionTemplate flushTransaction;
+
+    // [5] 같은 사람의 같은 글 재조회를 세지 않는 시간 (분, 0이면 매번 셈)
+    @Value("${community.views.dedupe-minutes:30}")
+    private long dedupeMinutes;
+
+    // [6] 처리용 사본이 이보다 오래되면 주인 서버가 죽은 것으로 봄 (분, 한 번 반영하는 시간보다 넉넉히)
+    @Value("${community.views.processing-stale-minutes:10}")
+    private long processingStaleMinutes;
+
+    @PostConstruct
+    public void init() {
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // =========================================================
+    // 1. 조회 기록 (상세 조회 때마다)
+    // =========================================================
+    // viewer: "u:로그인ID" 또는 "ip:주소" (둘 다 모르면 null -> 중복 확인 없이 셈)
+    // 보관함(레디스)이 죽어 있어도 글 읽기는 실패하지 않게 예외를 삼킵니다. (조회수 하나 덜 세는 게 낫다)
+    public void record(long postId, String viewer) {
+        try {
+            if (viewer != null && dedupeMinutes > 0
+                    && !buffer.markViewed(viewer + ":" + postId, Duration.ofMinutes(dedupeMinutes))) {
+                return;
+            }
+            buffer.increment(postId);
+        } catch (Exception e) {
+            log.warn("조회수 기록 실패 (글 {}): {}", postId, e.getMessage());
+        }
+    }
+
+    // =========================================================
+    // 2. 아직 DB에 안 쓴 조회수 (상세 화면 표시용)
+    // =========================================================
+    public long pending(long postId) {
+        try {
+            return buffer.pending(postId);
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    // =========================================================
+    // 3. 모아 쓰기 (주기 실행 + 서버 종료 직전)
+    // =========================================================
+    @Scheduled(fixedDelayString = "${community.views.flush-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 반환값: DB에 쓴 글 수
+    public int flush() {
+        PostViewBuffer.Drained drained;
+        try {
+            drained = buffer.drain();
+        } catch (Exception e) {
+            log.warn("조회수 보관함 읽기 실패: {}", e.getMessage());
+            return 0;
+        }
+        Map<Long, Long> deltas = new TreeMap<>(drained.deltas()); // 글 번호 순서로 잠가서 서버끼리 교착 방지
+        if (deltas.isEmpty()) return 0;
+
+        try {
+            flushTransaction.executeWithoutResult(status -> {
+                CommunityMapper batchMapper = batchSqlSession.getMapper(CommunityMapper.class);
+                deltas.forEach(batchMapper::addViewCount);
+                batchSqlSession.flushStatements(); // 모아둔 UPDATE를 DB로 한 번에 전송
+            });
+        } catch (Exception e) {
+            try {
+                buffer.restore(drained);
+            } catch (Exception restoreError) {
+                log.error("조회수 되돌리기 실패, 처리용 사본은 보정 작업이 되돌림 (글 {}개)", deltas.size(), restoreError);
+            }
+            log.warn("⚠️ 조회수 DB 반영 실패, 다음 주기에 재시도 (글 {}개): {}", deltas.size(), e.getMessage());
+            return 0;
+        }
+
+        // 커밋이 끝난 뒤에만 사본을 지움 (여기서 실패하면 보정 작업이 한 번 더 더할 수 있음: 잃는 것보다 더 세는 쪽을 택함)
+        try {
+            buffer.acknowledge(drained);
+        } catch (Exception e) {
+            log.warn("조회수 처리용 사본 지우기 실패 (글 {}개): {}", deltas.size(), e.getMessage());
+        }
+        log.debug("조회수 반영: 글 {}개", deltas.size());
+        return deltas.size();
+    }
+
+    // =========================================================
+    // 4. 남은 처리용 사본 되돌리기 (서버가 DB 반영 도중 죽은 경우)
+    // =========================================================
+    // 서버가 뜬 뒤 잠시 후 한 번, 그 뒤로 주기마다. 만든 지 stale-minutes가 지난 사본만 (반영 중인 다른 서버 것은 건드리지 않음)
+    @Scheduled(initialDelayString = "${community.views.recover-initial-ms:30000}",
+            fixedDelayString = "${community.views.recover-ms:300000}")
+    public void recoverStale() {
+        try {
+            int recovered = buffer.recoverStale(Duration.ofMinutes(processingStaleMinutes));
+            if (recovered > 0) log.warn("⚠️ 반영되지 못한 조회수 묶음 {}개를 대기 목록으로 되돌림", recovered);
+        } catch (Exception e) {
+            log.warn("조회수 처리용 사본 확인 실패: {}", e.getMessage());
+        }
+    }
+}
+//
+//상황: 인기 글 하나를 1초에 200명이 열어 볼 때
+//
+//읽기: 상세 조회는 글을 SELECT만 하고, 조회수는 보관함의 LongAdder에 +1만 합니다. 행 잠금이 없으니 서로 기다리지 않습니다.
+//
+//중복: 같은 사람이 새로고침을 반복해도 30분 안에는 한 번만 셉니다.
+//
+//모아 쓰기: 5초마다 "글 42번 +873" 같은 값을 꺼내서 UPDATE 한 줄로 씁니다. 글이 여러 개면 JDBC 배치 한 번입니다.
+//
+//화면: 상세 화면의 조회수는 DB 값 + 아직 안 쓴 값이라, 방금 읽은 사람도 바로 늘어난 숫자를 봅니다.
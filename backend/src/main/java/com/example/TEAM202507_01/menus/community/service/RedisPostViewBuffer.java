@@ -0,0 +1,100 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 레디스 도구들을 가져옵니다.
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty; // 설정에 따라 빈 등록
+import org.springframework.data.redis.core.StringRedisTemplate; // 레디스 문자열 저장소
+import org.springframework.data.redis.core.script.DefaultRedisScript; // 레디스 Lua 스크립트
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// [3] 조회수 임시 보관함 - 레디스 버전 (서버 여러 대일 때, community.views.store=redis)
+// - 쌓기: 해시 하나(community:views:pending)에 글 번호별로 HINCRBY
+// - 꺼내기: 해시 이름을 처리용 이름으로 RENAME (한 번에 바뀌므로, 여러 서버가 동시에 꺼내도 한 서버만 가져감)
+//   처리용 키는 DB 커밋 뒤에 지웁니다. 그 전에 서버가 죽으면 recoverStale()이 오래된 처리용 키를 대기 해시로 되돌립니다.
+// - 중복 방지: 사람+글 키를 SET NX + 만료 시간으로 기록
+@Component
+@ConditionalOnProperty(name = "community.views.store", havingValue = "redis")
+public class RedisPostViewBuffer implements PostViewBuffer {
+
+    private static final String PENDING_KEY = "community:views:pending";
+    private static final String PROCESSING_PREFIX = "community:views:processing:";
+    private static final String SEEN_PREFIX = "community:views:seen:";
+
+    // 처리용 해시 -> 대기 해시로 더하기 + 처리용 해시 지우기 (반환값: 되돌린 글 수)
+    private static final DefaultRedisScript<Long> MERGE_BACK = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+              redis.call('HINCRBY', KEYS[2], entries[i], entries[i + 1])
+            end
+            redis.call('DEL', KEYS[1])
+            return #entries / 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisPostViewBuffer(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean markViewed(String viewerKey, Duration window) {
+        Boolean first = redisTemplate.opsForValue().setIfAbsent(SEEN_PREFIX + viewerKey, "1", window);
+        return !Boolean.FALSE.equals(first);
+    }
+
+    @Override
+    public void increment(long postId) {
+        redisTemplate.opsForHash().increment(PENDING_KEY, Long.toString(postId), 1);
+    }
+
+    @Override
+    public long pending(long postId) {
+        Object value = redisTemplate.opsForHash().get(PENDING_KEY, Long.toString(postId));
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    @Override
+    public Drained drain() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) return Drained.EMPTY;
+
+        String processingKey = RedisProcessingKeys.newKey(PROCESSING_PREFIX);
+        try {
+            redisTemplate.rename(PENDING_KEY, processingKey);
+        } catch (RuntimeException e) {
+            return Drained.EMPTY; // 그 사이 다른 서버가 먼저 가져감
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        redisTemplate.opsForHash().entries(processingKey)
+                .forEach((postId, delta) -> deltas.put(Long.parseLong(postId.toString()), Long.parseLong(delta.toString())));
+        return new Drained(processingKey, deltas); // 처리용 키는 DB 커밋 뒤 acknowledge()에서 지움
+    }
+
+    @Override
+    public void acknowledge(Drained drained) {
+        if (drained.handle() != null) redisTemplate.delete(drained.handle());
+    }
+
+    // 처리용 키에 남은 값을 대기 해시에 더하고 키를 지웁니다. (스크립트 한 번이라 중간에 끊기지 않음)
+    // 키가 이미 없으면(다른 서버가 먼저 되돌림) 아무것도 안 하므로 두 번 더해지지 않습니다.
+    @Override
+    public void restore(Drained drained) {
+        if (drained.handle() != null) {
+            redisTemplate.execute(MERGE_BACK, List.of(drained.handle(), PENDING_KEY));
+        }
+    }
+
+    @Override
+    public int recoverStale(Duration olderThan) {
+        int recovered = 0;
+        for (String key : RedisProcessingKeys.staleKeys(redisTemplate, PROCESSING_PREFIX, olderThan)) {
+            Long merged = redisTemplate.execute(MERGE_BACK, List.of(key, PENDING_KEY));
+            if (merged != null && merged > 0) recovered++;
+        }
+        return recovered;
+    }
+}
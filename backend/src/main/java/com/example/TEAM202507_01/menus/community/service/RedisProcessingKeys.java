@@ -0,0 +1,50 @@
+package com.example.TEAM202507_01.menus.community.service;
+// [1] 패키지 선언: 이 파일이 '커뮤니티 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 레디스 도구들을 가져옵니다.
+import org.springframework.data.redis.core.Cursor; // SCAN 결과를 조금씩 읽는 도구
+import org.springframework.data.redis.core.ScanOptions; // SCAN 조건 (이름 패턴, 한 번에 볼 개수)
+import org.springframework.data.redis.core.StringRedisTemplate; // 레디스 문자열 저장소
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// [3] 레디스 "처리 중" 키 이름 규칙 (조회수 보관함, 좋아요 대기 목록 공용)
+// 대기 해시를 처리용 이름으로 RENAME 해서 가져간 뒤, DB 커밋이 끝나야 그 키를 지웁니다.
+// 서버가 중간에 죽으면 처리용 키가 남는데, 이름에 만든 시각을 넣어 두어서 오래된 것만 골라 대기 해시로 되돌립니다.
+// 이름: {prefix}{만든 시각 ms}:{UUID}
+final class RedisProcessingKeys {
+
+    private RedisProcessingKeys() {
+    }
+
+    static String newKey(String prefix) {
+        return prefix + System.currentTimeMillis() + ":" + UUID.randomUUID();
+    }
+
+    // 만든 지 olderThan이 지난 처리용 키들 (SCAN이라 레디스를 오래 막지 않음)
+    // 시각을 못 읽는 이름(예전 형식 {prefix}{UUID})도 주인이 없으므로 오래된 것으로 봅니다.
+    static List<String> staleKeys(StringRedisTemplate redisTemplate, String prefix, Duration olderThan) {
+        long cutoff = System.currentTimeMillis() - olderThan.toMillis();
+        List<String> stale = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(200).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (createdAt(key, prefix) < cutoff) stale.add(key);
+            }
+        }
+        return stale;
+    }
+
+    private static long createdAt(String key, String prefix) {
+        int end = key.indexOf(':', prefix.length());
+        try {
+            return end < 0 ? 0 : Long.parseLong(key.substring(prefix.length(), end));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
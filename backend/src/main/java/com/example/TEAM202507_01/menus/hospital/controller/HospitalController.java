@@ -3,19 +3,27 @@ package com.example.TEAM202507_01.menus.hospital.controller;
 import com.example.TEAM202507_01.config.security.CustomUserDetails;
 import com.example.TEAM202507_01.menus.hospital.dto.AiDiagnosisDto;
 import com.example.TEAM202507_01.menus.hospital.dto.HospitalDto;
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalImportReportDto;
 import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapDto;
-// ⚠️ [중요] GeminiService의 실제 패키지 경로를 확인하세요.
-import com.example.TEAM202507_01.menus.chatbot.service.GeminiService;
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapViewDto;
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalReviewDto;
+import com.example.TEAM202507_01.menus.hospital.service.HospitalImportService;
+import com.example.TEAM202507_01.menus.hospital.service.HospitalReviewService;
 import com.example.TEAM202507_01.menus.hospital.service.HospitalService;
+import com.example.TEAM202507_01.menus.hospital.service.SymptomClassificationCache;
+import com.example.TEAM202507_01.menus.hospital.service.SymptomDepartmentClassifier;
 import com.example.TEAM202507_01.user.service.FavoriteService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,9 +32,14 @@ public class HospitalController {
 
     private final HospitalService hospitalService;
     private final FavoriteService favoriteService;
+    private final HospitalReviewService reviewService; // 병원 리뷰 (별점 집계 포함)
+    private final HospitalImportService importService; // 공공데이터 파일 가져오기
 
-    // ✅ [수정] GeminiService 주입 (필드 추가)
-    private final GeminiService geminiService;
+    // 증상 -> 진료과 분류기 (키워드 사전으로 확실하면 바로, 애매하면 Gemini)
+    private final SymptomDepartmentClassifier symptomClassifier;
+
+    // 증상 -> 진료과 분류 캐시 (메모리 LRU + 레디스)
+    private final SymptomClassificationCache symptomCache;
 
     // 1. 목록 조회 (GET)
     @GetMapping
@@ -39,6 +52,17 @@ public class HospitalController {
         return ResponseEntity.ok(hospitalService.findInfo());
     }
 
+    // 1-1. 지도 영역 조회 (GET /map/view?swLat=&swLng=&neLat=&neLng=&zoom=)
+    // 지금 보이는 사각형 안의 병원만 보내고, 줌이 낮으면 서버에서 묶어서(클러스터) 보냅니다.
+    @GetMapping("/map/view")
+    public ResponseEntity<HospitalMapViewDto> getHospitalMapView(@RequestParam double swLat,
+                                                                 @RequestParam double swLng,
+                                                                 @RequestParam double neLat,
+                                                                 @RequestParam double neLng,
+                                                                 @RequestParam(defaultValue = "15") int zoom) {
+        return ResponseEntity.ok(hospitalService.findMapView(swLat, swLng, neLat, neLng, zoom));
+    }
+
     // 2. 상세 조회 (GET)
     @GetMapping("/{id}")
     public ResponseEntity<HospitalDto> getHospitalDetail(@PathVariable Long id) {
@@ -61,6 +85,19 @@ public class HospitalController {
         return ResponseEntity.ok("병원등록 성공");
     }
 
+    // 3-1. [관리자용] 공공데이터 파일 가져오기 (POST /import, multipart "file")
+    // CSV/JSON을 한 행씩 읽어서 (이름 + 주소) 기준으로 등록/수정하고, 등록/수정/그대로 건수를 돌려줍니다.
+    // format을 안 주면 파일 확장자로 판단, charset은 CSV 인코딩 (심평원 CSV는 보통 EUC-KR)
+    @PostMapping(value = "/import", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
+    public ResponseEntity<HospitalImportReportDto> importHospitals(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "UTF-8") String charset) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importFile(in, format, file.getOriginalFilename(), charset));
+        }
+    }
+
     // 4. 삭제 (DELETE)
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteHospital(@PathVariable Long id) {
@@ -84,6 +121,48 @@ public class HospitalController {
         return ResponseEntity.ok("즐겨찾기 처리가 완료되었습니다.");
     }
 
+    // 5-1. 리뷰 목록 (GET /{id}/reviews)
+    @GetMapping("/{id}/reviews")
+    public ResponseEntity<List<HospitalReviewDto>> getReviews(@PathVariable Long id) {
+        return ResponseEntity.ok(reviewService.findReviews(id));
+    }
+
+    // 5-2. 리뷰 작성 (POST /{id}/reviews, body: { content, rating })
+    // 리뷰 저장과 병원 별점 합계/리뷰 수 갱신이 한 트랜잭션으로 묶여 있습니다.
+    @PostMapping("/{id}/reviews")
+    public ResponseEntity<?> createReview(@PathVariable Long id,
+                                          @RequestBody HospitalReviewDto request,
+                                          @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(401).body("로그인이 필요합니다.");
+        }
+        HospitalReviewDto review = HospitalReviewDto.builder()
+                .hospitalId(id)
+                .userId(userDetails.getId())
+                .content(request.getContent())
+                .rating(request.getRating())
+                .build();
+        return ResponseEntity.ok(reviewService.addReview(review));
+    }
+
+    // 5-3. 리뷰 삭제 (DELETE /reviews/{reviewId}, 작성자 본인만)
+    @DeleteMapping("/reviews/{reviewId}")
+    public ResponseEntity<String> deleteReview(@PathVariable Long reviewId,
+                                               @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(401).body("로그인이 필요합니다.");
+        }
+        reviewService.deleteReview(reviewId, userDetails.getId());
+        return ResponseEntity.ok("리뷰 삭제 성공");
+    }
+
+    // 5-4. [관리자용] 별점 집계 보정 바로 실행 (POST /reviews/reconcile)
+    // 평소에는 매일 새벽 자동으로 돕니다. 반환값: 고친 병원 수
+    @PostMapping("/reviews/reconcile")
+    public ResponseEntity<Integer> reconcileRatings() {
+        return ResponseEntity.ok(reviewService.reconcileRatings());
+    }
+
     // ==========================================
     // 6. 🔥 [신규] AI 증상 분석 및 병원 추천 (POST /ai-diagnosis)
     // ==========================================
@@ -92,29 +171,14 @@ public class HospitalController {
         String symptom = request.get("symptom"); // 사용자 입력 증상
 
         // 1. AI에게 물어보기 ("이 증상은 무슨 과야?")
-        String department = geminiService.analyzeSymptom(symptom);
-
-        // 2. 해당 진료과 병원 찾기
-        List<HospitalDto> allHospitals = hospitalService.findAll();
+        // 같은 증상(정규화 기준)은 캐시에서 바로 답하고, 처음 보는 증상은 키워드 사전 -> (애매하면) Gemini 순으로 분류합니다.
+        String department = symptomCache.classify(symptom, symptomClassifier::classify);
+        if (department == null) department = "내과"; // Gemini 호출 실패 시 기본값 (예전과 동일)
 
-        // 🔥 [필터링 로직 개선]
-        // 단순히 treatCategory만 보는게 아니라, 병원 이름(name)이나 종합병원(category) 여부도 확인합니다.
-        List<HospitalDto> recommendedHospitals = allHospitals.stream()
-                .filter(h -> {
-                    // (1) 진료과목(treatCategory)에 포함되는지? (ex: "소화기내과"에 "내과" 포함)
-                    boolean matchTreat = h.getTreatCategory() != null && h.getTreatCategory().contains(department);
-
-                    // (2) 병원 이름(name)에 포함되는지? (ex: "둔산내과"에 "내과" 포함)
-                    boolean matchName = h.getName() != null && h.getName().contains(department);
-
-                    // (3) 종합병원인가? (종합병원은 모든 과가 있으므로 추천에 포함)
-                    boolean isGeneral = "종합병원".equals(h.getCategory()) || "종합병원".equals(h.getTreatCategory());
-
-                    // 위 조건 중 하나라도 맞으면 결과에 포함
-                    return matchTreat || matchName || isGeneral;
-                })
-                .limit(5) // 결과가 너무 많으면 5개만 추림
-                .collect(Collectors.toList());
+        // 2. 해당 진료과 병원 찾기 (최대 5개)
+        // 🔥 [색인 사용] 매번 병원 전체를 읽어서 거르지 않고, 진료과별로 미리 만들어 둔 목록에서 꺼냅니다.
+        // 진료과목(treatCategory)이나 병원 이름(name)에 과 이름이 들어간 병원 + 종합병원이 최신 등록 순으로 나옵니다.
+        List<HospitalDto> recommendedHospitals = hospitalService.recommendByDepartment(department, 5);
 
         // 3. 결과 포장
         AiDiagnosisDto result = AiDiagnosisDto.builder()
@@ -126,5 +190,18 @@ public class HospitalController {
 
         return ResponseEntity.ok(result);
     }
+
+    // 7. 증상 분류 캐시 적중률 확인 (GET /ai-diagnosis/cache-stats)
+    @GetMapping("/ai-diagnosis/cache-stats")
+    public ResponseEntity<Map<String, Object>> getSymptomCacheStats() {
+        return ResponseEntity.ok(symptomCache.stats());
+    }
+
+    // 8. 증상 분류기 통계 확인 (GET /ai-diagnosis/classifier-stats)
+    // 규칙이 바로 답한 비율, Gemini 답과 규칙 추측이 일치한 비율 (사전 튜닝용)
+    @GetMapping("/ai-diagnosis/classifier-stats")
+    public ResponseEntity<Map<String, Object>> getSymptomClassifierStats() {
+        return ResponseEntity.ok(symptomClassifier.stats());
+    }
 }
 
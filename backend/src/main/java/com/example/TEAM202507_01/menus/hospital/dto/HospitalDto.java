@@ -3,6 +3,7 @@ package com.example.TEAM202507_01.menus.hospital.dto;
 // 여기서는 '병원(hospital) 메뉴' 관련 파일 중 '데이터 가방(dto)'들을 모아둔 곳에 위치합니다.
 
 // [2] 임포트(Import): 이 클래스를 만들 때 필요한 도구(라이브러리)들을 가져옵니다.
+import com.fasterxml.jackson.annotation.JsonIgnore; // 화면(JSON)에는 안 내보낼 내부용 값 표시
 import lombok.AllArgsConstructor; // 모든 필드 값을 한 번에 채우는 생성자를 만드는 도구
 import lombok.Builder;            // 객체를 조립하듯 예쁘게 만들 수 있게 해주는 도구 (빌더 패턴)
 import lombok.Data;               // Getter, Setter, toString 등 필수 기능 자동 생성 도구
@@ -73,13 +74,23 @@ public class HospitalDto {
     // 의미: 평균 별점
     // 타입: Double (소수점 숫자)
     // 이유: 별점 평균은 "4.5", "3.8" 처럼 소수점이 나오기 때문에 정수(Integer)가 아닌 실수(Double)를 씁니다.
-    // 특징: 이 값은 DB 병원 테이블에 원래 있는 게 아니라, 리뷰 테이블을 계산해서 서비스(Service)가 채워 넣을 확률이 높습니다.
+    // 특징: 이 값은 DB 병원 테이블에 없고, 서비스가 병원 행의 별점 합계(ratingSum) / 리뷰 수(reviewCount)로 계산해서 채웁니다.
+
+    @JsonIgnore
+    private Long ratingSum;
+    // 의미: 별점 합계 (HOSPITALS.RATING_SUM, 내부용)
+    // 용도: 리뷰를 저장/삭제할 때 같은 트랜잭션에서 더하고 빼 둔 값입니다. 평균 = ratingSum / reviewCount
 
     private Integer reviewCount;
     // 의미: 총 리뷰 개수
     // 타입: Integer (정수)
     // 이유: 리뷰 개수는 "1개", "100개" 처럼 딱 떨어지는 정수니까요.
     // 용도: "리뷰 1,234개" 처럼 인기도를 보여줄 때 사용합니다.
+
+    private Double lat;
+    private Double lng;
+    // 의미: 위도/경도 (HOSPITALS.LAT / LNG, 모르면 null)
+    // 용도: 지도 영역 조회용 격자 색인에 들어갑니다. 등록할 때 같이 보내면 저장됩니다.
 }
 
 //
@@ -0,0 +1,33 @@
+package com.example.TEAM202507_01.menus.hospital.dto;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 데이터 가방(dto)' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import lombok.AllArgsConstructor; // 모든 필드를 채우는 생성자 자동 생성
+import lombok.Builder; // 객체 조립 도구
+import lombok.Data; // Getter, Setter 등 만능 도구
+import lombok.NoArgsConstructor; // 빈 깡통 생성자 자동 생성
+
+import java.util.List;
+
+// [3] 병원 공공데이터 파일 가져오기 결과 보고서
+// 관리자가 CSV/JSON 파일을 올렸을 때 "몇 건이 새로 들어가고, 몇 건이 바뀌고, 몇 건이 그대로인지"를 보여주는 가방입니다.
+// 병원은 (이름 + 주소)가 같으면 같은 병원으로 봅니다.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HospitalImportReportDto {
+
+    private String format;      // 읽은 형식 (csv / json)
+    private int read;           // 파일에서 읽은 행 수 (열 이름 줄 제외)
+    private int inserted;       // 새로 등록한 병원 수
+    private int updated;        // 값이 바뀌어서 고친 병원 수
+    private int unchanged;      // 이미 똑같아서 건드리지 않은 병원 수
+    private int invalid;        // 이름이나 주소가 없어서 건너뛴 행 수
+    private int duplicates;     // 같은 묶음 안에서 (이름 + 주소)가 겹친 행 수 (마지막 행만 씀)
+    private int failed;         // DB 저장에 실패한 행 수
+    private long elapsedMillis; // 걸린 시간 (밀리초)
+
+    // [4] 실패 원인 (처음 몇 건만, 정상이면 빈 리스트)
+    private List<String> errors;
+}
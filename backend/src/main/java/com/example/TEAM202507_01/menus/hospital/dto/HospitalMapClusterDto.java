@@ -0,0 +1,29 @@
+package com.example.TEAM202507_01.menus.hospital.dto;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 데이터 가방(dto)' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 롬복 도구들을 가져옵니다.
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// [3] 지도 묶음(클러스터) 하나
+// 지도를 멀리서 볼 때 가까이 붙은 병원들을 "동그라미 + 숫자" 하나로 보내기 위한 가방입니다.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HospitalMapClusterDto {
+
+    private double lat;   // 묶인 병원들의 평균 위도 (동그라미를 찍을 위치)
+    private double lng;   // 묶인 병원들의 평균 경도
+
+    private int count;    // 묶인 병원 수 (동그라미 안 숫자)
+
+    // [4] 묶인 병원들이 들어 있는 최소 사각형
+    // 동그라미를 누르면 화면이 이 영역으로 확대하면 됩니다.
+    private double minLat;
+    private double minLng;
+    private double maxLat;
+    private double maxLng;
+}
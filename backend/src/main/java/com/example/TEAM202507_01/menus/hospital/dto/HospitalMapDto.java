@@ -31,6 +31,12 @@ public class HospitalMapDto {
     private String tel;
     // 의미: 병원 전화번호
     // 용도: 모바일에서 지도를 보고 바로 [전화 걸기] 버튼을 누를 수 있게 하기 위해 담습니다.
+
+    private Double lat;
+    private Double lng;
+    // 의미: 저장된 위도/경도 (HOSPITALS.LAT / LNG)
+    // 용도: 화면이 주소를 하나하나 좌표로 바꾸지 않아도 바로 핀을 찍을 수 있고, 서버가 "지금 보이는 영역" 안의 병원만 골라 보낼 수 있습니다.
+    // 아직 좌표가 없는 병원은 null이고, 영역 조회(/map/view)에는 나오지 않습니다.
 }
 
 //        지도 로딩 요청: 사용자가 웹사이트에서 "지도로 보기" 버튼을 누릅니다.
@@ -0,0 +1,27 @@
+package com.example.TEAM202507_01.menus.hospital.dto;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 데이터 가방(dto)' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 롬복 도구들을 가져옵니다.
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// [3] 지도 영역 조회 응답 가방 (GET /api/v1/hospital/map/view)
+// 예전 /map은 병원 전체를 보냈지만, 이건 "지금 화면에 보이는 사각형" 안의 병원만 담습니다.
+// - 가까이 볼 때: hospitals에 병원 핀 목록, clusters는 빈 목록
+// - 멀리 볼 때(또는 핀이 너무 많을 때): 붙어 있는 병원은 clusters로 묶고, 혼자 떨어진 병원만 hospitals에 담음
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HospitalMapViewDto {
+
+    private int zoom;                            // 요청한 줌 레벨
+    private boolean clustered;                   // 묶어서 보냈는지
+    private int total;                           // 영역 안 병원 수 (묶인 것 포함)
+    private List<HospitalMapDto> hospitals;      // 개별 핀
+    private List<HospitalMapClusterDto> clusters; // 묶음 동그라미
+}
@@ -3,6 +3,7 @@ package com.example.TEAM202507_01.menus.hospital.repository; // 패키지명 확
 import com.example.TEAM202507_01.menus.hospital.dto.HospitalDto;
 import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import java.util.List;
 
 @Mapper // MyBatis가 구현체를 자동 생성함
@@ -30,4 +31,13 @@ public interface HospitalMapper {
     // 5. 병원 삭제 (Delete)
     void delete(Long id);
     //XML의 <delete id="delete">와 연결됨. 병원을 삭제함
-}
\ No newline at end of file
+
+    // 6. [파일 가져오기용] (이름 + 주소)로 기존 병원 찾기
+    List<HospitalDto> findByNameAndAddress(@Param("keys") List<HospitalDto> keys);
+    // XML의 <select id="findByNameAndAddress">와 연결됨. 한 묶음(최대 수백 건)을 한 번에 찾음.
+
+    // 7. [파일 가져오기용] 새 병원 등록 / 기존 병원 값 고치기
+    void insertImported(HospitalDto hospital);
+    void updateImported(HospitalDto hospital);
+    // JDBC 배치로 모아서 보내므로 생성된 ID는 돌려받지 않음.
+}
@@ -0,0 +1,32 @@
+package com.example.TEAM202507_01.menus.hospital.repository;
+
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalReviewDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper // MyBatis가 구현체를 자동 생성함
+public interface HospitalReviewMapper {
+
+    // 1. 병원 리뷰 목록 조회 (최신순, 작성자 닉네임 포함)
+    List<HospitalReviewDto> findByHospitalId(Long hospitalId);
+
+    // 2. 리뷰 하나 조회 (삭제 전 주인/별점 확인용)
+    HospitalReviewDto findById(Long id);
+
+    // 3. 리뷰 저장 (ID는 hospital_review_seq에서 받아서 DTO에 채워줌)
+    void insert(HospitalReviewDto review);
+
+    // 4. 리뷰 삭제. 반환값: 지운 행 수 (이미 지워졌으면 0)
+    int delete(Long id);
+
+    // 5. 병원 행의 별점 합계/리뷰 수를 더하기/빼기 (리뷰 저장/삭제와 같은 트랜잭션 안에서 호출)
+    // 반환값: 바뀐 병원 행 수 (없는 병원이면 0)
+    int addRating(@Param("hospitalId") Long hospitalId,
+                  @Param("ratingDelta") int ratingDelta,
+                  @Param("countDelta") int countDelta);
+
+    // 6. 보정: 리뷰 테이블에서 다시 센 값과 다른 병원 행만 고칩니다. 반환값: 고친 병원 수
+    int reconcileAggregates();
+}
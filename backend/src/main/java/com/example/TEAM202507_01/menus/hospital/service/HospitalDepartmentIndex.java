@@ -0,0 +1,120 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 병원 데이터 가방과 자료구조 도구들을 가져옵니다.
+import com.example.TEAM202507_01.common.service.LazySnapshot; // 한 번 만들어 두는 메모리 카탈로그
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalDto; // 병원 데이터 가방
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// [3] 진료과 -> 병원 역색인 (메모리 카탈로그)
+// AI 증상 분석이 "내과"라고 답할 때마다 병원 테이블 전체를 읽고 문자열 contains로 거르던 것을,
+// 진료과별 병원 ID 목록을 미리 만들어 두고 꺼내 쓰는 방식으로 바꿉니다. (추천 = 목록 앞에서 몇 개 꺼내기)
+// 병원이 등록/삭제되면 invalidate()로 버리고, 다음 추천 때 한 번만 다시 만듭니다.
+@Component
+public class HospitalDepartmentIndex {
+
+    // [4] AI가 고르는 진료과 목록 (GeminiService.analyzeSymptom 프롬프트와 같은 목록)
+    // 이 과들은 예전과 똑같이 "진료과목이나 병원 이름에 포함되면" 매칭됩니다. (예: "소화기내과" -> 내과)
+    static final List<String> DEPARTMENTS = List.of(
+            "내과", "외과", "정형외과", "피부과", "치과", "안과", "이비인후과",
+            "산부인과", "비뇨기과", "신경과", "정신건강의학과");
+
+    private static final String GENERAL_HOSPITAL = "종합병원"; // 모든 과가 있어서 어떤 진료과든 추천에 포함
+
+    private final LazySnapshot<Snapshot> snapshot = new LazySnapshot<>(); // 현재 색인 (버리면 다음 조회 때 새로 만듦)
+
+    // =========================================================
+    // 1. 추천: 이 진료과를 볼 수 있는 병원 (최신 등록 순으로 limit개)
+    // =========================================================
+    // 해당 과 병원과 종합병원을 최신 등록 순(ID 내림차순)으로 섞어서 앞에서부터 limit개만 꺼냅니다.
+    // 모르는 과 이름이 오면 종합병원만 추천합니다.
+    // loader: 색인이 없을 때 병원 목록을 가져오는 방법 (서비스가 DB 조회 + 변환까지 해서 넘겨줌)
+    public List<HospitalDto> recommend(String department, int limit, Supplier<List<HospitalDto>> loader) {
+        Snapshot current = snapshot.get(() -> build(loader.get()));
+
+        List<Long> matched = current.byDepartment.getOrDefault(normalize(department), List.of());
+        List<HospitalDto> result = new ArrayList<>(limit);
+        Set<Long> picked = new HashSet<>();
+
+        // 두 목록 모두 ID 내림차순이라, 앞에서부터 큰 ID를 하나씩 고르면 예전 "전체 훑고 5개" 결과와 순서가 같습니다.
+        int i = 0, j = 0;
+        List<Long> general = current.generalIds;
+        while (result.size() < limit && (i < matched.size() || j < general.size())) {
+            Long next;
+            if (j >= general.size() || (i < matched.size() && matched.get(i) > general.get(j))) {
+                next = matched.get(i++);
+            } else {
+                next = general.get(j++);
+            }
+            if (picked.add(next)) {
+                result.add(current.byId.get(next));
+            }
+        }
+        return result;
+    }
+
+    // =========================================================
+    // 2. 색인 버리기 (병원이 바뀌었을 때)
+    // =========================================================
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    // [5] 색인 만들기 (병원 수 x 진료과 수 만큼 한 번만 훑음)
+    // 키: 정해진 진료과 이름 + 진료과목 칸에 적힌 단어들 (목록에 없는 과를 AI가 답해도 정확히 같은 단어면 찾음)
+    private Snapshot build(List<HospitalDto> hospitals) {
+        List<HospitalDto> sorted = new ArrayList<>(hospitals);
+        sorted.sort((a, b) -> Long.compare(b.getId(), a.getId())); // 최신 등록 순
+
+        Map<Long, HospitalDto> byId = new HashMap<>();
+        Map<String, List<Long>> byDepartment = new HashMap<>();
+        List<Long> generalIds = new ArrayList<>();
+
+        for (HospitalDto hospital : sorted) {
+            Long id = hospital.getId();
+            byId.put(id, hospital);
+
+            if (GENERAL_HOSPITAL.equals(hospital.getCategory()) || GENERAL_HOSPITAL.equals(hospital.getTreatCategory())) {
+                generalIds.add(id);
+            }
+
+            Set<String> keys = new LinkedHashSet<>();
+            String treat = hospital.getTreatCategory();
+            String name = hospital.getName();
+            for (String department : DEPARTMENTS) {
+                if ((treat != null && treat.contains(department)) || (name != null && name.contains(department))) {
+                    keys.add(department);
+                }
+            }
+            if (treat != null) {
+                for (String word : treat.split("[,/·\\s]+")) {
+                    if (!word.isBlank()) keys.add(normalize(word));
+                }
+            }
+            for (String key : keys) {
+                byDepartment.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+            }
+        }
+        return new Snapshot(byId, byDepartment, generalIds);
+    }
+
+    // "내과." / " 내과 " 처럼 AI 답에 섞인 공백, 마침표를 떼어냅니다.
+    private static String normalize(String department) {
+        return department == null ? "" : department.replaceAll("[\\s.]", "");
+    }
+
+    // [6] 병원(ID -> 가방), 진료과 -> 병원 ID 목록(최신 순), 종합병원 ID 목록(최신 순) 묶음 (한 번 만들면 안 바뀜)
+    private record Snapshot(Map<Long, HospitalDto> byId,
+                            Map<String, List<Long>> byDepartment,
+                            List<Long> generalIds) {
+    }
+}
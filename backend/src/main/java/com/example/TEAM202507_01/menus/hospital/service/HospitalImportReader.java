@@ -0,0 +1,128 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 파일을 한 줄씩 읽는 도구들을 가져옵니다.
+import com.fasterxml.jackson.core.JsonParser; // JSON을 토큰 단위로 흘려 읽는 도구
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// [3] 병원 공공데이터 파일 읽기 (CSV / JSON, 한 행씩 흘려 읽기)
+// 파일 전체를 메모리에 올리지 않고, 행 하나를 읽을 때마다 sink에 넘깁니다. (수만 건 파일도 메모리 일정)
+// 행은 "정리된 열 이름 -> 값" 지도로 넘어갑니다. 열 이름 정리: 소문자 + 공백/밑줄 제거 (예: "TREAT_CATEGORY" -> "treatcategory")
+final class HospitalImportReader {
+
+    private HospitalImportReader() {
+    }
+
+    // =========================================================
+    // 1. CSV: 첫 줄은 열 이름. 따옴표 안의 쉼표/줄바꿈, "" (따옴표 두 개 = 따옴표 하나) 지원
+    // =========================================================
+    static void readCsv(Reader reader, Consumer<Map<String, String>> sink) throws IOException {
+        List<String> header = null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean firstChar = true; // 파일 맨 앞 BOM(﻿) 건너뛰기용
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (firstChar) {
+                firstChar = false;
+                if (c == '﻿') continue;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"'); // "" -> "
+                    } else {
+                        quoted = false;
+                        if (next == -1) break;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') reader.reset();
+                }
+                fields.add(field.toString());
+                field.setLength(0);
+                header = emitCsvRow(header, fields, sink);
+                fields = new ArrayList<>();
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (!field.isEmpty() || !fields.isEmpty()) {
+            fields.add(field.toString());
+            emitCsvRow(header, fields, sink);
+        }
+    }
+
+    // 한 줄 끝: 첫 줄이면 열 이름으로 기억, 아니면 행으로 넘김 (빈 줄은 무시)
+    private static List<String> emitCsvRow(List<String> header, List<String> fields, Consumer<Map<String, String>> sink) {
+        if (fields.size() == 1 && fields.get(0).isBlank()) return header;
+        if (header == null) {
+            return fields.stream().map(HospitalImportReader::normalizeColumn).toList();
+        }
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < header.size() && i < fields.size(); i++) {
+            row.put(header.get(i), fields.get(i));
+        }
+        sink.accept(row);
+        return header;
+    }
+
+    // =========================================================
+    // 2. JSON: 객체 배열을 찾아서 객체 하나씩 넘김
+    // =========================================================
+    // [ {...}, {...} ] 도 되고, 공공데이터포털처럼 { "response": { "body": { "items": { "item": [ ... ] } } } } 로 감싸져 있어도
+    // "객체가 들어 있는 첫 번째 배열"을 찾아서 읽습니다.
+    static void readJson(ObjectMapper objectMapper, InputStream in, Consumer<Map<String, String>> sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_ARRAY) continue;
+                if (parser.nextToken() != JsonToken.START_OBJECT) continue; // 숫자/문자 배열이면 건너뛰고 계속 찾기
+
+                do {
+                    JsonNode node = objectMapper.readTree(parser); // 객체 하나만 읽음
+                    Map<String, String> row = new LinkedHashMap<>();
+                    for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                        Map.Entry<String, JsonNode> entry = it.next();
+                        if (entry.getValue().isValueNode() && !entry.getValue().isNull()) {
+                            row.put(normalizeColumn(entry.getKey()), entry.getValue().asText());
+                        }
+                    }
+                    sink.accept(row);
+                } while (parser.nextToken() == JsonToken.START_OBJECT);
+                return; // 행 배열은 하나만 읽음
+            }
+        }
+    }
+
+    // [4] 열 이름 정리: BOM/공백/밑줄 제거 + 소문자
+    static String normalizeColumn(String name) {
+        return name.replace("﻿", "").replaceAll("[\\s_]", "").toLowerCase();
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalDto; // 병원 데이터 가방
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalImportReportDto; // 가져오기 결과 보고서
+import com.example.TEAM202507_01.menus.hospital.repository.HospitalMapper; // DB 관리자
+import com.fasterxml.jackson.databind.ObjectMapper; // JSON 읽기 도구
+import jakarta.annotation.PostConstruct; // 빈 준비가 끝난 뒤 실행할 초기화 메서드 표시
+import lombok.RequiredArgsConstructor; // final 필드 생성자 자동 생성
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.apache.ibatis.session.ExecutorType; // MyBatis 실행 방식 (SIMPLE / BATCH)
+import org.apache.ibatis.session.SqlSessionFactory; // MyBatis 세션 공장
+import org.mybatis.spring.SqlSessionTemplate; // 스프링 트랜잭션에 묶이는 MyBatis 세션
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.stereotype.Service; // 서비스 빈 등록
+import org.springframework.transaction.PlatformTransactionManager; // 트랜잭션 관리자
+import org.springframework.transaction.support.TransactionTemplate; // 코드로 트랜잭션 범위를 정하는 도구
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+// [3] 병원 공공데이터 파일 가져오기 (CSV / JSON -> HOSPITALS)
+// 예전에는 data.sql에 INSERT 문을 손으로 적거나, save()로 한 건씩 넣었습니다.
+// - 파일을 한 행씩 흘려 읽고(HospitalImportReader), batchSize개씩 묶어서 처리합니다. (파일 크기와 상관없이 메모리 일정)
+// - 묶음마다: (이름 + 주소)로 기존 병원을 한 번에 찾고 -> 새 병원은 INSERT, 값이 바뀐 병원만 UPDATE, 같으면 건너뜀
+// - INSERT/UPDATE는 BATCH 실행기로 모아 보내고, 묶음 하나 = 트랜잭션 하나로 커밋합니다. (맛집 동기화와 같은 방식)
+// - 배치가 실패하면 그 묶음만 한 건씩 다시 저장해서 불량 행만 골라냅니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HospitalImportService {
+
+    static final String DEFAULT_CATEGORY = "HOSPITALS"; // data.sql과 같은 대분류 값
+    private static final int MAX_ERRORS = 20;            // 보고서에 남길 실패 원인 수
+
+    // [4] 파일 열 이름 별칭 (정리된 이름: 소문자 + 공백/밑줄 제거)
+    // 우리 DB 열 이름, 화면 DTO 이름, 건강보험심사평가원/지자체 공공데이터 파일의 한글 열 이름을 모두 받습니다.
+    // 앞에 있는 별칭부터 찾아서 값이 있는 첫 번째 것을 씁니다.
+    private static final List<String> NAME_COLUMNS = List.of("name", "요양기관명", "의료기관명", "병원명", "기관명", "사업장명");
+    private static final List<String> ADDRESS_COLUMNS = List.of("address", "주소", "도로명주소", "도로명전체주소", "소재지도로명주소", "소재지주소", "소재지");
+    private static final List<String> TEL_COLUMNS = List.of("tel", "전화번호", "대표전화", "소재지전화", "연락처");
+    private static final List<String> TREAT_CATEGORY_COLUMNS = List.of("treatcategory", "진료과목", "진료과목내용", "종별코드명", "의료기관종별명", "업태구분명");
+    private static final List<String> CATEGORY_COLUMNS = List.of("category");
+    private static final List<String> LAT_COLUMNS = List.of("lat", "위도", "좌표(y)");
+    private static final List<String> LNG_COLUMNS = List.of("lng", "경도", "좌표(x)");
+
+    private final HospitalMapper hospitalMapper;
+    private final HospitalDepartmentIndex departmentIndex; // 병원이 바뀌면 버릴 색인들
+    private final HospitalMapIndex mapIndex;
+    private final ObjectMapper objectMapper;
+
+    // [5] 묶음 저장(BATCH)용 도구들
+    private final SqlSessionFactory sqlSessionFactory;
+    private final PlatformTransactionManager transactionManager;
+    private SqlSessionTemplate batchSqlSession;
+    private TransactionTemplate chunkTransaction;
+
+    // [6] 묶음 크기 (Oracle IN 목록 한도 1000보다 작게)
+    @Value("${hospital.import.batch-size:500}")
+    private int batchSize;
+
+    @PostConstruct
+    public void init() {
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // =========================================================
+    // 1. 파일 가져오기
+    // =========================================================
+    // format: "csv" / "json" (비어 있으면 파일 이름 확장자로 판단)
+    // charset: CSV 글자 인코딩 (공공데이터 CSV는 EUC-KR/MS949인 경우가 많음, JSON은 자동 판별)
+    // 파일을 읽다가 중간에 깨져도, 그때까지 읽은 행은 저장하고 보고서 errors에 원인을 남깁니다.
+    public HospitalImportReportDto importFile(InputStream in, String format, String filename, String charset) {
+        String resolved = resolveFormat(format, filename);
+        Charset cs = resolveCharset(charset);
+        long startedAt = System.currentTimeMillis();
+        ImportRun run = new ImportRun();
+
+        try {
+            if ("json".equals(resolved)) {
+                HospitalImportReader.readJson(objectMapper, in, run::accept);
+            } else {
+                HospitalImportReader.readCsv(new BufferedReader(new InputStreamReader(in, cs)), run::accept);
+            }
+        } catch (IOException | RuntimeException e) {
+            run.error("파일 읽기 중단 (" + run.read + "행 이후): " + e.getMessage());
+            log.warn("병원 파일 읽기 중단: {}", e.getMessage());
+        }
+        run.flush(); // 마지막 덜 찬 묶음
+
+        if (run.inserted + run.updated > 0) {
+            departmentIndex.invalidate(); // 진료과 색인, 지도 색인 다시 만들기 예약
+            mapIndex.invalidate();
+        }
+
+        HospitalImportReportDto report = HospitalImportReportDto.builder()
+                .format(resolved)
+                .read(run.read)
+                .inserted(run.inserted)
+                .updated(run.updated)
+                .unchanged(run.unchanged)
+                .invalid(run.invalid)
+                .duplicates(run.duplicates)
+                .failed(run.failed)
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .errors(run.errors)
+                .build();
+        log.info("🏥 병원 파일 가져오기 완료: 읽음 {}, 등록 {}, 수정 {}, 그대로 {}, 건너뜀 {}, 실패 {} ({}ms)",
+                report.getRead(), report.getInserted(), report.getUpdated(), report.getUnchanged(),
+                report.getInvalid() + report.getDuplicates(), report.getFailed(), report.getElapsedMillis());
+        return report;
+    }
+
+    // [7] 형식 정하기: 파라미터 -> 확장자 순서
+    static String resolveFormat(String format, String filename) {
+        String candidate = format;
+        if ((candidate == null || candidate.isBlank()) && filename != null && filename.contains(".")) {
+            candidate = filename.substring(filename.lastIndexOf('.') + 1);
+        }
+        candidate = candidate == null ? "" : candidate.trim().toLowerCase(Locale.ROOT);
+        if (!candidate.equals("csv") && !candidate.equals("json")) {
+            throw new RuntimeException("CSV 또는 JSON 파일만 가져올 수 있습니다.");
+        }
+        return candidate;
+    }
+
+    private static Charset resolveCharset(String charset) {
+        try {
+            return Charset.forName(charset == null || charset.isBlank() ? "UTF-8" : charset.trim());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("지원하지 않는 인코딩입니다: " + charset);
+        }
+    }
+
+    // [8] 행 -> 병원 가방 (이름/주소가 없으면 null)
+    // 값은 앞뒤 공백을 자르고 여러 칸 공백을 한 칸으로 줄입니다. (같은 병원이 공백 차이로 두 번 들어가지 않게)
+    static HospitalDto toHospital(Map<String, String> row) {
+        String name = pick(row, NAME_COLUMNS);
+        String address = pick(row, ADDRESS_COLUMNS);
+        if (name == null || address == null) return null;
+
+        Double lat = parseCoordinate(pick(row, LAT_COLUMNS), 90);
+        Double lng = parseCoordinate(pick(row, LNG_COLUMNS), 180);
+        String category = pick(row, CATEGORY_COLUMNS);
+        return HospitalDto.builder()
+                .category(category != null ? category : DEFAULT_CATEGORY)
+                .name(name)
+                .address(address)
+                .tel(pick(row, TEL_COLUMNS))
+                .treatCategory(pick(row, TREAT_CATEGORY_COLUMNS))
+                .lat(lat != null && lng != null ? lat : null) // 좌표는 둘 다 있을 때만
+                .lng(lat != null && lng != null ? lng : null)
+                .build();
+    }
+
+    // [9] 바뀐 게 있는지 비교 (이름/주소는 찾는 열쇠라 같음, 좌표는 파일에 있을 때만 비교)
+    static boolean sameValues(HospitalDto incoming, HospitalDto existing) {
+        if (!Objects.equals(incoming.getCategory(), existing.getCategory())
+                || !Objects.equals(incoming.getTreatCategory(), existing.getTreatCategory())
+                || !Objects.equals(incoming.getTel(), existing.getTel())) {
+            return false;
+        }
+        if (incoming.getLat() == null) return true;
+        return sameCoordinate(incoming.getLat(), existing.getLat()) && sameCoordinate(incoming.getLng(), existing.getLng());
+    }
+
+    // DB 열이 NUMBER(10, 7)이라 소수점 7자리까지만 비교
+    private static boolean sameCoordinate(Double incoming, Double stored) {
+        return stored != null && Math.abs(incoming - stored) < 5e-8;
+    }
+
+    private static String pick(Map<String, String> row, List<String> columns) {
+        for (String column : columns) {
+            String value = clean(row.get(column));
+            if (value != null) return value;
+        }
+        return null;
+    }
+
+    private static String clean(String value) {
+        if (value == null) return null;
+        String cleaned = value.strip().replaceAll("\\s+", " ");
+        return cleaned.isEmpty() ? null : cleaned;
+    }
+
+    private static Double parseCoordinate(String value, double limit) {
+        if (value == null) return null;
+        try {
+            double parsed = Double.parseDouble(value);
+            return Math.abs(parsed) <= limit && parsed != 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String key(HospitalDto hospital) {
+        return hospital.getName() + "\n" + hospital.getAddress();
+    }
+
+    // =========================================================
+    // 2. 묶음 저장
+    // =========================================================
+    // [10] 묶음 하나: 찾기 + INSERT/UPDATE 배치를 트랜잭션 하나로 (찾기도 BATCH 세션으로 해야 같은 트랜잭션에 묶임)
+    private Counts writeChunk(List<HospitalDto> rows) {
+        try {
+            return chunkTransaction.execute(status -> {
+                HospitalMapper batchMapper = batchSqlSession.getMapper(HospitalMapper.class);
+                Map<String, HospitalDto> existing = new LinkedHashMap<>();
+                for (HospitalDto hospital : batchMapper.findByNameAndAddress(rows)) {
+                    existing.putIfAbsent(key(hospital), hospital);
+                }
+
+                Counts counts = new Counts();
+                for (HospitalDto row : rows) {
+                    apply(batchMapper, row, existing.get(key(row)), counts);
+                }
+                // 모아둔 INSERT/UPDATE를 DB로 한 번에 전송 (executeBatch)
+                batchSqlSession.flushStatements();
+                return counts;
+            });
+        } catch (Exception e) {
+            // 배치 안에 불량 행이 하나라도 있으면 묶음 전체가 롤백됩니다. 한 건씩 다시 저장합니다.
+            log.warn("⚠️ 병원 묶음 저장 실패, 한 건씩 재시도: {}", e.getMessage());
+            return writeRowByRow(rows);
+        }
+    }
+
+    // [11] 한 건씩 저장 (배치가 실패했을 때만 쓰는 예비 경로, 행마다 트랜잭션 따로)
+    private Counts writeRowByRow(List<HospitalDto> rows) {
+        Counts total = new Counts();
+        for (HospitalDto row : rows) {
+            try {
+                Counts one = chunkTransaction.execute(status -> {
+                    List<HospitalDto> found = hospitalMapper.findByNameAndAddress(List.of(row));
+                    Counts counts = new Counts();
+                    apply(hospitalMapper, row, found.isEmpty() ? null : found.get(0), counts);
+                    return counts;
+                });
+                if (one != null) total.add(one);
+            } catch (Exception e) {
+                total.failed++;
+                total.errors.add(row.getName() + " (" + row.getAddress() + "): " + e.getMessage());
+                log.warn("❌ 병원 저장 에러 ({}): {}", row.getName(), e.getMessage());
+            }
+        }
+        return total;
+    }
+
+    // [12] 행 하나 분류 + 문장 보내기
+    private static void apply(HospitalMapper mapper, HospitalDto row, HospitalDto existing, Counts counts) {
+        if (existing == null) {
+            mapper.insertImported(row);
+            counts.inserted++;
+        } else if (sameValues(row, existing)) {
+            counts.unchanged++;
+        } else {
+            row.setId(existing.getId());
+            mapper.updateImported(row);
+            counts.updated++;
+        }
+    }
+
+    // [13] 묶음 처리 결과 (묶음 트랜잭션이 커밋된 뒤에만 전체 합계에 더함)
+    private static class Counts {
+        int inserted, updated, unchanged, failed;
+        final List<String> errors = new ArrayList<>();
+
+        void add(Counts other) {
+            inserted += other.inserted;
+            updated += other.updated;
+            unchanged += other.unchanged;
+            failed += other.failed;
+            errors.addAll(other.errors);
+        }
+    }
+
+    // [14] 가져오기 한 번의 진행 상태 (행을 묶음에 모으다가 batchSize가 차면 저장)
+    private class ImportRun {
+        int read, inserted, updated, unchanged, invalid, duplicates, failed;
+        final List<String> errors = new ArrayList<>();
+        // 같은 묶음 안에서 (이름 + 주소)가 겹치면 마지막 행만 남김
+        private final Map<String, HospitalDto> chunk = new LinkedHashMap<>();
+
+        void accept(Map<String, String> row) {
+            read++;
+            HospitalDto hospital = toHospital(row);
+            if (hospital == null) {
+                invalid++;
+                return;
+            }
+            if (chunk.put(key(hospital), hospital) != null) duplicates++;
+            if (chunk.size() >= batchSize) flush();
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            Counts counts = writeChunk(new ArrayList<>(chunk.values()));
+            chunk.clear();
+            inserted += counts.inserted;
+            updated += counts.updated;
+            unchanged += counts.unchanged;
+            failed += counts.failed;
+            counts.errors.forEach(this::error);
+        }
+
+        void error(String message) {
+            if (errors.size() < MAX_ERRORS) errors.add(message);
+        }
+    }
+}
+//
+//상황: 관리자가 심평원 병원정보 CSV(대전 지역 2,000건)를 올렸을 때
+//
+//접수: 컨트롤러가 업로드 파일의 입력 스트림을 그대로 넘깁니다. 파일 전체를 메모리에 올리지 않습니다.
+//
+//읽기: CSV 첫 줄의 "요양기관명, 종별코드명, 주소, 전화번호, 좌표(X), 좌표(Y)"를 별칭표로 우리 열(name, treatCategory, address, tel, lng, lat)에 맞춥니다.
+//
+//묶음: 500행이 모이면 (이름 + 주소) 500쌍으로 기존 병원을 한 번에 찾습니다.
+//
+//저장: 없는 병원은 INSERT, 전화번호/종별/좌표가 바뀐 병원만 UPDATE, 똑같으면 건너뜁니다. 문장들은 JDBC 배치로 한 번에 보내고 묶음 단위로 커밋합니다.
+//
+//마무리: 한 건이라도 바뀌었으면 진료과 색인과 지도 색인을 버리고, "등록 312, 수정 45, 그대로 1,643" 보고서를 돌려줍니다.
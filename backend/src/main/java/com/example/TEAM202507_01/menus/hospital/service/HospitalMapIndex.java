@@ -0,0 +1,192 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 지도용 데이터 가방과 자료구조 도구들을 가져옵니다.
+import com.example.TEAM202507_01.common.service.LazySnapshot; // 한 번 만들어 두는 메모리 카탈로그
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapClusterDto; // 묶음 동그라미 가방
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapDto;        // 지도용 병원 가방
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapViewDto;    // 영역 조회 응답 가방
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// [3] 병원 지도 격자 색인 (메모리 공간 색인)
+// 지도는 "지금 보이는 사각형" 안의 병원만 있으면 되는데, 예전 /map은 병원 전체를 보내고 화면이 전부 좌표 변환까지 했습니다.
+// 위도/경도를 0.01도(약 1km) 칸으로 나눈 격자에 병원을 미리 넣어 두고, 사각형에 걸친 칸만 열어 봅니다.
+// - 줌이 낮으면(멀리서 보면) 줌에 맞춘 큰 칸 단위로 병원을 묶어서(클러스터) 숫자 하나로 보냅니다.
+// - 병원이 등록/삭제되면 invalidate()로 버리고, 다음 조회 때 한 번만 다시 만듭니다.
+@Slf4j
+@Component
+public class HospitalMapIndex {
+
+    static final double CELL_DEGREES = 0.01; // 색인 칸 크기 (위도 0.01도 = 약 1.1km)
+
+    private final int clusterBelowZoom; // 이 줌보다 낮으면 묶어서 보냄
+    private final int maxMarkers;       // 줌이 높아도 핀이 이보다 많으면 묶어서 보냄
+    private final int clustersPerTile;  // 지도 타일(256px) 한 장을 가로로 몇 칸으로 나눠 묶을지
+
+    private final LazySnapshot<Snapshot> snapshot = new LazySnapshot<>(); // 현재 색인 (버리면 다음 조회 때 새로 만듦)
+
+    public HospitalMapIndex(@Value("${hospital.map.cluster-below-zoom:15}") int clusterBelowZoom,
+                            @Value("${hospital.map.max-markers:300}") int maxMarkers,
+                            @Value("${hospital.map.clusters-per-tile:4}") int clustersPerTile) {
+        this.clusterBelowZoom = clusterBelowZoom;
+        this.maxMarkers = maxMarkers;
+        this.clustersPerTile = clustersPerTile;
+    }
+
+    // =========================================================
+    // 1. 영역 조회: 사각형(남서쪽 ~ 북동쪽) 안의 병원, 필요하면 묶어서
+    // =========================================================
+    // zoom: 웹 지도 표준 줌 레벨 (0 = 지구 전체, 숫자가 클수록 확대)
+    // loader: 색인이 없을 때 지도용 병원 목록을 가져오는 방법 (서비스가 DB 조회해서 넘겨줌)
+    public HospitalMapViewDto view(double swLat, double swLng, double neLat, double neLng, int zoom,
+                                   Supplier<List<HospitalMapDto>> loader) {
+        Snapshot current = snapshot.get(() -> build(loader.get()));
+
+        List<HospitalMapDto> inView = current.find(swLat, swLng, neLat, neLng);
+        inView.sort(Comparator.comparing(HospitalMapDto::getId).reversed()); // 예전 /map과 같은 최신 등록 순
+
+        if (zoom >= clusterBelowZoom && inView.size() <= maxMarkers) {
+            return HospitalMapViewDto.builder()
+                    .zoom(zoom).clustered(false).total(inView.size())
+                    .hospitals(inView).clusters(List.of())
+                    .build();
+        }
+        return cluster(inView, zoom);
+    }
+
+    // =========================================================
+    // 2. 색인 버리기 (병원이나 좌표가 바뀌었을 때)
+    // =========================================================
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    // [4] 묶기: 줌에 맞는 크기의 칸마다 병원을 모아 평균 위치와 개수를 냅니다.
+    // 칸 크기 = 그 줌에서 지도 타일 한 장의 경도 폭 / clustersPerTile (기본: 화면 약 64px 간격)
+    // 혼자 있는 칸의 병원은 동그라미 대신 그냥 핀으로 보냅니다.
+    private HospitalMapViewDto cluster(List<HospitalMapDto> inView, int zoom) {
+        int z = Math.max(0, Math.min(zoom, 22));
+        double size = 360.0 / (1L << z) / clustersPerTile;
+
+        Map<Long, List<HospitalMapDto>> groups = new LinkedHashMap<>();
+        for (HospitalMapDto hospital : inView) {
+            groups.computeIfAbsent(cellKey(hospital.getLat(), hospital.getLng(), size), k -> new ArrayList<>()).add(hospital);
+        }
+
+        List<HospitalMapDto> singles = new ArrayList<>();
+        List<HospitalMapClusterDto> clusters = new ArrayList<>();
+        for (List<HospitalMapDto> group : groups.values()) {
+            if (group.size() == 1) {
+                singles.add(group.get(0));
+                continue;
+            }
+            double sumLat = 0, sumLng = 0;
+            double minLat = Double.MAX_VALUE, minLng = Double.MAX_VALUE;
+            double maxLat = -Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+            for (HospitalMapDto hospital : group) {
+                double lat = hospital.getLat(), lng = hospital.getLng();
+                sumLat += lat;
+                sumLng += lng;
+                minLat = Math.min(minLat, lat);
+                minLng = Math.min(minLng, lng);
+                maxLat = Math.max(maxLat, lat);
+                maxLng = Math.max(maxLng, lng);
+            }
+            clusters.add(HospitalMapClusterDto.builder()
+                    .lat(sumLat / group.size()).lng(sumLng / group.size())
+                    .count(group.size())
+                    .minLat(minLat).minLng(minLng).maxLat(maxLat).maxLng(maxLng)
+                    .build());
+        }
+        clusters.sort(Comparator.comparingInt(HospitalMapClusterDto::getCount).reversed()); // 큰 묶음부터
+
+        return HospitalMapViewDto.builder()
+                .zoom(zoom).clustered(true).total(inView.size())
+                .hospitals(singles).clusters(clusters)
+                .build();
+    }
+
+    // [5] 색인 만들기: 좌표가 있는 병원만 칸에 넣습니다. (좌표 없는 병원은 개수만 로그로 남김)
+    private Snapshot build(List<HospitalMapDto> hospitals) {
+        Map<Long, List<HospitalMapDto>> cells = new HashMap<>();
+        int unlocated = 0;
+        for (HospitalMapDto hospital : hospitals) {
+            if (hospital.getLat() == null || hospital.getLng() == null) {
+                unlocated++;
+                continue;
+            }
+            cells.computeIfAbsent(cellKey(hospital.getLat(), hospital.getLng(), CELL_DEGREES), k -> new ArrayList<>()).add(hospital);
+        }
+        if (unlocated > 0) {
+            log.info("병원 지도 색인: 좌표 없는 병원 {}개는 영역 조회에서 빠집니다.", unlocated);
+        }
+        return new Snapshot(cells);
+    }
+
+    // [6] 칸 번호: (행, 열)을 long 하나로 합칩니다. (위 32비트 = 위도 칸, 아래 32비트 = 경도 칸)
+    private static long cellKey(double lat, double lng, double size) {
+        return pack((int) Math.floor(lat / size), (int) Math.floor(lng / size));
+    }
+
+    private static long pack(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    // [7] 격자 묶음 (한 번 만들면 안 바뀜)
+    private record Snapshot(Map<Long, List<HospitalMapDto>> cells) {
+
+        // 사각형에 걸친 칸들만 열어 보고, 칸 안에서 다시 정확한 좌표로 거릅니다.
+        // 사각형이 아주 크면(칸 수 > 병원 있는 칸 수) 빈 칸까지 세는 대신 병원 있는 칸만 훑습니다.
+        // 좌표는 지구 범위(위도 ±90, 경도 ±180)로 자르고 칸 번호/칸 수는 long으로 셉니다.
+        // (1e12 같은 값이 int로 넘치면 row++가 한 바퀴 돌아 반복이 끝나지 않음)
+        List<HospitalMapDto> find(double swLat, double swLng, double neLat, double neLng) {
+            double south = clamp(swLat, 90), north = clamp(neLat, 90);
+            double west = clamp(swLng, 180), east = clamp(neLng, 180);
+            long rowMin = (long) Math.floor(south / CELL_DEGREES), rowMax = (long) Math.floor(north / CELL_DEGREES);
+            long colMin = (long) Math.floor(west / CELL_DEGREES), colMax = (long) Math.floor(east / CELL_DEGREES);
+
+            List<HospitalMapDto> found = new ArrayList<>();
+            long cellCount = (rowMax - rowMin + 1) * (colMax - colMin + 1); // 최대 18001 x 36001칸이라 long에 들어감
+            if (cellCount <= cells.size()) {
+                for (long row = rowMin; row <= rowMax; row++) {
+                    for (long col = colMin; col <= colMax; col++) {
+                        addInside(cells.get(pack((int) row, (int) col)), south, west, north, east, found);
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, List<HospitalMapDto>> cell : cells.entrySet()) {
+                    int row = (int) (cell.getKey() >> 32), col = (int) (long) cell.getKey();
+                    if (row >= rowMin && row <= rowMax && col >= colMin && col <= colMax) {
+                        addInside(cell.getValue(), south, west, north, east, found);
+                    }
+                }
+            }
+            return found;
+        }
+
+        private static double clamp(double degrees, double limit) {
+            return Math.max(-limit, Math.min(limit, degrees));
+        }
+
+        private static void addInside(List<HospitalMapDto> cell, double swLat, double swLng, double neLat, double neLng,
+                                      List<HospitalMapDto> found) {
+            if (cell == null) return;
+            for (HospitalMapDto hospital : cell) {
+                if (hospital.getLat() >= swLat && hospital.getLat() <= neLat
+                        && hospital.getLng() >= swLng && hospital.getLng() <= neLng) {
+                    found.add(hospital);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 주기 실행 도구들을 가져옵니다.
+import lombok.RequiredArgsConstructor; // final 필드 생성자 자동 생성
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.scheduling.annotation.Scheduled; // 정해진 시각마다 실행
+import org.springframework.stereotype.Component; // 빈 등록
+
+// [3] 병원 별점 집계 보정 작업 (주기 실행)
+// 리뷰 저장/삭제는 같은 트랜잭션에서 집계를 고치지만, 누가 DB에서 리뷰를 직접 지우거나 하면 어긋날 수 있습니다.
+// 하루 한 번 리뷰 테이블을 다시 세서, 어긋난 병원 행만 고칩니다. (다 맞으면 아무것도 안 바뀜)
+// 시각 설정: hospital.rating.reconcile-cron (기본 매일 04:30, "-"로 두면 꺼짐)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HospitalRatingReconciler {
+
+    private final HospitalReviewService reviewService;
+
+    @Scheduled(cron = "${hospital.rating.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        try {
+            int fixed = reviewService.reconcileRatings();
+            log.info("병원 별점 집계 보정 완료 (고친 병원 {}곳)", fixed);
+        } catch (Exception e) {
+            log.error("병원 별점 집계 보정 실패", e); // 다음 주기에 다시 시도
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스(service)' 폴더에 위치한다는 주소입니다.
+
+// [2] 임포트: 리뷰 데이터 가방과 리스트 도구를 가져옵니다.
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalReviewDto; // 병원 리뷰 가방
+
+import java.util.List;
+
+// [3] 병원 리뷰 메뉴판 (구현은 HospitalReviewServiceImpl)
+public interface HospitalReviewService {
+
+    // [4] 리뷰 목록 조회: 병원 하나에 달린 리뷰들 (최신순)
+    List<HospitalReviewDto> findReviews(Long hospitalId);
+
+    // [5] 리뷰 작성: 리뷰 저장 + 병원 별점 합계/리뷰 수 갱신을 한 트랜잭션으로
+    // 반환값: 저장된 리뷰 (ID가 채워져서 나옴)
+    HospitalReviewDto addReview(HospitalReviewDto review);
+
+    // [6] 리뷰 삭제: 작성자 본인만, 리뷰 삭제 + 병원 집계 빼기를 한 트랜잭션으로
+    void deleteReview(Long reviewId, String userId);
+
+    // [7] 집계 보정: 리뷰 테이블을 다시 세서 어긋난 병원 행을 고침. 반환값: 고친 병원 수
+    int reconcileRatings();
+}
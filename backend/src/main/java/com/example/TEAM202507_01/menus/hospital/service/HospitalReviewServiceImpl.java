@@ -0,0 +1,107 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들(DTO, Mapper, 스프링 기능 등)을 가져옵니다.
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalReviewDto;
+import com.example.TEAM202507_01.menus.hospital.repository.HospitalReviewMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// [3] 병원 리뷰 서비스
+// 예전에는 평균 별점을 구하려면 리뷰를 전부 읽어야 해서, 목록에는 0.0을 박아 두었습니다.
+// 이제 리뷰를 저장/삭제할 때 같은 트랜잭션에서 병원 행의 별점 합계(RATING_SUM)와 리뷰 수(REVIEW_COUNT)를 같이 고칩니다.
+// 리뷰 저장이 실패하면 집계 변경도 함께 취소(롤백)되므로 둘이 어긋나지 않습니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class HospitalReviewServiceImpl implements HospitalReviewService {
+
+    private final HospitalReviewMapper reviewMapper;
+    private final HospitalDepartmentIndex departmentIndex; // AI 추천 목록에 들어 있는 평점도 새로 만들어야 함
+
+    // ==========================================
+    // 1. 리뷰 목록 조회
+    // ==========================================
+    @Override
+    @Transactional(readOnly = true)
+    public List<HospitalReviewDto> findReviews(Long hospitalId) {
+        return reviewMapper.findByHospitalId(hospitalId);
+    }
+
+    // ==========================================
+    // 2. 리뷰 작성
+    // ==========================================
+    @Override
+    public HospitalReviewDto addReview(HospitalReviewDto review) {
+        // [4] 입력 검사: 별점은 1~5 정수만
+        if (review.getRating() == null || review.getRating() < 1 || review.getRating() > 5) {
+            throw new RuntimeException("별점은 1~5 사이로 입력해 주세요.");
+        }
+
+        // [5] 병원 집계 먼저 더하기 -> 없는 병원이면 0행이 바뀌므로 여기서 멈춤 (리뷰는 아직 안 들어감)
+        // 이 UPDATE가 병원 행을 잠가서, 같은 병원에 동시에 들어온 리뷰는 차례대로 더해집니다.
+        if (reviewMapper.addRating(review.getHospitalId(), review.getRating(), 1) == 0) {
+            throw new RuntimeException("병원을 찾을 수 없습니다.");
+        }
+
+        // [6] 리뷰 저장 (실패하면 위의 집계 변경도 같이 롤백)
+        reviewMapper.insert(review);
+        invalidateAfterCommit();
+        return review;
+    }
+
+    // ==========================================
+    // 3. 리뷰 삭제
+    // ==========================================
+    @Override
+    public void deleteReview(Long reviewId, String userId) {
+        HospitalReviewDto review = reviewMapper.findById(reviewId);
+        if (review == null) {
+            throw new RuntimeException("리뷰를 찾을 수 없습니다.");
+        }
+        if (!review.getUserId().equals(userId)) {
+            throw new RuntimeException("본인이 작성한 리뷰만 삭제할 수 있습니다.");
+        }
+
+        // [7] 실제로 지운 경우에만 집계 빼기 (같은 리뷰를 두 번 지우는 요청이 겹쳐도 한 번만 빠짐)
+        if (reviewMapper.delete(reviewId) == 1) {
+            reviewMapper.addRating(review.getHospitalId(), -review.getRating(), -1);
+            invalidateAfterCommit();
+        }
+    }
+
+    // ==========================================
+    // 4. 집계 보정 (HospitalRatingReconciler가 주기적으로 호출)
+    // ==========================================
+    @Override
+    public int reconcileRatings() {
+        int fixed = reviewMapper.reconcileAggregates();
+        if (fixed > 0) {
+            log.warn("병원 별점 집계 보정: 어긋난 병원 {}곳을 리뷰 테이블 기준으로 고쳤습니다.", fixed);
+            invalidateAfterCommit();
+        }
+        return fixed;
+    }
+
+    // [8] 커밋이 끝난 뒤에 진료과 색인 버리기
+    // 커밋 전에 버리면, 그 사이 다른 요청이 옛 평점으로 색인을 다시 만들어 버릴 수 있습니다.
+    private void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            departmentIndex.invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                departmentIndex.invalidate();
+            }
+        });
+    }
+}
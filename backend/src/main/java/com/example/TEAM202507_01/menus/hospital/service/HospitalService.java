@@ -5,6 +5,7 @@ package com.example.TEAM202507_01.menus.hospital.service;
 import com.example.TEAM202507_01.menus.hospital.controller.HospitalController;
 import com.example.TEAM202507_01.menus.hospital.dto.HospitalDto;     // 병원 상세 정보 가방
 import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapDto;  // 지도용 간략 정보 가방
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapViewDto; // 지도 영역 조회 응답 가방
 import net.bytebuddy.implementation.Implementation;
 
 import java.util.List; // 데이터를 여러 개 담을 수 있는 리스트 도구
@@ -44,6 +45,17 @@ public interface HospitalService {
     // 파라미터: Long id (삭제할 병원의 고유 번호)
     // 반환값: void (삭제하고 나면 돌려줄 게 없으니 없음)
     void delete(Long id);
+
+    // [9] 진료과별 병원 추천 메뉴
+    // 의미: "진료과 이름(예: 내과)을 주면 그 과를 볼 수 있는 병원(종합병원 포함)을 몇 개 골라주는 기능이 있어야 해."
+    // 파라미터: String department (AI가 고른 진료과), int limit (최대 몇 개)
+    // 반환값: List<HospitalDto> (최신 등록 순, 테이블 전체를 훑지 않고 메모리 색인에서 꺼냄)
+    List<HospitalDto> recommendByDepartment(String department, int limit);
+
+    // [10] 지도 영역 조회 메뉴
+    // 의미: "지도 화면의 사각형(남서쪽 ~ 북동쪽 좌표)과 줌을 주면 그 안의 병원만 골라주는 기능이 있어야 해."
+    // 반환값: HospitalMapViewDto (가까이 보면 병원 핀 목록, 멀리 보면 묶음 동그라미 + 혼자 있는 핀)
+    HospitalMapViewDto findMapView(double swLat, double swLng, double neLat, double neLng, int zoom);
 }
 
 //        컨트롤러의 요청:
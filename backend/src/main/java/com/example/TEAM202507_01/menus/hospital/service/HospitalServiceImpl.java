@@ -4,10 +4,13 @@ package com.example.TEAM202507_01.menus.hospital.service;
 // [2] 임포트: 필요한 도구들(DTO, Mapper, 스프링 기능 등)을 가져옵니다.
 import com.example.TEAM202507_01.menus.hospital.dto.HospitalDto;
 import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapDto;
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapViewDto;
 import com.example.TEAM202507_01.menus.hospital.repository.HospitalMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
@@ -36,6 +39,12 @@ public class HospitalServiceImpl implements HospitalService {
     // [7] 의존성 주입: DB와 대화할 창고지기(Mapper)를 모셔옵니다.
     // final: "이 창고지기는 절대 바뀌지 않습니다." (필수 인력)
 
+    private final HospitalDepartmentIndex departmentIndex;
+    // [7-1] 진료과 -> 병원 색인 (AI 추천용 메모리 카탈로그). 병원이 바뀌면 버리고 다시 만듭니다.
+
+    private final HospitalMapIndex mapIndex;
+    // [7-2] 지도 격자 색인 (좌표 -> 병원). 역시 병원이 바뀌면 버리고 다시 만듭니다.
+
     // ==========================================
     // 1. 전체 목록 조회 (Stream 문법 사용)
     // ==========================================
@@ -107,6 +116,7 @@ public class HospitalServiceImpl implements HospitalService {
             // 필요하면 주석을 풀어서 쓰면 됩니다.
             // hospitalMapper.update(hospital);
         }
+        invalidateAfterCommit(); // 진료과 색인, 지도 색인 다시 만들기 예약
 
         // [17] 저장된 정보를 다시 돌려줍니다. (보통 저장 후 ID가 생긴 객체를 확인용으로 리턴함)
         return hospital;
@@ -117,6 +127,59 @@ public class HospitalServiceImpl implements HospitalService {
     public void delete(Long id) {
         // [18] 매퍼에게 "이 ID 가진 데이터 삭제해"라고 Delete 쿼리를 날립니다.
         hospitalMapper.delete(id);
+        invalidateAfterCommit();
+    }
+
+    // ==========================================
+    // 3-1. 진료과별 병원 추천
+    // ==========================================
+    // 색인이 있으면 목록 앞에서 limit개만 꺼내고, 없으면 전체 목록 조회와 같은 방식으로 한 번 만들어 둡니다.
+    @Override
+    @Transactional(readOnly = true)
+    public List<HospitalDto> recommendByDepartment(String department, int limit) {
+        return departmentIndex.recommend(department, limit, this::findAll);
+    }
+
+    // ==========================================
+    // 3-2. 지도 영역 조회
+    // ==========================================
+    // 색인이 없으면 지도용 목록(findInfo)으로 한 번 만들고, 사각형에 걸친 격자 칸만 열어 봅니다.
+    // 누구나 부르는 주소라서, 숫자가 아닌 값(NaN, 무한대)은 막고 지구 밖 좌표는 위도 ±90, 경도 ±180으로 자릅니다.
+    @Override
+    @Transactional(readOnly = true)
+    public HospitalMapViewDto findMapView(double swLat, double swLng, double neLat, double neLng, int zoom) {
+        if (!Double.isFinite(swLat) || !Double.isFinite(swLng) || !Double.isFinite(neLat) || !Double.isFinite(neLng)) {
+            throw new RuntimeException("지도 영역이 잘못되었습니다. (좌표가 숫자가 아니에요)");
+        }
+        if (swLat > neLat || swLng > neLng) {
+            throw new RuntimeException("지도 영역이 잘못되었습니다. (남서쪽 좌표가 북동쪽보다 커요)");
+        }
+        return mapIndex.view(clamp(swLat, 90), clamp(swLng, 180), clamp(neLat, 90), clamp(neLng, 180),
+                zoom, hospitalMapper::findInfo);
+    }
+
+    private static double clamp(double degrees, double limit) {
+        return Math.max(-limit, Math.min(limit, degrees));
+    }
+
+    // 커밋이 끝난 뒤에 진료과 색인, 지도 색인 버리기 (HospitalReviewServiceImpl과 같은 방식)
+    // 커밋 전에 버리면, 그 사이 다른 요청이 아직 안 보이는 옛 병원 목록으로 새 번호의 색인을 만들어 버립니다.
+    private void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateIndexes();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateIndexes();
+            }
+        });
+    }
+
+    private void invalidateIndexes() {
+        departmentIndex.invalidate();
+        mapIndex.invalidate();
     }
 
     // ==========================================
@@ -125,11 +188,12 @@ public class HospitalServiceImpl implements HospitalService {
     // 이 메서드는 외부에서 부르는 게 아니라 내부에서만 쓰는 도우미(Helper)입니다.
     private HospitalDto convertToDto(HospitalDto hospital) {
 
-        // [19] 기본값 설정
-        // 현재 DB 테이블에는 평점/리뷰 수가 없어서 일단 0으로 초기화합니다.
-        // 나중에 리뷰 기능을 붙이면, 여기서 리뷰 테이블을 조회해서 평균을 계산하는 코드를 넣으면 됩니다.
-        Double averageRating = 0.0; // 평점 0.0점
-        Integer reviewCount = 0;    // 리뷰 0개
+        // [19] 평점 계산
+        // 병원 행에 리뷰 저장/삭제 때마다 갱신해 둔 별점 합계(RATING_SUM)와 리뷰 수(REVIEW_COUNT)가 있어서,
+        // 리뷰 테이블을 읽지 않고 나누기 한 번으로 평균을 냅니다. (소수점 한 자리, 리뷰가 없으면 0.0)
+        long ratingSum = hospital.getRatingSum() == null ? 0L : hospital.getRatingSum();
+        Integer reviewCount = hospital.getReviewCount() == null ? 0 : hospital.getReviewCount();
+        Double averageRating = reviewCount == 0 ? 0.0 : Math.round(ratingSum * 10.0 / reviewCount) / 10.0;
 
         // [20] 빌더 패턴을 사용한 데이터 복사 & 조립
         // 원본(hospital)에 있는 데이터를 꺼내서, 새로운 DTO 객체에 옮겨 담습니다.
@@ -142,6 +206,9 @@ public class HospitalServiceImpl implements HospitalService {
                 .address(hospital.getAddress())    // 주소 복사
                 .tel(hospital.getTel())            // 전화번호 복사
                 .editDate(hospital.getEditDate())  // 수정일 복사
+                .lat(hospital.getLat())            // 위도 복사
+                .lng(hospital.getLng())            // 경도 복사
+                .ratingSum(ratingSum)              // 별점 합계 (내부용)
                 .averageRating(averageRating)      // ★ 계산된 평점 추가
                 .reviewCount(reviewCount)          // ★ 계산된 리뷰 수 추가
                 .build(); // "완성된 객체 주세요!"
@@ -165,7 +232,7 @@ public class HospitalServiceImpl implements HospitalService {
 //
 //stream()이라는 컨베이어 벨트에 데이터를 하나씩 올립니다.
 //
-//convertToDto라는 가공 기계를 통과시키면서 평점(0.0)과 리뷰 수(0)를 세팅해서 예쁘게 포장합니다.
+//convertToDto라는 가공 기계를 통과시키면서 병원 행의 별점 합계/리뷰 수로 평균 평점을 계산해서 예쁘게 포장합니다.
 //
 //서빙 (Return):
 //
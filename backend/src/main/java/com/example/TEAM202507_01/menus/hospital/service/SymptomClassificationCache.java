@@ -0,0 +1,178 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 레디스 캐시와 동시성 카운터 도구들을 가져옵니다.
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.data.redis.core.StringRedisTemplate; // 레디스 문자열 저장소
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// [3] 증상 -> 진료과 분류 캐시 (2단: 서버 메모리 LRU + 레디스)
+// "두통", "머리가 아파요" 같은 증상은 사람들이 거의 똑같이 입력하는데, 예전에는 매번 Gemini를 불러서 API 할당량을 썼습니다.
+// - 증상 문장을 정규화(공백/문장부호/조사 제거)한 값을 키로 씁니다. ("머리가 아파요!" == "머리 아파요")
+// - 1단(메모리 LRU): 같은 서버에서 자주 나오는 증상은 마이크로초 안에 답합니다.
+// - 2단(레디스, TTL): 서버 여러 대와 재시작 후에도 공유됩니다.
+// - Gemini 답이 정해진 진료과 목록에 있을 때만 저장합니다. (에러 문구나 긴 설명이 캐시에 박히지 않게)
+@Slf4j
+@Component
+public class SymptomClassificationCache {
+
+    private static final String CACHE_PREFIX = "hospital:symptom:dept:"; // 레디스 키 앞머리
+
+    // [4] 떼어낼 조사/어미 (단어 끝에서 한 번만, 긴 것부터 검사)
+    // "과", "도"는 일부러 뺐습니다. "내과", "치과", "편도", "요도"처럼 진료과/증상 단어 끝 글자라서 떼면 뜻이 망가집니다.
+    private static final List<String> PARTICLES = List.of(
+            "에서", "으로", "에게", "한테", "까지", "부터", "이랑", "처럼",
+            "이", "가", "은", "는", "을", "를", "에", "로", "와", "랑", "요");
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, String> local;  // 1단 캐시 (정규화된 증상 -> 진료과)
+    private final Duration ttl;               // 레디스 보관 기간
+
+    // [5] 적중률 기록
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SymptomClassificationCache(StringRedisTemplate redisTemplate,
+                                      @Value("${hospital.symptom-cache.local-size:1000}") int localSize,
+                                      @Value("${hospital.symptom-cache.ttl-days:30}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofDays(ttlDays);
+        // accessOrder=true: 꺼내 쓸 때마다 맨 뒤로 -> 가득 차면 가장 오래 안 쓴 것부터 버림 (LRU)
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > localSize;
+            }
+        };
+    }
+
+    // =========================================================
+    // 1. 분류: 캐시에 있으면 바로, 없으면 classifier(Gemini)에게 묻고 저장
+    // =========================================================
+    // 반환값: 진료과 (classifier가 실패하면 null, 목록에 없는 답은 저장하지 않고 그대로 돌려줌)
+    public String classify(String symptom, Function<String, String> classifier) {
+        String key = normalize(symptom);
+        if (key.isEmpty()) {
+            misses.incrementAndGet();
+            return classifier.apply(symptom);
+        }
+
+        // 1단: 서버 메모리
+        String cached;
+        synchronized (local) {
+            cached = local.get(key);
+        }
+        if (cached != null) {
+            localHits.incrementAndGet();
+            return cached;
+        }
+
+        // 2단: 레디스
+        cached = readRedis(key);
+        if (cached != null) {
+            redisHits.incrementAndGet();
+            putLocal(key, cached);
+            return cached;
+        }
+
+        // 둘 다 없음: Gemini 호출
+        misses.incrementAndGet();
+        String answer = classifier.apply(symptom);
+        String department = toDepartment(answer);
+        if (department != null) {
+            putLocal(key, department);
+            writeRedis(key, department);
+            return department;
+        }
+        return answer;
+    }
+
+    // =========================================================
+    // 2. 적중률 확인 (관리자 확인용)
+    // =========================================================
+    public Map<String, Object> stats() {
+        long l = localHits.get(), r = redisHits.get(), m = misses.get();
+        long total = l + r + m;
+        int size;
+        synchronized (local) {
+            size = local.size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", total);
+        stats.put("localHits", l);
+        stats.put("redisHits", r);
+        stats.put("misses", m);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) (l + r) / total);
+        stats.put("localSize", size);
+        return stats;
+    }
+
+    // [6] 증상 정규화
+    // 1) 유니코드 정리(NFKC) + 소문자  2) 문장부호를 공백으로  3) 단어마다 끝 조사/어미 하나 떼기  4) 공백 없애고 붙이기
+    // 예: "머리가 아파요!!" -> "머리아파", "두통이 심해요." -> "두통심해"
+    static String normalize(String symptom) {
+        if (symptom == null) return "";
+        String cleaned = Normalizer.normalize(symptom, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[\\p{Punct}\\p{IsPunctuation}~…ㆍ·]", " ")
+                .trim();
+        if (cleaned.isEmpty()) return "";
+
+        StringBuilder key = new StringBuilder();
+        for (String word : cleaned.split("\\s+")) {
+            key.append(stripParticle(word));
+        }
+        return key.toString();
+    }
+
+    private static String stripParticle(String word) {
+        for (String particle : PARTICLES) {
+            if (word.length() > particle.length() && word.endsWith(particle)) {
+                return word.substring(0, word.length() - particle.length());
+            }
+        }
+        return word;
+    }
+
+    // [7] Gemini 답 -> 진료과 (공백/마침표 떼고 정해진 목록에 있을 때만)
+    private static String toDepartment(String answer) {
+        if (answer == null) return null;
+        String department = answer.replaceAll("[\\s.]", "");
+        return HospitalDepartmentIndex.DEPARTMENTS.contains(department) ? department : null;
+    }
+
+    private void putLocal(String key, String department) {
+        synchronized (local) {
+            local.put(key, department);
+        }
+    }
+
+    // [8] 레디스 읽기/쓰기: 레디스가 죽어도 Gemini로 답할 수 있도록 예외를 삼킵니다.
+    private String readRedis(String key) {
+        try {
+            return redisTemplate.opsForValue().get(CACHE_PREFIX + key);
+        } catch (Exception e) {
+            log.warn("증상 분류 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, String department) {
+        try {
+            redisTemplate.opsForValue().set(CACHE_PREFIX + key, department, ttl);
+        } catch (Exception e) {
+            log.warn("증상 분류 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 규칙 분류기, Gemini 분류기, 카운터 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.chatbot.service.GeminiService; // Gemini AI 담당자
+import lombok.RequiredArgsConstructor; // final 필드 생성자 자동 생성
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.stereotype.Service; // 서비스 빈 등록
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// [3] 증상 -> 진료과 분류 (규칙 먼저, 애매하면 Gemini)
+// 1. SymptomRuleClassifier가 확실하다고 하면 그 답을 바로 돌려줍니다. (원격 호출, 재시도 대기 없음)
+// 2. 애매하면 Gemini에게 묻고, 규칙 쪽에 추측이 있었다면 두 답이 같은지 기록합니다.
+//    다르면 "증상 분류 불일치" 로그를 남기니, 이 로그를 보고 symptom-keywords.txt를 고치면 됩니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SymptomDepartmentClassifier {
+
+    private final SymptomRuleClassifier ruleClassifier;
+    private final GeminiService geminiService;
+
+    // [4] 통계: 규칙이 바로 답한 수, Gemini로 넘긴 수, (규칙 추측이 있었을 때) 일치/불일치 수
+    private final AtomicLong ruleAnswered = new AtomicLong();
+    private final AtomicLong geminiAnswered = new AtomicLong();
+    private final AtomicLong agreed = new AtomicLong();
+    private final AtomicLong disagreed = new AtomicLong();
+
+    // =========================================================
+    // 1. 분류 (반환값: 진료과, Gemini까지 실패하면 null)
+    // =========================================================
+    public String classify(String symptom) {
+        SymptomRuleClassifier.Result rule = ruleClassifier.classify(symptom);
+        if (rule.confident()) {
+            ruleAnswered.incrementAndGet();
+            log.debug("증상 규칙 분류: '{}' -> {} (확신도 {})", symptom, rule.department(), rule.confidence());
+            return rule.department();
+        }
+
+        geminiAnswered.incrementAndGet();
+        String answer = geminiService.classifySymptom(symptom);
+        recordAgreement(symptom, rule, answer);
+        return answer;
+    }
+
+    // =========================================================
+    // 2. 통계 확인 (관리자 확인용)
+    // =========================================================
+    public Map<String, Object> stats() {
+        long rule = ruleAnswered.get(), gemini = geminiAnswered.get();
+        long agree = agreed.get(), disagree = disagreed.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", rule + gemini);
+        stats.put("ruleAnswered", rule);
+        stats.put("geminiAnswered", gemini);
+        stats.put("ruleRate", rule + gemini == 0 ? 0.0 : (double) rule / (rule + gemini));
+        stats.put("agreed", agree);
+        stats.put("disagreed", disagree);
+        stats.put("agreementRate", agree + disagree == 0 ? 0.0 : (double) agree / (agree + disagree));
+        return stats;
+    }
+
+    // [5] 규칙 추측 vs Gemini 답 비교 (둘 다 있을 때만, Gemini 답은 공백/마침표를 떼고 비교)
+    private void recordAgreement(String symptom, SymptomRuleClassifier.Result rule, String answer) {
+        if (rule.department() == null || answer == null) return;
+        String department = answer.replaceAll("[\\s.]", "");
+        if (!HospitalDepartmentIndex.DEPARTMENTS.contains(department)) return; // 에러 문구 등은 비교 안 함
+
+        if (department.equals(rule.department())) {
+            agreed.incrementAndGet();
+        } else {
+            disagreed.incrementAndGet();
+            log.info("증상 분류 불일치: '{}' 규칙={} (확신도 {}, 점수 {}) Gemini={}",
+                    symptom, rule.department(), String.format("%.2f", rule.confidence()), rule.score(), department);
+        }
+    }
+}
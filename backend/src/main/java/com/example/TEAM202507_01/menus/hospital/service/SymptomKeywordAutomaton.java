@@ -0,0 +1,91 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 자료구조 도구들을 가져옵니다.
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// [3] 여러 키워드 동시 찾기 기계 (Aho-Corasick 오토마톤)
+// 키워드가 수백 개여도 문장을 앞에서 한 번만 훑으면서 모든 키워드 위치를 찾아냅니다.
+// (키워드마다 contains를 돌리면 키워드 수만큼 문장을 반복해서 읽어야 함)
+// 한 번 만들면 바뀌지 않으므로 여러 스레드가 동시에 써도 안전합니다.
+final class SymptomKeywordAutomaton {
+
+    // [4] 찾은 키워드 하나: 문장 속 위치 [start, end), 어느 진료과 키워드인지
+    record Match(int start, int end, String department) {
+        int length() {
+            return end - start;
+        }
+    }
+
+    private final List<Map<Character, Integer>> next = new ArrayList<>(); // 노드별 다음 글자 -> 다음 노드
+    private final List<Integer> fail = new ArrayList<>();                 // 실패 링크 (막히면 돌아갈 노드)
+    private final List<List<String[]>> outputs = new ArrayList<>();       // 노드에서 끝나는 키워드들 {키워드, 진료과}
+
+    // [5] 만들기: 키워드 -> 진료과 사전으로 트라이를 만들고 실패 링크를 잇습니다.
+    SymptomKeywordAutomaton(Map<String, String> keywordToDepartment) {
+        newNode();
+        keywordToDepartment.forEach((keyword, department) -> {
+            int node = 0;
+            for (char c : keyword.toCharArray()) {
+                Integer child = next.get(node).get(c);
+                if (child == null) {
+                    child = newNode();
+                    next.get(node).put(c, child);
+                }
+                node = child;
+            }
+            outputs.get(node).add(new String[]{keyword, department});
+        });
+
+        // 너비 우선으로 실패 링크 연결: "가장 긴 접미사"가 트라이에 있는 노드로
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : next.get(0).values()) {
+            fail.set(child, 0);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> edge : next.get(node).entrySet()) {
+                int child = edge.getValue();
+                int f = fail.get(node);
+                while (f != 0 && !next.get(f).containsKey(edge.getKey())) {
+                    f = fail.get(f);
+                }
+                Integer target = next.get(f).get(edge.getKey());
+                fail.set(child, target != null && target != child ? target : 0);
+                outputs.get(child).addAll(outputs.get(fail.get(child))); // 접미사로 끝나는 키워드도 같이 보고
+                queue.add(child);
+            }
+        }
+    }
+
+    // =========================================================
+    // 찾기: 문장을 한 번 훑어서 모든 키워드 위치를 돌려줌 (겹쳐도 다 나옴)
+    // =========================================================
+    List<Match> findAll(String text) {
+        List<Match> matches = new ArrayList<>();
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != 0 && !next.get(node).containsKey(c)) {
+                node = fail.get(node);
+            }
+            node = next.get(node).getOrDefault(c, 0);
+            for (String[] output : outputs.get(node)) {
+                matches.add(new Match(i + 1 - output[0].length(), i + 1, output[1]));
+            }
+        }
+        return matches;
+    }
+
+    private int newNode() {
+        next.add(new HashMap<>());
+        fail.add(0);
+        outputs.add(new ArrayList<>());
+        return next.size() - 1;
+    }
+}
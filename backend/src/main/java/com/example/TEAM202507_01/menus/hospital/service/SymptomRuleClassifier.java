@@ -0,0 +1,124 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+// [1] 패키지 선언: 이 파일이 '병원 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 사전 파일 읽기와 설정 값 도구들을 가져옵니다.
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.core.io.ClassPathResource; // resources 폴더 안 파일 읽기
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// [3] 규칙 기반 증상 분류기 (Gemini 앞단의 빠른 길)
+// 증상을 11개 진료과 중 하나로 고르는 일인데, "두통", "무릎이 아파요"처럼 뻔한 입력까지 원격 AI를 기다릴 필요가 없습니다.
+// resources/hospital/symptom-keywords.txt 사전의 키워드를 오토마톤으로 한 번에 찾아서 진료과별 점수를 매깁니다.
+// - 확신도(1등 점수 / 전체 점수)와 1등 점수가 기준 이상이면 "확실" -> 바로 답함
+// - 아니면(키워드가 없거나 여러 과가 비슷하면) "애매" -> Gemini에게 넘김
+@Slf4j
+@Component
+public class SymptomRuleClassifier {
+
+    private static final String DICTIONARY = "hospital/symptom-keywords.txt";
+
+    private final SymptomKeywordAutomaton automaton;
+    private final double minConfidence; // 확신도 기준 (0~1)
+    private final int minScore;         // 1등 점수 기준 (키워드 글자 수 합)
+
+    // [4] 분류 결과: 1등 진료과(없으면 null), 확신도, 1등 점수, 바로 답해도 되는지
+    public record Result(String department, double confidence, int score, boolean confident) {
+    }
+
+    public SymptomRuleClassifier(@Value("${hospital.symptom-rule.min-confidence:0.8}") double minConfidence,
+                                 @Value("${hospital.symptom-rule.min-score:2}") int minScore) {
+        this.minConfidence = minConfidence;
+        this.minScore = minScore;
+        this.automaton = new SymptomKeywordAutomaton(loadDictionary());
+    }
+
+    // =========================================================
+    // 메인 기능: 증상 문장 -> 진료과 + 확신도
+    // =========================================================
+    public Result classify(String symptom) {
+        // 분류 캐시와 같은 정규화 (공백/문장부호/조사 제거) -> 사전 키워드도 이 모양으로 적혀 있음
+        String text = SymptomClassificationCache.normalize(symptom);
+        if (text.isEmpty()) return new Result(null, 0.0, 0, false);
+
+        // 1. 모든 키워드 위치 찾기 (문장 한 번 훑기)
+        List<SymptomKeywordAutomaton.Match> matches = automaton.findAll(text);
+
+        // 2. 겹치는 키워드는 긴 것만 인정 ("눈가려" 안의 "가려"는 안 셈), 인정된 키워드 글자 수를 진료과 점수에 더함
+        matches.sort(Comparator.comparingInt(SymptomKeywordAutomaton.Match::length).reversed());
+        boolean[] covered = new boolean[text.length()];
+        Map<String, Integer> scores = new HashMap<>();
+        for (SymptomKeywordAutomaton.Match match : matches) {
+            if (isCovered(covered, match.start(), match.end())) continue;
+            for (int i = match.start(); i < match.end(); i++) covered[i] = true;
+            scores.merge(match.department(), match.length(), Integer::sum);
+        }
+        if (scores.isEmpty()) return new Result(null, 0.0, 0, false);
+
+        // 3. 1등 과와 확신도 계산
+        int total = 0;
+        String best = null;
+        int bestScore = 0;
+        for (Map.Entry<String, Integer> entry : scores.entrySet()) {
+            total += entry.getValue();
+            if (entry.getValue() > bestScore) {
+                best = entry.getKey();
+                bestScore = entry.getValue();
+            }
+        }
+        double confidence = (double) bestScore / total;
+        return new Result(best, confidence, bestScore, confidence >= minConfidence && bestScore >= minScore);
+    }
+
+    // 이미 더 긴 키워드가 이 구간을 전부 덮고 있으면 true
+    private static boolean isCovered(boolean[] covered, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!covered[i]) return false;
+        }
+        return true;
+    }
+
+    // [5] 사전 읽기: "진료과: 키워드, 키워드" 줄들 (# 주석, 빈 줄 무시)
+    // 진료과 목록에 없는 과나 두 글자 미만 키워드는 오타로 보고 건너뜁니다.
+    private static Map<String, String> loadDictionary() {
+        Map<String, String> keywords = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(DICTIONARY).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                int colon = line.indexOf(':');
+                if (line.isEmpty() || line.startsWith("#") || colon < 0) continue;
+
+                String department = line.substring(0, colon).strip();
+                if (!HospitalDepartmentIndex.DEPARTMENTS.contains(department)) {
+                    log.warn("증상 사전: 모르는 진료과 '{}' 건너뜀", department);
+                    continue;
+                }
+                for (String keyword : line.substring(colon + 1).split(",")) {
+                    String normalized = SymptomClassificationCache.normalize(keyword);
+                    if (normalized.length() < 2) continue;
+                    String previous = keywords.put(normalized, department);
+                    if (previous != null && !previous.equals(department)) {
+                        log.warn("증상 사전: 키워드 '{}'가 {}와 {}에 중복 -> {}로 처리", normalized, previous, department, department);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("증상 사전을 읽을 수 없습니다: " + DICTIONARY, e);
+        }
+        log.info("증상 사전 로드: 키워드 {}개", keywords.size());
+        return keywords;
+    }
+}
@@ -4,17 +4,25 @@ package com.example.TEAM202507_01.menus.restaurant.controller;
 // [2] 임포트: 필요한 도구들을 가져옵니다.
 import com.example.TEAM202507_01.config.security.CustomUserDetails; // 로그인한 사용자 정보를 담고 있는 객체
 import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantBlogDto; // 블로그 검색 결과를 담을 가방
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantCrawlStatusDto; // 이미지 크롤링 진행 상황판
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDetailDto; // 상세 페이지 한 방 응답 가방
 import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto; // 맛집 정보를 담을 가방
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantSyncReportDto; // 동기화 결과 보고서
 import com.example.TEAM202507_01.menus.restaurant.service.RestaurantBlogService; // 블로그 검색 담당자
 import com.example.TEAM202507_01.menus.restaurant.service.RestaurantCrawlerService; // 데이터 크롤링(수집) 담당자
+import com.example.TEAM202507_01.menus.restaurant.service.RestaurantDetailService; // 상세 페이지 조립 담당자
+import com.example.TEAM202507_01.menus.restaurant.service.RestaurantImageCrawlJob; // 이미지 크롤링 백그라운드 작업
 import com.example.TEAM202507_01.menus.restaurant.service.RestaurantService; // 맛집 기본 업무(조회/저장) 담당자
 import com.example.TEAM202507_01.user.service.FavoriteService; // 즐겨찾기 담당자
+import org.springframework.format.annotation.DateTimeFormat; // "2026-10-19T13:00" 같은 문자열을 날짜로 바꾸는 규칙
 import org.springframework.http.ResponseEntity; // 응답(200 OK 등) 포장지
 import org.springframework.security.core.annotation.AuthenticationPrincipal; // 현재 로그인한 사람 찾는 도구
 import org.springframework.transaction.annotation.Transactional; // (컨트롤러에는 보통 안 쓰지만 임포트되어 있네요)
 import org.springframework.web.bind.annotation.*; // 웹 요청 처리 도구들
 
 import lombok.RequiredArgsConstructor; // 생성자 자동 생성 도구
+import java.time.LocalDateTime; // 날짜와 시각
+import java.time.ZoneId; // 시간대 (한국 시각)
 import java.util.List; // 리스트 도구
 
 @RestController
@@ -31,9 +39,11 @@ public class RestaurantController {
     // [6] 의존성 주입 (Dependency Injection)
     // 이 컨트롤러는 혼자 일하지 않고, 아래 4명의 전문 직원(Service)을 부려서 일을 처리합니다.
     private final RestaurantService restaurantService;       // 기본 CRUD (조회, 저장, 삭제) 담당
-    private final RestaurantCrawlerService crawlerService;   // 데이터 수집 (공공데이터, 이미지) 담당
+    private final RestaurantCrawlerService crawlerService;   // 데이터 수집 (공공데이터) 담당
+    private final RestaurantImageCrawlJob imageCrawlJob;     // 이미지 수집 (백그라운드 작업) 담당
     private final RestaurantBlogService blogService;         // 블로그 리뷰 검색 담당
     private final FavoriteService favoriteService;           // 즐겨찾기(찜) 담당
+    private final RestaurantDetailService detailService;     // 상세 페이지 조립 담당
 
     // ==========================================
     // 1. 맛집 목록 조회
@@ -45,6 +55,30 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurantService.findAll());
     }
 
+    // ==========================================
+    // 1-1. 영업 중인 맛집 조회
+    // ==========================================
+    // 요청: GET /api/v1/restaurant/open?at=2026-10-19T13:00 (at을 생략하면 지금 한국 시각 기준)
+    // 영업시간 텍스트를 매번 해석하지 않고, 저장할 때 만들어 둔 비트맵만 확인해서 빠르게 골라냅니다.
+    @GetMapping("/open")
+    public ResponseEntity<List<RestaurantDto>> getOpenRestaurants(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        LocalDateTime time = at != null ? at : LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        return ResponseEntity.ok(restaurantService.findOpenAt(time));
+    }
+
+    // ==========================================
+    // 1-2. 가격대별 맛집 조회
+    // ==========================================
+    // 요청: GET /api/v1/restaurant/price?max=10000 (만 원 이하 메뉴가 있는 곳), ?min=20000&max=50000
+    // 저장할 때 뽑아 둔 숫자 가격 컬럼으로 DB에서 바로 거릅니다.
+    @GetMapping("/price")
+    public ResponseEntity<List<RestaurantDto>> getRestaurantsByPrice(
+            @RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max) {
+        return ResponseEntity.ok(restaurantService.findByPriceRange(min, max));
+    }
+
     // ==========================================
     // 2. 맛집 상세 조회
     // ==========================================
@@ -81,17 +115,35 @@ public class RestaurantController {
     // ==========================================
     // 5. 블로그 리뷰 검색 (네이버 API 연동)
     // ==========================================
-    // 요청: GET /api/v1/restaurant/1/blogs
+    // 요청: GET /api/v1/restaurant/1/blogs?page=1&size=6
+    // 화면에 보이는 한 페이지만 썸네일을 채워서 돌려줍니다. [더보기]는 page를 올려서 다시 요청합니다.
     @GetMapping("/{id}/blogs")
-    public ResponseEntity<RestaurantBlogDto> getRestaurantBlogs(@PathVariable Long id) {
+    public ResponseEntity<RestaurantBlogDto> getRestaurantBlogs(@PathVariable Long id,
+                                                                @RequestParam(defaultValue = "1") int page,
+                                                                @RequestParam(defaultValue = "6") int size) {
         // [설명]
         // 1. 사용자가 식당 ID를 줍니다.
         // 2. blogService가 그 식당 이름을 가지고 네이버 검색 API를 찔러서 블로그 글을 가져옵니다.
         // 3. 그 결과를 컨트롤러가 받아서 사용자에게 전달합니다.
-        RestaurantBlogDto result = blogService.searchBlogList(id);
+        RestaurantBlogDto result = blogService.searchBlogList(id, Math.max(1, page), Math.min(Math.max(1, size), 100));
         return ResponseEntity.ok(result);
     }
 
+    // ==========================================
+    // 5-1. 상세 페이지 한 방 조회 (맛집 정보 + 블로그 첫 페이지 + 내 찜 여부)
+    // ==========================================
+    // 요청: GET /api/v1/restaurant/1/detail?blogSize=6
+    // 세 가지를 서버에서 동시에 받아 한 번에 돌려줍니다. 늦은 부분은 기본값으로 채우고 fallbacks에 이름을 적어 줍니다.
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<RestaurantDetailDto> getRestaurantDetailPage(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "6") int blogSize,
+            @AuthenticationPrincipal CustomUserDetails userDetails // 비로그인이면 null -> 찜 여부는 false
+    ) {
+        String userId = userDetails != null ? userDetails.getId() : null;
+        return ResponseEntity.ok(detailService.getDetail(id, userId, Math.min(Math.max(1, blogSize), 100)));
+    }
+
     // ==========================================
     // 6. 즐겨찾기(찜하기) 토글
     // ==========================================
@@ -124,24 +176,38 @@ public class RestaurantController {
     // 요청: POST /api/v1/restaurant/sync
     // 기능: 대전시 오픈 API에서 식당 목록을 긁어와서 DB에 저장합니다.
     @PostMapping("/sync")
-    public ResponseEntity<String> syncData() {
+    public ResponseEntity<RestaurantSyncReportDto> syncData() {
         // 크롤러 서비스에게 "공공데이터 긁어와!"라고 시킵니다.
-        String result = crawlerService.syncRestaurantData();
-        // "00건 동기화 완료" 같은 메시지를 반환합니다.
+        RestaurantSyncReportDto result = crawlerService.syncRestaurantData();
+        // 페이지별 성공/실패 건수가 담긴 보고서를 반환합니다.
         return ResponseEntity.ok(result);
     }
 
     // ==========================================
     // B. [관리자용] 이미지 크롤링 시작
     // ==========================================
-    // 요청: POST /api/v1/restaurant/images
-    // 기능: 식당 이름으로 검색해서 이미지를 수집합니다.
+    // 요청: POST /api/v1/restaurant/images?resume=true
+    // 기능: 식당 홈페이지에서 대표 이미지를 수집합니다.
+    // resume=true면 지난번에 끝낸 식당은 건너뛰고 남은 식당부터 이어서 합니다.
     @PostMapping("/images")
-    public ResponseEntity<String> startCrawling() {
-        // [비동기 작업 예상] 이미지를 긁어오는 건 시간이 오래 걸리므로,
-        // 서비스에게 "시작해"라고 명령만 내리고 바로 응답을 줍니다. (사용자가 기다리지 않게)
-        crawlerService.crawlStoreImages();
-        return ResponseEntity.ok("이미지 크롤링이 백그라운드에서 시작되었습니다...");
+    public ResponseEntity<RestaurantCrawlStatusDto> startCrawling(@RequestParam(defaultValue = "false") boolean resume) {
+        // 이미지를 긁어오는 건 시간이 오래 걸리므로, 작업에게 "시작해"라고 명령만 내리고 바로 현재 상황판을 돌려줍니다.
+        // 이미 돌고 있으면 새로 시작하지 않고 진행 중인 상황판을 그대로 줍니다.
+        return ResponseEntity.ok(imageCrawlJob.start(resume));
+    }
+
+    // 요청: GET /api/v1/restaurant/images/status
+    // 기능: 이미지 크롤링이 어디까지 진행됐는지 확인합니다.
+    @GetMapping("/images/status")
+    public ResponseEntity<RestaurantCrawlStatusDto> getCrawlingStatus() {
+        return ResponseEntity.ok(imageCrawlJob.getStatus());
+    }
+
+    // 요청: POST /api/v1/restaurant/images/stop
+    // 기능: 진행 중인 이미지 크롤링을 멈춥니다. (처리 중인 식당까지만 마무리)
+    @PostMapping("/images/stop")
+    public ResponseEntity<RestaurantCrawlStatusDto> stopCrawling() {
+        return ResponseEntity.ok(imageCrawlJob.stop());
     }
 }
 
@@ -150,14 +216,22 @@ public class RestaurantController {
 //
 //목록 보기: 사용자가 "맛집" 탭을 누릅니다. -> GET /api/v1/restaurant 호출 -> DB에 있는 맛집 리스트가 쫘르륵 나옵니다.
 //
+//영업 중만 보기: "지금 문 연 데만!" -> GET /api/v1/restaurant/open 호출 -> 지금 시각에 영업 중인 맛집만 나옵니다.
+//
+//가격대 보기: "만 원 이하로!" -> GET /api/v1/restaurant/price?max=10000 호출 -> 만 원 이하 메뉴가 있는 맛집만 싼 순서로 나옵니다.
+//
 //상세 보기: "성심당"을 클릭합니다. -> GET /api/v1/restaurant/1 호출 -> 주소, 전화번호 등 상세 정보가 뜹니다.
 //
 //블로그 리뷰: "사람들 후기 좀 볼까?" -> GET /api/v1/restaurant/1/blogs 호출 -> 네이버 블로그 검색 결과가 나옵니다.
 //
+//상세 페이지 한 방: 상세 페이지를 처음 열 때는 GET /api/v1/restaurant/1/detail 한 번으로 정보 + 후기 첫 페이지 + 찜 여부를 같이 받습니다.
+//
 //        찜하기: "여기 가봐야지!" 하고 하트 버튼을 누릅니다. -> POST /api/v1/restaurant/1/favorite 호출 -> 로그인 확인 후 즐겨찾기에 추가됩니다.
 //
 //        상황 2: 관리자가 데이터를 채워 넣을 때
 //
 //데이터 동기화: "대전시청에서 최신 식당 목록 좀 가져와야겠다." -> POST /sync 호출 -> 공공데이터 API를 긁어와서 DB에 저장합니다.
 //
-//사진 수집: "식당 사진이 없네?" -> POST /images 호출 -> 백그라운드에서 크롤러가 돌아다니며 가게 사진을 수집합니다.
\ No newline at end of file
+//사진 수집: "식당 사진이 없네?" -> POST /images 호출 -> 백그라운드에서 크롤러가 돌아다니며 가게 사진을 수집합니다.
+//
+//진행 확인: "어디까지 했지?" -> GET /images/status 호출 -> 몇 개 중 몇 개 했는지 상황판이 나옵니다. 중간에 멈췄으면 POST /images?resume=true 로 이어서 합니다.
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.TEAM202507_01.menus.restaurant.dto;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 데이터 가방(dto)' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import lombok.AllArgsConstructor; // 모든 필드를 채우는 생성자 자동 생성
+import lombok.Builder; // 객체 조립 도구
+import lombok.Data; // Getter, Setter 등 만능 도구
+import lombok.NoArgsConstructor; // 빈 깡통 생성자 자동 생성
+import java.time.LocalDateTime; // 시작/종료 시각
+
+// [3] 이미지 크롤링 작업 진행 상황판
+// 관리자가 GET /api/v1/restaurant/images/status 로 "지금 어디까지 했어?"를 확인할 때 받는 가방입니다.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantCrawlStatusDto {
+
+    private String state;           // IDLE(대기), RUNNING(진행 중), STOPPING(중단 요청됨), FINISHED(완료), FAILED(실패)
+    private boolean resume;         // 이어하기 모드인지 (체크포인트에서 완료된 식당은 건너뜀)
+    private int total;              // 이번 작업 대상 식당 수
+    private int processed;          // 처리 끝난 식당 수
+    private int success;            // 이미지 저장 성공
+    private int notFound;           // 페이지는 열었지만 이미지가 없음
+    private int failed;             // 에러로 실패 (이어하기 때 다시 시도함)
+    private int skipped;            // 이미 저장된 사진이 있어서 건너뜀
+    private LocalDateTime startedAt;  // 시작 시각
+    private LocalDateTime finishedAt; // 종료 시각 (진행 중이면 null)
+    private String lastError;       // 마지막 에러 메시지
+}
@@ -0,0 +1,30 @@
+package com.example.TEAM202507_01.menus.restaurant.dto;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 데이터 가방(dto)' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 롬복 도구들을 가져옵니다.
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// [3] 맛집 상세 페이지 한 방 응답 가방
+// 상세 페이지를 열 때 맛집 정보, 블로그 리뷰 첫 페이지, 내 찜 여부를 따로따로 세 번 요청하던 것을 한 번에 담아 보냅니다.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantDetailDto {
+
+    private RestaurantDto restaurant; // 맛집 기본 정보
+
+    private RestaurantBlogDto blogs;  // 블로그 리뷰 첫 페이지 (늦거나 실패하면 빈 목록)
+
+    private boolean favorite;         // 로그인한 사용자가 찜했는지 (비로그인이면 false)
+
+    // [4] 시간 안에 못 받아서 기본값으로 대신 채운 부분들 (예: ["blogs"]), 다 제대로 받았으면 빈 목록
+    // 상세 화면은 "blogs"가 있으면 블로그 첫 페이지만 /{id}/blogs로 다시 받습니다.
+    // "favorite"은 따로 물어볼 API가 없어서 찜 안 함(false)으로 보여 줍니다.
+    private List<String> fallbacks;
+}
@@ -3,7 +3,7 @@ package com.example.TEAM202507_01.menus.restaurant.dto;
 
 // [2] 임포트: 필요한 도구들을 가져옵니다.
 import com.fasterxml.jackson.annotation.JsonAlias; // [핵심] 별명(Alias)을 붙여주는 도구. 외부 데이터 이름과 내 변수 이름을 연결해줍니다.
-import com.fasterxml.jackson.annotation.JsonIgnore; // (현재 코드엔 안 쓰였지만) JSON으로 변환할 때 "이건 빼고 보내"라고 할 때 씁니다.
+import com.fasterxml.jackson.annotation.JsonIgnore; // JSON으로 변환할 때 "이건 빼고 보내"라고 할 때 씁니다.
 import com.fasterxml.jackson.annotation.JsonProperty; // JSON 키 이름을 아예 이걸로 고정하고 싶을 때 씁니다.
 import lombok.AllArgsConstructor; // 모든 필드를 채우는 생성자 자동 생성
 import lombok.Builder; // 객체 조립 도구
@@ -122,6 +122,25 @@ public class RestaurantDto {
     // 만약 외부 API에서 "REST_IMAGE"라는 키로 이미지를 준다면 여기 매핑되겠지만, 보통은 비어있다가 우리가 채워 넣습니다.
     @JsonAlias("REST_IMAGE")
     private String imagePath;       // 이미지 파일 경로
+
+    // 14. 영업시간 비트맵
+    // [21] @JsonIgnore: 화면에는 내보내지 않는 내부용 값입니다.
+    // 저장할 때 openTime 텍스트를 해석해서 만든 "일주일 x 15분 칸" 지도(Base64 문자열)입니다. (RestaurantOpeningHours 참고)
+    // "지금 영업 중인 식당" 필터가 문자열을 매번 해석하지 않고 비트만 확인하려고 씁니다.
+    @JsonIgnore
+    private String openBits;        // 영업시간 비트맵 (REST_OPEN_BITS)
+
+    // 15. 숫자 가격 범위
+    // [22] price 문자열 목록에서 저장할 때 뽑아 둔 숫자입니다. (RestaurantPriceRange 참고)
+    // "1만원 이하" 같은 가격 필터를 DB 인덱스와 검색엔진 range 조건으로 바로 걸기 위해 씁니다. 숫자를 못 찾으면 null.
+    private Integer priceMin;       // 가장 싼 메뉴 가격 (REST_PRICE_MIN)
+    private Integer priceMax;       // 가장 비싼 메뉴 가격 (REST_PRICE_MAX)
+    private Integer priceMedian;    // 가운데 가격 (REST_PRICE_MEDIAN)
+
+    // 16. 좌표
+    // [23] 주소를 서버에서 한 번 좌표로 바꿔 저장해 둔 값입니다. (GeocodeJob 참고, 아직 못 바꿨으면 null)
+    private Double lat;             // 위도 (REST_LAT)
+    private Double lng;             // 경도 (REST_LNG)
 }
 
 //
@@ -0,0 +1,42 @@
+package com.example.TEAM202507_01.menus.restaurant.dto;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 데이터 가방(dto)' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import lombok.AllArgsConstructor; // 모든 필드를 채우는 생성자 자동 생성
+import lombok.Builder; // 객체 조립 도구
+import lombok.Data; // Getter, Setter 등 만능 도구
+import lombok.NoArgsConstructor; // 빈 깡통 생성자 자동 생성
+import java.util.List; // 페이지별 결과를 담을 리스트 도구
+
+// [3] 공공데이터 동기화 결과 보고서
+// 관리자가 [데이터 동기화] 버튼을 눌렀을 때, "몇 페이지에서 몇 건 성공/실패했는지"를 한눈에 보여주기 위한 가방입니다.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantSyncReportDto {
+
+    private int totalFetched;   // API에서 받아온 전체 식당 수
+    private int totalSuccess;   // DB 저장(MERGE) 성공 건수
+    private int totalFailed;    // DB 저장 실패 건수
+    private long elapsedMillis; // 동기화에 걸린 시간 (밀리초)
+
+    // [4] 페이지별 상세 결과 (1페이지, 2페이지 ... 순서대로 정렬되어 있음)
+    private List<PageResult> pages;
+
+    // =========================================================
+    // [내부 클래스] 페이지 하나의 처리 결과
+    // =========================================================
+    // 페이지 단위로 커밋하기 때문에, 한 페이지가 실패해도 다른 페이지 결과는 그대로 남습니다.
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PageResult {
+        private int page;       // 페이지 번호
+        private int fetched;    // 이 페이지에서 받아온 식당 수
+        private int success;    // 저장 성공 건수
+        private int failed;     // 저장 실패 건수
+        private String error;   // 페이지 자체가 실패했을 때의 원인 (정상이면 null)
+    }
+}
@@ -38,6 +38,12 @@ public interface RestaurantMapper {
     // findById와 비슷해 보이지만, 아마 SQL에서 가져오는 컬럼이 더 적거나 특정 목적에 최적화된 쿼리일 겁니다.
     RestaurantDto findNameById(Long id);
 
+    // [7-1] 가격대 조회
+    // 기능: 메뉴 가격 범위(최저가~최고가)가 요청한 범위와 겹치는 식당만 가져옵니다. 둘 다 null이면 전체.
+    // 용도: "만 원 이하" 필터. 저장할 때 뽑아 둔 숫자 컬럼(REST_PRICE_MIN/MAX)에 인덱스가 걸려 있어서 문자열을 훑지 않습니다.
+    // 연결된 SQL: SELECT ... WHERE REST_PRICE_MAX >= #{min} AND REST_PRICE_MIN <= #{max}
+    List<RestaurantDto> findByPriceRange(@Param("min") Integer min, @Param("max") Integer max);
+
     // ==========================================
     // 2. 데이터 변경 기능 (CUD)
     // ==========================================
@@ -55,6 +61,13 @@ public interface RestaurantMapper {
     // 연결된 SQL: UPDATE RESTAURANT SET NAME=#{name}... WHERE ID=#{id}
     void update(RestaurantDto restaurant);
 
+    // [9-1] 식당 등록 또는 갱신 (Upsert)
+    // 기능: REST_ID가 이미 있으면 정보를 갱신하고, 없으면 새로 등록합니다. (Oracle MERGE 문 한 방)
+    // 용도: 공공데이터 동기화 때 BATCH 실행기로 묶어서 호출합니다. 같은 데이터를 여러 번 받아도 중복 에러가 나지 않습니다.
+    // 특이사항: 크롤링으로 채운 이미지(REST_IMAGE)는 건드리지 않습니다.
+    // 연결된 SQL: MERGE INTO RESTAURANT USING DUAL ON (REST_ID = #{id}) ...
+    void upsert(RestaurantDto restaurant);
+
     // [10] 식당 삭제 (Delete)
     // 기능: ID를 주면 해당 식당을 DB에서 삭제합니다.
     // 연결된 SQL: DELETE FROM RESTAURANT WHERE ID = #{id}
@@ -68,6 +81,7 @@ public interface RestaurantMapper {
     // 기능: 특정 식당(id)의 이미지 주소(imagePath)만 콕 집어서 수정합니다.
     // @Param 설명: 파라미터가 2개(id, imagePath)라서 헷갈리지 않게 이름표를 붙입니다.
     // XML 파일에서는 #{imageId}, #{imagePath} 라는 이름으로 이 값들을 꺼내 쓸 수 있습니다.
+    // imagePath 값: 이미지 저장소 기준 지문 경로 (예: "3f/a2/3fa2...c1.jpg"). 같은 사진을 쓰는 식당들은 같은 경로를 가집니다.
     // 연결된 SQL: UPDATE RESTAURANT SET IMAGE_PATH = #{imagePath} WHERE ID = #{imageId}
     void updateImage(@Param("imageId") Long id, @Param("imagePath") String imagePath);
 
@@ -76,6 +90,17 @@ public interface RestaurantMapper {
     // 용도: 이미지 크롤러가 작동할 때, URL이 없는 식당은 어차피 사진을 못 구하니까 애초에 목록에서 빼버려서 효율을 높이기 위함입니다.
     // 연결된 SQL: SELECT * FROM RESTAURANT WHERE URL IS NOT NULL
     List<RestaurantDto> findAllWithUrl();
+
+    // [13] 크롤링 대상 조회 (체크포인트 반영)
+    // 기능: URL 있는 식당(과 현재 이미지 경로)을 가져오되, resume=true면 이미 끝난(DONE, NOT_FOUND) 식당은 뺍니다.
+    // 용도: 크롤링 작업이 중간에 멈췄을 때 처음부터 다시 하지 않고 남은 식당부터 이어서 하기 위함입니다.
+    // 연결된 SQL: SELECT ... FROM RESTAURANT LEFT JOIN RESTAURANT_IMAGE_CRAWL ...
+    List<RestaurantDto> findCrawlTargets(@Param("resume") boolean resume);
+
+    // [14] 크롤링 체크포인트 기록
+    // 기능: 식당 하나 처리가 끝날 때마다 결과(DONE / NOT_FOUND / FAILED)와 시도 횟수를 남깁니다.
+    // 연결된 SQL: MERGE INTO RESTAURANT_IMAGE_CRAWL ...
+    void saveCrawlCheckpoint(@Param("restId") Long restId, @Param("status") String status);
 }
 //
 //        맛집 리스트 보기 (findAll):
@@ -96,4 +121,10 @@ public interface RestaurantMapper {
 //
 //        먼저 findAllWithUrl()을 호출해 "홈페이지 주소가 있는 식당만 추려내!"라고 합니다. (주소가 없으면 사진을 못 구하니까요)
 //
-//        그 주소로 가서 사진을 구해오면, updateImage()를 호출해 "이 식당 ID에 이 사진 경로 저장해줘"라고 명령합니다.
\ No newline at end of file
+//        그 주소로 가서 사진을 구해오면, updateImage()를 호출해 "이 식당 ID에 이 사진 경로 저장해줘"라고 명령합니다.
+//
+//        이어하기 (findCrawlTargets, saveCrawlCheckpoint):
+//
+//        식당 하나 끝날 때마다 saveCrawlCheckpoint()로 "152번 완료" 같은 기록을 남깁니다.
+//
+//        작업이 중간에 멈췄다가 다시 시작하면, findCrawlTargets(true)가 완료 기록이 없는 식당만 추려서 줍니다.
\ No newline at end of file
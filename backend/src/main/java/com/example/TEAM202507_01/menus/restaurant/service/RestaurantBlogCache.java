@@ -0,0 +1,143 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 레디스 캐시, JSON 변환, 비동기 실행 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantBlogDto; // 블로그 검색 결과 가방
+import com.fasterxml.jackson.databind.ObjectMapper; // 자바 객체 <-> JSON 변환기
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Qualifier; // 같은 타입 빈이 여러 개일 때 이름으로 고르기
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.data.redis.core.StringRedisTemplate; // 레디스 문자열 저장소
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+// [3] 식당별 블로그 목록 캐시 (Stale-While-Revalidate)
+// 블로그 후기는 하루 안에 거의 안 바뀌는데, 예전에는 상세 페이지를 열 때마다 네이버 API를 불렀습니다.
+// - 신선 기간(soft TTL) 안: 캐시를 그대로 줍니다.
+// - 신선 기간이 지났지만 만료(hard TTL) 전: 일단 캐시를 바로 주고, 뒤에서 몰래 새로 받아와 교체합니다. (사용자는 안 기다림)
+// - 만료 후(레디스에서 사라짐): 그때만 사용자가 네이버 응답을 기다립니다.
+@Slf4j
+@Component
+public class RestaurantBlogCache {
+
+    private static final String CACHE_PREFIX = "restaurant:blog:list:";    // 캐시 키 앞머리
+    private static final String REFRESH_PREFIX = "restaurant:blog:refresh:"; // "지금 누가 새로고침 중" 표시 키 (서버 여러 대 대비)
+    private static final Duration REFRESH_LOCK_TTL = Duration.ofMinutes(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor refreshExecutor; // 뒤에서 새로고침할 때 쓰는 스레드 풀
+    private final Map<Long, CompletableFuture<RestaurantBlogDto>> inFlight = new ConcurrentHashMap<>(); // 같은 식당 동시 로딩 합치기
+
+    @Value("${restaurant.blog.cache-soft-ttl-minutes:360}")
+    private long softTtlMinutes; // 신선 기간 (기본 6시간)
+
+    @Value("${restaurant.blog.cache-hard-ttl-hours:48}")
+    private long hardTtlHours;   // 완전 만료 (기본 2일)
+
+    public RestaurantBlogCache(StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               @Qualifier("applicationTaskExecutor") Executor refreshExecutor) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    // =========================================================
+    // 메인 기능: 캐시에서 꺼내거나, 없으면 loader로 받아와서 저장
+    // =========================================================
+    // loader가 null을 주면 "받아오기 실패"로 보고 캐시하지 않습니다. (빈 결과는 정상 결과라서 캐시함)
+    public RestaurantBlogDto get(Long restaurantId, Supplier<RestaurantBlogDto> loader) {
+        CachedBlogs cached = read(restaurantId);
+        if (cached == null) {
+            return load(restaurantId, loader);
+        }
+        long age = System.currentTimeMillis() - cached.getFetchedAt();
+        if (age > Duration.ofMinutes(softTtlMinutes).toMillis()) {
+            refreshInBackground(restaurantId, loader);
+        }
+        return cached.getBlogs();
+    }
+
+    // [4] 받아와서 저장 (같은 식당을 여러 요청이 동시에 부르면 한 번만 네이버에 물어봅니다)
+    private RestaurantBlogDto load(Long restaurantId, Supplier<RestaurantBlogDto> loader) {
+        CompletableFuture<RestaurantBlogDto> mine = new CompletableFuture<>();
+        CompletableFuture<RestaurantBlogDto> running = inFlight.putIfAbsent(restaurantId, mine);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            RestaurantBlogDto loaded = loader.get();
+            if (loaded != null) {
+                write(restaurantId, loaded);
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(restaurantId, mine);
+        }
+    }
+
+    // [5] 뒤에서 새로고침
+    // 이미 이 서버나 다른 서버가 새로고침 중이면 건너뜁니다. 실패하면 기존(조금 오래된) 캐시가 그대로 남습니다.
+    private void refreshInBackground(Long restaurantId, Supplier<RestaurantBlogDto> loader) {
+        if (inFlight.containsKey(restaurantId)) return;
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(REFRESH_PREFIX + restaurantId, "1", REFRESH_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) return;
+            refreshExecutor.execute(() -> {
+                try {
+                    load(restaurantId, loader);
+                } catch (Exception e) {
+                    log.warn("블로그 캐시 새로고침 실패 (식당 {}): {}", restaurantId, e.getMessage());
+                } finally {
+                    redisTemplate.delete(REFRESH_PREFIX + restaurantId);
+                }
+            });
+        } catch (Exception e) {
+            // 레디스 장애나 스레드 풀 포화: 이번엔 새로고침을 건너뛰고 다음 요청 때 다시 시도합니다.
+            log.debug("블로그 캐시 새로고침 예약 실패 (식당 {}): {}", restaurantId, e.getMessage());
+        }
+    }
+
+    // [6] 레디스 읽기/쓰기: 레디스가 죽어도 캐시 없이 동작하도록 예외를 삼킵니다.
+    private CachedBlogs read(Long restaurantId) {
+        try {
+            String json = redisTemplate.opsForValue().get(CACHE_PREFIX + restaurantId);
+            return json == null ? null : objectMapper.readValue(json, CachedBlogs.class);
+        } catch (Exception e) {
+            log.warn("블로그 캐시 조회 실패 (식당 {}): {}", restaurantId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(Long restaurantId, RestaurantBlogDto blogs) {
+        try {
+            String json = objectMapper.writeValueAsString(new CachedBlogs(System.currentTimeMillis(), blogs));
+            redisTemplate.opsForValue().set(CACHE_PREFIX + restaurantId, json, Duration.ofHours(hardTtlHours));
+        } catch (Exception e) {
+            log.warn("블로그 캐시 저장 실패 (식당 {}): {}", restaurantId, e.getMessage());
+        }
+    }
+
+    // [7] 캐시에 들어가는 봉투: 언제 받아왔는지(fetchedAt) + 블로그 목록
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedBlogs {
+        private long fetchedAt;
+        private RestaurantBlogDto blogs;
+    }
+}
@@ -6,19 +6,18 @@ import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantBlogDto; // 블
 import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto; // 식당 이름 조회용 DTO
 import com.example.TEAM202507_01.menus.restaurant.repository.RestaurantMapper; // DB 연결 담당자
 import lombok.RequiredArgsConstructor; // 생성자 자동 생성
-import org.jsoup.Jsoup; // HTML 파싱(크롤링) 도구
-import org.jsoup.nodes.Document; // HTML 문서 객체
-import org.jsoup.nodes.Element; // HTML 태그 요소
 import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
 import org.springframework.http.*; // HTTP 요청/응답 관련 도구
 import org.springframework.stereotype.Service; // 서비스 빈 등록
 import org.springframework.web.client.RestTemplate; // 외부 API 호출 도구
 import org.springframework.web.util.UriComponentsBuilder; // URL 생성 도구
 
-import javax.swing.text.html.HTML;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Service
 // [3] 어노테이션(@Service): "스프링아, 나는 비즈니스 로직을 처리하는 서비스(Service)야." (Bean 등록)
@@ -30,6 +29,12 @@ public class RestaurantBlogService {
     // [5] 의존성 주입: DB에서 식당 이름을 찾기 위해 매퍼를 데려옵니다.
     private final RestaurantMapper restaurantMapper;
 
+    // [5-1] 블로그 썸네일 전용 수집기 (가상 스레드 + 레디스 캐시)
+    private final RestaurantBlogThumbnailFetcher thumbnailFetcher;
+
+    // [5-2] 식당별 블로그 목록 캐시 (오래되면 뒤에서 새로고침)
+    private final RestaurantBlogCache blogCache;
+
     // [6] 외부 통신 도구: 네이버 서버에 요청을 보낼 '전화기(RestTemplate)'를 만듭니다.
     // 여기서는 필드에서 바로 new로 생성했지만, 보통은 Bean으로 주입받기도 합니다.
     private final RestTemplate restTemplate = new RestTemplate();
@@ -44,12 +49,61 @@ public class RestaurantBlogService {
     @Value("${naver.client.secret}")
     private String clientSecret;
 
+    // [8-1] 썸네일 채우기 전체 마감 시간 (밀리초)
+    // 이 시간 안에 못 구한 썸네일은 이번 응답에서 빠지고, 뒤에서 마저 구해서 캐시에 넣어둡니다.
+    @Value("${restaurant.blog.enrich-deadline-ms:1500}")
+    private long enrichDeadlineMs;
+
     // =========================================================
     // 메인 기능: 블로그 검색 및 썸네일 크롤링
     // =========================================================
     // [수정 1] 리턴 타입을 List -> RestaurantBlogDto로 변경했습니다.
     // 이유: 검색 결과 리스트뿐만 아니라 '전체 개수(total)', '시작점(start)' 정보도 같이 넘겨야 하기 때문입니다.
-    public RestaurantBlogDto searchBlogList(Long restaurantId) {
+    // [수정 4] page, size를 받아서 화면에 보여줄 한 페이지만 돌려줍니다. (썸네일도 그 페이지만 채움)
+    // [수정 5] 네이버 검색 결과는 식당별로 캐시해서, 인기 식당은 네이버를 부르지 않고 바로 응답합니다.
+    public RestaurantBlogDto searchBlogList(Long restaurantId, int page, int size) {
+
+        // 1. 식당별 전체 목록(최대 100개) 꺼내기: 캐시에 있으면 바로, 없으면 네이버에서 받아와서 저장
+        RestaurantBlogDto full = blogCache.get(restaurantId, () -> fetchFromNaver(restaurantId));
+        if (full == null || full.getItems() == null) {
+            return new RestaurantBlogDto();
+        }
+
+        // 2. 화면에 보여줄 페이지만 잘라내기
+        // 캐시 원본을 건드리지 않도록 새 가방과 글 복사본에 담습니다.
+        List<RestaurantBlogDto.BlogItem> all = full.getItems();
+        int from = Math.min(all.size(), Math.max(0, page - 1) * size);
+        int to = Math.min(all.size(), from + size);
+        List<RestaurantBlogDto.BlogItem> pageItems = new ArrayList<>();
+        for (RestaurantBlogDto.BlogItem item : all.subList(from, to)) {
+            pageItems.add(copyOf(item));
+        }
+
+        RestaurantBlogDto resultDto = new RestaurantBlogDto();
+        resultDto.setItems(pageItems);
+        resultDto.setStart(from + 1);
+        resultDto.setDisplay(pageItems.size());
+        resultDto.setTotal(Math.min(full.getTotal(), all.size())); // 더보기로 넘길 수 있는 최대 개수
+
+        // 3. 썸네일 채우기 (★핵심 기술★)
+        // 썸네일은 전용 수집기가 캐시 -> 크롤링 순서로 구하고, 마감 시간이 지나면 있는 것만 줍니다.
+        Map<String, String> thumbnails = thumbnailFetcher.fetchAll(
+                pageItems.stream().map(RestaurantBlogDto.BlogItem::getLink).toList(),
+                Duration.ofMillis(enrichDeadlineMs));
+        for (RestaurantBlogDto.BlogItem item : pageItems) {
+            item.setThumbnail(thumbnails.get(item.getLink()));
+        }
+
+        // 리스트가 아닌 DTO 전체를 반환!
+        // 프론트엔드에서 response.data.total, response.data.items 처럼 접근할 수 있게 통째로 줍니다.
+        return resultDto;
+    }
+
+    // =========================================================
+    // [보조 메서드] 네이버 블로그 검색 (캐시가 없거나 오래됐을 때만 호출)
+    // =========================================================
+    // 반환값: 제목/요약의 HTML 태그까지 청소한 전체 목록. 통신 실패면 null (캐시하지 않음)
+    private RestaurantBlogDto fetchFromNaver(Long restaurantId) {
 
         // 1. DB에서 식당 이름 조회
         // 식당 ID(숫자)만으로는 검색할 수 없으니, DB에서 "성심당" 같은 이름을 찾아옵니다.
@@ -104,72 +158,33 @@ public class RestaurantBlogService {
                 return new RestaurantBlogDto();
             }
 
-            // 6. 썸네일 크롤링 및 데이터 정제 (★핵심 기술★)
-            // resultDto.getItems(): 블로그 글 100개 리스트
-            // .parallelStream(): 100개를 한 줄로(for문) 처리하면 너무 느리니까, 여러 스레드가 동시에 작업하게 합니다. (속도 대폭 향상)
-            resultDto.getItems().parallelStream().forEach(item -> {
-                try {
-                    // (1) 썸네일 구하기: 각 블로그 링크(item.getLink())로 들어가서 이미지를 훔쳐옵니다.
-                    String thumb = crawlOgImage(item.getLink());
-                    item.setThumbnail(thumb); // 구한 이미지를 DTO에 채워 넣습니다.
-
-                    // (2) HTML 태그 제거: 네이버가 준 제목엔 "<b>성심당</b>" 처럼 태그가 붙어있습니다.
-                    // 이걸 cleanHtml() 함수로 깨끗한 글자("성심당")만 남깁니다.
-                    item.setTitle(cleanHtml(item.getTitle()));
-                    item.setDescription(cleanHtml(item.getDescription()));
-
-                } catch (Exception e) {
-                    // [중요] 100개 중에 하나가 에러 나도 멈추지 않습니다.
-                    // 그냥 그 글만 이미지 없이 넘어가고 나머지는 계속 진행합니다. (catch 블록이 비어있는 이유)
-                }
-            });
-
-            // [수정 3] 리스트가 아닌 DTO 전체를 반환!
-            // 프론트엔드에서 response.data.total, response.data.items 처럼 접근할 수 있게 통째로 줍니다.
+            // 6. 데이터 정제: 네이버가 준 제목엔 "<b>성심당</b>" 처럼 태그가 붙어있습니다.
+            // 이걸 cleanHtml() 함수로 깨끗한 글자("성심당")만 남깁니다. (캐시에는 청소된 값이 들어감)
+            for (RestaurantBlogDto.BlogItem item : resultDto.getItems()) {
+                item.setTitle(cleanHtml(item.getTitle()));
+                item.setDescription(cleanHtml(item.getDescription()));
+            }
             return resultDto;
 
         } catch (Exception e) {
-            // 통신 중 큰 에러가 나면 콘솔에 내용을 찍고 빈 객체를 반환합니다.
+            // 통신 중 큰 에러가 나면 콘솔에 내용을 찍고 null을 반환합니다. (다음 요청 때 다시 시도)
             e.printStackTrace();
-            return new RestaurantBlogDto();
+            return null;
         }
     }
 
     // =========================================================
-    // [보조 메서드] 썸네일 크롤러
+    // [보조 메서드] 블로그 글 복사
     // =========================================================
-    // 블로그 링크를 주면 대표 이미지 주소(String)를 반환합니다.
-    private String crawlOgImage(String blogLink) {
-        // 네이버 블로그가 아니거나 링크가 없으면 즉시 종료
-        if (blogLink == null || !blogLink.contains("blog.naver.com")) {
-            return null;
-        }
-
-        // [꿀팁] 모바일 주소 변환
-        // PC 버전 네이버 블로그는 HTML 구조가 복잡해서 크롤링이 어렵습니다.
-        // "m.blog.naver.com"으로 주소를 바꾸면 HTML이 단순해서 크롤링 성공률이 올라갑니다.
-        String mobileUrl = blogLink.replace("https://blog.naver.com", "https://m.blog.naver.com");
-
-        try {
-            // Jsoup으로 해당 블로그 페이지 접속 (2초 타임아웃)
-            Document doc = Jsoup.connect(mobileUrl)
-                    .timeout(2000)
-                    .userAgent("Mozilla/5.0") // 봇 아니고 사람인 척 위장
-                    .get();
-
-            // <meta property="og:image" content="..."> 태그를 찾습니다.
-            // 이게 바로 카톡 공유할 때 뜨는 대표 이미지입니다.
-            Element metaOgImage = doc.selectFirst("meta[property=og:image]");
-
-            // 찾았으면 content 속성값(이미지 주소)을 반환
-            if (metaOgImage != null) {
-                return metaOgImage.attr("content");
-            }
-        } catch (Exception e) {
-            // 접속 안 되거나 이미지 없으면 null 반환
-            return null;
-        }
-        return null;
+    // 캐시에 들어있는 원본에 썸네일을 써 넣으면 다른 요청과 섞이므로, 응답용 복사본을 만듭니다.
+    private RestaurantBlogDto.BlogItem copyOf(RestaurantBlogDto.BlogItem source) {
+        RestaurantBlogDto.BlogItem copy = new RestaurantBlogDto.BlogItem();
+        copy.setTitle(source.getTitle());
+        copy.setBloggername(source.getBloggername());
+        copy.setDescription(source.getDescription());
+        copy.setPostdate(source.getPostdate());
+        copy.setLink(source.getLink());
+        return copy;
     }
 
     // =========================================================
@@ -190,6 +205,12 @@ public class RestaurantBlogService {
 //
 //상황: 사용자가 "성심당" 상세 페이지에서 [블로그 리뷰] 탭을 눌렀을 때
 //
+//캐시 확인:
+//
+//먼저 식당별 캐시를 봅니다. 6시간 안에 받아둔 목록이 있으면 아래 네이버 호출 과정을 통째로 건너뜁니다.
+//
+//6시간이 지났으면 일단 캐시를 바로 보여주고, 뒤에서 네이버에 다시 물어봐서 캐시를 교체합니다. (이틀이 지나면 캐시가 사라져서 그때만 기다림)
+//
 //이름 확인:
 //
 //컨트롤러가 식당 ID(번호)를 던져줍니다.
@@ -208,18 +229,18 @@ public class RestaurantBlogService {
 //
 //문제점: 제목에 <b> 같은 태그가 섞여 있고, 결정적으로 썸네일 사진이 없습니다.
 //
-//대량 작업 (Parallel Stream):
+//페이지 자르기:
 //
-//서비스는 "사진이 없으면 안 예쁜데..."라고 생각하며 **크롤링 알바생들을 대거 투입(병렬 처리)**합니다.
-//
-//알바생들이 동시에 100개의 블로그 링크로 흩어져서 접속합니다.
+//100개 중에 지금 화면에 보여줄 6개(page=1, size=6)만 잘라냅니다.
 //
 //썸네일 채굴 및 세탁:
 //
-//각 블로그 페이지 소스(HTML)를 뒤져서 대표 이미지(og:image)를 찾아냅니다.
+//6개의 블로그 주소를 썸네일 수집기에 넘깁니다. 수집기는 먼저 레디스 캐시를 보고, 없는 것만 전용 가상 스레드로 긁어옵니다.
+//
+//1.5초 마감 시간이 지나면 기다리지 않습니다. 늦게 끝난 썸네일은 캐시에 들어가서 다음 사람부터 바로 보입니다.
 //
 //동시에 제목에 붙은 지저분한 <b> 태그들도 깨끗하게 지웁니다.
 //
 //최종 납품:
 //
-//사진과 깨끗한 제목으로 다시 포장된 100개의 리뷰 박스(RestaurantBlogDto)를 컨트롤러에게 전달합니다.
\ No newline at end of file
+//사진과 깨끗한 제목으로 다시 포장된 한 페이지 분량의 리뷰 박스(RestaurantBlogDto)를 컨트롤러에게 전달합니다. [더보기]를 누르면 page=2로 다시 요청합니다.
\ No newline at end of file
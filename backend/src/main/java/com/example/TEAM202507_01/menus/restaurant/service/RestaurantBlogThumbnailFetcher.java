@@ -0,0 +1,169 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 크롤링(Jsoup), 레디스 캐시, 동시성 도구들을 가져옵니다.
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.jsoup.Jsoup; // HTML 파싱(크롤링) 도구
+import org.jsoup.nodes.Element; // HTML 태그 요소
+import org.springframework.beans.factory.DisposableBean; // 서버 종료 시 정리 작업 훅
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.data.redis.core.StringRedisTemplate; // 레디스 문자열 저장소
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// [3] 블로그 썸네일(og:image) 전용 수집기
+// 예전에는 parallelStream()으로 100개를 한꺼번에 긁었는데, 그건 JVM 전체가 같이 쓰는 공용 스레드 풀(ForkJoinPool)이라서
+// 블로그 하나가 2초씩 멈추면 다른 병렬 작업까지 줄줄이 밀렸습니다.
+// - 전용 가상 스레드(Virtual Thread)에서 돌리고, 동시에 나가는 요청 수는 세마포어로 묶습니다.
+// - 한 번 찾은 썸네일은 블로그 주소별로 레디스에 오래(기본 30일) 저장해서 다음 사람은 바로 받습니다.
+// - 전체 마감 시간(deadline)이 지나면 기다리지 않고 있는 것만 돌려줍니다. 늦게 끝난 건 캐시에만 들어갑니다.
+@Slf4j
+@Component
+public class RestaurantBlogThumbnailFetcher implements DisposableBean {
+
+    private static final String CACHE_PREFIX = "restaurant:blog:thumb:"; // 레디스 키 앞머리
+    private static final String NO_IMAGE = "";                           // "이 블로그엔 썸네일 없음"도 캐시 (헛걸음 방지)
+
+    private final StringRedisTemplate redisTemplate;
+    private final Semaphore permits;          // 동시에 나갈 수 있는 요청 수
+    private final Duration cacheTtl;          // 썸네일 캐시 유지 기간
+    private final Duration missTtl;           // "없음" 캐시 유지 기간 (글이 수정될 수 있으니 짧게)
+    private final int fetchTimeoutMs;         // 블로그 하나당 접속 제한 시간
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor(); // 작업마다 가상 스레드 하나
+
+    public RestaurantBlogThumbnailFetcher(StringRedisTemplate redisTemplate,
+                                          @Value("${restaurant.blog.thumbnail-concurrency:8}") int concurrency,
+                                          @Value("${restaurant.blog.thumbnail-ttl-days:30}") long ttlDays,
+                                          @Value("${restaurant.blog.thumbnail-miss-ttl-hours:6}") long missTtlHours,
+                                          @Value("${restaurant.blog.thumbnail-timeout-ms:2000}") int fetchTimeoutMs) {
+        this.redisTemplate = redisTemplate;
+        this.permits = new Semaphore(Math.max(1, concurrency));
+        this.cacheTtl = Duration.ofDays(ttlDays);
+        this.missTtl = Duration.ofHours(missTtlHours);
+        this.fetchTimeoutMs = fetchTimeoutMs;
+    }
+
+    // =========================================================
+    // 메인 기능: 여러 블로그의 썸네일을 마감 시간 안에 모아오기
+    // =========================================================
+    // 반환값: 블로그 주소 -> 썸네일 주소 (못 찾았거나 시간 안에 못 끝낸 주소는 빠져 있음)
+    public Map<String, String> fetchAll(List<String> blogLinks, Duration deadline) {
+        Map<String, String> result = new HashMap<>();
+        List<String> links = new ArrayList<>(new LinkedHashSet<>(blogLinks)); // 중복 제거 (순서 유지)
+        links.removeIf(link -> link == null || !link.contains("blog.naver.com"));
+        if (links.isEmpty()) return result;
+
+        // 1. 레디스에서 한 번에 꺼내기 (왕복 1번)
+        List<String> misses = new ArrayList<>();
+        List<String> cached = readCache(links);
+        for (int i = 0; i < links.size(); i++) {
+            String value = cached == null ? null : cached.get(i);
+            if (value == null) {
+                misses.add(links.get(i));
+            } else if (!NO_IMAGE.equals(value)) {
+                result.put(links.get(i), value);
+            }
+        }
+        if (misses.isEmpty()) return result;
+
+        // 2. 캐시에 없는 것만 가상 스레드로 동시에 긁기
+        Map<String, CompletableFuture<String>> futures = new HashMap<>();
+        for (String link : misses) {
+            futures.put(link, CompletableFuture.supplyAsync(() -> fetchAndCache(link), executor));
+        }
+
+        // 3. 마감 시간까지만 기다리기
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("블로그 썸네일 마감 시간 초과: {}개 중 일부만 반영", misses.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 개별 작업은 예외를 삼키므로 여기까지 올 일은 거의 없습니다.
+        }
+
+        // 4. 끝난 것만 담기 (안 끝난 작업은 계속 돌다가 캐시에만 저장됩니다)
+        futures.forEach((link, future) -> {
+            String thumb = future.getNow(null);
+            if (thumb != null && !NO_IMAGE.equals(thumb)) {
+                result.put(link, thumb);
+            }
+        });
+        return result;
+    }
+
+    // [4] 블로그 하나 긁어서 캐시에 저장
+    private String fetchAndCache(String blogLink) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return NO_IMAGE;
+        }
+        String thumb;
+        try {
+            thumb = crawlOgImage(blogLink);
+        } finally {
+            permits.release();
+        }
+        writeCache(blogLink, thumb);
+        return thumb;
+    }
+
+    // [5] 썸네일 크롤러 (기존 RestaurantBlogService.crawlOgImage와 같은 방식)
+    // "m.blog.naver.com" 모바일 주소가 HTML이 단순해서 성공률이 높습니다.
+    // 접속 실패는 캐시하지 않도록 null, 이미지가 없는 글은 NO_IMAGE를 돌려줍니다.
+    private String crawlOgImage(String blogLink) {
+        String mobileUrl = blogLink.replace("https://blog.naver.com", "https://m.blog.naver.com");
+        try {
+            Element metaOgImage = Jsoup.connect(mobileUrl)
+                    .timeout(fetchTimeoutMs)
+                    .userAgent("Mozilla/5.0") // 봇 아니고 사람인 척 위장
+                    .get()
+                    .selectFirst("meta[property=og:image]");
+            return metaOgImage != null ? metaOgImage.attr("content") : NO_IMAGE;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // [6] 레디스 읽기/쓰기: 레디스가 죽으면 전부 캐시에 없는 것으로 보고 새로 긁습니다. (마감 시간 안에 못 받은 썸네일만 빠지고 리뷰 목록은 그대로 나감)
+    private List<String> readCache(List<String> links) {
+        try {
+            return redisTemplate.opsForValue().multiGet(links.stream().map(link -> CACHE_PREFIX + link).toList());
+        } catch (Exception e) {
+            log.warn("블로그 썸네일 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String blogLink, String thumb) {
+        if (thumb == null) return; // 접속 실패는 다음에 다시 시도
+        try {
+            redisTemplate.opsForValue().set(CACHE_PREFIX + blogLink, thumb, NO_IMAGE.equals(thumb) ? missTtl : cacheTtl);
+        } catch (Exception e) {
+            log.warn("블로그 썸네일 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // [7] 서버 종료 시 가상 스레드 작업 정리
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
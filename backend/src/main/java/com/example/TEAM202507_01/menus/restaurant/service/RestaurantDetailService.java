@@ -0,0 +1,139 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 각 부분을 맡은 서비스들과 동시 실행 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantBlogDto; // 블로그 검색 결과 가방
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDetailDto; // 상세 페이지 한 방 응답 가방
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto; // 맛집 데이터 가방
+import com.example.TEAM202507_01.user.service.FavoriteService; // 즐겨찾기 담당자
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.DisposableBean; // 서버 종료 시 정리 작업 훅
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.stereotype.Service; // 서비스 빈 등록
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// [3] 맛집 상세 페이지 조립 서비스
+// 상세 페이지는 맛집 정보, 블로그 리뷰, 내 찜 여부가 필요한데, 예전에는 화면이 세 번 따로 요청했습니다.
+// (그것도 맛집 정보는 전체 목록을 받아서 화면에서 찾았습니다.)
+// 여기서 세 가지를 동시에 출발시키고, 부분마다 정해진 시간까지만 기다렸다가 하나로 묶어 돌려줍니다.
+// - 맛집 정보: 없으면 페이지 자체가 의미 없으니, 못 구하면 에러
+// - 블로그 리뷰: 늦거나 실패하면 빈 목록 (늦게 끝난 작업은 계속 돌아서 캐시에 들어가므로 다음 방문 때는 바로 나옴)
+// - 찜 여부: 늦거나 실패하면 false
+@Slf4j
+@Service
+public class RestaurantDetailService implements DisposableBean {
+
+    // 즐겨찾기 카테고리 이름 (RestaurantController의 찜하기와 같은 값, DB에 이 철자로 저장되어 있음)
+    private static final String FAVORITE_CATEGORY = "RESTOURANTS";
+
+    private final RestaurantService restaurantService;
+    private final RestaurantBlogService blogService;
+    private final FavoriteService favoriteService;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor(); // 부분마다 가상 스레드 하나
+
+    @Value("${restaurant.detail.restaurant-timeout-ms:2000}")
+    private long restaurantTimeoutMs; // 맛집 정보 대기 시간
+
+    @Value("${restaurant.detail.blogs-timeout-ms:2500}")
+    private long blogsTimeoutMs;      // 블로그 리뷰 대기 시간 (네이버 검색 + 썸네일 마감 1.5초 포함)
+
+    @Value("${restaurant.detail.favorite-timeout-ms:500}")
+    private long favoriteTimeoutMs;   // 찜 여부 대기 시간
+
+    public RestaurantDetailService(RestaurantService restaurantService,
+                                   RestaurantBlogService blogService,
+                                   FavoriteService favoriteService) {
+        this.restaurantService = restaurantService;
+        this.blogService = blogService;
+        this.favoriteService = favoriteService;
+    }
+
+    // =========================================================
+    // 메인 기능: 세 부분을 동시에 받아서 하나로 묶기
+    // =========================================================
+    // userId: 로그인한 사용자 ID (비로그인이면 null -> 찜 조회 안 함)
+    public RestaurantDetailDto getDetail(Long id, String userId, int blogSize) {
+        long startedAt = System.nanoTime();
+
+        // 1. 세 작업 동시 출발
+        CompletableFuture<RestaurantDto> restaurantFuture =
+                CompletableFuture.supplyAsync(() -> restaurantService.findById(id), executor);
+        CompletableFuture<RestaurantBlogDto> blogsFuture =
+                CompletableFuture.supplyAsync(() -> blogService.searchBlogList(id, 1, blogSize), executor);
+        CompletableFuture<Boolean> favoriteFuture = userId == null
+                ? CompletableFuture.completedFuture(false)
+                : CompletableFuture.supplyAsync(() -> favoriteService.isFavorite(FAVORITE_CATEGORY, userId, id), executor);
+
+        // 2. 맛집 정보: 필수 (없는 ID면 findById의 에러를 그대로 전달)
+        RestaurantDto restaurant = awaitRequired(restaurantFuture, startedAt, restaurantTimeoutMs, id);
+
+        // 3. 나머지: 시간 안에 못 받으면 기본값으로 채우고 fallbacks에 이름을 남김
+        List<String> fallbacks = new ArrayList<>();
+        RestaurantBlogDto blogs = awaitOrFallback("blogs", blogsFuture, startedAt, blogsTimeoutMs, emptyBlogs(), fallbacks);
+        boolean favorite = awaitOrFallback("favorite", favoriteFuture, startedAt, favoriteTimeoutMs, false, fallbacks);
+
+        return RestaurantDetailDto.builder()
+                .restaurant(restaurant)
+                .blogs(blogs)
+                .favorite(favorite)
+                .fallbacks(fallbacks)
+                .build();
+    }
+
+    // [4] 필수 부분 기다리기: 시간 초과나 에러면 요청 전체를 실패시킵니다.
+    private RestaurantDto awaitRequired(CompletableFuture<RestaurantDto> future, long startedAt, long timeoutMs, Long id) {
+        try {
+            return future.get(remainingMs(startedAt, timeoutMs), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("맛집 정보를 불러오는 시간이 초과되었습니다. ID: " + id);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("맛집 정보 조회가 중단되었습니다. ID: " + id);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause; // "해당 맛집을 찾을 수 없습니다" 등
+            throw new RuntimeException("맛집 정보 조회 실패. ID: " + id, e.getCause());
+        }
+    }
+
+    // [5] 선택 부분 기다리기: 시간 초과나 에러면 기본값을 돌려주고 이름을 기록합니다.
+    // 마감은 "요청 시작 시각 + 부분별 대기 시간"이라, 앞 부분을 기다린 시간만큼 뒷 부분은 덜 기다립니다. (전체 응답 시간 = 가장 긴 대기 시간)
+    private <T> T awaitOrFallback(String part, CompletableFuture<T> future, long startedAt, long timeoutMs,
+                                  T fallback, List<String> fallbacks) {
+        try {
+            return future.get(remainingMs(startedAt, timeoutMs), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("상세 페이지 {} 대기 시간 초과 -> 기본값 사용", part);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("상세 페이지 {} 조회 실패 -> 기본값 사용: {}", part, e.getCause().getMessage());
+        }
+        fallbacks.add(part);
+        return fallback;
+    }
+
+    private long remainingMs(long startedAt, long timeoutMs) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        return Math.max(0, timeoutMs - elapsedMs);
+    }
+
+    private RestaurantBlogDto emptyBlogs() {
+        RestaurantBlogDto blogs = new RestaurantBlogDto();
+        blogs.setItems(List.of());
+        return blogs;
+    }
+
+    // [6] 서버 종료 시 가상 스레드 작업 정리
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
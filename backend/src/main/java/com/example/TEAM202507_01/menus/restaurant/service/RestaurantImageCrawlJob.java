@@ -0,0 +1,272 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantCrawlStatusDto; // 진행 상황판
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto; // 맛집 데이터 가방
+import com.example.TEAM202507_01.menus.restaurant.repository.RestaurantMapper; // DB 관리자
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Qualifier; // 같은 타입 빈이 여러 개일 때 이름으로 고르기
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.stereotype.Service; // 서비스 빈 등록
+
+import java.io.IOException;
+import java.net.URI; // 주소에서 호스트 꺼내기
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// [3] 식당 이미지 크롤링 백그라운드 작업
+// - 요청 스레드는 "시작해!"만 전달하고 바로 응답합니다. 실제 작업은 crawlTaskExecutor 스레드에서 돕니다.
+// - 워커 여러 개가 동시에 처리하되, 같은 사이트(호스트)에는 perHostConcurrency개까지만 동시에 접속합니다.
+// - 식당 하나 끝날 때마다 REST_ID별 체크포인트를 DB에 남겨서, 서버가 죽어도 이어하기(resume)가 됩니다.
+// - 사진은 RestaurantImageStore에 지문(SHA-256) 이름으로 저장하므로, 이미 받은 사진은 다시 받지 않습니다.
+@Slf4j
+@Service
+public class RestaurantImageCrawlJob {
+
+    // [4] 체크포인트 상태값 (RESTAURANT_IMAGE_CRAWL.STATUS)
+    static final String CHECKPOINT_DONE = "DONE";           // 이미지 저장 완료
+    static final String CHECKPOINT_NOT_FOUND = "NOT_FOUND"; // 이미지 없음 (이어하기 때 건너뜀)
+    static final String CHECKPOINT_FAILED = "FAILED";       // 에러 (이어하기 때 다시 시도)
+
+    private final RestaurantMapper restaurantMapper;
+    private final RestaurantImageExtractor imageExtractor;
+    private final RestaurantWebDriverPool driverPool;
+    private final RestaurantImageStore imageStore;
+    private final Executor jobExecutor;
+
+    // [5] 작업 설정 (application.properties에 없으면 기본값)
+    @Value("${restaurant.crawl.workers:4}")
+    private int workerCount;            // 동시에 처리할 식당 수
+
+    @Value("${restaurant.crawl.per-host-concurrency:2}")
+    private int perHostConcurrency;     // 같은 호스트에 동시에 보낼 요청 수
+
+    @Value("${restaurant.crawl.host-delay-ms:500}")
+    private long hostDelayMs;           // 같은 호스트에 연속 요청할 때 쉬는 시간 (매너 휴식)
+
+    // [6] 진행 상황 (여러 워커가 동시에 건드리므로 Atomic 사용)
+    private final AtomicReference<String> state = new AtomicReference<>("IDLE");
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger success = new AtomicInteger();
+    private final AtomicInteger notFound = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final Map<String, Semaphore> hostGates = new ConcurrentHashMap<>();
+    private final Map<String, String> storedByUrl = new ConcurrentHashMap<>(); // 이번 작업에서 이미 받은 사진 주소 -> 저장 경로
+    private volatile boolean resume;
+    private volatile boolean stopRequested;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+
+    public RestaurantImageCrawlJob(RestaurantMapper restaurantMapper,
+                                   RestaurantImageExtractor imageExtractor,
+                                   RestaurantWebDriverPool driverPool,
+                                   RestaurantImageStore imageStore,
+                                   @Qualifier("crawlTaskExecutor") Executor jobExecutor) {
+        this.restaurantMapper = restaurantMapper;
+        this.imageExtractor = imageExtractor;
+        this.driverPool = driverPool;
+        this.imageStore = imageStore;
+        this.jobExecutor = jobExecutor;
+    }
+
+    // =========================================================
+    // 1. 작업 시작
+    // =========================================================
+    // 이미 돌고 있으면 새로 시작하지 않고 현재 상황만 돌려줍니다. (중복 실행 방지)
+    // resume=true: 체크포인트에 DONE/NOT_FOUND로 남은 식당은 건너뛰고 나머지만 처리합니다.
+    public RestaurantCrawlStatusDto start(boolean resume) {
+        String previous = state.get();
+        if ("RUNNING".equals(previous) || "STOPPING".equals(previous)
+                || !state.compareAndSet(previous, "RUNNING")) {
+            return getStatus();
+        }
+
+        this.resume = resume;
+        this.stopRequested = false;
+        this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+        this.lastError = null;
+        total.set(0);
+        processed.set(0);
+        success.set(0);
+        notFound.set(0);
+        failed.set(0);
+        skipped.set(0);
+        storedByUrl.clear();
+
+        try {
+            jobExecutor.execute(() -> run(resume));
+        } catch (RuntimeException e) {
+            // 작업 스레드가 꽉 차서 못 받은 경우
+            lastError = e.getMessage();
+            finishedAt = LocalDateTime.now();
+            state.set("FAILED");
+        }
+        return getStatus();
+    }
+
+    // =========================================================
+    // 2. 작업 중단 요청
+    // =========================================================
+    // 지금 처리 중인 식당까지만 마치고 멈춥니다. 다음에 resume=true로 시작하면 이어서 합니다.
+    public RestaurantCrawlStatusDto stop() {
+        if (state.compareAndSet("RUNNING", "STOPPING")) {
+            stopRequested = true;
+        }
+        return getStatus();
+    }
+
+    // =========================================================
+    // 3. 진행 상황 조회
+    // =========================================================
+    public RestaurantCrawlStatusDto getStatus() {
+        return RestaurantCrawlStatusDto.builder()
+                .state(state.get())
+                .resume(resume)
+                .total(total.get())
+                .processed(processed.get())
+                .success(success.get())
+                .notFound(notFound.get())
+                .failed(failed.get())
+                .skipped(skipped.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .lastError(lastError)
+                .build();
+    }
+
+    // [7] 실제 작업 본체 (crawlTaskExecutor 스레드에서 실행)
+    private void run(boolean resume) {
+        log.info("=== 🕷️ 이미지 크롤링 시작 (resume={}) ===", resume);
+        try {
+            List<RestaurantDto> targets = restaurantMapper.findCrawlTargets(resume);
+            total.set(targets.size());
+
+            // 워커 풀: 식당들을 나눠서 동시에 처리합니다. try 블록이 끝나면 모든 작업이 끝날 때까지 기다립니다.
+            try (ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, workerCount))) {
+                for (RestaurantDto store : targets) {
+                    workers.execute(() -> crawlOne(store));
+                }
+            }
+
+            state.set(stopRequested ? "IDLE" : "FINISHED");
+            log.info("=== 🎉 이미지 크롤링 종료 (성공 {}, 건너뜀 {}, 이미지 없음 {}, 실패 {}) ===",
+                    success.get(), skipped.get(), notFound.get(), failed.get());
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            state.set("FAILED");
+            log.error("이미지 크롤링 작업 실패", e);
+        } finally {
+            finishedAt = LocalDateTime.now();
+            driverPool.shutdown(); // 켜 둔 브라우저 정리
+            storedByUrl.clear();
+        }
+    }
+
+    // [8] 식당 하나 처리: 이미지 찾기 -> 다운로드 -> DB 갱신 -> 체크포인트
+    private void crawlOne(RestaurantDto store) {
+        if (stopRequested) return;
+
+        // 이미 지문 경로로 저장된 사진이 디스크에 있으면 페이지도 열지 않고 건너뜁니다.
+        if (imageStore.exists(store.getImagePath())) {
+            try {
+                restaurantMapper.saveCrawlCheckpoint(store.getId(), CHECKPOINT_DONE);
+            } catch (Exception e) {
+                log.warn("체크포인트 저장 실패: {}", e.getMessage());
+            }
+            skipped.incrementAndGet();
+            processed.incrementAndGet();
+            return;
+        }
+
+        Semaphore gate = hostGates.computeIfAbsent(hostOf(store.getUrl()),
+                host -> new Semaphore(Math.max(1, perHostConcurrency)));
+        try {
+            gate.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            String imageUrl = imageExtractor.findImageUrl(store.getUrl());
+            if (imageUrl == null) {
+                restaurantMapper.saveCrawlCheckpoint(store.getId(), CHECKPOINT_NOT_FOUND);
+                notFound.incrementAndGet();
+            } else {
+                String imagePath = storeOnce(imageUrl); // 저장 경로: 지문 기반 (예: 3f/a2/3fa2...c1.jpg)
+                restaurantMapper.updateImage(store.getId(), imagePath);
+                restaurantMapper.saveCrawlCheckpoint(store.getId(), CHECKPOINT_DONE);
+                success.incrementAndGet();
+            }
+            // 매너 휴식: 허가증을 쥔 채로 쉬어서, 같은 호스트에 연달아 요청이 몰리지 않게 합니다.
+            if (hostDelayMs > 0) Thread.sleep(hostDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            lastError = store.getId() + ": " + e.getMessage();
+            log.warn("💥 식당 {} 이미지 처리 중 에러: {}", store.getId(), e.getMessage());
+            try {
+                restaurantMapper.saveCrawlCheckpoint(store.getId(), CHECKPOINT_FAILED);
+            } catch (Exception checkpointError) {
+                log.warn("체크포인트 저장 실패: {}", checkpointError.getMessage());
+            }
+        } finally {
+            gate.release();
+            processed.incrementAndGet();
+        }
+    }
+
+    // [9] 보조 메서드: 사진 저장 (같은 주소는 이번 작업에서 한 번만 내려받음)
+    // 체인점들이 같은 사진 주소를 쓰는 경우가 많아서, 두 번째 식당부터는 저장 경로만 재사용합니다.
+    // 실패하면 예외를 던져서 FAILED 체크포인트가 남도록 합니다. (다음 이어하기 때 재시도)
+    private String storeOnce(String imageUrl) throws IOException {
+        String known = storedByUrl.get(imageUrl);
+        if (known != null && imageStore.exists(known)) {
+            return known;
+        }
+        String stored = imageStore.store(imageUrl);
+        storedByUrl.put(imageUrl, stored);
+        return stored;
+    }
+
+    // [10] 주소에서 호스트 이름 꺼내기 (호스트별 동시 접속 제한용)
+    private String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : "";
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+}
+//
+//상황: 관리자가 [이미지 수집] 버튼을 눌렀을 때
+//
+//접수: 컨트롤러가 start()를 부르면, 작업을 crawlTaskExecutor 스레드에 넘기고 바로 "RUNNING" 상황판을 돌려줍니다. (요청 스레드는 안 막힘)
+//
+//명단 확보: DB에서 URL 있는 식당 명단을 받아옵니다. 이어하기 모드면 체크포인트에 DONE/NOT_FOUND로 남은 식당은 빠집니다.
+//          이미 지문 경로 사진이 디스크에 있는 식당은 페이지를 열지 않고 건너뜁니다.
+//
+//분업: 워커 4명이 명단을 나눠 처리합니다. 같은 사이트에는 동시에 2명까지만 들어가고, 들어간 사람은 0.5초 쉬고 나옵니다.
+//
+//이미지 찾기: 보통 페이지는 Jsoup으로 HTML만 받아서 바로 찾고, 네이버 지도처럼 JS가 필요한 페이지만 크롬 대여소에서 브라우저를 빌립니다.
+//
+//저장: 찾은 사진은 지문(SHA-256) 이름으로 저장합니다. 체인점처럼 같은 사진이면 파일은 하나만 남고, DB에는 같은 경로가 들어갑니다.
+//
+//기록: 식당 하나 끝날 때마다 체크포인트를 남깁니다. 서버가 중간에 죽어도 resume=true로 다시 시작하면 남은 식당부터 이어서 합니다.
+//
+//확인: 관리자는 GET /images/status 로 진행 상황(몇 개 중 몇 개 했는지)을 봅니다.
@@ -0,0 +1,137 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 정적 HTML 파싱(Jsoup)과 브라우저 제어(셀레니움) 도구들을 가져옵니다.
+import lombok.RequiredArgsConstructor; // 생성자 자동 생성
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.jsoup.Jsoup; // HTML 파싱 도구
+import org.jsoup.nodes.Document; // HTML 문서 객체
+import org.jsoup.nodes.Element; // HTML 태그 요소
+import org.openqa.selenium.By; // HTML 요소 찾기 도구
+import org.openqa.selenium.WebElement; // HTML 태그 하나
+import org.openqa.selenium.support.ui.ExpectedConditions; // "로딩될 때까지 기다려" 조건
+import org.openqa.selenium.support.ui.WebDriverWait; // 명시적 대기 도구
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.net.URI; // 주소에서 호스트 꺼내기
+import java.time.Duration; // 대기 시간
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// [3] 식당 페이지에서 대표 이미지 주소를 찾아내는 도구
+// 빠른 길(Jsoup): 자바스크립트 없이도 내용이 보이는 페이지는 HTML만 받아서 바로 찾습니다. (수십 ms)
+// 느린 길(셀레니움): 네이버 지도처럼 JS로 그려지는 페이지만 브라우저 대여소에서 크롬을 빌려 찾습니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantImageExtractor {
+
+    private final RestaurantWebDriverPool driverPool; // 크롬 대여소
+
+    // [4] Jsoup 요청 타임아웃 (밀리초)
+    @Value("${restaurant.crawl.jsoup-timeout-ms:3000}")
+    private int jsoupTimeoutMs;
+
+    // [5] 처음부터 브라우저로 가야 하는 호스트 목록 (JS로만 내용이 그려지는 사이트)
+    @Value("${restaurant.crawl.js-hosts:map.naver.com,place.naver.com,naver.me}")
+    private String jsHosts;
+
+    // =========================================================
+    // 메인 기능: 대표 이미지 주소 찾기 (없으면 null)
+    // =========================================================
+    public String findImageUrl(String pageUrl) throws InterruptedException {
+        if (!requiresBrowser(pageUrl)) {
+            try {
+                Document doc = Jsoup.connect(pageUrl)
+                        .timeout(jsoupTimeoutMs)
+                        .userAgent("Mozilla/5.0")
+                        .get();
+                String found = findInDocument(doc);
+                // 찾았거나, 스크립트가 하나도 없는 순수 HTML이면 브라우저로 다시 볼 필요가 없습니다.
+                if (found != null || doc.select("script").isEmpty()) {
+                    return found;
+                }
+            } catch (Exception e) {
+                log.debug("Jsoup 조회 실패, 브라우저로 재시도: {} ({})", pageUrl, e.getMessage());
+            }
+        }
+        return findWithBrowser(pageUrl);
+    }
+
+    // [6] Jsoup 문서에서 찾기: og:image -> 메인 영역 링크 이미지 -> 메인 영역 아무 이미지 순서
+    String findInDocument(Document doc) {
+        Element ogImage = doc.selectFirst("meta[property=og:image]");
+        if (ogImage != null && isUsable(ogImage.absUrl("content"))) {
+            return ogImage.absUrl("content");
+        }
+        List<String> candidates = new ArrayList<>();
+        for (Element img : doc.select("div[role=main] a img")) candidates.add(img.absUrl("src"));
+        for (Element img : doc.select("div[role=main] img")) candidates.add(img.absUrl("src"));
+        return pick(candidates);
+    }
+
+    // [7] 브라우저로 찾기 (기존 셀레니움 로직과 같은 전략)
+    // 고정 sleep 대신 메인 영역이 나타날 때까지만 기다립니다.
+    private String findWithBrowser(String pageUrl) throws InterruptedException {
+        try {
+            return driverPool.withDriver(driver -> {
+                driver.switchTo().defaultContent(); // 이전 작업에서 iframe 안에 들어가 있었을 수 있으니 초기화
+                driver.get(pageUrl);
+                WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+
+                // 네이버 지도는 실제 내용이 'entryIframe' 액자 속에 들어있습니다.
+                try {
+                    wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt("entryIframe"));
+                } catch (Exception e) {
+                    // 프레임 없으면 그냥 진행 (구조가 다를 수 있음)
+                }
+                try {
+                    wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("div[role='main']")));
+                } catch (Exception e) {
+                    // 메인 영역이 끝내 안 뜨면 있는 그대로 찾아봅니다.
+                }
+
+                List<String> candidates = new ArrayList<>();
+                for (WebElement img : driver.findElements(By.cssSelector("div[role='main'] a img"))) candidates.add(img.getAttribute("src"));
+                for (WebElement img : driver.findElements(By.cssSelector("div[role='main'] img"))) candidates.add(img.getAttribute("src"));
+                return pick(candidates);
+            });
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("브라우저 조회 실패: {} ({})", pageUrl, e.getMessage());
+            return null;
+        }
+    }
+
+    // [8] 후보 중 첫 번째 쓸만한 이미지 고르기
+    private String pick(List<String> candidates) {
+        for (String src : candidates) {
+            if (isUsable(src)) return src;
+        }
+        return null;
+    }
+
+    // [9] 쓸만한 이미지인지 검사: http로 시작하고, base64 데이터나 아이콘(.svg)이 아닌 것
+    private boolean isUsable(String src) {
+        return src != null && src.startsWith("http") && !src.contains("data:image") && !src.contains(".svg");
+    }
+
+    // [10] 이 주소는 브라우저가 꼭 필요한가?
+    private boolean requiresBrowser(String pageUrl) {
+        try {
+            String host = URI.create(pageUrl).getHost();
+            if (host == null) return false;
+            String lower = host.toLowerCase(Locale.ROOT);
+            return Arrays.stream(jsHosts.split(","))
+                    .map(String::trim)
+                    .filter(h -> !h.isEmpty())
+                    .anyMatch(h -> lower.equals(h) || lower.endsWith("." + h));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: NIO 채널(파일 고속 복사)과 해시(지문) 도구들을 가져옵니다.
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.ByteBuffer; // 채널이 읽고 쓰는 바구니
+import java.nio.channels.Channels; // InputStream -> 채널 변환기
+import java.nio.channels.FileChannel; // 파일 쓰기 채널
+import java.nio.channels.ReadableByteChannel; // 읽기 채널
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest; // SHA-256 지문 계산기
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat; // 바이트 -> 16진수 문자열
+import java.util.Locale;
+import java.util.Set;
+
+// [3] 내용 주소 기반 이미지 저장소 (Content-Addressed Store)
+// 파일 이름을 "식당ID.jpg"가 아니라 "파일 내용의 지문(SHA-256)"으로 짓습니다.
+// - 체인점처럼 똑같은 사진은 지문이 같으니 디스크에 딱 한 번만 저장됩니다.
+// - 한 폴더에 파일이 수만 개 쌓이지 않게 지문 앞 글자로 하위 폴더를 나눕니다. (예: 3f/a2/3fa2...c1.jpg)
+// - DB(REST_IMAGE)에는 이 상대 경로를 저장하고, 화면에서는 /images/restaurantImages/{경로} 로 보여줍니다.
+@Slf4j
+@Component
+public class RestaurantImageStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024; // 64KB씩 읽고 쓰기 (예전 1KB 바구니보다 시스템 호출 횟수가 훨씬 적음)
+    private static final Set<String> KNOWN_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp");
+
+    private final Path root;           // 저장소 최상위 폴더
+    private final int connectTimeoutMs; // 이미지 서버 연결 대기 시간
+    private final int readTimeoutMs;    // 이미지 데이터 수신 대기 시간
+
+    // [4] 생성자: 저장 폴더와 타임아웃을 설정 파일에서 읽습니다.
+    // 기본값 uploads/restaurantImages 는 WebMvcConfig의 /images/** -> uploads/ 매핑과 맞춘 위치입니다.
+    public RestaurantImageStore(@Value("${restaurant.image.root:uploads/restaurantImages}") String root,
+                                @Value("${restaurant.image.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                @Value("${restaurant.image.read-timeout-ms:10000}") int readTimeoutMs) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    // =========================================================
+    // 1. 이미지 내려받아 저장하기
+    // =========================================================
+    // 다운로드하면서 동시에 지문을 계산합니다. (파일을 두 번 읽지 않음)
+    // 받는 동안은 임시 파일에 쓰고, 다 받은 뒤 지문 이름으로 옮깁니다. 이미 같은 지문 파일이 있으면 임시 파일만 버립니다.
+    // 반환값: 저장소 기준 상대 경로 (예: "3f/a2/3fa2...c1.jpg")
+    public String store(String imageUrl) throws IOException {
+        Path tmpDir = Files.createDirectories(root.resolve("tmp"));
+        Path tmp = Files.createTempFile(tmpDir, "download-", ".part");
+        try {
+            MessageDigest digest = newDigest();
+            URLConnection connection = URI.create(imageUrl).toURL().openConnection();
+            connection.setConnectTimeout(connectTimeoutMs);
+            connection.setReadTimeout(readTimeoutMs);
+
+            try (InputStream in = connection.getInputStream();
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    // 같은 바구니를 지문 계산기와 파일에 차례로 보여줍니다. (duplicate()로 읽은 위치를 따로 관리)
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+
+            if (Files.size(tmp) == 0) {
+                throw new IOException("빈 이미지 응답: " + imageUrl);
+            }
+
+            String relativePath = shardedPath(HexFormat.of().formatHex(digest.digest()), extensionOf(imageUrl));
+            Path destination = resolve(relativePath);
+            if (Files.exists(destination)) {
+                return relativePath; // 같은 사진이 이미 있음 -> 중복 저장 안 함
+            }
+            Files.createDirectories(destination.getParent());
+            moveIntoPlace(tmp, destination);
+            return relativePath;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // =========================================================
+    // 2. 이미 저장된 이미지인지 확인
+    // =========================================================
+    // DB에 지문 경로가 남아 있고 실제 파일도 있으면, 크롤러는 그 식당을 다시 받지 않고 건너뜁니다.
+    // 예전 방식("152.jpg")으로 저장된 값은 지문 경로가 아니므로 false -> 한 번 더 받아서 지문 경로로 옮깁니다.
+    public boolean exists(String relativePath) {
+        if (relativePath == null || !relativePath.contains("/")) return false;
+        try {
+            return Files.isRegularFile(resolve(relativePath));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // [5] 지문 -> 하위 폴더 경로 (앞 2글자 / 다음 2글자 / 전체 지문.확장자)
+    static String shardedPath(String hex, String extension) {
+        return hex.substring(0, 2) + "/" + hex.substring(2, 4) + "/" + hex + "." + extension;
+    }
+
+    // [6] 상대 경로를 실제 경로로 바꾸되, "../" 같은 장난으로 저장소 밖을 가리키지 못하게 막습니다.
+    private Path resolve(String relativePath) {
+        Path resolved = root.resolve(relativePath).normalize();
+        if (!resolved.startsWith(root)) {
+            throw new IllegalArgumentException("저장소 밖 경로: " + relativePath);
+        }
+        return resolved;
+    }
+
+    // [7] 임시 파일을 최종 위치로 옮기기
+    // 두 워커가 같은 사진을 동시에 받았다면 먼저 옮긴 쪽이 이기고, 늦은 쪽은 그냥 임시 파일을 버립니다.
+    private void moveIntoPlace(Path tmp, Path destination) throws IOException {
+        try {
+            Files.move(tmp, destination, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(tmp, destination);
+            } catch (FileAlreadyExistsException ignored) {
+                // 다른 워커가 먼저 저장함
+            }
+        } catch (FileAlreadyExistsException ignored) {
+            // 다른 워커가 먼저 저장함
+        }
+    }
+
+    // [8] 주소 끝의 확장자를 보고 저장 확장자를 정합니다. (모르는 확장자면 jpg)
+    private String extensionOf(String imageUrl) {
+        try {
+            String path = URI.create(imageUrl).getPath();
+            int dot = path == null ? -1 : path.lastIndexOf('.');
+            if (dot >= 0) {
+                String ext = path.substring(dot + 1).toLowerCase(Locale.ROOT);
+                if (KNOWN_EXTENSIONS.contains(ext)) return ext.equals("jpeg") ? "jpg" : ext;
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("확장자 판별 실패: {}", imageUrl);
+        }
+        return "jpg";
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 지원하지 않는 JVM입니다.", e);
+        }
+    }
+}
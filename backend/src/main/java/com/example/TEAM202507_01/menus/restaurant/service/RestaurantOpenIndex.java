@@ -0,0 +1,61 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 필요한 도구들을 가져옵니다.
+import com.example.TEAM202507_01.common.service.LazySnapshot; // 한 번 만들어 두는 메모리 카탈로그
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto; // 맛집 데이터 가방
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// [3] "지금 영업 중" 인덱스 (메모리 카탈로그)
+// 식당 목록과 각 식당의 영업시간 비트맵을 메모리에 들고 있다가, "T시에 연 곳"을 비트 확인만으로 골라냅니다.
+// 데이터가 바뀌면(동기화, 등록, 삭제) invalidate()로 버리고, 다음 조회 때 DB에서 다시 읽어 만듭니다.
+@Component
+public class RestaurantOpenIndex {
+
+    private final LazySnapshot<Snapshot> snapshot = new LazySnapshot<>(); // 현재 카탈로그 (버리면 다음 조회 때 새로 만듦)
+
+    // =========================================================
+    // 1. 조회: 그 시각에 영업 중인 식당들
+    // =========================================================
+    // loader: 카탈로그가 없을 때 식당 목록을 가져오는 방법 (서비스가 DB 조회 + 데이터 보정까지 해서 넘겨줌)
+    public List<RestaurantDto> findOpenAt(LocalDateTime at, Supplier<List<RestaurantDto>> loader) {
+        Snapshot current = snapshot.get(() -> build(loader.get()));
+
+        int slot = RestaurantOpeningHours.slotOf(at.getDayOfWeek(), at.toLocalTime());
+        List<RestaurantDto> result = new ArrayList<>();
+        for (int i = 0; i < current.restaurants.size(); i++) {
+            RestaurantOpeningHours hours = current.hours.get(i);
+            if (hours != null && hours.isOpenAt(slot)) {
+                result.add(current.restaurants.get(i));
+            }
+        }
+        return result;
+    }
+
+    // =========================================================
+    // 2. 카탈로그 버리기 (데이터가 바뀌었을 때)
+    // =========================================================
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    // [4] 카탈로그 만들기: DB에 저장된 비트맵(REST_OPEN_BITS)을 쓰고,
+    // 아직 비트맵이 없는 예전 데이터만 그 자리에서 텍스트를 해석합니다.
+    private Snapshot build(List<RestaurantDto> restaurants) {
+        List<RestaurantOpeningHours> hours = new ArrayList<>(restaurants.size());
+        for (RestaurantDto restaurant : restaurants) {
+            RestaurantOpeningHours decoded = RestaurantOpeningHours.decode(restaurant.getOpenBits());
+            hours.add(decoded != null ? decoded : RestaurantOpeningHours.parse(restaurant.getOpenTime()));
+        }
+        return new Snapshot(List.copyOf(restaurants), hours);
+    }
+
+    // [5] 식당 목록과 비트맵을 같은 순서로 묶어둔 묶음 (한 번 만들면 안 바뀜)
+    private record Snapshot(List<RestaurantDto> restaurants, List<RestaurantOpeningHours> hours) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 정규식, 비트 연산, 문자열 변환 도구들을 가져옵니다.
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// [3] 영업시간 비트맵 (일주일 = 7일 x 96칸, 한 칸 = 15분)
+// "월~금 11:00~22:00, 브레이크타임 15:00~17:00, 일요일 휴무" 같은 자유 텍스트를
+// 데이터 저장할 때 한 번만 해석해서 672비트(long 11개)짜리 지도로 바꿔 둡니다.
+// 그러면 "지금 영업 중?"은 문자열 파싱 없이 비트 하나만 확인하면 됩니다.
+public final class RestaurantOpeningHours {
+
+    public static final int SLOT_MINUTES = 15;                       // 한 칸의 길이
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;  // 하루 96칸
+    private static final int SLOTS_PER_WEEK = SLOTS_PER_DAY * 7;     // 일주일 672칸
+    private static final int ALL_DAYS = 0b1111111;                   // 월~일 전부 (비트 0 = 월요일)
+
+    // [4] 토큰 정규식: 요일 범위, 요일 하나, 시간 범위, 키워드를 앞에서부터 순서대로 찾아냅니다.
+    // 요일 글자("일")가 "매일", "휴일" 같은 단어 속에 숨어 있을 때 오해하지 않도록 앞뒤가 한글이 아닌 경우만 요일로 봅니다.
+    private static final String DAY = "([월화수목금토일])(?:요일)?";
+    private static final String DAY_END = "(?:요일|(?![가-힣]))";
+    private static final String TIME = "(\\d{1,2})(?::(\\d{2})|시)";
+    private static final Pattern TOKEN = Pattern.compile(
+            "(?<dayRange>(?<![가-힣])" + DAY + "\\s*[~\\-–]\\s*([월화수목금토일])" + DAY_END + ")"
+                    + "|(?<timeRange>" + TIME + "\\s*[~\\-–]\\s*" + TIME + ")"
+                    + "|(?<keyword>공휴일|매일|연중무휴|평일|주말|24시간|브레이크(?:\\s*타임)?|break|휴게|정기\\s*휴무|휴무|휴일|쉼)"
+                    + "|(?<day>(?<![가-힣])([월화수목금토일])" + DAY_END + ")",
+            Pattern.CASE_INSENSITIVE);
+
+    private final long[] bits; // 672비트 지도
+
+    private RestaurantOpeningHours(long[] bits) {
+        this.bits = bits;
+    }
+
+    // =========================================================
+    // 1. 해석: 자유 텍스트 -> 비트맵 (해석 못 하면 null)
+    // =========================================================
+    public static RestaurantOpeningHours parse(String text) {
+        if (text == null || text.isBlank()) return null;
+        return new Parser().parse(text);
+    }
+
+    // =========================================================
+    // 2. 조회: 그 시각에 영업 중인가? (비트 하나 확인)
+    // =========================================================
+    public boolean isOpenAt(DayOfWeek day, LocalTime time) {
+        return isOpenAt(slotOf(day, time));
+    }
+
+    public boolean isOpenAt(int weekSlot) {
+        return (bits[weekSlot >>> 6] & (1L << (weekSlot & 63))) != 0;
+    }
+
+    // [5] 요일 + 시각 -> 일주일 중 몇 번째 칸인지 (월요일 00:00 = 0번 칸)
+    public static int slotOf(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * SLOTS_PER_DAY + (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    // =========================================================
+    // 3. 저장용 변환: 비트맵 <-> 문자열 (DB의 REST_OPEN_BITS 컬럼, Base64 120자)
+    // =========================================================
+    public String encode() {
+        byte[] bytes = new byte[bits.length * 8];
+        for (int i = 0; i < bits.length; i++) {
+            for (int b = 0; b < 8; b++) {
+                bytes[i * 8 + b] = (byte) (bits[i] >>> (b * 8));
+            }
+        }
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    public static RestaurantOpeningHours decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) return null;
+        try {
+            byte[] bytes = Base64.getDecoder().decode(encoded);
+            long[] bits = new long[(SLOTS_PER_WEEK + 63) / 64];
+            if (bytes.length != bits.length * 8) return null;
+            for (int i = 0; i < bits.length; i++) {
+                for (int b = 0; b < 8; b++) {
+                    bits[i] |= (bytes[i * 8 + b] & 0xFFL) << (b * 8);
+                }
+            }
+            return new RestaurantOpeningHours(bits);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // [6] 텍스트를 바로 저장용 문자열로 (해석 못 하면 null)
+    public static String encodeText(String text) {
+        RestaurantOpeningHours hours = parse(text);
+        return hours == null ? null : hours.encode();
+    }
+
+    // [7] 요일들의 [시작, 끝) 구간을 켜거나 끕니다. 끝이 시작보다 이르면 자정을 넘겨 다음 날까지 이어집니다. (예: 18:00~02:00)
+    private static void apply(long[] bits, int days, int startMinute, int endMinute, boolean open) {
+        int startSlot = startMinute / SLOT_MINUTES;
+        int endSlot = (endMinute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        if (endSlot <= startSlot) endSlot += SLOTS_PER_DAY;
+        for (int day = 0; day < 7; day++) {
+            if ((days & (1 << day)) == 0) continue;
+            for (int slot = startSlot; slot < endSlot; slot++) {
+                int weekSlot = (day * SLOTS_PER_DAY + slot) % SLOTS_PER_WEEK; // 일요일 밤 -> 월요일 새벽으로 넘어감
+                if (open) {
+                    bits[weekSlot >>> 6] |= 1L << (weekSlot & 63);
+                } else {
+                    bits[weekSlot >>> 6] &= ~(1L << (weekSlot & 63));
+                }
+            }
+        }
+    }
+
+    private static int dayRange(int from, int to) {
+        int days = 0;
+        for (int day = from; ; day = (day + 1) % 7) {
+            days |= 1 << day;
+            if (day == to) return days;
+        }
+    }
+
+    private static int dayIndex(String day) {
+        return "월화수목금토일".indexOf(day);
+    }
+
+    // "9:30" -> 570, "21시" -> 1260, "24:00" -> 1440 (범위 밖이면 -1)
+    private static int minutes(String hour, String minute) {
+        int h = Integer.parseInt(hour);
+        int min = minute == null ? 0 : Integer.parseInt(minute);
+        if (h > 24 || min > 59 || (h == 24 && min > 0)) return -1;
+        return h * 60 + min;
+    }
+
+    // [8] 해석기: 토큰을 앞에서부터 읽으며 "지금 어느 요일 얘기 중인지"를 기억합니다.
+    // 영업시간/브레이크/휴무를 다 모은 뒤 마지막에 한 번에 비트맵으로 칠합니다. (휴무가 문장 뒤쪽에 나와도 반영되도록)
+    private static final class Parser {
+        private final List<int[]> openRanges = new ArrayList<>();  // {요일들, 시작 분, 끝 분}
+        private final List<int[]> breakRanges = new ArrayList<>();
+        private int closedDays = 0;
+
+        private int pendingDays = -1;        // 방금 언급된 요일들 (-1 = 아직 없음)
+        private boolean lastWasDay = false;  // 직전 토큰이 요일이었는지 ("토, 일"처럼 이어지는 목록 처리)
+        private int lastOpenDays = ALL_DAYS; // 마지막 영업시간이 적용된 요일들 (브레이크타임이 따라감)
+        private boolean breakNext = false;   // 다음 시간 범위는 브레이크타임
+        private boolean closedNext = false;  // 다음 요일들은 휴무 ("휴무: 월요일" 형태)
+
+        private RestaurantOpeningHours parse(String text) {
+            Matcher m = TOKEN.matcher(text);
+            while (m.find()) {
+                if (m.group("dayRange") != null) {
+                    markDays(dayRange(dayIndex(m.group(2)), dayIndex(m.group(3))));
+                } else if (m.group("day") != null) {
+                    markDays(1 << dayIndex(m.group(11)));
+                } else if (m.group("timeRange") != null) {
+                    markTimeRange(minutes(m.group(5), m.group(6)), minutes(m.group(7), m.group(8)));
+                } else {
+                    markKeyword(m.group("keyword").replaceAll("\\s", "").toLowerCase());
+                }
+            }
+
+            if (openRanges.isEmpty()) return null;
+
+            long[] bits = new long[(SLOTS_PER_WEEK + 63) / 64];
+            for (int[] range : openRanges) {
+                apply(bits, range[0] & ~closedDays, range[1], range[2], true);
+            }
+            for (int[] range : breakRanges) {
+                apply(bits, range[0], range[1], range[2], false);
+            }
+            return new RestaurantOpeningHours(bits);
+        }
+
+        private void markDays(int days) {
+            if (closedNext) {
+                closedDays |= days; // "휴무: 월, 화" -> 영업 요일 문맥은 그대로 둠
+                return;
+            }
+            pendingDays = lastWasDay && pendingDays > 0 ? pendingDays | days : days;
+            lastWasDay = true;
+        }
+
+        private void markTimeRange(int start, int end) {
+            if (start < 0 || end < 0) return;
+            if (breakNext) {
+                breakRanges.add(new int[]{lastWasDay && pendingDays > 0 ? pendingDays : lastOpenDays, start, end});
+                breakNext = false;
+            } else {
+                int days = pendingDays >= 0 ? pendingDays : ALL_DAYS;
+                openRanges.add(new int[]{days, start, end});
+                lastOpenDays = days;
+            }
+            lastWasDay = false;
+            closedNext = false;
+        }
+
+        private void markKeyword(String keyword) {
+            switch (keyword) {
+                case "매일", "연중무휴" -> setDays(ALL_DAYS);
+                case "평일" -> setDays(0b0011111);
+                case "주말" -> setDays(0b1100000);
+                case "공휴일" -> { // 공휴일은 날짜 정보가 없어서 무시 ("공휴일 휴무"가 일요일로 오해되지 않게 빈 요일로 둠)
+                    pendingDays = 0;
+                    lastWasDay = true;
+                    closedNext = false;
+                }
+                case "24시간" -> {
+                    int days = pendingDays >= 0 ? pendingDays : ALL_DAYS;
+                    openRanges.add(new int[]{days, 0, 24 * 60});
+                    lastOpenDays = days;
+                    lastWasDay = false;
+                    closedNext = false;
+                }
+                case "브레이크", "브레이크타임", "break", "휴게" -> breakNext = true;
+                default -> { // 휴무, 정기휴무, 휴일, 쉼
+                    if (lastWasDay && pendingDays > 0) {
+                        closedDays |= pendingDays; // "일요일 휴무"
+                    } else if (!lastWasDay) {
+                        closedNext = true;         // "휴무: 일요일"
+                    }
+                    lastWasDay = false;
+                }
+            }
+        }
+
+        private void setDays(int days) {
+            pendingDays = days;
+            lastWasDay = false;
+            closedNext = false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 정규식과 리스트 도구들을 가져옵니다.
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto; // 맛집 데이터 가방
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// [3] 가격 범위 추출기 (최저가 / 최고가 / 중간값)
+// REST_PRICE는 "8,000원,12000" 같은 문자열 목록이라 "1만원 이하" 같은 조건을 DB나 검색엔진에서 바로 걸 수가 없습니다.
+// 데이터를 저장할 때 한 번만 숫자를 뽑아서 REST_PRICE_MIN / MAX / MEDIAN 컬럼(과 검색 문서)에 따로 넣어 둡니다.
+public final class RestaurantPriceRange {
+
+    // [4] 금액 토큰: "12,000"(천 단위 콤마) 또는 "12000" 또는 "1.2만"/"2만"
+    // REST_PRICE는 콤마로 이어 붙여 저장되기 때문에, DB에서 다시 읽으면 "12,000"이 ["12", "000"]으로 쪼개져 있습니다.
+    // 그래서 목록을 다시 콤마로 붙인 뒤 "숫자 1~3자리 + (콤마 + 숫자 3자리) 반복"을 한 금액으로 읽습니다.
+    // 하이픈에 붙은 숫자(042-123-4567 같은 전화번호 조각)는 금액으로 보지 않습니다.
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(?<![\\d.\\-])(?:(\\d+(?:\\.\\d+)?)\\s*만|(\\d{1,3}(?:,\\d{3})+(?![\\d\\-])|\\d+(?![\\d\\-])))");
+
+    // 메뉴 가격으로 말이 되는 범위 (그 밖의 숫자는 전화번호, 수량, 잘못 붙은 금액으로 보고 버림)
+    private static final int MIN_PLAUSIBLE = 500;
+    private static final int MAX_PLAUSIBLE = 1_000_000;
+
+    private RestaurantPriceRange() {
+    }
+
+    // =========================================================
+    // 1. 맛집 가방에 가격 범위 채우기 (저장 직전에 호출)
+    // =========================================================
+    // 숫자를 하나도 못 찾으면 세 값 모두 null (가격 필터에 걸리지 않음)
+    public static void fill(RestaurantDto dto) {
+        List<Integer> amounts = extract(dto.getPrice());
+        if (amounts.isEmpty()) {
+            dto.setPriceMin(null);
+            dto.setPriceMax(null);
+            dto.setPriceMedian(null);
+            return;
+        }
+        Collections.sort(amounts);
+        int size = amounts.size();
+        dto.setPriceMin(amounts.get(0));
+        dto.setPriceMax(amounts.get(size - 1));
+        // 짝수 개면 가운데 두 값의 평균
+        dto.setPriceMedian(size % 2 == 1
+                ? amounts.get(size / 2)
+                : (amounts.get(size / 2 - 1) + amounts.get(size / 2)) / 2);
+    }
+
+    // =========================================================
+    // 2. 가격 문자열 목록 -> 금액 목록
+    // =========================================================
+    static List<Integer> extract(List<String> prices) {
+        List<Integer> amounts = new ArrayList<>();
+        if (prices == null || prices.isEmpty()) return amounts;
+
+        Matcher m = AMOUNT.matcher(String.join(",", prices));
+        while (m.find()) {
+            long amount;
+            if (m.group(1) != null) {
+                amount = Math.round(Double.parseDouble(m.group(1)) * 10_000); // "1.2만" -> 12000
+            } else {
+                String digits = m.group(2).replace(",", "");
+                if (digits.length() > 9) continue; // 너무 긴 숫자(전화번호 등)
+                amount = Long.parseLong(digits);
+            }
+            if (amount >= MIN_PLAUSIBLE && amount <= MAX_PLAUSIBLE) {
+                amounts.add((int) amount);
+            }
+        }
+        return amounts;
+    }
+}
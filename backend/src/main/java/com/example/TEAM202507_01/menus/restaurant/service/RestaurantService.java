@@ -5,6 +5,7 @@ package com.example.TEAM202507_01.menus.restaurant.service;
 // [2] 임포트: 필요한 도구들을 가져옵니다.
 import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantBlogDto; // (현재 코드엔 없지만, 블로그 관련 DTO가 필요할 때 씀)
 import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto; // 맛집 데이터를 담아 나르는 가방(DTO)
+import java.time.LocalDateTime; // 날짜와 시각
 import java.util.List; // 여러 개의 데이터를 담을 리스트 도구
 
 // [3] 인터페이스 선언: "나는 RestaurantService라는 이름의 메뉴판(설계도)입니다."
@@ -36,6 +37,18 @@ public interface RestaurantService {
     // 파라미터: Long id (지울 식당 번호)
     // 반환값: void (삭제하고 끝이니까 돌려줄 값이 없음)
     void delete(Long id);
+
+    // [8] 영업 중인 맛집 조회 기능 정의
+    // 기능: 특정 시각(at)에 문을 연 맛집만 골라서 가져와야 한다.
+    // 파라미터: LocalDateTime at (요일과 시각만 씁니다. 예: 2026-10-19T13:00 -> 월요일 13시)
+    // 반환값: List<RestaurantDto> (그 시각에 영업 중인 맛집 리스트)
+    List<RestaurantDto> findOpenAt(LocalDateTime at);
+
+    // [9] 가격대별 맛집 조회 기능 정의
+    // 기능: 메뉴 가격이 [minPrice, maxPrice] 범위에 걸치는 맛집만 가져와야 한다. (둘 중 하나는 생략 가능)
+    // 파라미터: Integer minPrice, Integer maxPrice (원 단위, 예: maxPrice=10000 -> 만 원 이하 메뉴가 있는 곳)
+    // 반환값: List<RestaurantDto> (가운데 가격이 싼 순서)
+    List<RestaurantDto> findByPriceRange(Integer minPrice, Integer maxPrice);
 }
 
 //
@@ -7,7 +7,10 @@ import com.example.TEAM202507_01.menus.restaurant.repository.RestaurantMapper; /
 import lombok.RequiredArgsConstructor; // 생성자 자동 생성
 import org.springframework.stereotype.Service; // 서비스 빈 등록
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션 관리
+import org.springframework.transaction.support.TransactionSynchronization; // 커밋 뒤에 할 일 등록
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime; // 날짜와 시각
 import java.util.ArrayList; // 수정 가능한 리스트
 import java.util.List; // 리스트 인터페이스
 
@@ -24,6 +27,9 @@ public class RestaurantServiceImpl implements RestaurantService {
     // [6] 의존성 주입: DB 작업을 대신 해줄 매퍼(창고지기)를 데려옵니다.
     private final RestaurantMapper restaurantMapper;
 
+    // [6-1] "지금 영업 중" 인덱스 (메모리 카탈로그)
+    private final RestaurantOpenIndex openIndex;
+
     // =========================================================
     // 1. 전체 목록 조회
     // =========================================================
@@ -68,6 +74,11 @@ public class RestaurantServiceImpl implements RestaurantService {
     // =========================================================
     @Override
     public RestaurantDto save(RestaurantDto restaurant) {
+        // 영업시간 텍스트를 비트맵으로 미리 바꿔 둡니다. (조회 때 문자열 파싱 X)
+        restaurant.setOpenBits(RestaurantOpeningHours.encodeText(restaurant.getOpenTime()));
+        // 가격 문자열에서 최저가/최고가/중간값 숫자를 뽑아 둡니다. (가격 필터용)
+        RestaurantPriceRange.fill(restaurant);
+
         // [15] ID 체크: ID가 없으면 '새 식당'이고, 있으면 '기존 식당'입니다.
         if (restaurant.getId() == null) {
             // ID 없음 -> 신규 등록 (INSERT 쿼리 실행)
@@ -76,6 +87,7 @@ public class RestaurantServiceImpl implements RestaurantService {
             // ID 있음 -> 정보 수정 (UPDATE 쿼리 실행)
             restaurantMapper.update(restaurant);
         }
+        invalidateAfterCommit(); // 영업 중 인덱스 다시 만들기 예약
         // 저장된 객체를 그대로 돌려줍니다.
         return restaurant;
     }
@@ -87,6 +99,49 @@ public class RestaurantServiceImpl implements RestaurantService {
     public void delete(Long id) {
         // [16] 매퍼에게 해당 ID 식당을 지우라고 명령합니다.
         restaurantMapper.delete(id);
+        invalidateAfterCommit();
+    }
+
+    // =========================================================
+    // 5. 영업 중인 맛집 조회
+    // =========================================================
+    // 메모리 카탈로그에서 식당마다 비트 하나만 확인합니다. 카탈로그가 없으면 전체 목록 조회와 같은 방식으로 만들어 둡니다.
+    @Override
+    @Transactional(readOnly = true)
+    public List<RestaurantDto> findOpenAt(LocalDateTime at) {
+        return openIndex.findOpenAt(at, this::findAll);
+    }
+
+    // =========================================================
+    // 6. 가격대별 맛집 조회
+    // =========================================================
+    // 숫자 가격 컬럼(인덱스)으로 DB에서 바로 거릅니다. 범위가 뒤집혀 오면 잘못된 요청으로 봅니다.
+    @Override
+    @Transactional(readOnly = true)
+    public List<RestaurantDto> findByPriceRange(Integer minPrice, Integer maxPrice) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new RuntimeException("최소 가격이 최대 가격보다 큽니다. min: " + minPrice + ", max: " + maxPrice);
+        }
+        List<RestaurantDto> list = restaurantMapper.findByPriceRange(minPrice, maxPrice);
+        for (RestaurantDto restaurantDto : list) {
+            fillMissingData(restaurantDto);
+        }
+        return list;
+    }
+
+    // 커밋이 끝난 뒤에 영업 중 인덱스 버리기
+    // 커밋 전에 버리면, 그 사이 다른 요청이 아직 커밋 안 된(안 보이는) 옛 데이터로 새 번호의 인덱스를 만들어 버립니다.
+    private void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            openIndex.invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                openIndex.invalidate();
+            }
+        });
     }
 
     // =========================================================
@@ -0,0 +1,119 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+// [1] 패키지 선언: 이 파일이 '맛집 메뉴 > 서비스' 폴더에 있다는 주소입니다.
+
+// [2] 임포트: 셀레니움 드라이버와 동시성 도구들을 가져옵니다.
+import io.github.bonigarcia.wdm.WebDriverManager; // 크롬 드라이버 자동 설치기
+import lombok.extern.slf4j.Slf4j; // 로그 도구
+import org.openqa.selenium.WebDriver; // 웹 브라우저 제어 도구
+import org.openqa.selenium.chrome.ChromeDriver; // 크롬 브라우저 제어 구현체
+import org.openqa.selenium.chrome.ChromeOptions; // 크롬 실행 옵션 (헤드리스 등)
+import org.springframework.beans.factory.DisposableBean; // 서버 종료 시 정리 작업 훅
+import org.springframework.beans.factory.annotation.Autowired; // 생성자가 여러 개일 때 스프링이 쓸 생성자 표시
+import org.springframework.beans.factory.annotation.Value; // 설정 파일 값 읽기
+import org.springframework.stereotype.Component; // 빈 등록
+
+import java.util.concurrent.BlockingQueue; // 쉬고 있는 브라우저 대기열
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore; // 동시에 빌려줄 수 있는 브라우저 수 제한
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// [3] 크롬 브라우저 대여소 (WebDriver Pool)
+// 예전에는 식당 하나마다 크롬을 켰다 껐는데, 크롬 한 번 띄우는 데만 1~2초가 걸립니다.
+// 이 대여소는 브라우저 몇 개(maxDrivers)를 켜 둔 채로 돌려 쓰고,
+// 메모리 누수가 쌓이지 않게 일정 횟수(maxUsesPerDriver)를 쓰면 새 브라우저로 교체합니다.
+@Slf4j
+@Component
+public class RestaurantWebDriverPool implements DisposableBean {
+
+    private final Supplier<WebDriver> driverFactory; // 새 브라우저를 만드는 방법
+    private final int maxUsesPerDriver;              // 브라우저 하나를 몇 번까지 재사용할지
+    private final Semaphore permits;                 // 동시에 대여 가능한 브라우저 수
+    private final BlockingQueue<PooledDriver> idle = new LinkedBlockingQueue<>(); // 반납되어 쉬고 있는 브라우저들
+
+    // [4] 스프링이 쓰는 생성자: 헤드리스 크롬을 만들어 씁니다.
+    @Autowired
+    public RestaurantWebDriverPool(@Value("${restaurant.crawl.drivers:2}") int maxDrivers,
+                                   @Value("${restaurant.crawl.driver-max-uses:50}") int maxUsesPerDriver) {
+        this(RestaurantWebDriverPool::newHeadlessChrome, maxDrivers, maxUsesPerDriver);
+    }
+
+    // [5] 테스트 등에서 브라우저 만드는 방법을 바꿔 끼울 수 있는 생성자
+    public RestaurantWebDriverPool(Supplier<WebDriver> driverFactory, int maxDrivers, int maxUsesPerDriver) {
+        this.driverFactory = driverFactory;
+        this.maxUsesPerDriver = Math.max(1, maxUsesPerDriver);
+        this.permits = new Semaphore(Math.max(1, maxDrivers));
+    }
+
+    // [6] 브라우저 빌려서 일 시키기
+    // 빈 브라우저가 없으면 새로 만들고, 일이 끝나면 대기열에 돌려놓습니다.
+    // 작업 중 에러가 나면 그 브라우저는 세션이 꼬였을 수 있으니 재사용하지 않고 종료합니다.
+    public <T> T withDriver(Function<WebDriver, T> work) throws InterruptedException {
+        permits.acquire();
+        PooledDriver pooled = null;
+        boolean broken = false;
+        try {
+            pooled = idle.poll();
+            if (pooled == null) {
+                pooled = new PooledDriver(driverFactory.get());
+            }
+            return work.apply(pooled.driver);
+        } catch (RuntimeException e) {
+            broken = true;
+            throw e;
+        } finally {
+            if (pooled != null) {
+                pooled.uses++;
+                if (broken || pooled.uses >= maxUsesPerDriver) {
+                    quietQuit(pooled.driver);
+                } else {
+                    idle.offer(pooled);
+                }
+            }
+            permits.release();
+        }
+    }
+
+    // [7] 쉬고 있는 브라우저 전부 종료 (크롤링 작업이 끝났을 때 호출)
+    // 다음 작업 때는 필요한 만큼 다시 켭니다.
+    public void shutdown() {
+        PooledDriver pooled;
+        while ((pooled = idle.poll()) != null) {
+            quietQuit(pooled.driver);
+        }
+    }
+
+    // [8] 서버 종료 시 크롬 프로세스가 남지 않게 정리합니다.
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+
+    private void quietQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.debug("브라우저 종료 중 에러 (무시): {}", e.getMessage());
+        }
+    }
+
+    // [9] 헤드리스 크롬 생성 (기존 크롤러와 같은 옵션)
+    private static WebDriver newHeadlessChrome() {
+        WebDriverManager.chromedriver().setup(); // 크롬 버전에 맞는 드라이버 준비 (이미 받았으면 캐시 사용)
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--remote-allow-origins=*"); // 보안 경고 무시
+        options.addArguments("--disable-popup-blocking"); // 팝업 차단 해제
+        options.addArguments("--headless"); // 화면 없이 실행
+        return new ChromeDriver(options);
+    }
+
+    // [10] 브라우저 + 사용 횟수 묶음
+    private static class PooledDriver {
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
@@ -20,6 +20,8 @@ public class TourDto {
     private String phone;       // 전화번호
     private String description; // 관광지 설명 (개요)
     private String image; // 이미지 주소
+    private Double lat;         // 위도 (tour_lat, 서버가 주소를 좌표로 바꿔 저장, 없으면 null)
+    private Double lng;         // 경도 (tour_lng)
 }
 
 
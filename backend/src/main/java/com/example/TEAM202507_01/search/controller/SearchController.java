@@ -1,5 +1,6 @@
 package com.example.TEAM202507_01.search.controller;
 
+import com.example.TEAM202507_01.search.document.RestaurantDocument;
 import com.example.TEAM202507_01.search.document.SearchDocument;
 import com.example.TEAM202507_01.search.dto.SearchDto;
 import com.example.TEAM202507_01.search.service.SearchService;
@@ -33,6 +34,16 @@ public class SearchController {
         return ResponseEntity.ok(searchService.searchIntegrated(query));
     }
 
+    // 1-1. 식당 가격대 검색
+    // @GetMapping("/restaurants"): GET /api/v1/search/restaurants?query=칼국수&maxPrice=10000
+    // 키워드 검색에 가격 범위(원) 조건을 붙여서 식당만 검색함. minPrice, maxPrice는 생략 가능.
+    @GetMapping("/restaurants")
+    public ResponseEntity<List<RestaurantDocument>> searchRestaurantsByPrice(@RequestParam String query,
+                                                                             @RequestParam(required = false) Integer minPrice,
+                                                                             @RequestParam(required = false) Integer maxPrice) {
+        return ResponseEntity.ok(searchService.searchRestaurantsByPrice(query, minPrice, maxPrice));
+    }
+
     // 2. 식당 데이터 마이그레이션 (DB -> ES)
     // @PostMapping("/restaurantdata"): POST /api/v1/search/restaurantdata 요청을 받음.
     // 보통 데이터를 생성하거나 무거운 작업을 실행할 때 POST를 씀.
@@ -54,4 +54,16 @@ public class RestaurantDocument {
 
     @Field(type = FieldType.Keyword)
     private String imagePath;       // 이미지 경로 (분석 불필요)
+
+    // [범위 필터용 필드 - Integer]
+    // price는 "8,000원" 같은 문자열이라 "만 원 이하" 조건을 걸 수 없음.
+    // DB에 저장할 때 뽑아 둔 숫자 가격을 그대로 옮겨서 range 쿼리로 거름.
+    @Field(type = FieldType.Integer)
+    private Integer priceMin;       // 최저가
+
+    @Field(type = FieldType.Integer)
+    private Integer priceMax;       // 최고가
+
+    @Field(type = FieldType.Integer)
+    private Integer priceMedian;    // 가운데 가격 (정렬용)
 }
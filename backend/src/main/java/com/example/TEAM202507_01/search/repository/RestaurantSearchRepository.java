@@ -35,4 +35,27 @@ public interface RestaurantSearchRepository extends ElasticsearchRepository<Rest
             "}")
     // 메서드 선언: 키워드를 받아서 식당 문서 리스트를 반환함.
     List<RestaurantDocument> searchByKeyword(String keyword);
+
+    // [가격대 검색 쿼리 메서드]
+    // 위 키워드 검색(must)에 가격 범위 조건(filter)을 붙인 버전.
+    // filter 절은 점수 계산을 안 하고 캐시도 되기 때문에, 숫자 범위 같은 "예/아니오" 조건은 여기에 넣음.
+    // 가격 범위 [priceMin, priceMax]가 요청 범위 [?1, ?2]와 겹치는 식당만 남김. (가격 숫자가 없는 문서는 빠짐)
+    @Query("{" +
+            "\"bool\": {" +
+            "   \"must\": {" +
+            "       \"multi_match\": {" +
+            "           \"query\": \"?0\", " +
+            "           \"fields\": [\"name^2\", \"address\", \"menu\", \"bestMenu\", \"menuDetail\", \"restCategory\"], " +
+            "           \"type\": \"cross_fields\", " +
+            "           \"operator\": \"and\"" +
+            "       }" +
+            "   }, " +
+            "   \"filter\": [" +
+            "       {\"range\": {\"priceMax\": {\"gte\": ?1}}}, " +
+            "       {\"range\": {\"priceMin\": {\"lte\": ?2}}}" +
+            "   ]" +
+            "}" +
+            "}")
+    // 메서드 선언: 키워드와 가격 범위(원)를 받아서 식당 문서 리스트를 반환함.
+    List<RestaurantDocument> searchByKeywordAndPrice(String keyword, int minPrice, int maxPrice);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.TEAM202507_01.search.service;
 
+import com.example.TEAM202507_01.search.document.RestaurantDocument;
 import com.example.TEAM202507_01.search.document.SearchDocument;
 import com.example.TEAM202507_01.search.dto.SearchDto;
 
@@ -11,6 +12,10 @@ public interface SearchService {
     // 사용자가 입력한 키워드(String)를 받아서, 아까 본 SearchDto(모든 결과 모음)를 반환해야 함.
     SearchDto searchIntegrated(String keyword);
 
+    // [식당 가격대 검색 기능]
+    // 키워드 + 가격 범위(원)로 식당만 검색함. 가격은 둘 중 하나만 줘도 됨.
+    List<RestaurantDocument> searchRestaurantsByPrice(String keyword, Integer minPrice, Integer maxPrice);
+
 
     // [데이터 마이그레이션 (DB -> ES) 기능]
     // RDB에 있는 데이터를 엘라스틱서치로 옮기는 메서드들임.
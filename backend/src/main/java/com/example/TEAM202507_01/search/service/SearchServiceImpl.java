@@ -106,6 +106,21 @@ public class SearchServiceImpl implements SearchService {
     }
 
 
+    // 🍽️ [식당 가격대 검색] 키워드 + 가격 범위
+    // 가격 조건이 빠진 쪽은 0원 / 최댓값으로 채워서 한 쿼리로 보냄.
+    @Transactional(readOnly = true)
+    public List<RestaurantDocument> searchRestaurantsByPrice(String keyword, Integer minPrice, Integer maxPrice) {
+        if (keyword == null || keyword.trim().isEmpty()) return List.of();
+
+        int min = minPrice != null ? minPrice : 0;
+        int max = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+        if (min > max) {
+            throw new RuntimeException("최소 가격이 최대 가격보다 큽니다. min: " + min + ", max: " + max);
+        }
+        return restaurantRepository.searchByKeywordAndPrice(keyword, min, max);
+    }
+
+
     // 🔥 [통합] 한 번에 모든 데이터 마이그레이션 실행
     @Transactional(readOnly = true)
     public String migrateAllData() {
@@ -146,6 +161,9 @@ public class SearchServiceImpl implements SearchService {
                         .price(dto.getPrice())
                         .url(dto.getUrl())
                         .imagePath(dto.getImagePath()) // 이미지 경로도 옮김
+                        .priceMin(dto.getPriceMin())   // 숫자 가격 (가격대 검색용)
+                        .priceMax(dto.getPriceMax())
+                        .priceMedian(dto.getPriceMedian())
                         .build())
                 .collect(Collectors.toList());
 
@@ -312,7 +330,7 @@ public class SearchServiceImpl implements SearchService {
                 .map(dto -> CommunityPostDocument.builder()
                         .id(dto.getId())
                         .title(dto.getTitle())
-                        .content(dto.getContent())
+                        .content(dto.getExcerpt()) // 본문 HTML 대신 요약문 (findAll이 CONTENT를 읽지 않음)
                         .userNickname(dto.getUserNickname())
                         .userId(dto.getUserId())
                         .category(dto.getCategory())
@@ -2,9 +2,12 @@ package com.example.TEAM202507_01.user.repository;
 
 import org.apache.ibatis.annotations.Mapper;
 
+import java.util.List;
+
 @Mapper
 public interface FavoriteMapper {
     int exists(String category, String userId, Long fovId);
     void insert(String category, String userId, Long fovId);
     void delete(String category, String userId, Long fovId);
+    List<Long> selectFavoriteIds(String category, String userId, List<Long> fovIds); // 목록 별 표시용 (fovIds 중 즐겨찾기 한 것)
 }
\ No newline at end of file
@@ -16,9 +16,12 @@ public interface MyPageMapper {
     List<Map<String, Object>> selectMyFavorites(@Param("userId") String userId, @Param("startRow") int startRow, @Param("endRow") int endRow);
 
     void updateUserInfo(MyPageDto dto);
-    void updatePost(@Param("id") Long id, @Param("userId") String userId, @Param("title") String title, @Param("content") String content);
+    // 반환값: 고친 행 수 (본인 글이 아니면 0). bodyThumbnail은 첨부 사진이 없는 글에만 대표 사진으로 들어감
+    int updatePost(@Param("id") Long id, @Param("userId") String userId, @Param("title") String title,
+                   @Param("content") String content, @Param("excerpt") String excerpt,
+                   @Param("bodyThumbnail") String bodyThumbnail);
     void updateComment(@Param("id") Long id, @Param("userId") String userId, @Param("content") String content);
-    void deletePost(@Param("id") Long id, @Param("userId") String userId);
-    void deleteComment(@Param("id") Long id, @Param("userId") String userId);
+    int deletePost(@Param("id") Long id, @Param("userId") String userId); // 반환값: 지운 행 수 (본인 글이 아니면 0)
+    int deleteComment(@Param("id") Long id, @Param("userId") String userId); // 반환값: 지운 행 수
     void deleteFavorite(@Param("id") Long id, @Param("userId") String userId);
 }
\ No newline at end of file
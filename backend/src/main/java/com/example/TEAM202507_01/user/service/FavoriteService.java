@@ -4,6 +4,10 @@ import com.example.TEAM202507_01.user.repository.FavoriteMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class FavoriteService {
@@ -21,4 +25,15 @@ public class FavoriteService {
             favoriteMapper.insert(category, userId, fovId);
         }
     }
+
+    // 이 사용자가 이 항목을 즐겨찾기 했는지 (상세 페이지 하트 표시용)
+    public boolean isFavorite(String category, String userId, Long fovId) {
+        return favoriteMapper.exists(category, userId, fovId) > 0;
+    }
+
+    // 여러 항목 중 이 사용자가 즐겨찾기 한 번호들 (목록 페이지 별 표시용, 쿼리 한 번)
+    public Set<Long> favoriteIdsAmong(String category, String userId, List<Long> fovIds) {
+        if (userId == null || fovIds.isEmpty()) return new HashSet<>();
+        return new HashSet<>(favoriteMapper.selectFavoriteIds(category, userId, fovIds));
+    }
 }
\ No newline at end of file
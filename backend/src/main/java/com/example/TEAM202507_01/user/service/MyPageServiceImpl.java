@@ -1,10 +1,19 @@
 package com.example.TEAM202507_01.user.service;
 
+import com.example.TEAM202507_01.common.dto.FileDto;
+import com.example.TEAM202507_01.common.service.HtmlExcerpt;
+import com.example.TEAM202507_01.common.service.ImageTypeSniffer;
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper;
+import com.example.TEAM202507_01.menus.community.service.PostAttachmentStaging;
+import com.example.TEAM202507_01.menus.community.service.PostImageVariants;
+import com.example.TEAM202507_01.menus.community.service.PostLikeStore;
 import com.example.TEAM202507_01.user.dto.MyPageDto;
 import com.example.TEAM202507_01.user.repository.MyPageMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -14,6 +23,10 @@ import java.util.Map;
 public class MyPageServiceImpl implements MyPageService {
 
     private final MyPageMapper myPageMapper;
+    private final CommunityMapper communityMapper; // 댓글을 지우면 글 행의 댓글 수도 같이 줄임, 글 수정 때 첨부 사진 확인
+    private final PostLikeStore likeStore; // 글을 지우면 레디스 좋아요 집합과 대기 토글도 버림
+    private final PostAttachmentStaging attachmentStaging; // 본문 첫 사진 -> 대표 사진 파일
+    private final PostImageVariants imageVariants; // 대표 사진 목록용 사본
 
     // LoginID로 UUID를 찾는 메서드 (없으면 LoginID 반환)
     private String getUuid(String loginId) {
@@ -53,9 +66,27 @@ public class MyPageServiceImpl implements MyPageService {
         myPageMapper.updateUserInfo(dto);
     }
 
+    // 목록/검색용 요약문과 (첨부 사진이 없는 글의) 대표 사진도 본문과 같이 다시 만듦 (커뮤니티 글 저장과 같은 규칙)
+    // 본문 첫 사진 파일은 먼저 임시 보관하고, UPDATE가 본인 글을 실제로 고쳤을 때만 확정합니다. (문장 하나라 트랜잭션 없이 바로 커밋)
     @Override
     public void updatePost(Long id, String loginId, String title, String content) {
-        myPageMapper.updatePost(id, getUuid(loginId), title, content);
+        List<FileDto> bodyImages = new ArrayList<>();
+        boolean hasAttachedImage = communityMapper.selectFilePathsByPostId(id).stream()
+                .anyMatch(path -> path != null && ImageTypeSniffer.IMAGE_NAME.matcher(path).matches());
+        String bodyThumbnail = hasAttachedImage ? null : attachmentStaging.stageFirstBodyImage(content, bodyImages);
+        int updated;
+        try {
+            updated = myPageMapper.updatePost(id, getUuid(loginId), title, content, HtmlExcerpt.of(content), bodyThumbnail);
+        } catch (RuntimeException e) {
+            attachmentStaging.discard(bodyImages);
+            throw e;
+        }
+        if (updated == 0) {
+            attachmentStaging.discard(bodyImages);
+            return;
+        }
+        attachmentStaging.promote(bodyImages);
+        imageVariants.enqueue(id, bodyImages);
     }
 
     @Override
@@ -63,14 +94,22 @@ public class MyPageServiceImpl implements MyPageService {
         myPageMapper.updateComment(id, getUuid(loginId), content);
     }
 
+    // 본인 글이 실제로 지워졌을 때만 좋아요 정리 (DB 행 삭제, 레디스 집합/대기 토글은 커밋 뒤에 버림)
     @Override
+    @Transactional
     public void deletePost(Long id, String loginId) {
-        myPageMapper.deletePost(id, getUuid(loginId));
+        if (myPageMapper.deletePost(id, getUuid(loginId)) > 0) {
+            communityMapper.deleteAllLike(id);
+            likeStore.forget(id);
+        }
     }
 
     @Override
+    @Transactional
     public void deleteComment(Long id, String loginId) {
-        myPageMapper.deleteComment(id, getUuid(loginId));
+        if (myPageMapper.deleteComment(id, getUuid(loginId)) > 0) {
+            communityMapper.decreaseCommentCountByCommentId(id);
+        }
     }
 
     @Override
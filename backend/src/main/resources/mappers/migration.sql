@@ -0,0 +1,146 @@
+-- =========================================================
+-- 스키마 변경 스크립트 (운영 DB에 순서대로 수동 실행)
+-- =========================================================
+
+-- 맛집 이미지 크롤링 체크포인트 (식당별 마지막 처리 결과)
+-- STATUS: DONE(저장 완료) / NOT_FOUND(이미지 없음) / FAILED(에러, 이어하기 때 재시도)
+CREATE TABLE RESTAURANT_IMAGE_CRAWL (
+    REST_ID     NUMBER        PRIMARY KEY,
+    STATUS      VARCHAR2(20)  NOT NULL,
+    ATTEMPTS    NUMBER        DEFAULT 0 NOT NULL,
+    UPDATED_AT  DATE          DEFAULT SYSDATE NOT NULL
+);
+
+-- 맛집 이미지 지문 경로 저장 (예: 3f/a2/3fa2...c1.jpg, 약 75자)
+-- 기존 "식당ID.jpg" 값은 그대로 두면 다음 크롤링 때 지문 경로로 바뀝니다.
+ALTER TABLE RESTAURANT MODIFY (REST_IMAGE VARCHAR2(200));
+
+-- 영업시간 비트맵 (일주일 x 15분 칸 = 672비트, Base64 120자)
+-- 공공데이터 동기화 때 REST_OPEN_TIME을 해석해서 채웁니다. 비어 있는 예전 행은 조회할 때 텍스트를 해석해서 씁니다.
+ALTER TABLE RESTAURANT ADD (REST_OPEN_BITS VARCHAR2(120));
+
+-- 숫자 가격 범위 (REST_PRICE 문자열 목록에서 뽑은 최저가 / 최고가 / 중간값, 원 단위)
+-- 공공데이터 동기화나 맛집 저장 때 채웁니다. 기존 행은 다음 동기화 때 채워지고, 그 전까지는 가격 필터에 안 걸립니다.
+ALTER TABLE RESTAURANT ADD (
+    REST_PRICE_MIN    NUMBER(10),
+    REST_PRICE_MAX    NUMBER(10),
+    REST_PRICE_MEDIAN NUMBER(10)
+);
+CREATE INDEX IDX_RESTAURANT_PRICE_MIN ON RESTAURANT (REST_PRICE_MIN);
+CREATE INDEX IDX_RESTAURANT_PRICE_MAX ON RESTAURANT (REST_PRICE_MAX);
+
+-- 병원 좌표 (지도 영역 조회 /api/v1/hospital/map/view 용)
+-- 좌표가 없는 병원은 영역 조회에 나오지 않습니다. (기존 /map 목록에는 그대로 나옴)
+ALTER TABLE HOSPITALS ADD (
+    LAT NUMBER(10, 7),
+    LNG NUMBER(10, 7)
+);
+CREATE INDEX IDX_HOSPITALS_LAT_LNG ON HOSPITALS (LAT, LNG);
+
+-- 주소 -> 좌표 변환 배치 작업(GeocodeJob) 결과 저장
+-- *_GEO_ADDRESS: 마지막으로 좌표를 구할 때 쓴 주소 (지금 주소와 다르면 다음 작업 때 다시 구함)
+-- *_GEO_STATUS: FOUND(좌표 있음) / NOT_FOUND(주소를 못 찾음) / MANUAL(등록할 때 좌표를 직접 보냄)
+ALTER TABLE RESTAURANT ADD (
+    REST_LAT         NUMBER(10, 7),
+    REST_LNG         NUMBER(10, 7),
+    REST_GEO_ADDRESS VARCHAR2(500),
+    REST_GEO_STATUS  VARCHAR2(20)
+);
+ALTER TABLE tourism ADD (
+    tour_lat         NUMBER(10, 7),
+    tour_lng         NUMBER(10, 7),
+    tour_geo_address VARCHAR2(500),
+    tour_geo_status  VARCHAR2(20)
+);
+ALTER TABLE HOSPITALS ADD (
+    GEO_ADDRESS VARCHAR2(500),
+    GEO_STATUS  VARCHAR2(20)
+);
+
+-- 병원 리뷰 + 병원 행의 별점 집계
+-- 리뷰를 저장/삭제할 때 같은 트랜잭션에서 HOSPITALS.RATING_SUM / REVIEW_COUNT를 더하고 뺍니다.
+-- 목록 조회는 평균(합계 / 개수)만 계산하면 되므로 리뷰 테이블을 읽지 않습니다. 어긋난 값은 매일 보정 작업이 고칩니다.
+ALTER TABLE HOSPITALS ADD (
+    RATING_SUM   NUMBER(12) DEFAULT 0 NOT NULL,
+    REVIEW_COUNT NUMBER(10) DEFAULT 0 NOT NULL
+);
+CREATE SEQUENCE hospital_review_seq START WITH 1 INCREMENT BY 1;
+CREATE TABLE HOSPITAL_REVIEWS (
+    ID          NUMBER         PRIMARY KEY,
+    HOSPITAL_ID NUMBER         NOT NULL REFERENCES HOSPITALS (ID) ON DELETE CASCADE,
+    USER_ID     VARCHAR2(50)   NOT NULL,
+    CONTENT     VARCHAR2(2000),
+    RATING      NUMBER(1)      NOT NULL CHECK (RATING BETWEEN 1 AND 5),
+    CREATED_AT  DATE           DEFAULT SYSDATE NOT NULL
+);
+CREATE INDEX IDX_HOSPITAL_REVIEWS_HOSPITAL ON HOSPITAL_REVIEWS (HOSPITAL_ID, CREATED_AT);
+
+-- 병원 공공데이터 파일 가져오기(HospitalImportService): (이름 + 주소)로 기존 병원을 묶음 단위로 찾습니다.
+-- 예전 data.sql로 들어간 행 중 겹치는 게 있을 수 있어서 UNIQUE 대신 일반 색인으로 둡니다. (가져오기 자체는 겹치는 행을 만들지 않음)
+CREATE INDEX IDX_HOSPITALS_NAME_ADDRESS ON HOSPITALS (NAME, ADDRESS);
+
+-- 게시글 목록용 집계값을 POSTS 행에 저장 (목록 조회가 글마다 COMMENTS / POST_LIKES / FILES를 다시 세지 않게)
+-- 댓글 저장/삭제, 좋아요 토글, 글 저장 때 같은 트랜잭션에서 고치고, 어긋난 값은 매일 보정 작업(CommunityCounterReconciler)이 고칩니다.
+ALTER TABLE POSTS ADD (
+    COMMENT_COUNT  NUMBER(10)    DEFAULT 0 NOT NULL,
+    LIKE_COUNT     NUMBER(10)    DEFAULT 0 NOT NULL,
+    THUMBNAIL_PATH VARCHAR2(500)
+);
+-- 기존 글 채우기 (한 번만)
+UPDATE POSTS P SET
+    COMMENT_COUNT = (SELECT COUNT(*) FROM COMMENTS C WHERE C.POST_ID = P.ID AND C.IS_DELETE = 0),
+    LIKE_COUNT = (SELECT COUNT(*) FROM POST_LIKES L WHERE L.POST_ID = P.ID),
+    THUMBNAIL_PATH = (SELECT MIN(F.FILE_PATH) KEEP (DENSE_RANK FIRST ORDER BY F.CREATED_AT) FROM FILES F
+                      WHERE F.TARGET_ID = P.ID AND REGEXP_LIKE(F.FILE_PATH, '\.(jpe?g|png|gif|webp|bmp)$', 'i'));
+COMMIT;
+-- 목록 정렬(최신순) / 게시판별 목록용 색인
+-- 정렬 순서 (CREATED_AT DESC, ID DESC)와 똑같이 맞춰서, 커서 목록(무한 스크롤)이 정렬 없이 색인만 읽다가 멈춥니다.
+CREATE INDEX IDX_POSTS_CREATED_ID ON POSTS (CREATED_AT, ID);
+CREATE INDEX IDX_POSTS_CATEGORY_CREATED_ID ON POSTS (CATEGORY, CREATED_AT, ID);
+
+-- 댓글 번호 시퀀스 (예전: 저장 때마다 SELECT NVL(MAX(ID), 0) + 1 -> 동시에 쓰면 번호가 겹침)
+-- INCREMENT BY 50: NEXTVAL 한 번에 번호 50개 묶음을 받아 서버 메모리에서 나눠 씁니다. (CommentIdAllocator)
+-- 기존 댓글 번호 다음부터 시작하도록 지금 최댓값을 읽어서 만듭니다.
+DECLARE
+    start_id NUMBER;
+BEGIN
+    SELECT NVL(MAX(ID), 0) + 1 INTO start_id FROM COMMENTS;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE COMMENT_ID_SEQ START WITH ' || start_id || ' INCREMENT BY 50 NOCACHE';
+END;
+/
+
+-- 댓글 트리: 답글마다 최상위 댓글 번호(ROOT_ID)를 저장 (최상위 댓글은 NULL)
+-- 스레드별 첫 답글 / "답글 더 보기"를 ROOT_ID 색인 하나로 읽습니다. (답글의 답글도 같은 스레드)
+ALTER TABLE COMMENTS ADD (ROOT_ID NUMBER);
+-- 기존 답글 채우기 (한 번만)
+MERGE INTO COMMENTS C
+USING (
+    SELECT ID, CONNECT_BY_ROOT ID AS ROOT_ID
+    FROM COMMENTS
+    WHERE LEVEL > 1
+    START WITH PARENT_ID IS NULL
+    CONNECT BY PRIOR ID = PARENT_ID
+) R
+ON (C.ID = R.ID)
+WHEN MATCHED THEN UPDATE SET C.ROOT_ID = R.ROOT_ID;
+COMMIT;
+CREATE INDEX IDX_COMMENTS_POST_ROOTS ON COMMENTS (POST_ID, PARENT_ID, CREATED_AT, ID);
+CREATE INDEX IDX_COMMENTS_ROOT_CREATED ON COMMENTS (ROOT_ID, CREATED_AT, ID);
+
+-- 게시글 사진 사본 (PostImageVariants): 목록용(320px) / 상세용(1280px) 경로
+-- 목록은 POSTS.THUMBNAIL_PATH를 목록용 사본으로 바꿔서 씁니다. 비어 있는 행은 보충 작업이 채웁니다. (예전 사진 포함)
+ALTER TABLE FILES ADD (
+    LIST_PATH   VARCHAR2(500),
+    DETAIL_PATH VARCHAR2(500)
+);
+CREATE INDEX IDX_FILES_SAVED_NAME ON FILES (SAVED_NAME);
+
+-- 게시글 요약문 (HtmlExcerpt): 본문 HTML에서 태그를 뺀 앞부분 평문 200자
+-- 목록 조회와 검색 색인은 CONTENT 대신 이 열만 읽습니다. 글 저장(savePost) / 수정(MyPageServiceImpl.updatePost) 때 같이 씁니다.
+-- BODY_DERIVED: 본문에서 뽑는 값(요약문, 첨부 사진 없는 글의 본문 첫 사진 대표 사진)을 만들었으면 1
+-- 기존 글(0)은 PostBodyBackfill이 자바 쪽 같은 규칙으로 조금씩 채웁니다.
+-- (SQL로 채우면 DBMS_LOB.SUBSTR가 4000바이트에서 끊겨 긴 한글 글에서 UPDATE 전체가 실패하고, 잘린 base64 사진 태그가 요약문에 남음)
+ALTER TABLE POSTS ADD (
+    EXCERPT      VARCHAR2(300 CHAR),
+    BODY_DERIVED NUMBER(1) DEFAULT 0 NOT NULL
+);
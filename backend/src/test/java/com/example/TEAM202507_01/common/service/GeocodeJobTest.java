@@ -0,0 +1,78 @@
+package com.example.TEAM202507_01.common.service;
+
+import com.example.TEAM202507_01.common.dto.GeocodeStatusDto;
+import com.example.TEAM202507_01.common.dto.GeocodeTargetDto;
+import com.example.TEAM202507_01.common.repository.GeocodeMapper;
+import com.example.TEAM202507_01.menus.hospital.service.HospitalMapIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 같은 주소는 한 번만 물어보고, 결과를 모든 행에 저장하는지 확인합니다. (작업은 테스트 스레드에서 바로 실행)
+class GeocodeJobTest {
+
+    private final GeocodeMapper mapper = mock(GeocodeMapper.class);
+    private final HospitalMapIndex mapIndex = mock(HospitalMapIndex.class);
+    private final List<String> asked = new ArrayList<>();
+
+    @Test
+    void identicalAddressesAreGeocodedOnceAndWrittenToEveryRow() {
+        GeocodeTargetDto restaurant = new GeocodeTargetDto("RESTAURANT", 1L, "대전 서구 둔산로 100");
+        GeocodeTargetDto hospital = new GeocodeTargetDto("HOSPITAL", 7L, " 대전 서구  둔산로 100 ");
+        GeocodeTargetDto tour = new GeocodeTargetDto("TOUR", 3L, "대전 없는주소 1");
+        when(mapper.findTargets(false)).thenReturn(List.of(restaurant, hospital, tour));
+
+        GeocodeStatusDto status = job(new LocalStubGeocoder()).start(false);
+
+        assertThat(asked).containsExactly("대전 서구 둔산로 100", "대전 없는주소 1");
+        assertThat(status.getState()).isEqualTo("FINISHED");
+        assertThat(status.getTotal()).isEqualTo(3);
+        assertThat(status.getUniqueAddresses()).isEqualTo(2);
+        assertThat(status.getFound()).isEqualTo(2);
+        assertThat(status.getNotFound()).isEqualTo(1);
+
+        verify(mapper).updateCoordinates(eq(restaurant), anyDouble(), anyDouble(), eq(GeocodeJob.STATUS_FOUND));
+        verify(mapper).updateCoordinates(eq(hospital), anyDouble(), anyDouble(), eq(GeocodeJob.STATUS_FOUND));
+        verify(mapper).updateCoordinates(eq(tour), isNull(), isNull(), eq(GeocodeJob.STATUS_NOT_FOUND));
+        verify(mapIndex).invalidate();
+    }
+
+    @Test
+    void geocoderErrorsLeaveRowsUntouchedForTheNextRun() {
+        GeocodeTargetDto restaurant = new GeocodeTargetDto("RESTAURANT", 1L, "대전 중구 대종로 1");
+        GeocodeTargetDto other = new GeocodeTargetDto("RESTAURANT", 2L, "대전 중구 대종로 2");
+        when(mapper.findTargets(true)).thenReturn(List.of(restaurant, other));
+        doThrow(new RuntimeException("DB 연결 끊김")).when(mapper).updateCoordinates(eq(other), any(), any(), any());
+
+        GeocodeStatusDto status = job(address -> {
+            if (address.endsWith("1")) throw new IllegalStateException("할당량 초과");
+            return new Geocoder.Coordinates(36.32, 127.42);
+        }).start(true);
+
+        assertThat(status.getFailed()).isEqualTo(2);
+        assertThat(status.getProcessed()).isEqualTo(2);
+        assertThat(status.getCalls()).isEqualTo(2);
+        verify(mapper, never()).updateCoordinates(eq(restaurant), any(), any(), any());
+        verify(mapIndex, never()).invalidate();
+    }
+
+    private GeocodeJob job(Geocoder geocoder) {
+        Geocoder recording = address -> {
+            asked.add(address);
+            return geocoder.geocode(address);
+        };
+        return new GeocodeJob(mapper, recording, mapIndex, Runnable::run);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.TEAM202507_01.common.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 시퀀스(INCREMENT BY blockSize)를 흉내 내서, 묶음마다 한 번만 부르고 번호가 겹치지 않는지 확인합니다.
+class HiLoIdAllocatorTest {
+
+    @Test
+    void handsOutABlockPerSequenceCall() {
+        AtomicLong sequence = new AtomicLong(101); // START WITH 101 INCREMENT BY 3
+        AtomicInteger calls = new AtomicInteger();
+        HiLoIdAllocator allocator = new HiLoIdAllocator(() -> {
+            calls.incrementAndGet();
+            return sequence.getAndAdd(3);
+        }, 3);
+
+        List<Long> ids = IntStream.range(0, 7).mapToObj(i -> allocator.next()).toList();
+
+        assertThat(ids).containsExactly(101L, 102L, 103L, 104L, 105L, 106L, 107L);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void twoServersSharingTheSequenceNeverCollide() throws Exception {
+        AtomicLong sequence = new AtomicLong(1);
+        HiLoIdAllocator serverA = new HiLoIdAllocator(() -> sequence.getAndAdd(50), 50);
+        HiLoIdAllocator serverB = new HiLoIdAllocator(() -> sequence.getAndAdd(50), 50);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            HiLoIdAllocator allocator = (t % 2 == 0) ? serverA : serverB;
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < 1000; i++) seen.add(allocator.next());
+            }));
+        }
+        for (Future<?> future : futures) future.get();
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(seen).hasSize(8000);
+    }
+}
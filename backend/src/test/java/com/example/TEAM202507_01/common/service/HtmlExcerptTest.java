@@ -0,0 +1,31 @@
+package com.example.TEAM202507_01.common.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 에디터 HTML에서 태그/스크립트를 빼고, 문자 표기를 되돌리고, 글자 수로 자르는지 확인합니다.
+class HtmlExcerptTest {
+
+    @Test
+    void stripsEditorMarkupToPlainText() {
+        String html = "<h2>오늘의&nbsp;후기</h2><p>맛집 <b>추천</b> &amp; 주차 &#55357;&#56832;?</p>"
+                + "<script>alert(1)</script><img src=\"/images/a.jpg\"><p>&#x1F600;&lt;끝&gt;</p>";
+
+        assertThat(HtmlExcerpt.of(html)).isEqualTo("오늘의 후기 맛집 추천 & 주차 &#55357;&#56832;? 😀<끝>");
+    }
+
+    @Test
+    void cutsLongTextWithoutSplittingSurrogatePairs() {
+        String html = "<p>" + "가".repeat(4) + "😀" + "나".repeat(10) + "</p>";
+
+        assertThat(HtmlExcerpt.of(html, 5)).isEqualTo("가가가가😀…");
+        assertThat(HtmlExcerpt.of("<p>짧은 글</p>", 5)).isEqualTo("짧은 글");
+    }
+
+    @Test
+    void imageOnlyOrEmptyContentHasNoExcerpt() {
+        assertThat(HtmlExcerpt.of("<p><img src=\"/images/a.jpg\"></p><p>&nbsp;</p>")).isNull();
+        assertThat(HtmlExcerpt.of(null)).isNull();
+    }
+}
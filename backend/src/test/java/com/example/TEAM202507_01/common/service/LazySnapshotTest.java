@@ -0,0 +1,62 @@
+package com.example.TEAM202507_01.common.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 카탈로그를 한 번만 만들고, 버리면 다시 만들고, 만드는 도중에 버려진 값은 다음 조회가 다시 만드는지 확인합니다.
+class LazySnapshotTest {
+
+    @Test
+    void buildsOnceUntilInvalidated() {
+        LazySnapshot<String> snapshot = new LazySnapshot<>();
+        AtomicInteger builds = new AtomicInteger();
+
+        assertThat(snapshot.get(() -> "v" + builds.incrementAndGet())).isEqualTo("v1");
+        assertThat(snapshot.get(() -> "v" + builds.incrementAndGet())).isEqualTo("v1");
+
+        snapshot.invalidate();
+        assertThat(snapshot.get(() -> "v" + builds.incrementAndGet())).isEqualTo("v2");
+    }
+
+    @Test
+    void aValueInvalidatedWhileBuildingIsRebuiltOnTheNextRead() {
+        LazySnapshot<String> snapshot = new LazySnapshot<>();
+
+        String stale = snapshot.get(() -> {
+            snapshot.invalidate(); // 읽는 도중 데이터가 바뀜
+            return "old";
+        });
+
+        assertThat(stale).isEqualTo("old"); // 이번 요청은 만든 값을 그대로 씀
+        assertThat(snapshot.get(() -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    void concurrentReadersShareOneBuild() throws Exception {
+        LazySnapshot<String> snapshot = new LazySnapshot<>();
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<String>> readers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            readers.add(pool.submit(() -> {
+                start.await();
+                return snapshot.get(() -> "v" + builds.incrementAndGet());
+            }));
+        }
+        start.countDown();
+        for (Future<String> reader : readers) assertThat(reader.get()).isEqualTo("v1");
+        pool.shutdown();
+
+        assertThat(builds).hasValue(1);
+    }
+}
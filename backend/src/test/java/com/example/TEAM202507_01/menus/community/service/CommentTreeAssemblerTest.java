@@ -0,0 +1,68 @@
+package com.example.TEAM202507_01.menus.community.service;
+
+import com.example.TEAM202507_01.menus.community.dto.CommentDto;
+import com.example.TEAM202507_01.menus.community.dto.CommentThreadDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 평평한 댓글 목록을 스레드 트리로 묶고, 스레드마다 답글 수를 자르는지 확인합니다.
+class CommentTreeAssemblerTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 7, 1, 9, 0, 0);
+
+    @Test
+    void nestsRepliesUnderTheirParentsAndCutsEachThread() {
+        List<CommentDto> roots = List.of(comment(1L, null, null, 0), comment(2L, null, null, 1));
+        // 스레드 1: 10(1의 답글) -> 11(10의 답글) -> 12(1의 답글), perThread 2라서 12는 "더 보기"
+        // 스레드 2: 20(부모 15는 지워져서 없음)
+        List<CommentDto> replies = List.of(
+                comment(10L, 1L, 1L, 2), comment(11L, 10L, 1L, 3), comment(12L, 1L, 1L, 4),
+                comment(20L, 15L, 2L, 5));
+
+        List<CommentThreadDto> threads = CommentTreeAssembler.threads(roots, replies, 2);
+
+        CommentThreadDto first = threads.get(0);
+        assertThat(first.getReplies()).extracting(node -> node.getComment().getId()).containsExactly(10L);
+        assertThat(first.getReplies().get(0).getReplies()).extracting(node -> node.getComment().getId()).containsExactly(11L);
+        assertThat(first.isHasMoreReplies()).isTrue();
+        assertThat(PostCursor.decode(first.getNextReplyCursor()).id()).isEqualTo(11L); // 마지막으로 보낸 답글 뒤부터
+
+        CommentThreadDto second = threads.get(1);
+        assertThat(second.getReplies()).extracting(node -> node.getComment().getId()).containsExactly(20L);
+        assertThat(second.isHasMoreReplies()).isFalse();
+        assertThat(second.getNextReplyCursor()).isNull();
+    }
+
+    @Test
+    void replyPageKeepsRepliesWhoseParentIsOnAnEarlierPageAtTheTop() {
+        List<CommentDto> page = List.of(comment(30L, 12L, 1L, 0), comment(31L, 30L, 1L, 1), comment(32L, 1L, 1L, 2));
+
+        List<CommentThreadDto> content = CommentTreeAssembler.replies(page);
+
+        assertThat(content).extracting(node -> node.getComment().getId()).containsExactly(30L, 32L);
+        assertThat(content.get(0).getReplies()).extracting(node -> node.getComment().getId()).containsExactly(31L);
+    }
+
+    @Test
+    void replySortedBeforeItsParentStillNestsUnderIt() {
+        // 같은 초에 다른 서버에서 쓴 답글: 번호 묶음이 달라서 답글(60)이 부모(110)보다 앞에 정렬됨
+        List<CommentDto> roots = List.of(comment(1L, null, null, 0));
+        List<CommentDto> replies = List.of(comment(60L, 110L, 1L, 1), comment(110L, 1L, 1L, 1));
+
+        List<CommentThreadDto> threads = CommentTreeAssembler.threads(roots, replies, 20);
+        assertThat(threads.get(0).getReplies()).extracting(node -> node.getComment().getId()).containsExactly(110L);
+        assertThat(threads.get(0).getReplies().get(0).getReplies()).extracting(node -> node.getComment().getId()).containsExactly(60L);
+
+        List<CommentThreadDto> page = CommentTreeAssembler.replies(replies);
+        assertThat(page).extracting(node -> node.getComment().getId()).containsExactly(110L);
+        assertThat(page.get(0).getReplies()).extracting(node -> node.getComment().getId()).containsExactly(60L);
+    }
+
+    private static CommentDto comment(long id, Long parentId, Long rootId, int minutes) {
+        return CommentDto.builder().id(id).parentId(parentId).rootId(rootId).createdAt(T.plusMinutes(minutes)).build();
+    }
+}
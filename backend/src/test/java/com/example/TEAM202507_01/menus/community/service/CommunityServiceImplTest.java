@@ -0,0 +1,268 @@
+package com.example.TEAM202507_01.menus.community.service;
+
+import com.example.TEAM202507_01.common.dto.FileDto;
+import com.example.TEAM202507_01.menus.community.dto.CommentDto;
+import com.example.TEAM202507_01.menus.community.dto.CommentPageDto;
+import com.example.TEAM202507_01.menus.community.dto.CommunityCursorPageDto;
+import com.example.TEAM202507_01.menus.community.dto.CommunityDto;
+import com.example.TEAM202507_01.menus.community.dto.PostUserStatusDto;
+import com.example.TEAM202507_01.menus.community.repository.CommentMapper;
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper;
+import com.example.TEAM202507_01.user.repository.MyPageMapper;
+import com.example.TEAM202507_01.user.service.FavoriteService;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// 댓글이 바뀔 때 글 행의 집계값(COMMENT_COUNT)도 같이 고치는지, 좋아요는 레디스 저장소로만 가는지 확인합니다.
+class CommunityServiceImplTest {
+
+    private final CommunityMapper communityMapper = mock(CommunityMapper.class);
+    private final CommentMapper commentMapper = mock(CommentMapper.class);
+    private final MyPageMapper myPageMapper = mock(MyPageMapper.class);
+    private final PostViewCounter viewCounter = mock(PostViewCounter.class);
+    private final PostLikeStore likeStore = mock(PostLikeStore.class);
+    private final FavoriteService favoriteService = mock(FavoriteService.class);
+    private final CommentIdAllocator commentIdAllocator = mock(CommentIdAllocator.class);
+    private final PostAttachmentStaging attachmentStaging = mock(PostAttachmentStaging.class);
+    private final PostImageVariants imageVariants = mock(PostImageVariants.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final CommunityServiceImpl service = new CommunityServiceImpl(communityMapper, commentMapper, myPageMapper, null, viewCounter,
+            likeStore, favoriteService, commentIdAllocator, attachmentStaging, imageVariants, transactionManager);
+
+    {
+        service.init();
+    }
+
+    @Test
+    void savingACommentBumpsThePostCommentCount() {
+        CommentDto comment = new CommentDto();
+        comment.setPostId(7L);
+        comment.setUserId("login");
+        comment.setContent("좋은 글이네요");
+        when(commentIdAllocator.next()).thenReturn(501L);
+
+        service.saveComment(comment);
+
+        assertThat(comment.getId()).isEqualTo(501L); // 번호는 저장 전에 묶음에서 채움 (MAX(ID) 조회 없음)
+        var order = inOrder(commentMapper, communityMapper);
+        order.verify(commentMapper).save(comment);
+        order.verify(communityMapper).adjustCommentCount(7L, 1);
+    }
+
+    @Test
+    void deletingACommentTwiceDecrementsOnce() {
+        when(communityMapper.deleteComment(11L)).thenReturn(1, 0);
+
+        service.deleteComment(11L);
+        service.deleteComment(11L);
+
+        verify(communityMapper).decreaseCommentCountByCommentId(11L);
+    }
+
+    @Test
+    void likeToggleIsAnsweredByTheStoreWithoutTouchingTheDatabase() {
+        when(likeStore.toggle(5L, "u1")).thenReturn(new PostLikeStore.Toggle(true, 8));
+
+        PostLikeStore.Toggle result = service.likeIncrease(5L, "u1");
+
+        assertThat(result.liked()).isTrue();
+        assertThat(result.likeCount()).isEqualTo(8);
+        verifyNoInteractions(communityMapper);
+    }
+
+    @Test
+    void deletingAllLikesDropsTheRowsBeforeTheRedisState() {
+        service.deleteAllLike(5L);
+
+        var order = inOrder(communityMapper, likeStore);
+        order.verify(communityMapper).deleteAllLike(5L);
+        order.verify(likeStore).forget(5L);
+    }
+
+    @Test
+    void postDetailTakesLikesFromTheStoreAndSurvivesItsOutage() {
+        when(communityMapper.selectPostById(9L)).thenReturn(CommunityDto.builder().id(9L).likeCount(2).build());
+        when(myPageMapper.findUuidByLoginId("login")).thenReturn("uuid-1");
+        when(likeStore.count(9L)).thenReturn(4);
+        when(likeStore.isLiked(9L, "uuid-1")).thenReturn(true);
+
+        CommunityDto dto = service.findPostById(9L, "login", null);
+        assertThat(dto.getLikeCount()).isEqualTo(4);
+        assertThat(dto.getIsLiked()).isTrue();
+
+        // 레디스가 죽어 있으면 글은 그대로, 좋아요 수는 DB 값
+        when(communityMapper.selectPostById(9L)).thenReturn(CommunityDto.builder().id(9L).likeCount(2).build());
+        when(likeStore.count(9L)).thenThrow(new RuntimeException("redis down"));
+        CommunityDto fallback = service.findPostById(9L, "login", null);
+        assertThat(fallback.getLikeCount()).isEqualTo(2);
+        assertThat(fallback.getIsLiked()).isFalse();
+    }
+
+    @Test
+    void cursorPageReadsOneExtraRowAndPointsAtTheLastShownPost() {
+        LocalDateTime sameSecond = LocalDateTime.of(2025, 7, 1, 12, 0, 0);
+        when(communityMapper.selectPostsBefore(null, null, null, 3)).thenReturn(List.of(
+                post(30L, sameSecond), post(29L, sameSecond), post(28L, sameSecond.minusMinutes(1))));
+
+        CommunityCursorPageDto first = service.getPostPage("ALL", null, 2);
+        assertThat(first.getContent()).extracting(CommunityDto::getId).containsExactly(30L, 29L);
+        assertThat(first.isHasNext()).isTrue();
+
+        // 다음 장은 마지막으로 보여준 글(29번)의 (작성일시, 번호) 뒤부터
+        when(communityMapper.selectPostsBefore("FREE", sameSecond, 29L, 3)).thenReturn(List.of(post(28L, sameSecond.minusMinutes(1))));
+        CommunityCursorPageDto second = service.getPostPage("FREE", first.getNextCursor(), 2);
+        assertThat(second.getContent()).extracting(CommunityDto::getId).containsExactly(28L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void brokenCursorIsRejected() {
+        assertThatThrownBy(() -> service.getPostPage(null, "not-a-cursor", 10)).hasMessageContaining("커서");
+    }
+
+    private static CommunityDto post(long id, LocalDateTime createdAt) {
+        return CommunityDto.builder().id(id).createdAt(createdAt).build();
+    }
+
+    @Test
+    void readingAPostNeverWritesTheViewCount() {
+        when(communityMapper.selectPostById(9L)).thenReturn(CommunityDto.builder().id(9L).viewCount(40L).build());
+        when(viewCounter.pending(9L)).thenReturn(3L);
+
+        CommunityDto dto = service.findPostById(9L, null, "10.0.0.1");
+
+        verify(viewCounter).record(9L, "ip:10.0.0.1");
+        verify(communityMapper, never()).addViewCount(anyLong(), anyLong());
+        assertThat(dto.getViewCount()).isEqualTo(43L); // DB 값 + 아직 안 쓴 값
+    }
+
+    @Test
+    void listFlagsAreResolvedOncePerPageNotOncePerPost() {
+        List<CommunityDto> posts = List.of(post(3L, null), post(2L, null), post(1L, null));
+        when(myPageMapper.findUuidByLoginId("login")).thenReturn("uuid-1");
+        when(likeStore.likedAmong(List.of(3L, 2L, 1L), "uuid-1")).thenReturn(Set.of(2L));
+        when(favoriteService.favoriteIdsAmong("COMMUNITY", "login", List.of(3L, 2L, 1L))).thenReturn(Set.of(1L, 2L));
+
+        service.applyUserStatuses(posts, "login");
+
+        assertThat(posts).extracting(CommunityDto::getIsLiked).containsExactly(false, true, false);
+        assertThat(posts).extracting(CommunityDto::getIsFavorite).containsExactly(false, true, true);
+        verify(myPageMapper).findUuidByLoginId("login"); // UUID 변환도 한 번
+    }
+
+    @Test
+    void listFlagsFallBackToTheDatabaseWhenRedisIsDown() {
+        when(myPageMapper.findUuidByLoginId("login")).thenReturn("uuid-1");
+        when(likeStore.likedAmong(List.of(5L, 4L), "uuid-1")).thenThrow(new RuntimeException("redis down"));
+        when(communityMapper.selectLikedPostIds("uuid-1", List.of(5L, 4L))).thenReturn(List.of(4L));
+
+        var statuses = service.getUserStatuses(List.of(5L, 4L, 5L), "login");
+
+        assertThat(statuses).extracting(PostUserStatusDto::getPostId).containsExactly(5L, 4L);
+        assertThat(statuses).extracting(PostUserStatusDto::isLiked).containsExactly(false, true);
+    }
+
+    @Test
+    void commentTreeReadsOneExtraRootAndOneExtraReplyPerThread() {
+        LocalDateTime t = LocalDateTime.of(2025, 7, 1, 9, 0, 0);
+        when(commentMapper.selectRootComments(7L, null, null, 3)).thenReturn(List.of(
+                CommentDto.builder().id(1L).createdAt(t).build(),
+                CommentDto.builder().id(2L).createdAt(t).build(),
+                CommentDto.builder().id(3L).createdAt(t.plusMinutes(1)).build()));
+        when(commentMapper.selectFirstReplies(List.of(1L, 2L), 2)).thenReturn(List.of(
+                CommentDto.builder().id(9L).parentId(2L).rootId(2L).createdAt(t.plusMinutes(2)).build()));
+
+        CommentPageDto page = service.getCommentTree(7L, null, 2, 1);
+
+        assertThat(page.getContent()).extracting(node -> node.getComment().getId()).containsExactly(1L, 2L);
+        assertThat(page.getContent().get(1).getReplies()).hasSize(1);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(PostCursor.decode(page.getNextCursor()).id()).isEqualTo(2L);
+    }
+
+    @Test
+    void postFilesAreStagedBeforeTheTransactionAndRecordedInOneInsert() {
+        List<FileDto> staged = List.of(file("a.pdf"), file("b.png"), file("c.jpg"));
+        when(attachmentStaging.stage(any())).thenReturn(staged);
+        CommunityDto dto = CommunityDto.builder().id(77L).userId("login").category("FREE").title("t").content("<p>c</p>").build();
+
+        long postId = service.savePost(dto, List.of());
+
+        assertThat(postId).isEqualTo(77L);
+        assertThat(dto.getExcerpt()).isEqualTo("c"); // 목록용 요약문도 같은 INSERT로
+        var order = inOrder(attachmentStaging, transactionManager, communityMapper);
+        order.verify(attachmentStaging).stage(any());
+        order.verify(transactionManager).getTransaction(any()); // 디스크 쓰기가 끝난 뒤에 트랜잭션 시작
+        order.verify(attachmentStaging).completeWithTransaction(staged);
+        order.verify(communityMapper).insertPost(dto);
+        order.verify(communityMapper).insertFiles(77L, "FREE", staged);
+        order.verify(communityMapper).updateThumbnail(77L, "/images/b.png"); // 첫 번째 사진 파일
+        verify(imageVariants).enqueue(77L, staged); // 커밋 뒤에 사본 대기열로
+    }
+
+    @Test
+    void postWithoutAttachedImagesTakesTheFirstBodyImageAsThumbnail() {
+        List<FileDto> staged = List.of(file("a.pdf"));
+        when(attachmentStaging.stage(any())).thenReturn(staged);
+        CommunityDto dto = CommunityDto.builder().id(78L).userId("login").category("REVIEW").content("<img src=\"data:...\">").build();
+        when(attachmentStaging.stageFirstBodyImage(eq(dto.getContent()), any())).thenAnswer(invocation -> {
+            List<FileDto> bodyImages = invocation.getArgument(1);
+            bodyImages.add(file("body_abc.jpg"));
+            return "/images/body_abc.jpg";
+        });
+
+        service.savePost(dto, List.of());
+
+        verify(communityMapper).updateThumbnail(78L, "/images/body_abc.jpg");
+        verify(communityMapper).insertFiles(78L, "REVIEW", staged); // 본문 사진은 첨부 목록(FILES)에 넣지 않음
+        verify(imageVariants).enqueue(78L, List.of(file("body_abc.jpg"))); // 목록용 사본도 같은 대기열로
+    }
+
+    @Test
+    void stagedFilesAreDiscardedWhenThePostInsertFails() {
+        List<FileDto> staged = List.of(file("a.png"));
+        when(attachmentStaging.stage(any())).thenReturn(staged);
+        CommunityDto dto = CommunityDto.builder().userId("login").category("FREE").build();
+        doThrow(new RuntimeException("db down")).when(communityMapper).insertPost(dto);
+
+        assertThatThrownBy(() -> service.savePost(dto, List.of())).hasMessage("db down");
+
+        verify(attachmentStaging).discard(staged);
+        verify(communityMapper, never()).insertFiles(anyLong(), any(), any());
+        verifyNoInteractions(imageVariants);
+    }
+
+    @Test
+    void editorUploadRejectsFilesThatAreNotImages() {
+        MockMultipartFile fake = new MockMultipartFile("file", "photo.jpg", "image/jpeg", "<script>".getBytes());
+
+        assertThatThrownBy(() -> service.uploadEditorImage(fake)).hasMessageContaining("이미지 파일만");
+    }
+
+    private static FileDto file(String savedName) {
+        FileDto file = new FileDto();
+        file.setOriginalName(savedName);
+        file.setSavedName(savedName);
+        file.setFilePath("/images/" + savedName);
+        return file;
+    }
+}
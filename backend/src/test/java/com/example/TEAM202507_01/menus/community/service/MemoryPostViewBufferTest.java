@@ -0,0 +1,79 @@
+package com.example.TEAM202507_01.menus.community.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 조회수 보관함(메모리)이 중복 조회를 거르고, 꺼낸 값을 비우고, 실패 시 되돌리는지 확인합니다.
+class MemoryPostViewBufferTest {
+
+    private final MemoryPostViewBuffer buffer = new MemoryPostViewBuffer(2, 100);
+
+    @Test
+    void sameViewerIsCountedOncePerWindow() {
+        assertThat(buffer.markViewed("u:kim:1", Duration.ofMinutes(30))).isTrue();
+        assertThat(buffer.markViewed("u:kim:1", Duration.ofMinutes(30))).isFalse();
+        assertThat(buffer.markViewed("u:kim:2", Duration.ofMinutes(30))).isTrue();
+        assertThat(buffer.markViewed("u:lee:1", Duration.ZERO)).isTrue();
+        assertThat(buffer.markViewed("u:lee:1", Duration.ZERO)).isTrue(); // 창이 0이면 매번 셈
+    }
+
+    @Test
+    void drainEmptiesCountersAndRestorePutsThemBack() {
+        for (int i = 0; i < 5; i++) buffer.increment(1L);
+        buffer.increment(2L);
+        assertThat(buffer.pending(1L)).isEqualTo(5);
+
+        PostViewBuffer.Drained drained = buffer.drain();
+        assertThat(drained.deltas()).containsEntry(1L, 5L).containsEntry(2L, 1L);
+        assertThat(buffer.pending(1L)).isZero();
+        assertThat(buffer.drain().deltas()).isEmpty();
+
+        buffer.increment(1L);
+        buffer.restore(drained); // DB 쓰기 실패 -> 다음 주기에 다시
+        assertThat(buffer.drain().deltas()).containsEntry(1L, 6L).containsEntry(2L, 1L);
+    }
+
+    @Test
+    void idleCountersAreTrimmedOnlyPastTheLimit() {
+        buffer.increment(1L);
+        buffer.increment(2L);
+        buffer.increment(3L);
+        buffer.drain();          // 3개 > 한도 2개지만 이번 주기엔 모두 조회가 있었음
+        buffer.increment(3L);
+        assertThat(buffer.drain().deltas()).containsOnlyKeys(3L); // 1, 2번 카운터는 정리됨
+        buffer.increment(1L);
+        assertThat(buffer.pending(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(30)
+    void noViewIsLostWhileIdleCountersAreTrimmed() throws Exception {
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> viewers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            viewers.add(pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) buffer.increment(i % 50); // 한도 2개보다 훨씬 많은 글 -> 매 주기 정리
+            }));
+        }
+        long total = 0;
+        while (viewers.stream().anyMatch(f -> !f.isDone())) {
+            total += buffer.drain().deltas().values().stream().mapToLong(Long::longValue).sum();
+        }
+        for (Future<?> viewer : viewers) viewer.get();
+        pool.shutdown();
+        total += buffer.drain().deltas().values().stream().mapToLong(Long::longValue).sum();
+
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+}
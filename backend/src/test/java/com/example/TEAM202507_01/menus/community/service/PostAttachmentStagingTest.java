@@ -0,0 +1,104 @@
+package com.example.TEAM202507_01.menus.community.service;
+
+import com.example.TEAM202507_01.common.dto.FileDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 첨부파일이 임시 폴더를 거쳐 커밋 뒤에만 uploads로 옮겨지고, 롤백/남은 파일은 지워지는지 확인합니다.
+class PostAttachmentStagingTest {
+
+    @TempDir
+    Path uploads;
+
+    @Test
+    void filesAreOnlyVisibleAfterCommit() {
+        PostAttachmentStaging staging = new PostAttachmentStaging(uploads, Duration.ofMinutes(60));
+        List<FileDto> staged = staging.stage(List.of(new MockMultipartFile("files", "cat.PNG", "image/png", new byte[]{1, 2, 3})));
+
+        String savedName = staged.get(0).getSavedName();
+        assertThat(savedName).endsWith(".PNG");
+        assertThat(uploads.resolve(savedName)).doesNotExist();
+
+        runInTransaction(staging, staged, TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(uploads.resolve(savedName)).exists();
+        assertThat(uploads.resolve(".staging").resolve(savedName)).doesNotExist();
+    }
+
+    @Test
+    void rollbackDeletesTheStagedFiles() {
+        PostAttachmentStaging staging = new PostAttachmentStaging(uploads, Duration.ofMinutes(60));
+        List<FileDto> staged = staging.stage(List.of(new MockMultipartFile("files", "../../evil.sh/x", null, new byte[]{1})));
+
+        assertThat(staged.get(0).getSavedName()).doesNotContain("/"); // 이상한 확장자는 버림
+        runInTransaction(staging, staged, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(uploads.resolve(".staging").resolve(staged.get(0).getSavedName())).doesNotExist();
+        assertThat(uploads.resolve(staged.get(0).getSavedName())).doesNotExist();
+    }
+
+    @Test
+    void sweepRemovesOnlyOldLeftovers() throws Exception {
+        PostAttachmentStaging staging = new PostAttachmentStaging(uploads, Duration.ofMinutes(60));
+        Path stagingDir = Files.createDirectories(uploads.resolve(".staging"));
+        Path old = Files.write(stagingDir.resolve("old.jpg"), new byte[]{1});
+        Files.setLastModifiedTime(old, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        Path fresh = Files.write(stagingDir.resolve("fresh.jpg"), new byte[]{1});
+
+        assertThat(staging.sweepOrphans()).isEqualTo(1);
+        assertThat(old).doesNotExist();
+        assertThat(fresh).exists();
+    }
+
+    @Test
+    void firstBodyImageIsStagedUnderAContentName() {
+        PostAttachmentStaging staging = new PostAttachmentStaging(uploads, Duration.ofMinutes(60));
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 13};
+        String html = "<p>맛있어요</p><img class=\"x\" src=\"data:image/jpeg;base64," + Base64.getEncoder().encodeToString(png)
+                + "\"><img src=\"https://example.com/second.jpg\">";
+
+        List<FileDto> first = new ArrayList<>();
+        String path = staging.stageFirstBodyImage(html, first);
+        List<FileDto> again = new ArrayList<>();
+        staging.stageFirstBodyImage(html, again);
+
+        assertThat(path).startsWith("/images/body_").endsWith(".png"); // 적힌 종류(jpeg)가 아니라 실제 내용으로
+        assertThat(again.get(0).getSavedName()).isEqualTo(first.get(0).getSavedName()); // 같은 사진은 같은 파일
+        assertThat(uploads.resolve(".staging").resolve(first.get(0).getSavedName())).exists();
+    }
+
+    @Test
+    void bodyWithoutAUsableImageHasNoThumbnail() {
+        PostAttachmentStaging staging = new PostAttachmentStaging(uploads, Duration.ofMinutes(60));
+        List<FileDto> staged = new ArrayList<>();
+
+        assertThat(staging.stageFirstBodyImage("<p>글만 있어요</p>", staged)).isNull();
+        assertThat(staging.stageFirstBodyImage("<img src='data:image/png;base64,PHNjcmlwdD4='>", staged)).isNull(); // 내용이 사진이 아님
+        assertThat(staging.stageFirstBodyImage("<img src='https://example.com/a.jpg'>", staged)).isEqualTo("https://example.com/a.jpg");
+        assertThat(staged).isEmpty();
+    }
+
+    private static void runInTransaction(PostAttachmentStaging staging, List<FileDto> staged, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            staging.completeWithTransaction(staged);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.TEAM202507_01.menus.community.service;
+
+import com.example.TEAM202507_01.common.dto.FileDto;
+import com.example.TEAM202507_01.menus.community.dto.CommunityDto;
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 예전 글의 요약문/대표 사진을 자바 규칙으로 채우고, 다 채운 뒤에는 DB를 다시 읽지 않는지 확인합니다.
+class PostBodyBackfillTest {
+
+    private final CommunityMapper communityMapper = mock(CommunityMapper.class);
+    private final PostAttachmentStaging attachmentStaging = mock(PostAttachmentStaging.class);
+    private final PostImageVariants imageVariants = mock(PostImageVariants.class);
+    private final PostBodyBackfill backfill = new PostBodyBackfill(communityMapper, attachmentStaging, imageVariants);
+
+    @Test
+    void fillsExcerptAndBodyThumbnailThenStops() {
+        String longKorean = "<p>" + "가".repeat(3000) + "</p>"; // SQL 백필이 4000바이트에서 깨지던 길이
+        CommunityDto withImage = CommunityDto.builder().id(1L).content("<img src=\"data:...\"><p>맛집</p>").build();
+        CommunityDto withThumbnail = CommunityDto.builder().id(2L).content(longKorean).filePath("/images/a.jpg").build();
+        when(communityMapper.selectPostsWithoutBodyFields(anyInt())).thenReturn(List.of(withImage, withThumbnail), List.of());
+        FileDto body = new FileDto();
+        body.setSavedName("body_1.jpg");
+        when(attachmentStaging.stageFirstBodyImage(eq(withImage.getContent()), any())).thenAnswer(invocation -> {
+            List<FileDto> staged = invocation.getArgument(1);
+            staged.add(body);
+            return "/images/body_1.jpg";
+        });
+        when(communityMapper.updateBodyFields(anyLong(), any(), any())).thenReturn(1);
+
+        assertThat(backfill.backfill()).isEqualTo(2);
+        verify(communityMapper).updateBodyFields(1L, "맛집", "/images/body_1.jpg");
+        verify(communityMapper).updateBodyFields(eq(2L), eq("가".repeat(200) + "…"), eq(null));
+        verify(attachmentStaging, never()).stageFirstBodyImage(eq(longKorean), any()); // 대표 사진이 이미 있는 글
+        verify(attachmentStaging).promote(List.of(body));
+        verify(imageVariants).enqueue(1L, List.of(body));
+
+        backfill.scheduledBackfill(); // 남은 글 없음 -> 끝 표시
+        backfill.scheduledBackfill(); // 더 이상 DB를 읽지 않음
+        verify(communityMapper, times(2)).selectPostsWithoutBodyFields(anyInt());
+    }
+
+    @Test
+    void postEditedMeanwhileKeepsItsFreshValues() {
+        CommunityDto post = CommunityDto.builder().id(3L).content("<img src=\"data:...\">").build();
+        when(communityMapper.selectPostsWithoutBodyFields(anyInt())).thenReturn(List.of(post));
+        FileDto body = new FileDto();
+        body.setSavedName("body_3.png");
+        when(attachmentStaging.stageFirstBodyImage(eq(post.getContent()), any())).thenAnswer(invocation -> {
+            List<FileDto> staged = invocation.getArgument(1);
+            staged.add(body);
+            return "/images/body_3.png";
+        });
+        when(communityMapper.updateBodyFields(3L, null, "/images/body_3.png")).thenReturn(0);
+
+        assertThat(backfill.backfill()).isZero();
+        verify(attachmentStaging).discard(List.of(body));
+        verify(imageVariants, never()).enqueue(anyLong(), any());
+    }
+}
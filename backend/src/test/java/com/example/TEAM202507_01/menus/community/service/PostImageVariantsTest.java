@@ -0,0 +1,93 @@
+package com.example.TEAM202507_01.menus.community.service;
+
+import com.example.TEAM202507_01.common.dto.FileDto;
+import com.example.TEAM202507_01.common.service.ImageTypeSniffer;
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 사진이면 작은 사본을 만들어 기록하고, 이름만 사진인 파일은 원본 경로로 표시해서 다시 시도하지 않는지 확인합니다.
+// (대기열은 테스트 스레드에서 바로 실행)
+class PostImageVariantsTest {
+
+    @TempDir
+    Path uploads;
+
+    private final CommunityMapper mapper = mock(CommunityMapper.class);
+
+    @Test
+    void largePhotoGetsSmallListAndDetailVariants() throws Exception {
+        Files.write(uploads.resolve("big.png"), noisyPng(2000, 1500)); // 이름은 .png지만 투명 배경 없음 -> JPEG 사본
+        PostImageVariants variants = new PostImageVariants(mapper, Runnable::run, uploads, 320, 1280);
+
+        variants.enqueue(5L, List.of(file("big.png")));
+
+        verify(mapper).updateFileVariants("big.png", "/images/big_list.jpg", "/images/big_detail.jpg");
+        verify(mapper).replaceThumbnail(5L, "/images/big.png", "/images/big_list.jpg");
+        BufferedImage list = ImageIO.read(uploads.resolve("big_list.jpg").toFile());
+        assertThat(list.getWidth()).isEqualTo(320);
+        assertThat(list.getHeight()).isEqualTo(240);
+        assertThat(ImageTypeSniffer.extensionOf(uploads.resolve("big_detail.jpg"))).isEqualTo(".jpg");
+        assertThat(Files.size(uploads.resolve("big_list.jpg"))).isLessThan(Files.size(uploads.resolve("big.png")));
+    }
+
+    @Test
+    void fileThatOnlyLooksLikeAnImageKeepsItsOriginalPath() throws Exception {
+        Files.writeString(uploads.resolve("doc.jpg"), "just text");
+        PostImageVariants variants = new PostImageVariants(mapper, Runnable::run, uploads, 320, 1280);
+
+        variants.enqueue(6L, List.of(file("doc.jpg"), file("notes.txt")));
+
+        verify(mapper).updateFileVariants("doc.jpg", "/images/doc.jpg", "/images/doc.jpg");
+        verify(mapper, never()).updateFileVariants(eq("notes.txt"), anyString(), anyString());
+        verify(mapper, never()).replaceThumbnail(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void missingOriginalIsMarkedSoBackfillMovesOn() {
+        PostImageVariants variants = new PostImageVariants(mapper, Runnable::run, uploads, 320, 1280);
+
+        variants.enqueue(7L, List.of(file("gone.jpg")));
+
+        verify(mapper).updateFileVariants("gone.jpg", "/images/gone.jpg", "/images/gone.jpg");
+        verify(mapper, never()).replaceThumbnail(anyLong(), anyString(), anyString());
+    }
+
+    private static FileDto file(String savedName) {
+        FileDto file = new FileDto();
+        file.setSavedName(savedName);
+        file.setFilePath("/images/" + savedName);
+        return file;
+    }
+
+    // 압축이 잘 안 되는 사진 비슷한 이미지
+    private static byte[] noisyPng(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        Path tmp = Files.createTempFile("noisy", ".png");
+        ImageIO.write(image, "png", tmp.toFile());
+        byte[] bytes = Files.readAllBytes(tmp);
+        Files.delete(tmp);
+        return bytes;
+    }
+}
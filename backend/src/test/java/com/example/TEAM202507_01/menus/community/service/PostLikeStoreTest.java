@@ -0,0 +1,51 @@
+package com.example.TEAM202507_01.menus.community.service;
+
+import com.example.TEAM202507_01.menus.community.repository.CommunityMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 글을 지울 때 레디스 좋아요 정리가 커밋 뒤에만, 그 글의 키만 골라서 돌고, 레디스가 죽어도 삭제를 막지 않는지 확인합니다.
+class PostLikeStoreTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final PostLikeStore store = new PostLikeStore(redisTemplate, mock(CommunityMapper.class));
+
+    @Test
+    void forgetWaitsForTheCommitAndTouchesOnlyThatPost() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            store.forget(42L);
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("community:likes:42", "community:likes:pending", "community:likes:pending-users:42")), eq("42:"));
+    }
+
+    @Test
+    void forgetSurvivesARedisOutage() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatCode(() -> store.forget(42L)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 색인 추천 결과가 예전 "전체 훑기 + contains + 종합병원 포함 + 앞에서 5개"와 같은지 확인합니다.
+class HospitalDepartmentIndexTest {
+
+    private final List<HospitalDto> hospitals = List.of(
+            hospital(1L, "병원", "대전 한국병원", "종합병원"),
+            hospital(2L, "의원", "둔산내과의원", "가정의학과"),
+            hospital(3L, "의원", "서구 연합의원", "소화기내과, 가정의학과"),
+            hospital(4L, "의원", "유성 정형외과", "정형외과"),
+            hospital(5L, "종합병원", "을지대학교병원", "응급의학과"),
+            hospital(6L, "의원", "맑은피부과", "피부과"));
+
+    @Test
+    void departmentMatchesMergedWithGeneralHospitalsNewestFirst() {
+        HospitalDepartmentIndex index = new HospitalDepartmentIndex();
+
+        List<HospitalDto> result = index.recommend("내과", 5, () -> hospitals);
+
+        assertThat(result).extracting(HospitalDto::getId).containsExactly(5L, 3L, 2L, 1L);
+        assertThat(index.recommend("내과", 2, () -> hospitals)).extracting(HospitalDto::getId).containsExactly(5L, 3L);
+    }
+
+    @Test
+    void unknownDepartmentFallsBackToGeneralHospitalsAndFreeWordsAreIndexed() {
+        HospitalDepartmentIndex index = new HospitalDepartmentIndex();
+
+        assertThat(index.recommend("현재 이용자가 많아", 5, () -> hospitals))
+                .extracting(HospitalDto::getId).containsExactly(5L, 1L);
+        assertThat(index.recommend(" 가정의학과.", 5, () -> hospitals))
+                .extracting(HospitalDto::getId).containsExactly(5L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void buildsOnceUntilInvalidated() {
+        HospitalDepartmentIndex index = new HospitalDepartmentIndex();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<HospitalDto>> loader = () -> {
+            loads.incrementAndGet();
+            return hospitals;
+        };
+
+        index.recommend("안과", 5, loader);
+        index.recommend("피부과", 5, loader);
+        assertThat(loads).hasValue(1);
+
+        index.invalidate();
+        assertThat(index.recommend("피부과", 5, loader)).extracting(HospitalDto::getId).containsExactly(6L, 5L, 1L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void indexBuiltDuringInvalidateIsRebuiltOnNextCall() {
+        HospitalDepartmentIndex index = new HospitalDepartmentIndex();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<HospitalDto>> loader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                index.invalidate(); // 옛 목록을 읽는 사이 병원 가져오기가 끝남
+                return List.of(hospitals.get(0));
+            }
+            return hospitals;
+        };
+
+        assertThat(index.recommend("피부과", 5, loader)).extracting(HospitalDto::getId).containsExactly(1L);
+        assertThat(index.recommend("피부과", 5, loader)).extracting(HospitalDto::getId).containsExactly(6L, 5L, 1L);
+        index.recommend("안과", 5, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    private static HospitalDto hospital(Long id, String category, String name, String treatCategory) {
+        return HospitalDto.builder().id(id).category(category).name(name).treatCategory(treatCategory).build();
+    }
+}
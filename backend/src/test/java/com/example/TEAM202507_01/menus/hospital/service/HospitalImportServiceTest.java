@@ -0,0 +1,91 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HospitalImportServiceTest {
+
+    @Test
+    void readsPublicDataCsvWithQuotedFieldsAndKoreanHeaders() throws Exception {
+        String csv = "﻿요양기관명,종별코드명,주소,전화번호,좌표(X),좌표(Y)\r\n"
+                + "\"대전 한국병원\",병원,\"대전광역시 동구  동서대로 1234, 2층\",042-123-4567,127.4345,36.3350\r\n"
+                + "\r\n"
+                + "\"둔산 \"\"바른\"\" 내과\",의원,대전광역시 서구 둔산로 1,,,\n"
+                + ",의원,이름 없는 행,,,";
+
+        List<Map<String, String>> rows = new ArrayList<>();
+        HospitalImportReader.readCsv(new BufferedReader(new StringReader(csv)), rows::add);
+        assertEquals(3, rows.size()); // 빈 줄은 건너뜀
+
+        HospitalDto first = HospitalImportService.toHospital(rows.get(0));
+        assertEquals("대전 한국병원", first.getName());
+        assertEquals("대전광역시 동구 동서대로 1234, 2층", first.getAddress()); // 따옴표 안 쉼표 유지, 공백 정리
+        assertEquals("병원", first.getTreatCategory());
+        assertEquals(HospitalImportService.DEFAULT_CATEGORY, first.getCategory());
+        assertEquals(36.3350, first.getLat());
+        assertEquals(127.4345, first.getLng());
+
+        HospitalDto second = HospitalImportService.toHospital(rows.get(1));
+        assertEquals("둔산 \"바른\" 내과", second.getName());
+        assertNull(second.getTel());
+        assertNull(second.getLat());
+
+        assertNull(HospitalImportService.toHospital(rows.get(2))); // 이름 없음 -> 건너뜀
+    }
+
+    @Test
+    void readsFirstObjectArrayFromWrappedJson() throws Exception {
+        String json = "{\"response\":{\"header\":{\"codes\":[1,2]},\"body\":{\"items\":{\"item\":["
+                + "{\"NAME\":\"대전 한방병원\",\"TREAT_CATEGORY\":\"한방병원\",\"ADDRESS\":\"대전광역시 중구 1\",\"TEL\":\"042-1\",\"lat\":36.3,\"lng\":127.4},"
+                + "{\"name\":\"서구 치과\",\"address\":\"대전광역시 서구 2\",\"tags\":{\"x\":1}}"
+                + "]}}}}";
+
+        List<Map<String, String>> rows = new ArrayList<>();
+        HospitalImportReader.readJson(new ObjectMapper(),
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), rows::add);
+        assertEquals(2, rows.size());
+
+        HospitalDto first = HospitalImportService.toHospital(rows.get(0));
+        assertEquals("대전 한방병원", first.getName());
+        assertEquals("한방병원", first.getTreatCategory());
+        assertEquals(36.3, first.getLat());
+        assertEquals("서구 치과", HospitalImportService.toHospital(rows.get(1)).getName());
+    }
+
+    @Test
+    void comparesOnlyImportedValues() {
+        HospitalDto stored = HospitalDto.builder().id(7L).category("HOSPITALS").name("A").address("B")
+                .treatCategory("의원").tel("042-1").lat(36.3350001).lng(127.4345).reviewCount(12).build();
+
+        HospitalDto same = HospitalDto.builder().category("HOSPITALS").name("A").address("B")
+                .treatCategory("의원").tel("042-1").build(); // 좌표가 없으면 좌표는 비교 안 함
+        assertTrue(HospitalImportService.sameValues(same, stored));
+
+        same.setLat(36.335);
+        same.setLng(127.4345);
+        assertFalse(HospitalImportService.sameValues(same, stored)); // 소수점 7자리 차이
+        same.setLat(36.3350001);
+        assertTrue(HospitalImportService.sameValues(same, stored));
+
+        same.setTel("042-2");
+        assertFalse(HospitalImportService.sameValues(same, stored));
+
+        assertEquals("json", HospitalImportService.resolveFormat(null, "hospitals.JSON"));
+        assertThrows(RuntimeException.class, () -> HospitalImportService.resolveFormat("", "hospitals.xlsx"));
+    }
+}
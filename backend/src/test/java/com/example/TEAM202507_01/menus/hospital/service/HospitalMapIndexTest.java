@@ -0,0 +1,103 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapClusterDto;
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapDto;
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalMapViewDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 격자 색인이 사각형 안 병원만 돌려주고, 줌이 낮으면 묶어서 보내는지 확인합니다.
+class HospitalMapIndexTest {
+
+    private final List<HospitalMapDto> hospitals = List.of(
+            hospital(1L, 36.3504, 127.3845),  // 둔산
+            hospital(2L, 36.3510, 127.3850),  // 둔산 (1번 바로 옆)
+            hospital(3L, 36.3620, 127.3560),  // 유성
+            hospital(4L, 37.5665, 126.9780),  // 서울
+            hospital(5L, null, null));        // 좌표 없음
+
+    @Test
+    void returnsOnlyHospitalsInsideTheBoxNewestFirst() {
+        HospitalMapIndex index = new HospitalMapIndex(15, 300, 4);
+
+        HospitalMapViewDto view = index.view(36.30, 127.30, 36.40, 127.40, 16, () -> hospitals);
+
+        assertThat(view.isClustered()).isFalse();
+        assertThat(view.getTotal()).isEqualTo(3);
+        assertThat(view.getHospitals()).extracting(HospitalMapDto::getId).containsExactly(3L, 2L, 1L);
+        assertThat(view.getClusters()).isEmpty();
+    }
+
+    @Test
+    void lowZoomGroupsNearbyHospitalsAndKeepsLoneOnesAsMarkers() {
+        HospitalMapIndex index = new HospitalMapIndex(15, 300, 4);
+
+        // 줌 12: 묶음 칸 약 0.022도 -> 둔산 두 곳은 한 묶음, 유성/서울은 혼자
+        HospitalMapViewDto view = index.view(33.0, 124.0, 39.0, 130.0, 12, () -> hospitals);
+
+        assertThat(view.isClustered()).isTrue();
+        assertThat(view.getTotal()).isEqualTo(4);
+        assertThat(view.getClusters()).hasSize(1);
+        HospitalMapClusterDto cluster = view.getClusters().get(0);
+        assertThat(cluster.getCount()).isEqualTo(2);
+        assertThat(cluster.getMinLat()).isEqualTo(36.3504);
+        assertThat(cluster.getMaxLng()).isEqualTo(127.3850);
+        assertThat(view.getHospitals()).extracting(HospitalMapDto::getId).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    void tooManyMarkersAtHighZoomAreClusteredAndInvalidateRebuilds() {
+        HospitalMapIndex index = new HospitalMapIndex(15, 2, 4);
+
+        assertThat(index.view(36.30, 127.30, 36.40, 127.40, 16, () -> hospitals).isClustered()).isTrue();
+
+        index.invalidate();
+        HospitalMapViewDto rebuilt = index.view(36.30, 127.30, 36.40, 127.40, 16, () -> List.of(hospital(9L, 36.35, 127.35)));
+        assertThat(rebuilt.getHospitals()).extracting(HospitalMapDto::getId).containsExactly(9L);
+    }
+
+    @Test
+    void indexBuiltDuringInvalidateIsRebuiltOnNextView() {
+        HospitalMapIndex index = new HospitalMapIndex(15, 300, 4);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<HospitalMapDto>> loader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                index.invalidate(); // 옛 목록을 읽는 사이 병원이 삭제됨
+                return List.of(hospital(8L, 36.35, 127.35));
+            }
+            return List.of(hospital(9L, 36.35, 127.35));
+        };
+
+        index.view(36.30, 127.30, 36.40, 127.40, 16, loader);
+        assertThat(index.view(36.30, 127.30, 36.40, 127.40, 16, loader).getHospitals())
+                .extracting(HospitalMapDto::getId).containsExactly(9L);
+        index.view(36.30, 127.30, 36.40, 127.40, 16, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Timeout(5)
+    void outOfRangeBoundsAreClampedInsteadOfLoopingForever() {
+        HospitalMapIndex index = new HospitalMapIndex(15, 300, 4);
+
+        // int로 넘치던 값: 칸 번호가 MAX_VALUE에 붙거나 칸 수가 0으로 넘쳐 반복이 끝나지 않았음
+        assertThat(index.view(1e12, 1e12, 1e12, 1e12, 16, () -> hospitals).getTotal()).isZero();
+        HospitalMapViewDto world = index.view(-1e12, -1e12, 1e12, 1e12, 16, () -> hospitals);
+        assertThat(world.getTotal()).isEqualTo(4);
+    }
+
+    private static HospitalMapDto hospital(Long id, Double lat, Double lng) {
+        HospitalMapDto dto = new HospitalMapDto();
+        dto.setId(id);
+        dto.setName("병원" + id);
+        dto.setLat(lat);
+        dto.setLng(lng);
+        return dto;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+
+import com.example.TEAM202507_01.menus.hospital.dto.HospitalReviewDto;
+import com.example.TEAM202507_01.menus.hospital.repository.HospitalReviewMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 리뷰 저장/삭제가 병원 행의 별점 합계/리뷰 수를 같이 고치는지 확인합니다.
+class HospitalReviewServiceImplTest {
+
+    private final HospitalReviewMapper mapper = mock(HospitalReviewMapper.class);
+    private final HospitalDepartmentIndex index = mock(HospitalDepartmentIndex.class);
+    private final HospitalReviewServiceImpl service = new HospitalReviewServiceImpl(mapper, index);
+
+    @Test
+    void addingAReviewBumpsTheHospitalAggregatesFirst() {
+        HospitalReviewDto review = review(null, "u1", 4);
+        when(mapper.addRating(3L, 4, 1)).thenReturn(1);
+
+        service.addReview(review);
+
+        var order = inOrder(mapper);
+        order.verify(mapper).addRating(3L, 4, 1);
+        order.verify(mapper).insert(review);
+        verify(index).invalidate();
+    }
+
+    @Test
+    void invalidRatingOrUnknownHospitalStoresNothing() {
+        assertThatThrownBy(() -> service.addReview(review(null, "u1", 6))).hasMessageContaining("1~5");
+        verify(mapper, never()).addRating(anyLong(), anyInt(), anyInt());
+
+        when(mapper.addRating(3L, 5, 1)).thenReturn(0);
+        assertThatThrownBy(() -> service.addReview(review(null, "u1", 5))).hasMessageContaining("병원을 찾을 수 없습니다");
+        verify(mapper, never()).insert(any());
+    }
+
+    @Test
+    void deletingSubtractsOnlyWhenTheRowWasActuallyRemoved() {
+        when(mapper.findById(10L)).thenReturn(review(10L, "u1", 2));
+        when(mapper.delete(10L)).thenReturn(1, 0);
+
+        service.deleteReview(10L, "u1");
+        service.deleteReview(10L, "u1"); // 동시에 들어온 두 번째 삭제: 이미 지워짐
+
+        verify(mapper).addRating(3L, -2, -1);
+        assertThatThrownBy(() -> service.deleteReview(10L, "someone-else")).hasMessageContaining("본인");
+    }
+
+    private static HospitalReviewDto review(Long id, String userId, int rating) {
+        return HospitalReviewDto.builder().Id(id).hospitalId(3L).userId(userId).content("친절해요").rating(rating).build();
+    }
+}
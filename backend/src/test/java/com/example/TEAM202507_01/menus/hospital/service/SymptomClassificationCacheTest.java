@@ -0,0 +1,75 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 레디스는 가짜(mock)로 두고, 정규화와 2단 캐시 동작만 확인합니다.
+class SymptomClassificationCacheTest {
+
+    private ValueOperations<String, String> redis;
+    private SymptomClassificationCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        redis = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(redis);
+        cache = new SymptomClassificationCache(redisTemplate, 2, 30);
+    }
+
+    @Test
+    void normalizesWhitespacePunctuationAndParticles() {
+        assertThat(SymptomClassificationCache.normalize("머리가 아파요!!")).isEqualTo("머리아파");
+        assertThat(SymptomClassificationCache.normalize("  머리  아파요. ")).isEqualTo("머리아파");
+        assertThat(SymptomClassificationCache.normalize("두통")).isEqualTo("두통");
+        assertThat(SymptomClassificationCache.normalize("?!")).isEmpty();
+    }
+
+    @Test
+    void keepsWordsEndingInGwaOrDo() {
+        // "과", "도"를 조사로 떼면 진료과/증상 단어가 망가짐 (내과 -> 내, 편도 -> 편)
+        assertThat(SymptomClassificationCache.normalize("내과")).isEqualTo("내과");
+        assertThat(SymptomClassificationCache.normalize("편도가 부었어요")).isEqualTo("편도부었어");
+    }
+
+    @Test
+    void repeatedSymptomIsAnsweredFromLocalTier() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = cache.classify("머리가 아파요", s -> { calls.incrementAndGet(); return "신경과\n"; });
+        String second = cache.classify("머리 아파요!", s -> { calls.incrementAndGet(); return "내과"; });
+
+        assertThat(first).isEqualTo("신경과");
+        assertThat(second).isEqualTo("신경과");
+        assertThat(calls).hasValue(1);
+        verify(redis).set(eq("hospital:symptom:dept:머리아파"), eq("신경과"), any(Duration.class));
+        assertThat(cache.stats()).containsEntry("localHits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void redisTierFillsLocalAndFailuresAreNotCached() {
+        when(redis.get("hospital:symptom:dept:두통")).thenReturn("신경과");
+
+        assertThat(cache.classify("두통", s -> "내과")).isEqualTo("신경과");
+        assertThat(cache.classify("배 아파요", s -> null)).isNull();
+        assertThat(cache.classify("배 아파요", s -> "현재 이용자가 많아 응답이 지연되고 있습니다.")).startsWith("현재");
+
+        verify(redis, never()).set(eq("hospital:symptom:dept:배아파"), anyString(), any(Duration.class));
+        assertThat(cache.stats()).containsEntry("redisHits", 1L).containsEntry("misses", 2L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.TEAM202507_01.menus.hospital.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 키워드 사전만으로 확실한 증상은 바로 답하고, 애매하거나 모르는 증상은 Gemini로 넘기는지 확인합니다.
+class SymptomRuleClassifierTest {
+
+    private final SymptomRuleClassifier classifier = new SymptomRuleClassifier(0.8, 2);
+
+    @Test
+    void answersObviousSymptomsWithoutGemini() {
+        assertConfident("두통이 심해요", "신경과");
+        assertConfident("눈이 가려워요", "안과");
+        assertConfident("무릎이 아파요", "정형외과");
+        assertConfident("편도가 부었어요", "이비인후과");
+    }
+
+    @Test
+    void longerKeywordWinsOverItsInnerKeyword() {
+        // "눈가려" 안의 "가려"(피부과)는 세지 않음
+        SymptomRuleClassifier.Result result = classifier.classify("눈 가려움");
+        assertThat(result.department()).isEqualTo("안과");
+        assertThat(result.confidence()).isEqualTo(1.0);
+    }
+
+    @Test
+    void ambiguousOrUnknownInputGoesToGemini() {
+        // 두 과 키워드가 비슷한 비중 -> 확신도 부족
+        SymptomRuleClassifier.Result mixed = classifier.classify("허리가 아프고 두통도 있어요");
+        assertThat(mixed.confident()).isFalse();
+
+        SymptomRuleClassifier.Result unknown = classifier.classify("그냥 좀 이상해요");
+        assertThat(unknown.department()).isNull();
+        assertThat(unknown.confident()).isFalse();
+
+        assertThat(classifier.classify("  ").confident()).isFalse();
+    }
+
+    private void assertConfident(String symptom, String department) {
+        SymptomRuleClassifier.Result result = classifier.classify(symptom);
+        assertThat(result.department()).as(symptom).isEqualTo(department);
+        assertThat(result.confident()).as(symptom).isTrue();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantCrawlStatusDto;
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto;
+import com.example.TEAM202507_01.menus.restaurant.repository.RestaurantMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 로컬 HTML 고정 파일(fixtures/restaurant)만으로 이미지 크롤링 작업을 검증합니다. (브라우저, DB 없이)
+class RestaurantImageCrawlJobTest {
+
+    @TempDir
+    Path saveDir;
+
+    private HttpServer server;
+    private String baseUrl;
+    private RestaurantMapper restaurantMapper;
+    private RestaurantImageStore imageStore;
+    private RestaurantImageCrawlJob job;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/page/", exchange -> {
+            String name = exchange.getRequestURI().getPath().substring("/page/".length());
+            byte[] body = readFixture(name);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+            respond(exchange, body);
+        });
+        server.createContext("/img/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "image/jpeg");
+            respond(exchange, exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8));
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        restaurantMapper = mock(RestaurantMapper.class);
+
+        // JS가 필요한 페이지가 없으니 브라우저는 절대 켜지면 안 됩니다.
+        RestaurantWebDriverPool driverPool = new RestaurantWebDriverPool(() -> {
+            throw new IllegalStateException("브라우저를 쓰면 안 되는 테스트입니다.");
+        }, 1, 1);
+
+        RestaurantImageExtractor extractor = new RestaurantImageExtractor(driverPool);
+        ReflectionTestUtils.setField(extractor, "jsoupTimeoutMs", 3000);
+        ReflectionTestUtils.setField(extractor, "jsHosts", "map.naver.com");
+
+        imageStore = new RestaurantImageStore(saveDir.toString(), 3000, 3000);
+
+        job = new RestaurantImageCrawlJob(restaurantMapper, extractor, driverPool, imageStore, Runnable::run);
+        ReflectionTestUtils.setField(job, "workerCount", 2);
+        ReflectionTestUtils.setField(job, "perHostConcurrency", 1);
+        ReflectionTestUtils.setField(job, "hostDelayMs", 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void crawlsStaticPagesWithoutBrowserAndRecordsCheckpoints() throws Exception {
+        when(restaurantMapper.findCrawlTargets(false)).thenReturn(List.of(
+                store(1L, "og-image.html"),
+                store(2L, "main-image.html"),
+                store(3L, "no-image.html")));
+
+        RestaurantCrawlStatusDto status = job.start(false);
+
+        assertThat(status.getState()).isEqualTo("FINISHED");
+        assertThat(status.getTotal()).isEqualTo(3);
+        assertThat(status.getProcessed()).isEqualTo(3);
+        assertThat(status.getSuccess()).isEqualTo(2);
+        assertThat(status.getNotFound()).isEqualTo(1);
+        assertThat(status.getFailed()).isZero();
+
+        String ogPath = digestPath("/img/og.jpg");
+        String mainPath = digestPath("/img/main.jpg");
+        assertThat(Files.readString(saveDir.resolve(ogPath))).isEqualTo("/img/og.jpg");
+        assertThat(Files.readString(saveDir.resolve(mainPath))).isEqualTo("/img/main.jpg");
+
+        verify(restaurantMapper).updateImage(1L, ogPath);
+        verify(restaurantMapper).updateImage(2L, mainPath);
+        verify(restaurantMapper, never()).updateImage(eq(3L), anyString());
+        verify(restaurantMapper).saveCrawlCheckpoint(1L, RestaurantImageCrawlJob.CHECKPOINT_DONE);
+        verify(restaurantMapper).saveCrawlCheckpoint(2L, RestaurantImageCrawlJob.CHECKPOINT_DONE);
+        verify(restaurantMapper).saveCrawlCheckpoint(3L, RestaurantImageCrawlJob.CHECKPOINT_NOT_FOUND);
+    }
+
+    @Test
+    void sameImageIsStoredOnceAndExistingImagesAreSkipped() throws Exception {
+        RestaurantDto alreadyStored = store(7L, "missing.html");
+        alreadyStored.setImagePath(imageStore.store(baseUrl + "/img/og.jpg"));
+        when(restaurantMapper.findCrawlTargets(false)).thenReturn(List.of(
+                store(5L, "og-image.html"),
+                store(6L, "og-image.html"),
+                alreadyStored));
+
+        RestaurantCrawlStatusDto status = job.start(false);
+
+        assertThat(status.getSuccess()).isEqualTo(2);
+        assertThat(status.getSkipped()).isEqualTo(1);
+        String ogPath = digestPath("/img/og.jpg");
+        verify(restaurantMapper).updateImage(5L, ogPath);
+        verify(restaurantMapper).updateImage(6L, ogPath);
+        verify(restaurantMapper, never()).updateImage(eq(7L), anyString());
+        verify(restaurantMapper).saveCrawlCheckpoint(7L, RestaurantImageCrawlJob.CHECKPOINT_DONE);
+        try (Stream<Path> files = Files.walk(saveDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void failedDownloadIsCheckpointedForRetry() {
+        when(restaurantMapper.findCrawlTargets(true)).thenReturn(List.of(store(4L, "broken-image.html")));
+
+        RestaurantCrawlStatusDto status = job.start(true);
+
+        assertThat(status.isResume()).isTrue();
+        assertThat(status.getFailed()).isEqualTo(1);
+        verify(restaurantMapper, never()).updateImage(anyLong(), anyString());
+        verify(restaurantMapper).saveCrawlCheckpoint(4L, RestaurantImageCrawlJob.CHECKPOINT_FAILED);
+    }
+
+    private String digestPath(String content) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        return RestaurantImageStore.shardedPath(HexFormat.of().formatHex(hash), "jpg");
+    }
+
+    private RestaurantDto store(Long id, String page) {
+        RestaurantDto dto = new RestaurantDto();
+        dto.setId(id);
+        dto.setUrl(baseUrl + "/page/" + page);
+        return dto;
+    }
+
+    private byte[] readFixture(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/restaurant/" + name)) {
+            return in == null ? null : in.readAllBytes();
+        }
+    }
+
+    private void respond(HttpExchange exchange, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 카탈로그를 만드는 도중에 동기화가 invalidate()를 부르면, 그 옛 카탈로그를 계속 쓰지 않고 다음 조회가 다시 만드는지 확인합니다.
+class RestaurantOpenIndexTest {
+
+    private static final LocalDateTime WEDNESDAY_NOON = LocalDateTime.of(2025, 7, 2, 12, 0);
+
+    @Test
+    void catalogBuiltDuringInvalidateIsNotKept() {
+        RestaurantOpenIndex index = new RestaurantOpenIndex();
+        List<RestaurantDto> synced = List.of(RestaurantDto.builder().name("새 식당").openTime("매일 10:00~21:00").build());
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<RestaurantDto>> loader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                index.invalidate(); // 옛 목록을 읽는 사이 동기화가 끝남
+                return List.of();
+            }
+            return synced;
+        };
+
+        assertThat(index.findOpenAt(WEDNESDAY_NOON, loader)).isEmpty();
+        assertThat(index.findOpenAt(WEDNESDAY_NOON, loader)).extracting(RestaurantDto::getName).containsExactly("새 식당");
+        assertThat(index.findOpenAt(WEDNESDAY_NOON, loader)).hasSize(1);
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공공데이터에 실제로 섞여 있는 영업시간 표기들이 비트맵으로 제대로 바뀌는지 확인합니다.
+class RestaurantOpeningHoursTest {
+
+    @Test
+    void everyDaySingleRange() {
+        RestaurantOpeningHours hours = RestaurantOpeningHours.parse("매일 10:00~21:00");
+
+        assertThat(hours.isOpenAt(DayOfWeek.WEDNESDAY, LocalTime.of(10, 0))).isTrue();
+        assertThat(hours.isOpenAt(DayOfWeek.SUNDAY, LocalTime.of(20, 45))).isTrue();
+        assertThat(hours.isOpenAt(DayOfWeek.SUNDAY, LocalTime.of(21, 0))).isFalse();
+        assertThat(hours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(9, 59))).isFalse();
+    }
+
+    @Test
+    void weekdayAndWeekendWithBreakAndClosedDay() {
+        RestaurantOpeningHours hours = RestaurantOpeningHours.parse(
+                "월~금 11:00~22:00 (브레이크타임 15:00~17:00), 토 12:00~20:00, 일요일 휴무");
+
+        assertThat(hours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(12, 0))).isTrue();
+        assertThat(hours.isOpenAt(DayOfWeek.FRIDAY, LocalTime.of(15, 30))).isFalse();
+        assertThat(hours.isOpenAt(DayOfWeek.FRIDAY, LocalTime.of(17, 0))).isTrue();
+        assertThat(hours.isOpenAt(DayOfWeek.SATURDAY, LocalTime.of(21, 0))).isFalse();
+        assertThat(hours.isOpenAt(DayOfWeek.SATURDAY, LocalTime.of(15, 30))).isTrue();
+        assertThat(hours.isOpenAt(DayOfWeek.SUNDAY, LocalTime.of(12, 0))).isFalse();
+    }
+
+    @Test
+    void overnightRangeSpillsIntoNextDay() {
+        RestaurantOpeningHours hours = RestaurantOpeningHours.parse("매일 18:00~02:00, 휴무: 월요일");
+
+        assertThat(hours.isOpenAt(DayOfWeek.SUNDAY, LocalTime.of(23, 0))).isTrue();
+        assertThat(hours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(1, 30))).isTrue(); // 일요일 밤 영업의 연장
+        assertThat(hours.isOpenAt(DayOfWeek.MONDAY, LocalTime.of(19, 0))).isFalse();
+        assertThat(hours.isOpenAt(DayOfWeek.TUESDAY, LocalTime.of(1, 30))).isFalse();
+    }
+
+    @Test
+    void allDayAndUnparseableText() {
+        RestaurantOpeningHours hours = RestaurantOpeningHours.parse("24시간 영업");
+
+        assertThat(hours.isOpenAt(DayOfWeek.THURSDAY, LocalTime.of(3, 0))).isTrue();
+        assertThat(RestaurantOpeningHours.parse("전화 문의")).isNull();
+        assertThat(RestaurantOpeningHours.parse(null)).isNull();
+    }
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        String encoded = RestaurantOpeningHours.encodeText("평일 09:30~18:00, 주말 10:00~16:00");
+        RestaurantOpeningHours decoded = RestaurantOpeningHours.decode(encoded);
+
+        assertThat(encoded).hasSize(120);
+        assertThat(decoded.isOpenAt(DayOfWeek.TUESDAY, LocalTime.of(9, 30))).isTrue();
+        assertThat(decoded.isOpenAt(DayOfWeek.TUESDAY, LocalTime.of(9, 15))).isFalse();
+        assertThat(decoded.isOpenAt(DayOfWeek.SATURDAY, LocalTime.of(16, 0))).isFalse();
+        assertThat(RestaurantOpeningHours.decode("not-base64!")).isNull();
+    }
+}
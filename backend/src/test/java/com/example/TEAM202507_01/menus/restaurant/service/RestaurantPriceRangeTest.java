@@ -0,0 +1,45 @@
+package com.example.TEAM202507_01.menus.restaurant.service;
+
+import com.example.TEAM202507_01.menus.restaurant.dto.RestaurantDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공공데이터(MENU_AMT)와 DB(REST_PRICE)에 실제로 들어 있는 가격 표기에서 숫자 범위가 제대로 나오는지 확인합니다.
+class RestaurantPriceRangeTest {
+
+    @Test
+    void ingestFormats() {
+        RestaurantDto dto = RestaurantDto.builder()
+                .price(List.of("8,000원", "12000", "1.5만원", "9,500"))
+                .build();
+
+        RestaurantPriceRange.fill(dto);
+
+        assertThat(dto.getPriceMin()).isEqualTo(8000);
+        assertThat(dto.getPriceMax()).isEqualTo(15000);
+        assertThat(dto.getPriceMedian()).isEqualTo(10750); // (9500 + 12000) / 2
+    }
+
+    @Test
+    void listSplitOnThousandsSeparatorIsRejoined() {
+        // DB에서 다시 읽은 "8,000,12,000"은 콤마로 쪼개져서 들어옵니다.
+        assertThat(RestaurantPriceRange.extract(List.of("8", "000", "12", "000원")))
+                .containsExactly(8000, 12000);
+    }
+
+    @Test
+    void implausibleNumbersAndEmptyList() {
+        RestaurantDto dto = RestaurantDto.builder()
+                .price(List.of("2인분", "042-123-4567", "가격 문의"))
+                .build();
+
+        RestaurantPriceRange.fill(dto);
+
+        assertThat(dto.getPriceMin()).isNull();
+        assertThat(dto.getPriceMedian()).isNull();
+        assertThat(RestaurantPriceRange.extract(null)).isEmpty();
+    }
+}
@@ -57,6 +57,9 @@ export const jobService = {
 export const restaurantService = {
   getRestaurants: () => api.get("/restaurant"),
   getRestaurantDetail: (id: string | number) => api.get(`/restaurant/${id}`),
+  // 상세 페이지 한 방 조회: 맛집 정보 + 블로그 첫 페이지 + 내 찜 여부
+  getRestaurantDetailPage: (id: string | number, blogSize: number) =>
+    api.get(`/restaurant/${id}/detail`, { params: { blogSize } }),
   toggleFavorite: (id: number) => api.post(`/restaurant/${id}/favorite`),
 };
 
@@ -72,6 +75,16 @@ export const hospitalService = {
   getHospitals: () => api.get("/hospital"),
   getHospitalDetail: (id: number) => api.get(`/hospital/${id}`),
   toggleFavorite: (id: number) => api.post(`/hospital/${id}/favorite`),
+  // 지도 영역 조회: 화면 사각형 안의 병원만 (줌이 낮으면 서버가 묶어서 보냄, zoom은 웹 지도 표준 줌)
+  getHospitalMapView: (
+    bounds: { swLat: number; swLng: number; neLat: number; neLng: number },
+    zoom: number
+  ) => api.get("/hospital/map/view", { params: { ...bounds, zoom } }),
+  // 리뷰 (작성/삭제 시 병원 평균 별점이 같이 갱신됨)
+  getReviews: (id: number) => api.get(`/hospital/${id}/reviews`),
+  createReview: (id: number, data: { content: string; rating: number }) =>
+    api.post(`/hospital/${id}/reviews`, data),
+  deleteReview: (reviewId: number) => api.delete(`/hospital/reviews/${reviewId}`),
 };
 
 // 7. 게시판 관련 서비스
@@ -83,6 +96,29 @@ export const boardService = {
     return api.get(endpoint);
   },
 
+  // 무한 스크롤 목록: 응답 { content, nextCursor, hasNext }, 다음 장은 nextCursor를 cursor로 넘김
+  getPostPage: (params: { category?: string; cursor?: string | null; size?: number }) =>
+    api.get("/community/posts", {
+      params: { ...params, cursor: params.cursor ?? undefined },
+    }),
+
+  // 목록 한 장의 좋아요/즐겨찾기 여부: 응답 [{ postId, liked, favorited }]
+  // (/community/posts 목록은 로그인 상태면 isLiked / isFavorite가 이미 들어 있음)
+  getPostStatuses: (ids: number[]) =>
+    api.get("/community/posts/status", { params: { ids: ids.join(",") } }),
+
+  // 댓글 트리: 응답 { content: [{ comment, replies, hasMoreReplies, nextReplyCursor }], nextCursor, hasNext }
+  getCommentTree: (postId: number | string, params: { cursor?: string | null; size?: number; replies?: number } = {}) =>
+    api.get(`/community/comments/${postId}/tree`, {
+      params: { ...params, cursor: params.cursor ?? undefined },
+    }),
+
+  // 한 스레드의 답글 더 보기 (cursor = nextReplyCursor)
+  getCommentReplies: (rootId: number, cursor?: string | null, size?: number) =>
+    api.get(`/community/comments/thread/${rootId}`, {
+      params: { cursor: cursor ?? undefined, size },
+    }),
+
   // 상세 조회
   getPostDetail: (category: string, id: string) => {
     const endpoint =
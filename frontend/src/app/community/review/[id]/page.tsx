@@ -206,7 +206,7 @@ export default function TourReviewDetail({
 
     try {
       const res = await api.post(`/community/post/${id}/like`);
-      setIsLiked(!isLiked);
+      setIsLiked(res.data.liked);
       setLikeCount(res.data.likeCount);
     } catch (error) {
       console.error("좋아요 처리 실패:", error);
@@ -5,7 +5,7 @@ import { useEffect, useState } from "react"; // 상태 관리(useState)와 사
 import { useParams, useRouter } from "next/navigation"; // URL의 파라미터(id)를 읽고, 페이지 이동을 하기 위한 훅
 import Script from "next/script"; // 카카오맵 같은 외부 스크립트를 로드하기 위한 Next.js 전용 태그
 import api from "@/api/axios"; // 서버 통신을 위해 미리 설정해둔 axios 인스턴스
-import { restaurantService, userService } from "@/api/services"; // 맛집 및 유저 관련 API 함수 모음
+import { restaurantService } from "@/api/services"; // 맛집 관련 API 함수 모음
 import { RestaurantData } from "@/types/restaurant"; // 맛집 데이터의 타입 정의 (TypeScript용)
 // 화면을 꾸며줄 예쁜 아이콘들을 lucide-react 라이브러리에서 가져옵니다.
 import {
@@ -72,8 +72,13 @@ export default function RestaurantDetail() {
   // 블로그 로딩 중인지 여부
   const [blogLoading, setBlogLoading] = useState(true);
 
-  // [New] 블로그 리스트 더보기 기능 상태 (처음에는 6개만 보여줌)
-  const [visibleBlogs, setVisibleBlogs] = useState(6);
+  // [New] 블로그 리스트 더보기 기능 상태 (한 번에 6개씩 서버에서 받아옴)
+  const BLOG_PAGE_SIZE = 6;
+  const [blogPage, setBlogPage] = useState(1);
+  // 더보기로 받아올 수 있는 블로그 전체 개수 (서버가 알려줌)
+  const [blogTotal, setBlogTotal] = useState(0);
+  // 더보기 버튼 눌러서 다음 페이지 받는 중인지 여부
+  const [blogMoreLoading, setBlogMoreLoading] = useState(false);
 
   // 🔥 [추가됨] 변환된 좌표(위도, 경도)를 저장할 상태
   // 길찾기 버튼에 정확한 도착지를 넣어주기 위해 사용합니다.
@@ -94,56 +99,55 @@ export default function RestaurantDetail() {
     };
   }, []);
 
-  // --- [Effect 2] 맛집 상세 정보 불러오기 ---
+  // --- [Effect 2] 맛집 상세 정보 + 블로그 첫 페이지 + 찜 여부 한 번에 불러오기 ---
+  // 예전에는 전체 맛집 목록, 찜 목록, 블로그를 세 번 따로 요청했는데,
+  // 이제 서버가 세 가지를 동시에 모아서 한 번에 돌려줍니다. (/restaurant/{id}/detail)
   useEffect(() => {
     const fetchDetail = async () => {
       try {
         setLoading(true); // 로딩 시작!
+        setBlogLoading(true);
 
-        // [중요] Promise.allSettled를 사용해 두 개의 API 요청을 동시에 보냅니다.
-        // 1. 전체 맛집 리스트 가져오기
-        // 2. 내가 찜한(즐겨찾기) 목록 가져오기
-        const [restaurantsRes, favoritesRes] = await Promise.allSettled([
-          restaurantService.getRestaurants(),
-          userService.getFavorites(),
-        ]);
-
-        let allRestaurants: RestaurantData[] = [];
-        const myFavoriteIds = new Set<number>(); // 찜한 ID들을 빠르게 찾기 위해 Set 자료구조 사용
-
-        // 맛집 리스트 가져오기 성공했으면 변수에 저장
-        if (restaurantsRes.status === "fulfilled") {
-          allRestaurants = restaurantsRes.value.data;
-        }
-        // 찜 목록 가져오기 성공했으면 Set에 ID만 쏙쏙 뽑아서 저장
-        if (favoritesRes.status === "fulfilled") {
-          const favoriteList = favoritesRes.value.data;
-          if (Array.isArray(favoriteList)) {
-            favoriteList.forEach((item: any) => myFavoriteIds.add(item.id));
-          }
-        }
-
-        // 현재 URL의 id와 일치하는 맛집을 찾습니다.
-        const targetId = Number(id);
-        const detail = allRestaurants.find(
-          (item: RestaurantData) => item.id === targetId
+        const response = await restaurantService.getRestaurantDetailPage(
+          id,
+          BLOG_PAGE_SIZE
         );
-
-        if (detail) {
-          // 찾은 맛집 정보에 '내가 찜했는지 여부(isFavorite)'를 합칩니다.
-          const mergedDetail = {
-            ...detail,
-            isFavorite: myFavoriteIds.has(targetId), // Set에 id가 있으면 true, 없으면 false
-          };
-          setRestaurant(mergedDetail); // 상태 업데이트 -> 화면에 맛집 정보 표시됨
-        } else {
-          // 만약 해당하는 맛집이 없으면 목록 페이지로 쫓아냅니다.
-          router.push("/restaurant");
+        const {
+          restaurant: detail,
+          blogs: blogData,
+          favorite,
+          fallbacks,
+        } = response.data;
+
+        // 찾은 맛집 정보에 '내가 찜했는지 여부(isFavorite)'를 합칩니다.
+        // (찜 여부를 시간 안에 못 받았으면 false가 옵니다. 맛집 하나의 찜 여부만 묻는 API는 없어서 빈 하트로 둡니다)
+        setRestaurant({ ...detail, isFavorite: favorite });
+        setLoading(false); // 맛집 정보는 바로 보여 주고, 블로그는 아래에서 마저 채웁니다.
+
+        // 블로그 첫 페이지 (서버에서 시간 안에 못 받았으면 빈 목록과 fallbacks: ["blogs"]가 옵니다)
+        // 그럴 때는 블로그만 따로 한 번 더 받습니다. (서버가 늦게 끝난 결과를 캐시에 넣어 두므로 보통 바로 옵니다)
+        let firstPage = blogData;
+        if (Array.isArray(fallbacks) && fallbacks.includes("blogs")) {
+          try {
+            const retry = await api.get(`/restaurant/${id}/blogs`, {
+              params: { page: 1, size: BLOG_PAGE_SIZE },
+            });
+            firstPage = retry.data;
+          } catch (error) {
+            console.error("블로그 다시 불러오기 실패:", error); // 빈 목록 그대로
+          }
         }
+        const blogItems = firstPage?.items || [];
+        setBlogs(Array.isArray(blogItems) ? blogItems : []);
+        setBlogTotal(firstPage?.total || blogItems.length || 0);
+        setBlogPage(1);
       } catch (error) {
+        // 없는 맛집이면 목록 페이지로 돌려보냅니다.
         console.error("데이터 로드 실패:", error);
+        router.push("/restaurant");
       } finally {
         setLoading(false); // 성공하든 실패하든 로딩 끝!
+        setBlogLoading(false);
       }
     };
 
@@ -151,31 +155,6 @@ export default function RestaurantDetail() {
     if (id) fetchDetail();
   }, [id, router]); // id나 router가 바뀌면 다시 실행
 
-  // --- [Effect 3] 블로그 리뷰 불러오기 ---
-  useEffect(() => {
-    const fetchBlogs = async () => {
-      if (!id) return; // id 없으면 중단
-      try {
-        setBlogLoading(true); // 블로그 로딩 시작
-        // 백엔드 API 호출: /restaurant/{id}/blogs
-        const response = await api.get(`/restaurant/${id}/blogs`);
-        // 응답 데이터 구조에 따라 배열을 추출 (items 안에 있거나, 바로 data이거나)
-        const blogItems = response.data.items || response.data || [];
-
-        if (Array.isArray(blogItems)) {
-          setBlogs(blogItems); // 상태 업데이트
-        } else {
-          setBlogs([]); // 배열 아니면 빈 배열로 초기화
-        }
-      } catch (error) {
-        console.error("블로그 로드 실패:", error);
-      } finally {
-        setBlogLoading(false); // 로딩 끝
-      }
-    };
-    fetchBlogs();
-  }, [id]); // id가 바뀔 때마다 실행
-
   // --- [Function] 카카오맵 초기화 함수 ---
   const initMap = (address: string, name: string) => {
     // window 객체에서 kakao를 꺼내옵니다. (스크립트로 로드됨)
@@ -266,9 +245,27 @@ export default function RestaurantDetail() {
   };
 
   // --- [Handler] 블로그 더보기 버튼 핸들러 ---
-  const handleLoadMoreBlogs = () => {
-    // 현재 보이는 개수에 6을 더함
-    setVisibleBlogs((prev) => prev + 6);
+  const handleLoadMoreBlogs = async () => {
+    if (blogMoreLoading) return; // 연타 방지
+    const nextPage = blogPage + 1;
+    try {
+      setBlogMoreLoading(true);
+      // 다음 페이지(6개)를 서버에서 받아와서 기존 목록 뒤에 붙입니다.
+      const response = await api.get(`/restaurant/${id}/blogs`, {
+        params: { page: nextPage, size: BLOG_PAGE_SIZE },
+      });
+      const nextItems = response.data.items || [];
+      if (Array.isArray(nextItems) && nextItems.length > 0) {
+        setBlogs((prev) => [...prev, ...nextItems]);
+        setBlogPage(nextPage);
+      } else {
+        setBlogTotal(blogs.length); // 더 이상 없음 -> 버튼 숨김
+      }
+    } catch (error) {
+      console.error("블로그 더보기 실패:", error);
+    } finally {
+      setBlogMoreLoading(false);
+    }
   };
 
   // -----------------------------------------------------------
@@ -453,7 +450,7 @@ export default function RestaurantDetail() {
                     생생 블로그 리뷰
                     {/* [New] 블로그 총 개수 표시 */}
                     <span className="text-lg font-medium text-slate-400">
-                      (Total {blogs.length >= 100 ? "100+" : blogs.length})
+                      (Total {blogTotal >= 100 ? "100+" : blogTotal})
                     </span>
                   </h2>
                   <p className="text-slate-400 text-sm font-medium">
@@ -481,8 +478,8 @@ export default function RestaurantDetail() {
                 // 리뷰가 있을 때
                 <>
                   <div className="grid gap-6 overflow-hidden">
-                    {/* [New] visibleBlogs 개수만큼 잘라서 보여줌 */}
-                    {blogs.slice(0, visibleBlogs).map((blog, idx) => (
+                    {/* [New] 지금까지 받아온 페이지들을 이어서 보여줌 */}
+                    {blogs.map((blog, idx) => (
                       <a
                         key={idx}
                         href={blog.link}
@@ -540,10 +537,11 @@ export default function RestaurantDetail() {
                   </div>
 
                   {/* [New] 더보기 버튼 (아직 안 보여준 리뷰가 남았을 때만 표시) */}
-                  {visibleBlogs < blogs.length && (
+                  {blogs.length < blogTotal && (
                     <div className="mt-8 text-center">
                       <button
                         onClick={handleLoadMoreBlogs}
+                        disabled={blogMoreLoading}
                         className="inline-flex items-center gap-2 px-8 py-4 bg-slate-900 text-white rounded-2xl font-bold hover:bg-green-600 transition-all duration-300 shadow-lg shadow-slate-200/50"
                       >
                         <PlusCircle size={18} />
@@ -33,7 +33,8 @@ const BACKEND_URL = process.env.NEXT_PUBLIC_API_URL;
 interface Post {
   id: number; // 게시글 고유 번호
   title: string; // 제목
-  content: string; // 내용 (HTML 태그 포함)
+  content?: string; // 내용 (HTML 태그 포함, 목록 API는 보내지 않음)
+  excerpt?: string; // 본문 앞부분 평문 (서버가 글 저장 때 만들어 둔 요약문)
   userNickname: string; // 작성자 닉네임
   viewCount: number; // 조회수
   commentCount: number; // 댓글 수
@@ -135,14 +136,17 @@ export default function TourReviewList() {
     return img ? img.src : null;
   };
 
-  // (3) 본문 미리보기 텍스트 추출 함수
-  // HTML 태그(<p>, <b> 등)를 다 떼어내고 순수 글자만 뽑아서 미리보기를 만듭니다.
-  const getPreviewText = (html: string) => {
-    if (typeof window === "undefined") return "";
-    const tempDiv = document.createElement("div");
-    tempDiv.innerHTML = html;
-    // 텍스트만 추출합니다.
-    const text = tempDiv.textContent || tempDiv.innerText || "";
+  // (3) 본문 미리보기 텍스트
+  // 서버가 만들어 둔 요약문(excerpt, 이미 평문)을 씁니다. 없을 때만 HTML 태그(<p>, <b> 등)를 떼어내고 글자를 뽑습니다.
+  const getPreviewText = (post: Post) => {
+    let text = post.excerpt ?? "";
+    if (!post.excerpt && post.content) {
+      if (typeof window === "undefined") return "";
+      const tempDiv = document.createElement("div");
+      tempDiv.innerHTML = post.content;
+      // 텍스트만 추출합니다.
+      text = tempDiv.textContent || tempDiv.innerText || "";
+    }
     // 글자가 너무 길면 50자까지만 자르고 "..."을 붙여줍니다.
     return text.length > 50 ? text.substring(0, 50) + "..." : text;
   };
@@ -262,12 +266,14 @@ export default function TourReviewList() {
               {/* 현재 페이지에 해당하는 글(currentPosts)만 map으로 반복해서 그립니다. */}
               {currentPosts.map((post) => {
                 // 썸네일 결정 로직:
-                // 1순위: filePath (업로드한 대표 사진)
-                // 2순위: 본문에서 추출한 첫 번째 이미지
+                // 1순위: filePath (업로드한 대표 사진, 없으면 서버가 글 저장 때 본문 첫 사진을 파일로 꺼내 넣어 둠)
+                // 2순위: 본문에서 추출한 첫 번째 이미지 (본문이 같이 온 경우만, 목록 API는 본문을 보내지 않음)
                 // 3순위: null (이미지 없음)
                 const thumbnailSrc = post.filePath
                   ? getImageUrl(post.filePath)
-                  : extractImageFromContent(post.content);
+                  : post.content
+                  ? extractImageFromContent(post.content)
+                  : null;
 
                 return (
                   // 카드 전체 컨테이너
@@ -315,7 +321,7 @@ export default function TourReviewList() {
                         </h3>
                         {/* 본문 미리보기 (2줄까지만 표시) */}
                         <p className="text-slate-500 text-sm line-clamp-2 leading-relaxed">
-                          {getPreviewText(post.content)}
+                          {getPreviewText(post)}
                         </p>
                       </div>
 
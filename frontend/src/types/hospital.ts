@@ -13,3 +13,32 @@ export interface HospitalResponse {
   treatCategory: string;
   address: string;
 }
+
+// 지도 영역 조회 응답 (GET /hospital/map/view)
+export interface HospitalMapMarker {
+  id: number;
+  name: string;
+  treatCategory: string;
+  address: string;
+  tel: string;
+  lat: number;
+  lng: number;
+}
+
+export interface HospitalMapCluster {
+  lat: number;
+  lng: number;
+  count: number;
+  minLat: number;
+  minLng: number;
+  maxLat: number;
+  maxLng: number;
+}
+
+export interface HospitalMapView {
+  zoom: number;
+  clustered: boolean;
+  total: number;
+  hospitals: HospitalMapMarker[];
+  clusters: HospitalMapCluster[];
+}